@@ -0,0 +1,14 @@
+-- 구독자 세그먼트: 세그먼트(태그)마다 구독자 id 의 압축 비트맵(Roaring, 직렬화 형식)을 한 행으로 저장
+-- 노드는 version 이 바뀐 세그먼트만 다시 읽어 메모리 인덱스를 갱신함
+CREATE TABLE segment
+(
+    name        VARCHAR(100) NOT NULL PRIMARY KEY,
+    bitmap      LONGBLOB     NOT NULL,
+    cardinality BIGINT       NOT NULL,
+    version     BIGINT       NOT NULL,
+    updated_at  DATETIME(6)  NOT NULL
+);
+
+-- 회차의 발송 대상 세그먼트 식 (null 이면 활성 구독자 전체)
+ALTER TABLE newsletter_issue
+    ADD COLUMN audience VARCHAR(500) NULL;
@@ -0,0 +1,61 @@
+-- 발송 로그(message)를 회차 발송일(send_date) 기준 일 단위 RANGE 파티션으로 나눔
+-- - 회차 하나의 로그는 모두 같은 파티션에 들어가므로, 발송/재시도/중복 확인이 파티션 하나만 건드림
+-- - 파티션 테이블의 유니크 키는 파티션 키를 포함해야 하므로 기본 키와 (issue_id, subscriber_id) 에 send_date 를 붙임
+--   (send_date 는 회차마다 하나라서 중복을 막는 범위는 그대로임)
+-- - 파티션 테이블은 외래 키를 둘 수 없으므로 구독자/회차 외래 키는 없앰
+-- - 기존 로그는 모두 마이그레이션 날짜의 일 단위 파티션 p<yyyyMMdd> 에 담고 p_future 는 비워 둠
+--   (p_future 에 행이 있으면 야간 작업(MessageLogMaintenanceService)이 다음 날 파티션을 쪼갤 때 그 행을 모두 복사하며 테이블을 잠금)
+-- - 그다음 날부터의 일 단위 파티션은 야간 작업이 미리 만듦
+CREATE TABLE message_partitioned
+(
+    id            BIGINT      NOT NULL AUTO_INCREMENT,
+    subscriber_id BIGINT      NOT NULL,
+    issue_id      BIGINT      NOT NULL,
+    send_date     DATE        NOT NULL,
+    send_at       DATETIME(6) NULL,
+    status        VARCHAR(20) NOT NULL,
+    attempt_count INT         NOT NULL DEFAULT 1,
+    PRIMARY KEY (id, send_date),
+    CONSTRAINT uk_message_issue_subscriber UNIQUE (issue_id, subscriber_id, send_date),
+    INDEX idx_message_subscriber (subscriber_id, send_date)
+)
+    PARTITION BY RANGE COLUMNS (send_date) (
+        PARTITION p_future VALUES LESS THAN (MAXVALUE)
+        );
+
+-- 빈 테이블이라 바로 끝남: 마이그레이션 날짜까지의 로그는 p<오늘> 로 들어감 (파티션 정의에는 상수만 쓸 수 있어 문장을 만들어 실행)
+SET @legacy_partition = CONCAT(
+        'ALTER TABLE message_partitioned REORGANIZE PARTITION p_future INTO (',
+        'PARTITION p', DATE_FORMAT(CURRENT_DATE, '%Y%m%d'),
+        ' VALUES LESS THAN (''', DATE_ADD(CURRENT_DATE, INTERVAL 1 DAY), '''), ',
+        'PARTITION p_future VALUES LESS THAN (MAXVALUE))');
+PREPARE legacy_partition FROM @legacy_partition;
+EXECUTE legacy_partition;
+DEALLOCATE PREPARE legacy_partition;
+
+-- 기존 로그의 발송일은 회차를 등록한 날짜로 채움
+-- 행이 많으면 id 범위를 나눠 여러 번 실행 (예: WHERE m.id BETWEEN ? AND ?)
+INSERT INTO message_partitioned (id, subscriber_id, issue_id, send_date, send_at, status, attempt_count)
+SELECT m.id, m.subscriber_id, m.issue_id, DATE(i.created_at), m.send_at, m.status, m.attempt_count
+FROM message m
+    JOIN newsletter_issue i ON i.id = m.issue_id;
+
+RENAME TABLE message TO message_legacy, message_partitioned TO message;
+
+-- 파티션을 보관(ARCHIVE)할 때 EXCHANGE PARTITION 으로 맞바꿀 빈 테이블의 원본 (파티션 없는 같은 구조)
+CREATE TABLE message_archive_template LIKE message;
+ALTER TABLE message_archive_template REMOVE PARTITIONING;
+
+-- 지난 발송일의 회차별/상태별 집계 (보관 기간이 지나 상세 파티션을 지워도 남음)
+CREATE TABLE message_daily_summary
+(
+    send_date     DATE        NOT NULL,
+    issue_id      BIGINT      NOT NULL,
+    status        VARCHAR(20) NOT NULL,
+    message_count BIGINT      NOT NULL,
+    rolled_up_at  DATETIME(6) NOT NULL,
+    PRIMARY KEY (send_date, issue_id, status)
+);
+
+-- 옮긴 행 수를 확인한 뒤 지움
+-- DROP TABLE message_legacy;
@@ -0,0 +1,40 @@
+-- 회차별 발송 통계: 로그를 저장하는 트랜잭션에서 배치마다 변화량만 더함 (조회 시 message 를 세지 않음)
+-- 한 회차의 샤드들이 같은 행을 두고 경합하지 않도록 stripe(샤드 id 기준 0~15)로 나눠 더하고, 읽을 때 최대 16행을 합함
+CREATE TABLE issue_stats
+(
+    issue_id   BIGINT      NOT NULL,
+    stripe     INT         NOT NULL,
+    targeted   BIGINT      NOT NULL DEFAULT 0,
+    sent       BIGINT      NOT NULL DEFAULT 0,
+    failed     BIGINT      NOT NULL DEFAULT 0,
+    retried    BIGINT      NOT NULL DEFAULT 0,
+    suppressed BIGINT      NOT NULL DEFAULT 0,
+    updated_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (issue_id, stripe)
+);
+
+-- 기존 회차는 지금 남아 있는 로그로 한 번만 채움 (재시도 횟수는 첫 시도를 뺀 시도 횟수의 합)
+INSERT INTO issue_stats (issue_id, stripe, targeted, sent, failed, retried, suppressed, updated_at)
+SELECT issue_id,
+       0,
+       COUNT(*),
+       SUM(status = 'SUCCESS'),
+       SUM(status = 'FAILURE'),
+       SUM(attempt_count - 1),
+       SUM(status = 'SUPPRESSED'),
+       NOW(6)
+FROM message
+GROUP BY issue_id;
+
+-- 활성 구독자 수: 구독 상태를 바꾸는 쓰기가 같은 트랜잭션에서 변화량을 무작위 stripe 에 더함
+CREATE TABLE subscriber_counter
+(
+    stripe       INT    NOT NULL PRIMARY KEY,
+    active_count BIGINT NOT NULL
+);
+
+-- 배포 중에는 구독 쓰기를 멈춘 상태에서 실행 (이후의 변화량은 애플리케이션이 더함)
+INSERT INTO subscriber_counter (stripe, active_count)
+SELECT 0, COUNT(*)
+FROM subscriber
+WHERE active = true;
@@ -0,0 +1,11 @@
+-- 재시도 예약 outbox: 일시적 실패(RETRYING) 로그와 같은 트랜잭션에서 "아직 발행하지 않은 재시도 배치"를 남김
+-- 커밋 후 대기 큐에 발행하면 지우고, 발행 전에 노드가 죽거나 발행이 실패해 남은 행은 dispatch_after 가 지나면 다시 발행함
+CREATE TABLE retry_outbox
+(
+    id             BIGINT      NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    issue_id       BIGINT      NOT NULL,
+    attempt        INT         NOT NULL,
+    subscriber_ids MEDIUMTEXT  NOT NULL,
+    dispatch_after DATETIME(6) NOT NULL,
+    INDEX idx_retry_outbox_dispatch_after (dispatch_after)
+);
@@ -0,0 +1,6 @@
+-- 샤드 메시지 발행 확인 전까지 남겨 두는 재발행 시각
+-- 발행 확인(confirm)을 받으면 NULL 로 지우고, 이 시각이 지나도 PENDING 이면 발행이 실패한 것으로 보고 다시 발행함
+ALTER TABLE run_shard
+    ADD COLUMN redispatch_after DATETIME(6) NULL;
+
+CREATE INDEX idx_run_shard_redispatch ON run_shard (redispatch_after);
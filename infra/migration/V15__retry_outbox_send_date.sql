@@ -0,0 +1,12 @@
+-- 발송 로그(message)의 파티션 키를 회차 등록일이 아닌 샤드를 처음 시작한 날짜로 바꾸면서,
+-- 재시도가 갱신할 로그 행의 send_date 를 재시도 예약에도 남김 (회차 id 만으로는 어느 파티션의 행인지 알 수 없음)
+ALTER TABLE retry_outbox
+    ADD COLUMN send_date DATE NULL AFTER issue_id;
+
+-- 이미 남아 있는 예약의 로그는 이전 규칙(회차 등록일)으로 저장돼 있음
+UPDATE retry_outbox o
+    JOIN newsletter_issue i ON i.id = o.issue_id
+SET o.send_date = DATE(i.created_at);
+
+ALTER TABLE retry_outbox
+    MODIFY COLUMN send_date DATE NOT NULL;
@@ -0,0 +1,2 @@
+-- Keyset 스트리밍(id > lastSeenId)용 (active, id) 인덱스
+CREATE INDEX idx_subscriber_active_id ON subscriber (active, id);
@@ -0,0 +1,28 @@
+-- 발송 로그(message)마다 복사되던 본문을 회차(newsletter_issue) 테이블로 분리
+CREATE TABLE newsletter_issue (
+    id         BIGINT       NOT NULL AUTO_INCREMENT,
+    file_name  VARCHAR(255) NOT NULL,
+    content    LONGTEXT     NOT NULL,
+    created_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_newsletter_issue_file_name UNIQUE (file_name)
+);
+
+-- 기존 로그에서 회차별 본문을 한 번씩만 옮김
+INSERT INTO newsletter_issue (file_name, content, created_at)
+SELECT m.file_name, ANY_VALUE(m.content), MIN(m.send_at)
+FROM message m
+WHERE m.file_name IS NOT NULL
+GROUP BY m.file_name;
+
+ALTER TABLE message ADD COLUMN issue_id BIGINT NULL;
+
+-- 행이 많으면 id 범위를 나눠 여러 번 실행 (예: WHERE m.id BETWEEN ? AND ?)
+UPDATE message m
+    JOIN newsletter_issue i ON i.file_name = m.file_name
+SET m.issue_id = i.id;
+
+ALTER TABLE message
+    ADD CONSTRAINT fk_message_issue FOREIGN KEY (issue_id) REFERENCES newsletter_issue (id),
+    DROP COLUMN content,
+    DROP COLUMN file_name;
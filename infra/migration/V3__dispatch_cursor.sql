@@ -0,0 +1,15 @@
+-- 시리즈별 발행 위치 (다음 회차를 정할 때 발송 로그(message)를 정렬하지 않도록)
+CREATE TABLE dispatch_cursor (
+    series         VARCHAR(255) NOT NULL,
+    last_file_name VARCHAR(255),
+    last_sequence  INT          NOT NULL,
+    updated_at     DATETIME(6),
+    PRIMARY KEY (series)
+);
+
+-- 마지막으로 등록된 회차를 현재 발행 위치로 옮김 (회차는 발행할 때 순서대로 등록됨)
+INSERT INTO dispatch_cursor (series, last_file_name, last_sequence, updated_at)
+SELECT 'newsletters', i.file_name, CAST(REGEXP_REPLACE(i.file_name, '[^0-9]', '') AS UNSIGNED), NOW(6)
+FROM newsletter_issue i
+ORDER BY i.id DESC
+LIMIT 1;
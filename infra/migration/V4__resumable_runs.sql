@@ -0,0 +1,20 @@
+-- 같은 회차를 같은 구독자에게 두 번 기록하지 않도록 (issue_id, subscriber_id) 유니크 키 추가
+-- 기존 중복 행은 가장 먼저 기록된 행만 남김
+DELETE m
+FROM message m
+    JOIN message older
+        ON older.issue_id = m.issue_id
+        AND older.subscriber_id = m.subscriber_id
+        AND older.id < m.id;
+
+ALTER TABLE message
+    ADD CONSTRAINT uk_message_issue_subscriber UNIQUE (issue_id, subscriber_id);
+
+-- 샤드 체크포인트 (로그 저장과 같은 트랜잭션에서 전진)
+ALTER TABLE run_shard
+    ADD COLUMN last_subscriber_id BIGINT      NOT NULL DEFAULT 0,
+    ADD COLUMN started_at         DATETIME(6) NULL,
+    ADD COLUMN checkpointed_at    DATETIME(6) NULL;
+
+UPDATE run_shard
+SET last_subscriber_id = from_id - 1;
@@ -0,0 +1,5 @@
+-- 일시적 실패 재시도: RETRYING 상태 추가 + 시도 횟수 컬럼
+-- (Hibernate 가 만든 ENUM('SUCCESS','FAILURE') 컬럼이면 새 상태를 넣을 수 없으므로 VARCHAR 로 바꿈)
+ALTER TABLE message
+    MODIFY COLUMN status VARCHAR(20) NOT NULL,
+    ADD COLUMN attempt_count INT NOT NULL DEFAULT 1;
@@ -0,0 +1,8 @@
+-- 메시지에는 회차 참조(id + checksum)만 싣고, 컨슈머가 읽은 본문을 checksum 으로 확인함
+ALTER TABLE newsletter_issue ADD COLUMN checksum CHAR(64) NULL;
+
+-- 본문 컬럼이 utf8mb4 이므로 SHA2 결과가 Java 의 SHA-256(UTF-8) 과 같음
+UPDATE newsletter_issue
+SET checksum = SHA2(content, 256);
+
+ALTER TABLE newsletter_issue MODIFY COLUMN checksum CHAR(64) NOT NULL;
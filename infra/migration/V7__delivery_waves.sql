@@ -0,0 +1,20 @@
+-- 구독자별 발송 시간대 (기존 구독자는 지금의 08:00 Asia/Seoul 발송을 그대로 받음)
+ALTER TABLE subscriber
+    ADD COLUMN time_zone     VARCHAR(64) NOT NULL DEFAULT 'Asia/Seoul',
+    ADD COLUMN delivery_hour INT         NOT NULL DEFAULT 8;
+
+-- 웨이브마다 시간대별 구독자 수 집계 + 시간대 안의 Keyset 스트리밍용
+CREATE INDEX idx_subscriber_slot ON subscriber (active, time_zone, delivery_hour, id);
+
+-- 같은 날짜의 웨이브가 같은 회차를 보내도록 실행에 회차 날짜를 남김 (08:00 일괄 발송 실행은 NULL)
+ALTER TABLE newsletter_run
+    ADD COLUMN edition_date DATE NULL;
+
+CREATE INDEX idx_newsletter_run_edition ON newsletter_run (edition_date);
+
+-- 샤드가 담당한 발송 시간대 (이미 발행한 시간대를 다음 웨이브가 다시 보내지 않도록)
+ALTER TABLE run_shard
+    ADD COLUMN time_zone     VARCHAR(64) NULL,
+    ADD COLUMN delivery_hour INT         NULL;
+
+CREATE INDEX idx_run_shard_slot ON run_shard (time_zone, delivery_hour);
@@ -0,0 +1,10 @@
+-- 스케줄 작업별 실행권: 여러 노드 중 회차(slot)마다 한 노드만 발행하도록 조건부 UPDATE 로 가져감
+CREATE TABLE scheduler_lease
+(
+    name         VARCHAR(255) NOT NULL PRIMARY KEY,
+    slot         DATETIME(6)  NOT NULL,
+    owner        VARCHAR(255) NULL,
+    locked_until DATETIME(6)  NOT NULL,
+    acquired_at  DATETIME(6)  NULL,
+    released_at  DATETIME(6)  NULL
+);
@@ -0,0 +1,10 @@
+-- 발송 제외 목록: 하드 바운스(5xx)이거나 최종 실패가 기준 횟수를 넘은 구독자는 다음 회차부터 발송하지 않음
+-- 노드마다 id 순서로 읽어 메모리(힙 밖)에 올리고, 마지막으로 읽은 id 이후만 주기적으로 이어서 읽음
+CREATE TABLE suppression
+(
+    id            BIGINT      NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    subscriber_id BIGINT      NOT NULL,
+    reason        VARCHAR(20) NOT NULL,
+    created_at    DATETIME(6) NOT NULL,
+    CONSTRAINT uk_suppression_subscriber UNIQUE (subscriber_id)
+);
@@ -0,0 +1,116 @@
+package com.email.scheduler.email_scheduler_server.newsletter.benchmark;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.stream.Stream;
+import javax.sql.DataSource;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 벤치마크용 임베디드 DB (H2, MySQL 모드)
+ * 스프링 컨텍스트 없이 엔티티/리포지토리만 실제 설정과 같은 네이밍 전략으로 구성함
+ */
+public final class BenchmarkDatabase implements AutoCloseable {
+
+    private static final String DOMAIN_PACKAGE = "com.email.scheduler.email_scheduler_server.newsletter.domain";
+    private static final int SEED_BATCH_SIZE = 10_000;
+
+    private final DataSource dataSource;
+    private final LocalContainerEntityManagerFactoryBean entityManagerFactoryBean;
+    private final JpaRepositoryFactory repositoryFactory;
+    private final TransactionTemplate transactionTemplate;
+
+    private BenchmarkDatabase(String name, String... extraEntityPackages) {
+        DriverManagerDataSource ds = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", "");
+        ds.setDriverClassName("org.h2.Driver");
+        this.dataSource = ds;
+
+        this.entityManagerFactoryBean = new LocalContainerEntityManagerFactoryBean();
+        entityManagerFactoryBean.setDataSource(ds);
+        entityManagerFactoryBean.setPackagesToScan(
+                Stream.concat(Stream.of(DOMAIN_PACKAGE), Stream.of(extraEntityPackages)).toArray(String[]::new));
+        entityManagerFactoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        entityManagerFactoryBean.setJpaPropertyMap(Map.of(
+                "hibernate.hbm2ddl.auto", "create",
+                "hibernate.physical_naming_strategy",
+                "org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy",
+                "hibernate.implicit_naming_strategy",
+                "org.springframework.boot.orm.jpa.hibernate.SpringImplicitNamingStrategy",
+                "hibernate.jdbc.batch_size", "1000",
+                "hibernate.order_inserts", "true"
+        ));
+        entityManagerFactoryBean.afterPropertiesSet();
+
+        EntityManagerFactory emf = entityManagerFactoryBean.getObject();
+        EntityManager sharedEntityManager = SharedEntityManagerCreator.createSharedEntityManager(emf);
+        this.repositoryFactory = new JpaRepositoryFactory(sharedEntityManager);
+        this.transactionTemplate = new TransactionTemplate(new JpaTransactionManager(emf));
+    }
+
+    public static BenchmarkDatabase create(String name, String... extraEntityPackages) {
+        return new BenchmarkDatabase(name, extraEntityPackages);
+    }
+
+    public <T> T repository(Class<T> repositoryInterface) {
+        return repositoryFactory.getRepository(repositoryInterface);
+    }
+
+    public DataSource dataSource() {
+        return dataSource;
+    }
+
+    public TransactionTemplate transactionTemplate() {
+        return transactionTemplate;
+    }
+
+    /**
+     * 활성 구독자 count 명을 JDBC 배치로 적재 (id 는 1부터 순차 증가)
+     */
+    public void seedSubscribers(int count) {
+        String sql = "INSERT INTO subscriber (email, active) VALUES (?, ?)";
+
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement ps = connection.prepareStatement(sql)) {
+            connection.setAutoCommit(false);
+
+            for (int i = 1; i <= count; i++) {
+                ps.setString(1, "user" + i + "@bench.test");
+                ps.setBoolean(2, true);
+                ps.addBatch();
+
+                if (i % SEED_BATCH_SIZE == 0) {
+                    ps.executeBatch();
+                }
+            }
+            ps.executeBatch();
+            connection.commit();
+        } catch (SQLException e) {
+            throw new IllegalStateException("벤치마크 구독자 적재 실패", e);
+        }
+    }
+
+    public void execute(String sql) {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.createStatement().execute(sql);
+        } catch (SQLException e) {
+            throw new IllegalStateException("벤치마크 SQL 실행 실패: " + sql, e);
+        }
+    }
+
+    @Override
+    public void close() {
+        execute("SHUTDOWN");
+        entityManagerFactoryBean.destroy();
+    }
+}
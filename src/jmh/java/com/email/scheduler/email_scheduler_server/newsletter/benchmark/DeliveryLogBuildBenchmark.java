@@ -0,0 +1,69 @@
+package com.email.scheduler.email_scheduler_server.newsletter.benchmark;
+
+import com.email.scheduler.email_scheduler_server.newsletter.domain.Message;
+import com.email.scheduler.email_scheduler_server.newsletter.domain.Message.MessageStatus;
+import com.email.scheduler.email_scheduler_server.newsletter.domain.NewsletterIssue;
+import com.email.scheduler.email_scheduler_server.newsletter.domain.Subscriber;
+import com.email.scheduler.email_scheduler_server.newsletter.dto.DeliveryLog;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 한 페이지(10,000건) 발송 로그 객체 생성 비용 (DB 저장 제외, 결과 단위: ns/건)
+ * - messageEntities: JPA 엔티티(Message) + 참조용 Subscriber/NewsletterIssue 를 builder 로 생성 (saveAll 경로)
+ * - deliveryLogs: 값 객체(DeliveryLog) 생성 (현재 JDBC 벌크 저장 경로)
+ *
+ * 할당량 비교는 -prof gc 로 확인 (gc.alloc.rate.norm)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@OperationsPerInvocation(DeliveryLogBuildBenchmark.PAGE_SIZE)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class DeliveryLogBuildBenchmark {
+
+    static final int PAGE_SIZE = 10_000;
+
+    private static final Long ISSUE_ID = 1L;
+
+    @Benchmark
+    public List<Message> messageEntities() {
+        List<Message> logs = new ArrayList<>(PAGE_SIZE);
+        NewsletterIssue issue = NewsletterIssue.builder().id(ISSUE_ID).build();
+        for (long id = 1; id <= PAGE_SIZE; id++) {
+            logs.add(Message.builder()
+                    .subscriber(Subscriber.builder().id(id).build())
+                    .issue(issue)
+                    .sendDate(LocalDate.now())
+                    .sendAt(LocalDateTime.now())
+                    .status(MessageStatus.SUCCESS)
+                    .attemptCount(1)
+                    .build());
+        }
+        return logs;
+    }
+
+    @Benchmark
+    public List<DeliveryLog> deliveryLogs() {
+        List<DeliveryLog> logs = new ArrayList<>(PAGE_SIZE);
+        for (long id = 1; id <= PAGE_SIZE; id++) {
+            logs.add(new DeliveryLog(id, ISSUE_ID, LocalDate.now(), LocalDateTime.now(), MessageStatus.SUCCESS));
+        }
+        return logs;
+    }
+}
@@ -0,0 +1,163 @@
+package com.email.scheduler.email_scheduler_server.newsletter.benchmark;
+
+import com.email.scheduler.email_scheduler_server.newsletter.benchmark.legacy.LegacyMessage;
+import com.email.scheduler.email_scheduler_server.newsletter.benchmark.legacy.LegacyMessageRepository;
+import com.email.scheduler.email_scheduler_server.newsletter.config.NewsletterProperties;
+import com.email.scheduler.email_scheduler_server.newsletter.domain.Message;
+import com.email.scheduler.email_scheduler_server.newsletter.domain.Message.MessageStatus;
+import com.email.scheduler.email_scheduler_server.newsletter.domain.NewsletterIssue;
+import com.email.scheduler.email_scheduler_server.newsletter.domain.NewsletterRun;
+import com.email.scheduler.email_scheduler_server.newsletter.domain.RunShard;
+import com.email.scheduler.email_scheduler_server.newsletter.domain.Subscriber;
+import com.email.scheduler.email_scheduler_server.newsletter.dto.DeliveryLog;
+import com.email.scheduler.email_scheduler_server.newsletter.dto.IdRange;
+import com.email.scheduler.email_scheduler_server.newsletter.repository.DeliveryLogWriter;
+import com.email.scheduler.email_scheduler_server.newsletter.repository.IssueStatsRepository;
+import com.email.scheduler.email_scheduler_server.newsletter.repository.MessageRepository;
+import com.email.scheduler.email_scheduler_server.newsletter.repository.NewsletterIssueRepository;
+import com.email.scheduler.email_scheduler_server.newsletter.repository.NewsletterRunRepository;
+import com.email.scheduler.email_scheduler_server.newsletter.repository.RetryOutboxRepository;
+import com.email.scheduler.email_scheduler_server.newsletter.repository.RunShardRepository;
+import com.email.scheduler.email_scheduler_server.newsletter.service.processor.MessageLogService;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 한 페이지(10,000건) 발송 로그 저장 처리량 비교 (결과 단위: rows/sec)
+ * - legacyInlineContent: 본문을 행마다 복사하던 형태 + JPA saveAll
+ * - jpaSaveAll: 회차 id 참조 + JPA saveAll (IDENTITY 라 행마다 단건 INSERT)
+ * - saveLogsInBatch: 회차 id 참조 + JDBC 벌크 저장 (MessageLogService 현재 경로), batchSize 별 비교
+ *   실제 샤드 행을 두므로 같은 트랜잭션의 체크포인트 UPDATE 와 회차 통계 누적까지 포함함 (모두 성공이라 재시도 예약은 없음)
+ *   JPA 두 방식은 로그 INSERT 만 하므로, 격차에서 이 두 문장만큼은 현재 경로가 더 하는 일임
+ * H2 는 배치를 multi-row INSERT 로 재작성하지 않으므로, MySQL(rewriteBatchedStatements=true)에서는 격차가 더 큼
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@OperationsPerInvocation(MessageLogBenchmark.PAGE_SIZE)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class MessageLogBenchmark {
+
+    static final int PAGE_SIZE = 10_000;
+
+    @Param({"2048", "20480"})
+    public int contentBytes;
+
+    @Param({"100", "1000", "5000"})
+    public int batchSize;
+
+    private BenchmarkDatabase database;
+    private MessageLogService logService;
+    private MessageRepository messageRepository;
+    private LegacyMessageRepository legacyRepository;
+    private String content;
+    private Long issueId;
+    private Long shardId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        database = BenchmarkDatabase.create(
+                "message_log_" + contentBytes + "_" + batchSize, LegacyMessage.class.getPackageName());
+        database.seedSubscribers(PAGE_SIZE);
+
+        NewsletterProperties properties = new NewsletterProperties();
+        properties.getLog().setBatchSize(batchSize);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(database.dataSource());
+        logService = new MessageLogService(
+                new DeliveryLogWriter(jdbcTemplate, properties),
+                database.repository(RunShardRepository.class),
+                new IssueStatsRepository(jdbcTemplate),
+                new RetryOutboxRepository(jdbcTemplate),
+                properties);
+        messageRepository = database.repository(MessageRepository.class);
+        legacyRepository = database.repository(LegacyMessageRepository.class);
+        content = "가".repeat(contentBytes / 3);
+
+        NewsletterIssueRepository issueRepository = database.repository(NewsletterIssueRepository.class);
+        NewsletterRunRepository runRepository = database.repository(NewsletterRunRepository.class);
+        RunShardRepository shardRepository = database.repository(RunShardRepository.class);
+        database.transactionTemplate().executeWithoutResult(status -> {
+            NewsletterIssue issue = issueRepository.save(new NewsletterIssue("newsletter_01.md", content));
+            NewsletterRun run = runRepository.save(new NewsletterRun(issue, 1));
+            issueId = issue.getId();
+            shardId = shardRepository.save(new RunShard(run, 0, new IdRange(1L, (long) PAGE_SIZE))).getId();
+        });
+    }
+
+    // 매 호출마다 빈 테이블에서 시작 (누적 데이터 영향 제거 + (issue_id, subscriber_id) 유니크 키 충돌 방지)
+    // 체크포인트도 되돌려야 다음 호출의 배치가 체크포인트를 실제로 전진시키고 통계를 더함
+    @Setup(Level.Invocation)
+    public void truncate() {
+        database.execute("TRUNCATE TABLE message");
+        database.execute("TRUNCATE TABLE legacy_message");
+        database.execute("TRUNCATE TABLE issue_stats");
+        database.execute("UPDATE run_shard SET last_subscriber_id = 0, sent_count = 0, failed_count = 0");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        database.close();
+    }
+
+    @Benchmark
+    public void legacyInlineContent() {
+        List<LegacyMessage> logs = new ArrayList<>(PAGE_SIZE);
+        for (long id = 1; id <= PAGE_SIZE; id++) {
+            logs.add(new LegacyMessage(subscriber(id), "newsletter_01.md", content, MessageStatus.SUCCESS));
+        }
+
+        database.transactionTemplate().executeWithoutResult(status -> legacyRepository.saveAll(logs));
+    }
+
+    @Benchmark
+    public void jpaSaveAll() {
+        List<Message> logs = new ArrayList<>(PAGE_SIZE);
+        NewsletterIssue issue = NewsletterIssue.builder().id(issueId).build();
+        for (long id = 1; id <= PAGE_SIZE; id++) {
+            logs.add(Message.builder()
+                    .subscriber(subscriber(id))
+                    .issue(issue)
+                    .sendDate(LocalDate.now())
+                    .sendAt(LocalDateTime.now())
+                    .status(MessageStatus.SUCCESS)
+                    .attemptCount(1)
+                    .build());
+        }
+
+        database.transactionTemplate().executeWithoutResult(status -> messageRepository.saveAll(logs));
+    }
+
+    @Benchmark
+    public void saveLogsInBatch() {
+        List<DeliveryLog> logs = new ArrayList<>(PAGE_SIZE);
+        for (long id = 1; id <= PAGE_SIZE; id++) {
+            logs.add(new DeliveryLog(id, issueId, LocalDate.now(), LocalDateTime.now(), MessageStatus.SUCCESS));
+        }
+
+        database.transactionTemplate().executeWithoutResult(status -> logService.saveLogsInBatch(shardId, logs));
+    }
+
+    private Subscriber subscriber(long id) {
+        return Subscriber.builder().id(id).build();
+    }
+}
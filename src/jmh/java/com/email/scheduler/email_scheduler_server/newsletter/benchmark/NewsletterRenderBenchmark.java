@@ -0,0 +1,70 @@
+package com.email.scheduler.email_scheduler_server.newsletter.benchmark;
+
+import com.email.scheduler.email_scheduler_server.newsletter.config.NewsletterProperties;
+import com.email.scheduler.email_scheduler_server.newsletter.domain.NewsletterMessage;
+import com.email.scheduler.email_scheduler_server.newsletter.mail.RenderedNewsletter;
+import com.email.scheduler.email_scheduler_server.newsletter.mail.UnsubscribeToken;
+import com.email.scheduler.email_scheduler_server.newsletter.service.NewsletterRenderer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 수신자 한 명분 MIME 메시지 생성 비용 비교
+ * - renderPerRecipient: 수신자마다 Markdown → HTML 변환과 인코딩을 새로 수행 (캐시 없음)
+ * - spliceRendered: 회차당 한 번 렌더링한 템플릿에 수신자 값만 끼워 씀
+ *
+ * 할당량 비교는 -prof gc 로 확인 (gc.alloc.rate.norm)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class NewsletterRenderBenchmark {
+
+    private static final String EMAIL = "subscriber12345@example.com";
+
+    private final OutputStream sink = OutputStream.nullOutputStream();
+
+    private NewsletterProperties properties;
+    private NewsletterMessage message;
+    private RenderedNewsletter rendered;
+    private long issueId;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        try (InputStream in = getClass().getResourceAsStream("/newsletters/newsletter_01.md")) {
+            String content = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            message = new NewsletterMessage(1L, "newsletter_01.md", content);
+        }
+        properties = new NewsletterProperties();
+        rendered = new NewsletterRenderer(properties, new UnsubscribeToken("benchmark-secret")).render(message);
+    }
+
+    @Benchmark
+    public void renderPerRecipient() throws IOException {
+        // 회차 id 를 매번 바꿔 캐시를 우회
+        NewsletterMessage uncached = new NewsletterMessage(++issueId, message.getFileName(), message.getContent());
+        new NewsletterRenderer(properties, new UnsubscribeToken("benchmark-secret")).render(uncached).writeTo(sink, EMAIL);
+    }
+
+    @Benchmark
+    public void spliceRendered() throws IOException {
+        rendered.writeTo(sink, EMAIL);
+    }
+}
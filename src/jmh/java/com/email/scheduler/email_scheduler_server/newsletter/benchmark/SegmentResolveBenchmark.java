@@ -0,0 +1,122 @@
+package com.email.scheduler.email_scheduler_server.newsletter.benchmark;
+
+import com.email.scheduler.email_scheduler_server.newsletter.domain.Segment;
+import com.email.scheduler.email_scheduler_server.newsletter.domain.SegmentExpression;
+import com.email.scheduler.email_scheduler_server.newsletter.service.SegmentIndex;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.roaringbitmap.RoaringBitmap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 발송 대상 식 계산 비용 (결과 단위: ms/식)
+ * - roaring: SegmentIndex.resolve (Roaring 비트맵 AND / OR / ANDNOT)
+ * - boxedHashSet: 세그먼트를 HashSet<Long> 으로 들고 교집합/합집합/차집합을 직접 계산
+ *
+ * 식: (topic:java OR topic:kotlin) AND signup:2024 AND NOT tier:dormant
+ * 세그먼트 소속 비율은 주제 30%, 가입 연도 50%(앞쪽 id 구간에 몰림), 휴면 20%
+ * 대상 수와 비트맵 크기는 setUp 에서 로그로 남김
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class SegmentResolveBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(SegmentResolveBenchmark.class);
+
+    private static final String AUDIENCE = "(topic:java OR topic:kotlin) AND signup:2024 AND NOT tier:dormant";
+
+    @Param({"1000000", "10000000"})
+    public int subscribers;
+
+    private SegmentIndex index;
+    private SegmentExpression expression;
+
+    private Set<Long> java;
+    private Set<Long> kotlin;
+    private Set<Long> signup;
+    private Set<Long> dormant;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        RoaringBitmap javaIds = new RoaringBitmap();
+        RoaringBitmap kotlinIds = new RoaringBitmap();
+        RoaringBitmap dormantIds = new RoaringBitmap();
+        for (int id = 1; id <= subscribers; id++) {
+            if (random.nextInt(10) < 3) {
+                javaIds.add(id);
+            }
+            if (random.nextInt(10) < 3) {
+                kotlinIds.add(id);
+            }
+            if (random.nextInt(10) < 2) {
+                dormantIds.add(id);
+            }
+        }
+        RoaringBitmap signupIds = RoaringBitmap.bitmapOfRange(1, subscribers / 2 + 1);
+
+        index = new SegmentIndex(null);
+        index.apply(segment("topic:java", javaIds));
+        index.apply(segment("topic:kotlin", kotlinIds));
+        index.apply(segment("signup:2024", signupIds));
+        index.apply(segment("tier:dormant", dormantIds));
+        expression = SegmentExpression.parse(AUDIENCE);
+
+        java = toSet(javaIds);
+        kotlin = toSet(kotlinIds);
+        signup = toSet(signupIds);
+        dormant = toSet(dormantIds);
+
+        log.info("[Segment] 구독자 {}명 - 대상 {}명, 비트맵 {} bytes",
+                subscribers, roaring(), javaIds.serializedSizeInBytes() + kotlinIds.serializedSizeInBytes()
+                        + signupIds.serializedSizeInBytes() + dormantIds.serializedSizeInBytes());
+    }
+
+    @Benchmark
+    public long roaring() {
+        return index.resolve(expression, 1, subscribers).getLongCardinality();
+    }
+
+    @Benchmark
+    public long boxedHashSet() {
+        Set<Long> result = new HashSet<>(java);
+        result.addAll(kotlin);
+        result.retainAll(signup);
+        result.removeAll(dormant);
+        return result.size();
+    }
+
+    private Segment segment(String name, RoaringBitmap bitmap) {
+        return Segment.builder()
+                .name(name)
+                .bitmap(SegmentIndex.toBytes(bitmap))
+                .cardinality(bitmap.getLongCardinality())
+                .version(1L)
+                .build();
+    }
+
+    private Set<Long> toSet(RoaringBitmap bitmap) {
+        Set<Long> set = new HashSet<>(bitmap.getCardinality() * 2);
+        bitmap.forEach((int id) -> set.add((long) id));
+        return set;
+    }
+}
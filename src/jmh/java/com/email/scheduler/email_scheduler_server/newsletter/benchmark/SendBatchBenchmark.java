@@ -0,0 +1,98 @@
+package com.email.scheduler.email_scheduler_server.newsletter.benchmark;
+
+import com.email.scheduler.email_scheduler_server.newsletter.config.NewsletterProperties;
+import com.email.scheduler.email_scheduler_server.newsletter.config.NewsletterProperties.SendMode;
+import com.email.scheduler.email_scheduler_server.newsletter.domain.NewsletterMessage;
+import com.email.scheduler.email_scheduler_server.newsletter.dto.DeliveryLog;
+import com.email.scheduler.email_scheduler_server.newsletter.dto.SubscriberView;
+import com.email.scheduler.email_scheduler_server.newsletter.mail.RenderedNewsletter;
+import com.email.scheduler.email_scheduler_server.newsletter.mail.UnsubscribeToken;
+import com.email.scheduler.email_scheduler_server.newsletter.metrics.DeliveryMetrics;
+import com.email.scheduler.email_scheduler_server.newsletter.repository.SuppressionRepository;
+import com.email.scheduler.email_scheduler_server.newsletter.service.NewsletterRenderer;
+import com.email.scheduler.email_scheduler_server.newsletter.service.processor.DomainThrottle;
+import com.email.scheduler.email_scheduler_server.newsletter.service.processor.EmailBatchService;
+import com.email.scheduler.email_scheduler_server.newsletter.service.processor.SendPermits;
+import com.email.scheduler.email_scheduler_server.newsletter.service.processor.SuppressionList;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * EmailBatchService.sendBatch 처리량 (결과 단위: recipients/sec)
+ * SMTP 왕복 지연을 흉내 낸 EmailService 로 발송 모드(순차 / 가상 스레드 동시 발송)와 동시 발송 상한별로 비교함
+ * 지연 0ms 는 발송 외 비용(로그 생성, 카운터, 지표 기록, 스레드 생성)만 드러냄
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@OperationsPerInvocation(SendBatchBenchmark.RECIPIENTS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class SendBatchBenchmark {
+
+    static final int RECIPIENTS = 1_000;
+
+    @Param({"0", "5", "20"})
+    public int latencyMillis;
+
+    @Param({"SEQUENTIAL", "CONCURRENT"})
+    public SendMode mode;
+
+    // SEQUENTIAL 에서는 쓰이지 않음 (-p mode=CONCURRENT 로 동시 발송만 비교 가능)
+    @Param({"50", "500"})
+    public int maxInFlight;
+
+    private EmailBatchService batchService;
+    private List<SubscriberView> subscribers;
+    private NewsletterMessage message;
+    private RenderedNewsletter rendered;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        NewsletterProperties properties = new NewsletterProperties();
+        properties.getSend().setMode(mode);
+        properties.getSend().setMaxInFlight(maxInFlight);
+        // 도메인 속도 제한 없이 발송 방식만 비교
+        properties.getThrottle().setEnabled(false);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+        batchService = new EmailBatchService(
+                new SimulatedEmailService(Duration.ofMillis(latencyMillis)),
+                properties,
+                new DeliveryMetrics(registry, properties),
+                new DomainThrottle(properties, registry),
+                // 읽어 들이지 않은 빈 발송 제외 목록 (DB 를 쓰지 않음)
+                new SuppressionList(new SuppressionRepository(new JdbcTemplate(), properties), properties, registry),
+                new SendPermits(properties));
+
+        subscribers = LongStream.rangeClosed(1, RECIPIENTS)
+                .mapToObj(id -> new SubscriberView(id, "subscriber" + id + "@example.com"))
+                .toList();
+        message = new NewsletterMessage(1L, "newsletter_01.md", "안녕하세요 {{name}}님!");
+        rendered = new NewsletterRenderer(properties, new UnsubscribeToken("benchmark-secret")).render(message);
+    }
+
+    @Benchmark
+    public List<DeliveryLog> sendBatch() {
+        return batchService.sendBatch(subscribers, message, rendered, new AtomicInteger(), new AtomicInteger());
+    }
+}
@@ -0,0 +1,35 @@
+package com.email.scheduler.email_scheduler_server.newsletter.benchmark;
+
+import com.email.scheduler.email_scheduler_server.newsletter.mail.RenderedNewsletter;
+import com.email.scheduler.email_scheduler_server.newsletter.mail.SmtpClientPool;
+import com.email.scheduler.email_scheduler_server.newsletter.service.EmailService;
+import com.email.scheduler.email_scheduler_server.newsletter.service.SendResult;
+import java.time.Duration;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+/**
+ * SMTP 왕복 시간만큼 잠들었다가 성공을 돌려주는 EmailService (로그 출력 없음)
+ * 가상 스레드에서 호출되면 sleep 동안 캐리어 스레드를 놓아주므로 실제 네트워크 대기와 같은 모양이 됨
+ */
+class SimulatedEmailService extends EmailService {
+
+    private final Duration latency;
+
+    SimulatedEmailService(Duration latency) {
+        super(new StaticListableBeanFactory().getBeanProvider(SmtpClientPool.class));
+        this.latency = latency;
+    }
+
+    @Override
+    public SendResult sendEmail(String email, RenderedNewsletter newsletter) {
+        if (!latency.isZero()) {
+            try {
+                Thread.sleep(latency);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return SendResult.RETRYABLE;
+            }
+        }
+        return SendResult.SENT;
+    }
+}
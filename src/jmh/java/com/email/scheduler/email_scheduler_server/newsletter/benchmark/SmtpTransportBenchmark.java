@@ -0,0 +1,84 @@
+package com.email.scheduler.email_scheduler_server.newsletter.benchmark;
+
+import com.email.scheduler.email_scheduler_server.newsletter.config.NewsletterProperties;
+import com.email.scheduler.email_scheduler_server.newsletter.mail.FakeSmtpServer;
+import com.email.scheduler.email_scheduler_server.newsletter.mail.MailBody;
+import com.email.scheduler.email_scheduler_server.newsletter.mail.SmtpClientPool;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * SMTP 발송 처리량(messages/sec) 비교: 메시지마다 새 연결 vs 연결 풀 재사용, PIPELINING 유무
+ * 로컬 FakeSmtpServer 를 상대로 하므로 네트워크 지연 없이 연결 수립/명령 왕복 비용만 드러남
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SmtpTransportBenchmark {
+
+    private static final int MESSAGES = 1_000;
+    private static final int CONCURRENCY = 16;
+
+    // 1 = 메시지마다 연결/EHLO/QUIT (기존 방식과 같은 비용), 500 = 연결 재사용
+    @Param({"1", "500"})
+    public int maxMessagesPerConnection;
+
+    @Param({"true", "false"})
+    public boolean pipelining;
+
+    private FakeSmtpServer server;
+    private SmtpClientPool pool;
+    private MailBody body;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        server = FakeSmtpServer.start(0, pipelining, false);
+
+        NewsletterProperties.Smtp smtp = new NewsletterProperties().getSmtp();
+        smtp.setPort(server.port());
+        smtp.setPoolSize(CONCURRENCY);
+        smtp.setMaxMessagesPerConnection(maxMessagesPerConnection);
+        pool = new SmtpClientPool(smtp);
+
+        byte[] content = "a".repeat(4 * 1024).getBytes(StandardCharsets.US_ASCII);
+        body = out -> out.write(content);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        pool.close();
+        server.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGES)
+    public int sendMessages() {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < MESSAGES; i++) {
+                String to = "user" + i + "@test.com";
+                executor.execute(() -> pool.send(to, body));
+            }
+        }
+        return pool.openedConnections();
+    }
+}
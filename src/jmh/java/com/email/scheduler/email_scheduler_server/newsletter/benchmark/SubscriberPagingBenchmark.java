@@ -0,0 +1,69 @@
+package com.email.scheduler.email_scheduler_server.newsletter.benchmark;
+
+import com.email.scheduler.email_scheduler_server.newsletter.dto.SubscriberQuery;
+import com.email.scheduler.email_scheduler_server.newsletter.repository.SegmentRepository;
+import com.email.scheduler.email_scheduler_server.newsletter.repository.SubscriberRepository;
+import com.email.scheduler.email_scheduler_server.newsletter.service.SegmentIndex;
+import com.email.scheduler.email_scheduler_server.newsletter.service.processor.SubscriberFetchService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 전체 활성 구독자 순회 시간 비교: OFFSET 페이징 vs Keyset 스트리밍
+ * 한 번 순회 자체가 측정 단위이므로 SingleShotTime 으로 측정함
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class SubscriberPagingBenchmark {
+
+    @Param({"100000", "1000000", "5000000"})
+    public int rows;
+
+    private BenchmarkDatabase database;
+    private SubscriberFetchService fetchService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        database = BenchmarkDatabase.create("paging_" + rows);
+        database.seedSubscribers(rows);
+        fetchService = new SubscriberFetchService(database.repository(SubscriberRepository.class),
+                new SegmentIndex(database.repository(SegmentRepository.class)));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        database.close();
+    }
+
+    @Benchmark
+    public long offsetPaging() {
+        LongAdder visited = new LongAdder();
+        fetchService.processEachPage(page -> visited.add(page.size()));
+        return visited.sum();
+    }
+
+    @Benchmark
+    public long keysetStreaming() {
+        LongAdder visited = new LongAdder();
+        fetchService.streamActiveSubscribers(SubscriberQuery.all(), page -> visited.add(page.size()), nanos -> {
+        });
+        return visited.sum();
+    }
+}
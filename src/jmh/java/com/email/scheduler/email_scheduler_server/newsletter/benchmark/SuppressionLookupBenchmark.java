@@ -0,0 +1,95 @@
+package com.email.scheduler.email_scheduler_server.newsletter.benchmark;
+
+import com.email.scheduler.email_scheduler_server.newsletter.service.processor.OffHeapLongSet;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 발송 제외 목록 조회 비용 (결과 단위: ns/조회)
+ * - offHeap: OffHeapLongSet (힙 밖 long 슬롯, 조회마다 할당 없음)
+ * - boxedHashSet: HashSet<Long> (키마다 Long + HashMap.Node 객체, 조회마다 Long 박싱)
+ *
+ * 절반은 목록에 있는 id, 절반은 없는 id 를 무작위 순서로 조회함
+ * 메모리는 setUp 에서 로그로 남김 (OffHeapLongSet 은 계산값, HashSet 은 -prof gc 나 힙 덤프로 확인)
+ * 1,000만 개 HashSet 은 힙이 1GB 이상 필요하므로 -jvmArgs -Xmx4g 로 실행함
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@OperationsPerInvocation(SuppressionLookupBenchmark.LOOKUPS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class SuppressionLookupBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(SuppressionLookupBenchmark.class);
+
+    static final int LOOKUPS = 1 << 16;
+
+    @Param({"1000000", "10000000"})
+    public int entries;
+
+    private OffHeapLongSet offHeap;
+    private Set<Long> boxed;
+    private long[] probes;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        offHeap = new OffHeapLongSet(entries);
+        boxed = new HashSet<>(entries * 2);
+        // 제외 대상은 전체 구독자(entries * 2) 중 짝수 id
+        for (long id = 2; id <= entries * 2L; id += 2) {
+            offHeap.add(id);
+            boxed.add(id);
+        }
+
+        SplittableRandom random = new SplittableRandom(42);
+        probes = new long[LOOKUPS];
+        for (int i = 0; i < LOOKUPS; i++) {
+            probes[i] = random.nextLong(1, entries * 2L + 1);
+        }
+
+        log.info("[Suppression] {}개 - OffHeapLongSet 슬롯 {}개, 힙 밖 {} bytes ({} bytes/개)",
+                offHeap.size(), offHeap.capacity(), offHeap.memoryBytes(),
+                String.format("%.1f", (double) offHeap.memoryBytes() / offHeap.size()));
+    }
+
+    @Benchmark
+    public int offHeap() {
+        int hits = 0;
+        for (long probe : probes) {
+            if (offHeap.contains(probe)) {
+                hits++;
+            }
+        }
+        return hits;
+    }
+
+    @Benchmark
+    public int boxedHashSet() {
+        int hits = 0;
+        for (long probe : probes) {
+            if (boxed.contains(probe)) {
+                hits++;
+            }
+        }
+        return hits;
+    }
+}
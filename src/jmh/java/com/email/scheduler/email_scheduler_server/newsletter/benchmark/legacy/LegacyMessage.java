@@ -0,0 +1,53 @@
+package com.email.scheduler.email_scheduler_server.newsletter.benchmark.legacy;
+
+import com.email.scheduler.email_scheduler_server.newsletter.domain.Message.MessageStatus;
+import com.email.scheduler.email_scheduler_server.newsletter.domain.Subscriber;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.Lob;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+
+/**
+ * 회차 분리 이전의 발송 로그 형태 (본문을 행마다 복사) - 비교 기준용
+ */
+@Entity
+@Table(name = "legacy_message")
+public class LegacyMessage {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "subscriber_id")
+    private Subscriber subscriber;
+
+    @Lob
+    private String content;
+
+    private String fileName;
+
+    private LocalDateTime sendAt;
+
+    @Enumerated(EnumType.STRING)
+    private MessageStatus status;
+
+    protected LegacyMessage() {
+    }
+
+    public LegacyMessage(Subscriber subscriber, String fileName, String content, MessageStatus status) {
+        this.subscriber = subscriber;
+        this.fileName = fileName;
+        this.content = content;
+        this.sendAt = LocalDateTime.now();
+        this.status = status;
+    }
+}
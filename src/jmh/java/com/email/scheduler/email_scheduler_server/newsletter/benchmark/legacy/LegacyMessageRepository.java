@@ -0,0 +1,6 @@
+package com.email.scheduler.email_scheduler_server.newsletter.benchmark.legacy;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface LegacyMessageRepository extends JpaRepository<LegacyMessage, Long> {
+}
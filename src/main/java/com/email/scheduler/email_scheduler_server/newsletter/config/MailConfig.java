@@ -0,0 +1,33 @@
+package com.email.scheduler.email_scheduler_server.newsletter.config;
+
+import com.email.scheduler.email_scheduler_server.newsletter.mail.SmtpClientPool;
+import com.email.scheduler.email_scheduler_server.newsletter.mail.UnsubscribeToken;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.source.InvalidConfigurationPropertyValueException;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MailConfig {
+
+    static final String UNSUBSCRIBE_SECRET_PROPERTY = "newsletter.render.unsubscribe-secret";
+
+    // 종료 시 쉬고 있는 연결에 QUIT 을 보내고 닫음
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(prefix = "newsletter.smtp", name = "enabled", havingValue = "true")
+    public SmtpClientPool smtpClientPool(NewsletterProperties properties) {
+        return new SmtpClientPool(properties.getSmtp());
+    }
+
+    // 구독 취소 링크 서명 (발송 노드가 만들고 API 노드가 검증하므로 모든 노드가 같은 키를 써야 함)
+    // 키가 없으면 시작 실패 화면(APPLICATION FAILED TO START)에 속성 이름과 지정할 환경 변수를 바로 보여줌
+    @Bean
+    public UnsubscribeToken unsubscribeToken(NewsletterProperties properties) {
+        String secret = properties.getRender().getUnsubscribeSecret();
+        if (secret == null || secret.isBlank()) {
+            throw new InvalidConfigurationPropertyValueException(UNSUBSCRIBE_SECRET_PROPERTY, secret,
+                    "구독 취소 링크 서명 키가 없습니다. 환경 변수 NEWSLETTER_UNSUBSCRIBE_SECRET 에 모든 노드가 같은 값을 지정하세요");
+        }
+        return new UnsubscribeToken(secret);
+    }
+}
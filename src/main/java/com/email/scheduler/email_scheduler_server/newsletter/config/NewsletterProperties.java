@@ -0,0 +1,334 @@
+package com.email.scheduler.email_scheduler_server.newsletter.config;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 뉴스레터 발송 관련 설정 (application.properties 의 newsletter.* 항목)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "newsletter")
+public class NewsletterProperties {
+
+    private final Send send = new Send();
+    private final Throttle throttle = new Throttle();
+    private final Log log = new Log();
+    private final Subscriber subscriber = new Subscriber();
+    private final Pipeline pipeline = new Pipeline();
+    private final Shard shard = new Shard();
+    private final Wave wave = new Wave();
+    private final Smtp smtp = new Smtp();
+    private final Render render = new Render();
+    private final Catalog catalog = new Catalog();
+    private final Retry retry = new Retry();
+    private final Publish publish = new Publish();
+    private final Listener listener = new Listener();
+    private final Lease lease = new Lease();
+    private final Suppression suppression = new Suppression();
+    private final Segment segment = new Segment();
+    private final Metrics metrics = new Metrics();
+    private final Csv csv = new Csv();
+    private final LoadTest loadtest = new LoadTest();
+
+    @Getter
+    @Setter
+    public static class Send {
+
+        // SEQUENTIAL: 한 명씩 순차 발송, CONCURRENT: 가상 스레드로 동시 발송
+        private SendMode mode = SendMode.CONCURRENT;
+
+        // 노드 전체에서 동시에 진행 중인 발송 수 상한 (CONCURRENT 모드, 샤드/페이지/재시도가 함께 나눠 씀)
+        private int maxInFlight = 200;
+    }
+
+    @Getter
+    @Setter
+    public static class Throttle {
+
+        // 수신 도메인별 발송 속도 제한 (false 면 구독자 순서대로 제한 없이 발송)
+        private boolean enabled = true;
+
+        // 도메인별 초당 발송 수: 시작값, 하한, 상한 (상한은 max-rate-by-domain[gmail.com]=100 처럼 도메인별로 지정 가능)
+        private double initialRate = 50;
+        private double minRate = 1;
+        private double maxRate = 500;
+        private Map<String, Double> maxRateByDomain = new HashMap<>();
+
+        // 토큰 버킷 크기 (쉬고 있던 도메인에 한 번에 보낼 수 있는 수)
+        private int burst = 50;
+
+        // AIMD: 성공이 이어지면 초당 increase-step 만큼 올리고, 4xx/시간 초과면 decrease-factor 배로 낮춤
+        private double increaseStep = 5;
+        private double decreaseFactor = 0.5;
+
+        // 동시에 진행 중이던 발송들이 한꺼번에 실패해도 한 번만 낮추도록 감속 사이 최소 간격
+        private Duration backoffInterval = Duration.ofSeconds(1);
+
+        // 도메인별 속도 지표를 만들 최대 도메인 수 (작은 도메인이 많아도 시계열이 끝없이 늘지 않도록)
+        private int maxMeteredDomains = 100;
+
+        public double maxRateFor(String domain) {
+            return maxRateByDomain.getOrDefault(domain, maxRate);
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class Log {
+
+        // 발송 로그 JDBC 배치 크기 (한 번에 드라이버로 보내는 행 수)
+        private int batchSize = 1_000;
+
+        // message 가 send_date 기준 파티션 테이블인지 (false 면 야간 작업이 집계만 하고 파티션은 건드리지 않음, H2 부하 테스트용)
+        private boolean partitioned = true;
+
+        // 일 단위 파티션을 오늘부터 며칠 앞까지 미리 만들어 둘지
+        private int precreateDays = 7;
+
+        // 발송일이 며칠 지나야 끝난 날로 보고 집계할지 (시간대별 웨이브와 재시도가 모두 끝날 만큼)
+        private int settleDays = 2;
+
+        // 상세 로그(파티션)를 남길 일수, 지난 파티션은 집계가 끝난 뒤 지우거나 보관함
+        private int retentionDays = 90;
+
+        // DROP: 파티션 삭제, ARCHIVE: message_archive_p<날짜> 테이블로 떼어 낸 뒤 삭제
+        private RetentionMode retentionMode = RetentionMode.DROP;
+    }
+
+    @Getter
+    @Setter
+    public static class Subscriber {
+
+        // 구독자/발송 제외 목록 JDBC 배치 크기 (CSV 가져오기 한 묶음, 일괄 구독의 INSERT 배치와 UPDATE ... IN 한 문장의 행 수)
+        private int batchSize = 1_000;
+    }
+
+    @Getter
+    @Setter
+    public static class Pipeline {
+
+        // 단계 사이 큐에 쌓아둘 수 있는 페이지 수 (메모리 상한 ≈ (2 * capacity + 3) 페이지)
+        private int queueCapacity = 2;
+    }
+
+    @Getter
+    @Setter
+    public static class Shard {
+
+        // 한 번의 발송을 나눌 구독자 id 구간 수 (각 구간이 하나의 작업 메시지)
+        private int count = 8;
+    }
+
+    @Getter
+    @Setter
+    public static class Wave {
+
+        // true 면 08:00(Asia/Seoul) 일괄 발송 대신 매시 정각에 현지 발송 시각이 된 구독자만 발송
+        private boolean enabled = true;
+
+        // 현지 발송 시각이 지난 뒤 이 시간 안의 웨이브까지는 놓친 발송 시간대를 이어서 보냄
+        private Duration maxDelay = Duration.ofHours(3);
+
+        // 발송 시간대 하나를 나눌 샤드의 최소 구독자 수 (작은 시간대는 샤드 하나로 보냄, 최대 shard.count 개)
+        private int minShardSize = 10_000;
+    }
+
+    @Getter
+    @Setter
+    public static class Smtp {
+
+        // false 면 실제 발송 없이 로그만 남김 (로컬 개발용)
+        private boolean enabled = false;
+
+        private String host = "localhost";
+        private int port = 25;
+        private String username;
+        private String password;
+        private boolean startTls = false;
+        private String heloName = "localhost";
+
+        private String from = "newsletter@localhost";
+        private String subject = "오늘의 뉴스레터";
+
+        // 유지할 SMTP 연결 수 (send.max-in-flight 보다 작으면 나머지 발송은 연결을 기다림)
+        private int poolSize = 16;
+
+        // 연결 하나로 보낼 최대 메시지 수, 넘으면 QUIT 후 재연결
+        private int maxMessagesPerConnection = 500;
+
+        private Duration connectTimeout = Duration.ofSeconds(10);
+        private Duration readTimeout = Duration.ofSeconds(30);
+
+        // 메시지 한 건(봉투 명령 ~ 본문 응답)의 제한 시간, 응답을 읽을 때 남은 시간을 소켓 읽기 제한 시간으로 씀
+        private Duration messageTimeout = Duration.ofSeconds(30);
+    }
+
+    @Getter
+    @Setter
+    public static class Render {
+
+        // 구독 취소 링크 앞부분, 뒤에 구독자별 서명 토큰(UnsubscribeToken)이 붙음
+        private String unsubscribeUrl = "http://localhost:8080/api/subscriptions/unsubscribe?token=";
+
+        // 구독 취소 토큰의 HMAC 서명 키 (모든 노드가 같은 값을 써야 함)
+        private String unsubscribeSecret;
+
+        // 렌더링 결과를 메모리에 유지할 최근 회차 수
+        private int cacheSize = 4;
+    }
+
+    @Getter
+    @Setter
+    public static class Catalog {
+
+        // 회차 파일(*.md)이 있는 위치 (classpath: 또는 file:), 파일 시스템 경로면 변경을 감지해 다시 읽음
+        private String location = "classpath:newsletters/";
+
+        // 발행 위치(dispatch_cursor)를 구분하는 시리즈 이름
+        private String series = "newsletters";
+    }
+
+    @Getter
+    @Setter
+    public static class Csv {
+
+        // 구독자 CSV 가져오기/내보내기 관리 토큰 (요청의 X-Admin-Token 헤더와 비교), 비우면 두 API 를 등록하지 않음
+        private String adminToken;
+    }
+
+    @Getter
+    @Setter
+    public static class Retry {
+
+        // 재시도 전 대기 시간 (단계마다 TTL 대기 큐 하나), 최대 시도 횟수 = 첫 발송 1회 + 단계 수
+        private List<Duration> delays = List.of(Duration.ofMinutes(1), Duration.ofMinutes(5), Duration.ofMinutes(30));
+
+        // 재시도 예약(retry_outbox)이 이 시간 넘게 발행되지 않고 남아 있으면 다시 발행함
+        private Duration outboxTimeout = Duration.ofMinutes(2);
+
+        public int getMaxAttempts() {
+            return delays.size() + 1;
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class Publish {
+
+        // 브로커의 발행 확인(confirm)을 기다리는 최대 시간, 넘기면 발행 실패로 처리
+        private Duration confirmTimeout = Duration.ofSeconds(10);
+
+        // 샤드 메시지가 이 시간 안에 발행 확인을 받지 못하고 PENDING 이면 다시 발행함 (샤드 전체 발행 시간보다 길어야 함)
+        private Duration redispatchAfter = Duration.ofMinutes(5);
+    }
+
+    @Getter
+    @Setter
+    public static class Listener {
+
+        // 노드 하나의 컨슈머 수 하한/상한 (샤드/재시도 큐마다)
+        private int concurrency = 2;
+        private int maxConcurrency = 8;
+
+        // 컨슈머 하나가 ack 전에 미리 받아 둘 메시지 수 (샤드는 오래 걸리므로 1 이면 노드끼리 고르게 나눠 가짐)
+        private int prefetch = 1;
+
+        // 샤드 큐에 대기 중인 메시지 몇 개마다 컨슈머를 하나씩 늘릴지
+        private int messagesPerConsumer = 2;
+
+        // 샤드 큐 깊이를 확인해 컨슈머 수를 조정하는 주기
+        private Duration scaleInterval = Duration.ofSeconds(10);
+
+        // 처리에 실패한 메시지가 재전달 대기 큐에서 기다리는 시간 (바꾸면 대기 큐를 지우고 다시 선언해야 함)
+        private Duration failureDelay = Duration.ofSeconds(30);
+
+        // 이 횟수만큼 처리에 실패하면 dead-letter 큐로 보냄
+        private int maxFailures = 5;
+
+        // 샤드 메시지를 ack 하지 않고 처리할 수 있는 최대 시간 (샤드 큐의 x-consumer-timeout, 바꾸면 샤드 큐를 지우고 다시 선언해야 함)
+        // 샤드 하나를 끝까지 보내는 시간보다 길어야 함, 넘기면 브로커가 채널을 닫고 샤드를 다른 컨슈머에게 다시 보냄
+        private Duration consumerTimeout = Duration.ofHours(2);
+    }
+
+    @Getter
+    @Setter
+    public static class Lease {
+
+        // 스케줄 실행권 유지 시간 (발행에 걸리는 시간보다 길게), 보유 노드가 죽으면 이 시간 뒤에 다른 노드가 가져감
+        private Duration duration = Duration.ofMinutes(10);
+    }
+
+    @Getter
+    @Setter
+    public static class Suppression {
+
+        // false 면 발송 제외 목록을 읽거나 기록하지 않고 모든 구독자에게 발송
+        private boolean enabled = true;
+
+        // 재시도를 다 쓴 최종 실패가 이 횟수 이상이면 발송 제외 (5xx 하드 바운스는 한 번에 제외)
+        private int failureThreshold = 3;
+
+        // 다른 노드가 추가한 제외 대상을 이어서 읽는 주기, 목록 전체를 다시 읽는 주기
+        private Duration refreshInterval = Duration.ofSeconds(10);
+        private Duration rebuildInterval = Duration.ofHours(1);
+    }
+
+    @Getter
+    @Setter
+    public static class Segment {
+
+        // 다른 노드가 바꾼 세그먼트(version 이 바뀐 행)를 다시 읽는 주기
+        private Duration refreshInterval = Duration.ofSeconds(30);
+
+        // 구성원 추가/제외 관리 토큰 (요청의 X-Admin-Token 헤더와 비교), 비우면 두 API 를 등록하지 않음
+        private String adminToken;
+    }
+
+    @Getter
+    @Setter
+    public static class Metrics {
+
+        // 회차별 지표(issue 태그)를 유지할 최근 회차 수, 밀려난 회차의 시계열은 레지스트리에서 지움
+        // 재시도 대기(최대 30분)까지 끝나지 않은 회차가 동시에 몇 개인지보다 크게 잡아야 진행 중인 회차의 지표가 지워지지 않음
+        private int retainedIssues = 4;
+    }
+
+    @Getter
+    @Setter
+    public static class LoadTest {
+
+        // 준비할 합성 구독자 수 (이미 있는 만큼은 건너뜀)
+        private int subscribers = 100_000;
+
+        // 가짜 SMTP 서버의 메시지당 응답 지연과 무작위 거절 확률 (0 ~ 1)
+        private Duration smtpLatency = Duration.ofMillis(5);
+        private double transientErrorRate = 0.01;
+        private double permanentErrorRate = 0.001;
+
+        // 메모리 작업 큐를 소비할 컨슈머 스레드 수 (RabbitMQ 컨슈머 인스턴스 수에 해당)
+        private int consumers = 4;
+
+        // 발송 회차가 끝나기를 기다리는 최대 시간
+        private Duration timeout = Duration.ofMinutes(30);
+
+        // 결과를 JSON 으로 남길 파일 (비우면 로그로만 출력)
+        private String reportFile = "build/loadtest/report.json";
+
+        // 보고 후 애플리케이션 종료 여부
+        private boolean exitOnFinish = true;
+    }
+
+    public enum SendMode {
+        SEQUENTIAL, CONCURRENT
+    }
+
+    public enum RetentionMode {
+        DROP, ARCHIVE
+    }
+}
@@ -1,34 +1,164 @@
 package com.email.scheduler.email_scheduler_server.newsletter.config;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.amqp.core.AcknowledgeMode;
 import org.springframework.amqp.core.Binding;
 import org.springframework.amqp.core.BindingBuilder;
-import org.springframework.amqp.core.FanoutExchange;
+import org.springframework.amqp.core.Declarable;
+import org.springframework.amqp.core.Declarables;
+import org.springframework.amqp.core.DirectExchange;
 import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.QueueBuilder;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.boot.autoconfigure.amqp.SimpleRabbitListenerContainerFactoryConfigurer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
 
+// 부하 테스트(loadtest 프로필)는 브로커 없이 메모리 디스패처를 쓰므로 등록하지 않음
 @Configuration
+@Profile("!loadtest")
 public class RabbitMQConfig {
 
-    public static final String EXCHANGE_NAME = "newsletter.exchange";
-    public static final String QUEUE_NAME = "newsletter.queue";
+    // 샤드 작업 큐: 여러 컨슈머 인스턴스가 같은 큐를 나눠 소비함 (competing consumers)
+    public static final String SHARD_EXCHANGE_NAME = "newsletter.shard.exchange";
+    public static final String SHARD_QUEUE_NAME = "newsletter.shard.queue";
+    public static final String SHARD_ROUTING_KEY = "newsletter.shard";
+
+    // 재시도: 대기 큐(TTL)에서 만료된 메시지가 dead-letter 로 재시도 큐에 들어감
+    public static final String RETRY_EXCHANGE_NAME = "newsletter.retry.exchange";
+    public static final String RETRY_QUEUE_NAME = "newsletter.retry.queue";
+    public static final String RETRY_ROUTING_KEY = "newsletter.retry";
+
+    // 처리 실패 재전달: 샤드/재시도 큐에서 거부된 메시지가 대기 큐(TTL)에서 기다렸다가 원래 큐로 돌아감
+    public static final String REDELIVERY_EXCHANGE_NAME = "newsletter.redelivery.exchange";
+    public static final String SHARD_REDELIVERY_QUEUE_NAME = "newsletter.shard.redelivery.queue";
+    public static final String RETRY_REDELIVERY_QUEUE_NAME = "newsletter.retry.redelivery.queue";
+
+    // 처리할 수 없는 메시지(poison message): 변환 실패, 정해진 횟수만큼 처리에 실패한 메시지가 모임
+    public static final String DEAD_LETTER_EXCHANGE_NAME = "newsletter.dead.exchange";
+    public static final String DEAD_LETTER_QUEUE_NAME = "newsletter.dead.queue";
+    public static final String DEAD_LETTER_ROUTING_KEY = "newsletter.dead";
+
+    // 대기 시간이 바뀌면 큐 인자(TTL)도 바뀌므로 이름에 대기 시간을 넣어 새 큐로 선언되게 함
+    public static String retryWaitQueueName(Duration delay) {
+        return "newsletter.retry.wait." + delay.toMillis() + "ms";
+    }
 
     @Bean
-    public FanoutExchange newsletterExchange() {
-        return new FanoutExchange(EXCHANGE_NAME);
+    public DirectExchange shardExchange() {
+        return new DirectExchange(SHARD_EXCHANGE_NAME);
     }
 
+    /**
+     * 샤드 메시지는 샤드를 다 보낸 뒤에 ack 하므로 브로커 기본 consumer_timeout(30분)보다 오래 unack 상태로 남을 수 있음
+     * 그 전에 채널이 닫혀 샤드가 재전달되지 않도록 큐 인자로 제한 시간을 늘림 (RabbitMQ 3.12 이상)
+     */
     @Bean
-    public Queue newsletterQueue() {
-        return new Queue(QUEUE_NAME, true);
+    public Queue shardQueue(NewsletterProperties properties) {
+        return QueueBuilder.durable(SHARD_QUEUE_NAME)
+                .deadLetterExchange(REDELIVERY_EXCHANGE_NAME)
+                .deadLetterRoutingKey(SHARD_REDELIVERY_QUEUE_NAME)
+                .withArgument("x-consumer-timeout", properties.getListener().getConsumerTimeout().toMillis())
+                .build();
     }
 
     @Bean
-    public Binding binding(Queue newsletterQueue, FanoutExchange newsletterExchange) {
-        return BindingBuilder.bind(newsletterQueue).to(newsletterExchange);
+    public Binding shardBinding(Queue shardQueue, DirectExchange shardExchange) {
+        return BindingBuilder.bind(shardQueue).to(shardExchange).with(SHARD_ROUTING_KEY);
+    }
+
+    /**
+     * 재시도 큐 + 대기 단계별 TTL 큐
+     * 대기 큐에는 컨슈머가 없고, TTL 이 지나면 RETRY_ROUTING_KEY 로 dead-letter 되어 재시도 큐로 이동함
+     */
+    @Bean
+    public Declarables retryDeclarables(NewsletterProperties properties) {
+        DirectExchange exchange = new DirectExchange(RETRY_EXCHANGE_NAME);
+        Queue retryQueue = QueueBuilder.durable(RETRY_QUEUE_NAME)
+                .deadLetterExchange(REDELIVERY_EXCHANGE_NAME)
+                .deadLetterRoutingKey(RETRY_REDELIVERY_QUEUE_NAME)
+                .build();
+
+        List<Declarable> declarables = new ArrayList<>();
+        declarables.add(exchange);
+        declarables.add(retryQueue);
+        declarables.add(BindingBuilder.bind(retryQueue).to(exchange).with(RETRY_ROUTING_KEY));
+
+        for (Duration delay : properties.getRetry().getDelays()) {
+            String name = retryWaitQueueName(delay);
+            Queue waitQueue = QueueBuilder.durable(name)
+                    .ttl((int) delay.toMillis())
+                    .deadLetterExchange(RETRY_EXCHANGE_NAME)
+                    .deadLetterRoutingKey(RETRY_ROUTING_KEY)
+                    .build();
+            declarables.add(waitQueue);
+            declarables.add(BindingBuilder.bind(waitQueue).to(exchange).with(name));
+        }
+
+        return new Declarables(declarables);
+    }
+
+    /**
+     * 처리 실패 재전달 대기 큐 (샤드/재시도 큐마다 하나)
+     * 컨슈머가 거부한 메시지가 큐의 dead-letter 로 여기 들어오고, failure-delay 가 지나면 원래 교환기로 dead-letter 되어 돌아감
+     * 브로커가 돌 때마다 x-death 의 거부 횟수를 늘리므로 ManualAck 이 그 횟수로 dead-letter 큐로 보낼지 정함
+     */
+    @Bean
+    public Declarables redeliveryDeclarables(NewsletterProperties properties) {
+        DirectExchange exchange = new DirectExchange(REDELIVERY_EXCHANGE_NAME);
+        int delay = (int) properties.getListener().getFailureDelay().toMillis();
+        Queue shardWait = QueueBuilder.durable(SHARD_REDELIVERY_QUEUE_NAME)
+                .ttl(delay)
+                .deadLetterExchange(SHARD_EXCHANGE_NAME)
+                .deadLetterRoutingKey(SHARD_ROUTING_KEY)
+                .build();
+        Queue retryWait = QueueBuilder.durable(RETRY_REDELIVERY_QUEUE_NAME)
+                .ttl(delay)
+                .deadLetterExchange(RETRY_EXCHANGE_NAME)
+                .deadLetterRoutingKey(RETRY_ROUTING_KEY)
+                .build();
+        return new Declarables(exchange, shardWait, retryWait,
+                BindingBuilder.bind(shardWait).to(exchange).with(SHARD_REDELIVERY_QUEUE_NAME),
+                BindingBuilder.bind(retryWait).to(exchange).with(RETRY_REDELIVERY_QUEUE_NAME));
+    }
+
+    // 컨슈머가 없는 보관 큐: 원인을 고친 뒤 shovel 등으로 원래 큐에 다시 넣음
+    @Bean
+    public Declarables deadLetterDeclarables() {
+        DirectExchange exchange = new DirectExchange(DEAD_LETTER_EXCHANGE_NAME);
+        Queue queue = QueueBuilder.durable(DEAD_LETTER_QUEUE_NAME).build();
+        return new Declarables(exchange, queue, BindingBuilder.bind(queue).to(exchange).with(DEAD_LETTER_ROUTING_KEY));
+    }
+
+    /**
+     * 샤드/재시도 리스너 컨테이너 (spring.rabbitmq.listener.simple.* 를 먼저 적용하고 newsletter.listener.* 로 덮어씀)
+     * - MANUAL ack: 컨슈머가 로그와 체크포인트를 커밋한 뒤에 직접 ack 함 (처리 중 노드가 죽으면 다른 노드로 재전달)
+     * - 리스너가 원본 메시지를 받아 ManualAck 에서 변환하므로, 변환 실패도 ManualAck 이 dead-letter 큐로 보냄
+     * - 컨슈머 수는 concurrency ~ maxConcurrency 사이에서 조정됨
+     *   (연속으로 메시지를 받으면 늘리고 한가하면 줄임, ShardConsumerAutoscaler 가 큐 깊이에 맞춰 하한을 올림)
+     */
+    @Bean
+    public SimpleRabbitListenerContainerFactory rabbitListenerContainerFactory(
+            SimpleRabbitListenerContainerFactoryConfigurer configurer,
+            ConnectionFactory connectionFactory,
+            NewsletterProperties properties
+    ) {
+        NewsletterProperties.Listener listener = properties.getListener();
+
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        configurer.configure(factory, connectionFactory);
+        factory.setAcknowledgeMode(AcknowledgeMode.MANUAL);
+        factory.setConcurrentConsumers(listener.getConcurrency());
+        factory.setMaxConcurrentConsumers(Math.max(listener.getConcurrency(), listener.getMaxConcurrency()));
+        factory.setPrefetchCount(listener.getPrefetch());
+        factory.setDefaultRequeueRejected(false);
+        return factory;
     }
 
     @Bean
@@ -40,6 +170,8 @@ public class RabbitMQConfig {
     public RabbitTemplate rabbitTemplate(ConnectionFactory connectionFactory) {
         RabbitTemplate template = new RabbitTemplate(connectionFactory);
         template.setMessageConverter(messageConverter());
+        // 라우팅되지 않은 메시지를 버리지 않고 되돌려 받음 (ConfirmedPublisher 가 발행 실패로 처리)
+        template.setMandatory(true);
         return template;
     }
 }
@@ -0,0 +1,106 @@
+package com.email.scheduler.email_scheduler_server.newsletter.consumer;
+
+import static com.email.scheduler.email_scheduler_server.newsletter.config.RabbitMQConfig.DEAD_LETTER_EXCHANGE_NAME;
+import static com.email.scheduler.email_scheduler_server.newsletter.config.RabbitMQConfig.DEAD_LETTER_ROUTING_KEY;
+
+import com.rabbitmq.client.Channel;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.support.DefaultMessagePropertiesConverter;
+import org.springframework.amqp.rabbit.support.MessagePropertiesConverter;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.amqp.support.converter.MessageConverter;
+
+/**
+ * MANUAL ack 리스너 공통 처리
+ * - 처리(로그/체크포인트 커밋까지)가 끝난 뒤에만 ack 하므로, 처리 중 노드가 죽으면 메시지는 다른 컨슈머로 재전달됨
+ *   (재전달 여부는 보지 않으므로 노드 장애로 재전달된 메시지도 평소처럼 처리함)
+ * - 처리에 실패한 메시지는 requeue 없이 거부해 재전달 대기 큐(TTL)를 거쳐 원래 큐로 돌아옴 (체크포인트부터 이어서 처리),
+ *   브로커가 남기는 x-death 의 이 큐 거부 횟수가 maxFailures 에 닿으면 dead-letter 큐로 보냄
+ * - 변환할 수 없는 메시지는 다시 시도해도 소용없으므로 바로 dead-letter 큐로 보냄
+ * - 처리가 큐의 consumer timeout 을 넘기면 브로커가 채널을 닫고 메시지를 재전달하므로 원래 처리의 ack 는 실패함
+ *   (재전달된 샤드는 이미 선점된 구독자를 건너뛰므로 두 처리가 겹쳐도 같은 구독자에게 두 번 보내지 않음)
+ */
+@Slf4j
+final class ManualAck {
+
+    // dead-letter 큐로 보낸 메시지에 실패 원인을 남기는 헤더
+    static final String EXCEPTION_HEADER = "x-exception-message";
+
+    // RabbitMQConfig.messageConverter 와 같은 설정 (부하 테스트 프로필에는 그 빈이 없어 여기서 만듦)
+    private static final MessageConverter CONVERTER = new Jackson2JsonMessageConverter();
+    private static final MessagePropertiesConverter PROPERTIES_CONVERTER = new DefaultMessagePropertiesConverter();
+
+    private ManualAck() {
+    }
+
+    static <T> void process(Channel channel, Message message, Class<T> type, int maxFailures,
+                            Function<T, String> description, Consumer<T> work) throws IOException {
+        MessageProperties properties = message.getMessageProperties();
+        long deliveryTag = properties.getDeliveryTag();
+
+        T payload;
+        try {
+            payload = type.cast(CONVERTER.fromMessage(message));
+        } catch (MessageConversionException | ClassCastException e) {
+            log.error("[Consumer] ☠️ 변환할 수 없는 메시지라 dead-letter 큐로 보냅니다 - 큐: {}", properties.getConsumerQueue(), e);
+            deadLetter(channel, message, e);
+            return;
+        }
+
+        try {
+            work.accept(payload);
+        } catch (RuntimeException e) {
+            long failures = failureCount(properties) + 1;
+            if (failures >= maxFailures) {
+                log.error("[Consumer] ☠️ {}번 처리하지 못해 dead-letter 큐로 보냅니다 - {}",
+                        failures, description.apply(payload), e);
+                deadLetter(channel, message, e);
+                return;
+            }
+            log.warn("[Consumer] 처리 실패 ({}/{}) - 재전달 대기 큐를 거쳐 다시 시도합니다 - {}",
+                    failures, maxFailures, description.apply(payload), e);
+            // 큐의 dead-letter 교환기가 재전달 대기 큐로 보내고, TTL 이 지나면 원래 큐로 돌아옴
+            channel.basicNack(deliveryTag, false, false);
+            return;
+        }
+        channel.basicAck(deliveryTag, false);
+    }
+
+    /**
+     * 이 큐에서 거부되어 대기 큐를 거쳐 온 횟수 (x-death 의 queue = 이 큐, reason = rejected 항목의 count)
+     */
+    static long failureCount(MessageProperties properties) {
+        List<Map<String, ?>> deaths = properties.getXDeathHeader();
+        if (deaths == null) {
+            return 0;
+        }
+        for (Map<String, ?> death : deaths) {
+            if (String.valueOf(death.get("queue")).equals(properties.getConsumerQueue())
+                    && "rejected".equals(String.valueOf(death.get("reason")))
+                    && death.get("count") instanceof Number count) {
+                return count.longValue();
+            }
+        }
+        return 0;
+    }
+
+    // 큐의 dead-letter 교환기는 재전달 대기 큐를 가리키므로 dead-letter 큐에는 직접 발행하고 ack 함
+    // 같은 채널에서 발행한 뒤 ack 하므로 브로커는 발행을 먼저 처리함
+    private static void deadLetter(Channel channel, Message message, Exception cause) throws IOException {
+        MessageProperties properties = message.getMessageProperties();
+        properties.setHeader(EXCEPTION_HEADER, String.valueOf(cause.getMessage()));
+        channel.basicPublish(DEAD_LETTER_EXCHANGE_NAME, DEAD_LETTER_ROUTING_KEY,
+                PROPERTIES_CONVERTER.fromMessageProperties(properties, StandardCharsets.UTF_8.name()),
+                message.getBody());
+        channel.basicAck(properties.getDeliveryTag(), false);
+    }
+}
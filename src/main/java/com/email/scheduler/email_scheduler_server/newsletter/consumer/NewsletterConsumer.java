@@ -1,11 +1,16 @@
 package com.email.scheduler.email_scheduler_server.newsletter.consumer;
 
-import static com.email.scheduler.email_scheduler_server.newsletter.config.RabbitMQConfig.QUEUE_NAME;
+import static com.email.scheduler.email_scheduler_server.newsletter.config.RabbitMQConfig.SHARD_QUEUE_NAME;
 
-import com.email.scheduler.email_scheduler_server.newsletter.domain.NewsletterMessage;
+import com.email.scheduler.email_scheduler_server.newsletter.config.NewsletterProperties;
+import com.email.scheduler.email_scheduler_server.newsletter.domain.NewsletterShardMessage;
+import com.email.scheduler.email_scheduler_server.newsletter.metrics.DeliveryMetrics;
 import com.email.scheduler.email_scheduler_server.newsletter.service.processor.NewsletterProcessor;
+import com.rabbitmq.client.Channel;
+import java.io.IOException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
 import org.springframework.stereotype.Component;
 
@@ -15,10 +20,28 @@ import org.springframework.stereotype.Component;
 public class NewsletterConsumer {
 
     private final NewsletterProcessor processor;
+    private final DeliveryMetrics metrics;
+    private final NewsletterProperties properties;
 
-    @RabbitListener(queues = QUEUE_NAME)
-    public void receiveMessage(NewsletterMessage message) {
-        log.info("[Consumer] 📨 메시지 수신 - 파일: {}", message.getFileName());
+    // ShardConsumerAutoscaler 가 이 id 로 리스너 컨테이너를 찾음
+    public static final String LISTENER_ID = "newsletterShardListener";
+
+    /**
+     * 샤드 처리가 끝나(로그, 체크포인트, 샤드 완료가 모두 커밋된 뒤) ack 함
+     * 메시지 변환도 ManualAck 에서 하므로 변환 실패와 처리 실패를 나눠 다룸
+     */
+    @RabbitListener(id = LISTENER_ID, queues = SHARD_QUEUE_NAME)
+    public void onMessage(Message message, Channel channel) throws IOException {
+        ManualAck.process(channel, message, NewsletterShardMessage.class, properties.getListener().getMaxFailures(),
+                shard -> "샤드 id: " + shard.getShardId(), this::receiveMessage);
+    }
+
+    public void receiveMessage(NewsletterShardMessage message) {
+        log.info("[Consumer] 📨 샤드 수신 - 파일: {}, 샤드: {}/{} [{} ~ {}]",
+                message.getIssue().getFileName(),
+                message.getShardIndex() + 1, message.getShardCount(),
+                message.getFromId(), message.getToId());
+        metrics.recordConsumerLag(message.getIssue().getIssueId(), SHARD_QUEUE_NAME, message.getPublishedAt());
         processor.process(message);
     }
 }
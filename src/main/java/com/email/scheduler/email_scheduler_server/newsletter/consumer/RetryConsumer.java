@@ -0,0 +1,42 @@
+package com.email.scheduler.email_scheduler_server.newsletter.consumer;
+
+import static com.email.scheduler.email_scheduler_server.newsletter.config.RabbitMQConfig.RETRY_QUEUE_NAME;
+
+import com.email.scheduler.email_scheduler_server.newsletter.config.NewsletterProperties;
+import com.email.scheduler.email_scheduler_server.newsletter.domain.RetryBatchMessage;
+import com.email.scheduler.email_scheduler_server.newsletter.metrics.DeliveryMetrics;
+import com.email.scheduler.email_scheduler_server.newsletter.service.processor.RetryService;
+import com.rabbitmq.client.Channel;
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RetryConsumer {
+
+    private final RetryService retryService;
+    private final DeliveryMetrics metrics;
+    private final NewsletterProperties properties;
+
+    /**
+     * 재시도 결과가 커밋되고 다음 단계 재시도가 발행된 뒤 ack 함
+     */
+    @RabbitListener(queues = RETRY_QUEUE_NAME)
+    public void onMessage(Message message, Channel channel) throws IOException {
+        ManualAck.process(channel, message, RetryBatchMessage.class, properties.getListener().getMaxFailures(),
+                retry -> "회차 id: " + retry.getIssue().getIssueId() + ", 시도: " + retry.getAttempt(),
+                this::receiveMessage);
+    }
+
+    public void receiveMessage(RetryBatchMessage message) {
+        log.info("[Consumer] 🔁 재시도 배치 수신 - 회차 id: {}, {}명, 시도: {}",
+                message.getIssue().getIssueId(), message.getSubscriberIds().size(), message.getAttempt());
+        metrics.recordConsumerLag(message.getIssue().getIssueId(), RETRY_QUEUE_NAME, message.getReadyAt());
+        retryService.retry(message);
+    }
+}
@@ -0,0 +1,106 @@
+package com.email.scheduler.email_scheduler_server.newsletter.consumer;
+
+import static com.email.scheduler.email_scheduler_server.newsletter.config.RabbitMQConfig.SHARD_QUEUE_NAME;
+
+import com.email.scheduler.email_scheduler_server.newsletter.config.NewsletterProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.QueueInformation;
+import org.springframework.amqp.rabbit.listener.MessageListenerContainer;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistry;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 샤드 큐 깊이에 맞춰 이 노드의 샤드 컨슈머 수를 조정
+ * - 대기 중인 샤드 messagesPerConsumer 개마다 컨슈머 하나 (concurrency ~ maxConcurrency 사이)
+ * - 샤드를 더 잘게 나눠 발행하면 그만큼 컨슈머가 늘어 병렬 처리량이 함께 늘어남
+ * - 큐가 비면 한 번에 하나씩 줄임 (줄어든 컨슈머는 처리 중인 샤드를 끝내고 ack 한 뒤 멈춤)
+ * - 컨테이너 자체도 연속 수신/유휴에 따라 상한 안에서 컨슈머를 늘리고 줄이며, 여기서는 하한을 올리고 내림
+ * 현재 컨슈머 수는 newsletter.consumer.count 게이지로 확인
+ */
+@Slf4j
+@Component
+@Profile("!loadtest")
+public class ShardConsumerAutoscaler {
+
+    private final RabbitListenerEndpointRegistry listenerRegistry;
+    private final AmqpAdmin amqpAdmin;
+    private final NewsletterProperties properties;
+
+    // 컨테이너에 마지막으로 설정한 컨슈머 수 하한 (컨테이너가 스스로 늘린 컨슈머는 포함하지 않음)
+    private int floor;
+
+    public ShardConsumerAutoscaler(
+            RabbitListenerEndpointRegistry listenerRegistry,
+            AmqpAdmin amqpAdmin,
+            NewsletterProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.listenerRegistry = listenerRegistry;
+        this.amqpAdmin = amqpAdmin;
+        this.properties = properties;
+        this.floor = properties.getListener().getConcurrency();
+
+        Gauge.builder("newsletter.consumer.count", this, ShardConsumerAutoscaler::activeConsumers)
+                .description("샤드 큐를 소비 중인 컨슈머 수")
+                .tag("queue", SHARD_QUEUE_NAME)
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${newsletter.listener.scale-interval:10s}")
+    public void scale() {
+        SimpleMessageListenerContainer container = shardContainer();
+        if (container == null || !container.isRunning()) {
+            return;
+        }
+
+        QueueInformation info;
+        try {
+            info = amqpAdmin.getQueueInfo(SHARD_QUEUE_NAME);
+        } catch (RuntimeException e) {
+            // 브로커에 연결할 수 없으면 지금 컨슈머 수를 유지
+            return;
+        }
+        if (info == null) {
+            return;
+        }
+
+        int target = targetConsumers(info.getMessageCount(), floor, properties.getListener());
+        if (target != floor) {
+            log.info("[Consumer] ⚖️ 샤드 컨슈머 수 조정 - 대기 샤드: {}, {} → {} (실행 중: {})",
+                    info.getMessageCount(), floor, target, container.getActiveConsumerCount());
+            container.setConcurrentConsumers(target);
+            floor = target;
+        }
+    }
+
+    /**
+     * 대기 중인 샤드 수로 정한 컨슈머 수 하한 (늘릴 때는 한 번에, 줄일 때는 하나씩)
+     */
+    static int targetConsumers(long depth, int current, NewsletterProperties.Listener listener) {
+        int min = listener.getConcurrency();
+        int max = Math.max(min, listener.getMaxConcurrency());
+        long wanted = (depth + listener.getMessagesPerConsumer() - 1) / listener.getMessagesPerConsumer();
+        int desired = (int) Math.max(min, Math.min(max, wanted));
+
+        if (desired >= current) {
+            return desired;
+        }
+        return Math.max(desired, current - 1);
+    }
+
+    private double activeConsumers() {
+        SimpleMessageListenerContainer container = shardContainer();
+        return container == null ? Double.NaN : container.getActiveConsumerCount();
+    }
+
+    private SimpleMessageListenerContainer shardContainer() {
+        MessageListenerContainer container = listenerRegistry.getListenerContainer(NewsletterConsumer.LISTENER_ID);
+        return container instanceof SimpleMessageListenerContainer simple ? simple : null;
+    }
+}
@@ -0,0 +1,79 @@
+package com.email.scheduler.email_scheduler_server.newsletter.controller;
+
+import com.email.scheduler.email_scheduler_server.newsletter.config.NewsletterProperties;
+import com.email.scheduler.email_scheduler_server.newsletter.dto.SegmentMembersRequest;
+import com.email.scheduler.email_scheduler_server.newsletter.dto.SegmentSummary;
+import com.email.scheduler.email_scheduler_server.newsletter.service.SegmentService;
+import jakarta.validation.Valid;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 세그먼트 구성원 추가/제외 (관리용)
+ * 회차의 발송 대상을 바꾸므로 newsletter.segment.admin-token 을 설정한 인스턴스에만 등록하고,
+ * 요청의 X-Admin-Token 헤더가 그 값과 같을 때만 처리함
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/segments")
+@ConditionalOnProperty(prefix = "newsletter.segment", name = "admin-token")
+public class SegmentAdminController {
+
+    public static final String ADMIN_TOKEN_HEADER = "X-Admin-Token";
+
+    private final SegmentService segmentService;
+    private final byte[] adminToken;
+
+    public SegmentAdminController(SegmentService segmentService, NewsletterProperties properties) {
+        String token = properties.getSegment().getAdminToken();
+        if (token == null || token.isBlank()) {
+            throw new IllegalArgumentException("newsletter.segment.admin-token 이 비어 있습니다.");
+        }
+        this.segmentService = segmentService;
+        this.adminToken = token.getBytes(StandardCharsets.UTF_8);
+    }
+
+    // 세그먼트가 없으면 새로 만듦 (예: topic:java, cohort:2025-01, tier:dormant)
+    @PostMapping("/{name}/members")
+    public ResponseEntity<SegmentSummary> addMembers(
+            @RequestHeader(name = ADMIN_TOKEN_HEADER, required = false) String token,
+            @PathVariable String name,
+            @Valid @RequestBody SegmentMembersRequest request
+    ) {
+        if (!isAdmin(token)) {
+            log.warn("관리 토큰이 없거나 틀린 세그먼트 추가 요청 거절: {}", name);
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        log.info("세그먼트 추가 요청 수신: {} ({}명)", name, request.getSubscriberIds().size());
+        return ResponseEntity.ok(segmentService.addMembers(name, request.getSubscriberIds()));
+    }
+
+    @PostMapping("/{name}/members/remove")
+    public ResponseEntity<SegmentSummary> removeMembers(
+            @RequestHeader(name = ADMIN_TOKEN_HEADER, required = false) String token,
+            @PathVariable String name,
+            @Valid @RequestBody SegmentMembersRequest request
+    ) {
+        if (!isAdmin(token)) {
+            log.warn("관리 토큰이 없거나 틀린 세그먼트 제외 요청 거절: {}", name);
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        log.info("세그먼트 제외 요청 수신: {} ({}명)", name, request.getSubscriberIds().size());
+        return ResponseEntity.ok(segmentService.removeMembers(name, request.getSubscriberIds()));
+    }
+
+    // 비교 시간으로 토큰을 한 글자씩 맞혀 가지 못하도록 상수 시간 비교
+    private boolean isAdmin(String token) {
+        return token != null && MessageDigest.isEqual(adminToken, token.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,36 @@
+package com.email.scheduler.email_scheduler_server.newsletter.controller;
+
+import com.email.scheduler.email_scheduler_server.newsletter.dto.SegmentResolution;
+import com.email.scheduler.email_scheduler_server.newsletter.dto.SegmentSummary;
+import com.email.scheduler.email_scheduler_server.newsletter.service.SegmentIndex;
+import com.email.scheduler.email_scheduler_server.newsletter.service.SegmentService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 세그먼트 조회 (발송 대상을 바꾸는 구성원 추가/제외는 관리 토큰이 필요한 SegmentAdminController 에 있음)
+ */
+@RestController
+@RequestMapping("/api/segments")
+@RequiredArgsConstructor
+public class SegmentController {
+
+    private final SegmentService segmentService;
+    private final SegmentIndex segmentIndex;
+
+    @GetMapping("/{name}")
+    public ResponseEntity<SegmentSummary> find(@PathVariable String name) {
+        return ResponseEntity.of(segmentIndex.find(name));
+    }
+
+    // 회차 파일에 쓰기 전에 발송 대상 식의 크기를 확인 (예: ?audience=(topic:java OR topic:spring) AND NOT tier:dormant)
+    @GetMapping("/resolve")
+    public ResponseEntity<SegmentResolution> resolve(@RequestParam String audience) {
+        return ResponseEntity.ok(segmentService.resolve(audience));
+    }
+}
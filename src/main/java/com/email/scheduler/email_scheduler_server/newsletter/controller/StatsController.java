@@ -0,0 +1,30 @@
+package com.email.scheduler.email_scheduler_server.newsletter.controller;
+
+import com.email.scheduler.email_scheduler_server.newsletter.dto.IssueDeliveryStats;
+import com.email.scheduler.email_scheduler_server.newsletter.dto.SubscriberStats;
+import com.email.scheduler.email_scheduler_server.newsletter.service.DeliveryStatsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/stats")
+@RequiredArgsConstructor
+public class StatsController {
+
+    private final DeliveryStatsService statsService;
+
+    // 발송 중에도 지금까지 저장된 배치까지의 결과를 돌려줌 (아직 저장된 배치가 없는 회차면 404)
+    @GetMapping("/issues/{issueId}")
+    public ResponseEntity<IssueDeliveryStats> issue(@PathVariable Long issueId) {
+        return ResponseEntity.of(statsService.findIssueStats(issueId));
+    }
+
+    @GetMapping("/subscribers")
+    public ResponseEntity<SubscriberStats> subscribers() {
+        return ResponseEntity.ok(statsService.subscriberStats());
+    }
+}
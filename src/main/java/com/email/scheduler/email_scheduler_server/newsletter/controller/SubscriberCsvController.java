@@ -0,0 +1,83 @@
+package com.email.scheduler.email_scheduler_server.newsletter.controller;
+
+import com.email.scheduler.email_scheduler_server.newsletter.config.NewsletterProperties;
+import com.email.scheduler.email_scheduler_server.newsletter.dto.CsvTransferReport;
+import com.email.scheduler.email_scheduler_server.newsletter.service.SubscriberCsvService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 구독자 CSV 가져오기/내보내기 (관리용)
+ * 전체 구독자 목록을 읽고 바꿀 수 있으므로 newsletter.csv.admin-token 을 설정한 인스턴스에만 등록하고,
+ * 요청의 X-Admin-Token 헤더가 그 값과 같을 때만 처리함
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/subscriptions")
+@ConditionalOnProperty(prefix = "newsletter.csv", name = "admin-token")
+public class SubscriberCsvController {
+
+    public static final String ADMIN_TOKEN_HEADER = "X-Admin-Token";
+
+    private final SubscriberCsvService csvService;
+    private final byte[] adminToken;
+
+    public SubscriberCsvController(SubscriberCsvService csvService, NewsletterProperties properties) {
+        String token = properties.getCsv().getAdminToken();
+        if (token == null || token.isBlank()) {
+            throw new IllegalArgumentException("newsletter.csv.admin-token 이 비어 있습니다.");
+        }
+        this.csvService = csvService;
+        this.adminToken = token.getBytes(StandardCharsets.UTF_8);
+    }
+
+    // 요청 본문(CSV)을 multipart 임시 파일에 쌓지 않고 스트림에서 읽는 대로 저장
+    // curl --data-binary @subscribers.csv -H 'Content-Type: text/csv' -H 'X-Admin-Token: ...' .../api/subscriptions/import
+    @PostMapping(value = "/import", consumes = "text/csv")
+    public ResponseEntity<CsvTransferReport> importCsv(
+            @RequestHeader(name = ADMIN_TOKEN_HEADER, required = false) String token,
+            HttpServletRequest request
+    ) throws IOException {
+        if (!isAdmin(token)) {
+            log.warn("관리 토큰이 없거나 틀린 구독자 CSV 가져오기 요청 거절");
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        log.info("구독자 CSV 가져오기 요청 수신");
+        return ResponseEntity.ok(csvService.importCsv(request.getInputStream()));
+    }
+
+    // 처리량은 본문을 다 쓴 뒤에야 알 수 있으므로 로그로 남김
+    @GetMapping(value = "/export", produces = "text/csv")
+    public void exportCsv(
+            @RequestHeader(name = ADMIN_TOKEN_HEADER, required = false) String token,
+            HttpServletResponse response
+    ) throws IOException {
+        if (!isAdmin(token)) {
+            log.warn("관리 토큰이 없거나 틀린 구독자 CSV 내보내기 요청 거절");
+            response.sendError(HttpStatus.UNAUTHORIZED.value());
+            return;
+        }
+        log.info("구독자 CSV 내보내기 요청 수신");
+        response.setContentType("text/csv; charset=UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"subscribers.csv\"");
+        csvService.exportCsv(response.getOutputStream());
+    }
+
+    // 비교 시간으로 토큰을 한 글자씩 맞혀 가지 못하도록 상수 시간 비교
+    private boolean isAdmin(String token) {
+        return token != null && MessageDigest.isEqual(adminToken, token.getBytes(StandardCharsets.UTF_8));
+    }
+}
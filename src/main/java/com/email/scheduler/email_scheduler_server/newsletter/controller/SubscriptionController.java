@@ -1,14 +1,19 @@
 package com.email.scheduler.email_scheduler_server.newsletter.controller;
 
+import com.email.scheduler.email_scheduler_server.newsletter.dto.BulkSubscriptionRequest;
 import com.email.scheduler.email_scheduler_server.newsletter.dto.SubscriptionRequest;
 import com.email.scheduler.email_scheduler_server.newsletter.service.SubscriptionService;
 import jakarta.validation.Valid;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @Slf4j
@@ -19,17 +24,63 @@ public class SubscriptionController {
 
     private final SubscriptionService subscriptionService;
 
+    private static final String INVALID_UNSUBSCRIBE_LINK = "유효하지 않은 구독 취소 링크입니다.";
+
     @PostMapping
     public ResponseEntity<String> subscribe(@Valid @RequestBody SubscriptionRequest request) {
         log.info("구독 요청 수신: {}", request.getEmail());
-        subscriptionService.subscribe(request.getEmail());
+        subscriptionService.subscribe(request.getEmail(), request.getTimeZone(), request.getDeliveryHour());
         return ResponseEntity.ok("구독이 성공적으로 처리되었습니다.");
     }
 
+    // 구독 캠페인 등 대량 신청: 요청당 최대 BulkSubscriptionRequest.MAX_EMAILS 개를 배치 upsert 로 처리
+    @PostMapping("/batch")
+    public ResponseEntity<String> subscribeAll(@Valid @RequestBody BulkSubscriptionRequest request) {
+        log.info("일괄 구독 요청 수신: {}건", request.getEmails().size());
+        int applied = subscriptionService.subscribeAll(request.getEmails());
+        return ResponseEntity.ok(applied + "건의 구독이 성공적으로 처리되었습니다.");
+    }
+
     @PostMapping("/unsubscribe")
     public ResponseEntity<String> unsubscribe(@Valid @RequestBody SubscriptionRequest request) {
         log.info("구독 취소 요청 수신: {}", request.getEmail());
         subscriptionService.unsubscribe(request.getEmail());
         return ResponseEntity.ok("구독이 성공적으로 취소되었습니다.");
     }
+
+    // 뉴스레터 본문/List-Unsubscribe 헤더의 구독 취소 링크: 링크 미리보기/보안 스캐너가 GET 을 보내도 취소되지 않도록 확인 페이지만 보여줌
+    @GetMapping("/unsubscribe")
+    public ResponseEntity<String> confirmUnsubscribe(@RequestParam String token) {
+        if (!subscriptionService.isValidUnsubscribeToken(token)) {
+            log.warn("유효하지 않은 구독 취소 링크 요청 수신");
+            return ResponseEntity.badRequest().body(INVALID_UNSUBSCRIBE_LINK);
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.TEXT_HTML)
+                .body(confirmationPage(token));
+    }
+
+    // 확인 페이지의 버튼과 메일 클라이언트의 one-click 구독 취소(RFC 8058, 본문 List-Unsubscribe=One-Click)가 보내는 요청
+    @PostMapping(value = "/unsubscribe", params = "token")
+    public ResponseEntity<String> unsubscribeByLink(@RequestParam String token) {
+        Optional<String> email = subscriptionService.unsubscribeByToken(token);
+        if (email.isEmpty()) {
+            log.warn("유효하지 않은 구독 취소 링크 요청 수신");
+            return ResponseEntity.badRequest().body(INVALID_UNSUBSCRIBE_LINK);
+        }
+        log.info("구독 취소 링크 요청 수신: {}", email.get());
+        return ResponseEntity.ok("구독이 성공적으로 취소되었습니다.");
+    }
+
+    // 토큰은 base64url 문자만 쓰므로 HTML/URL 에 그대로 넣어도 됨
+    private static String confirmationPage(String token) {
+        return "<!DOCTYPE html>\n"
+                + "<html lang=\"ko\"><head><meta charset=\"UTF-8\"><title>구독 취소</title></head><body>\n"
+                + "<p>뉴스레터 구독을 취소하시겠어요?</p>\n"
+                + "<form method=\"post\" action=\"?token=" + token + "\">\n"
+                + "<input type=\"hidden\" name=\"List-Unsubscribe\" value=\"One-Click\">\n"
+                + "<button type=\"submit\">구독 취소</button>\n"
+                + "</form>\n"
+                + "</body></html>\n";
+    }
 }
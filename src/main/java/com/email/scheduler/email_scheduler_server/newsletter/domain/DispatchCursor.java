@@ -0,0 +1,44 @@
+package com.email.scheduler.email_scheduler_server.newsletter.domain;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 뉴스레터 시리즈별 발행 위치 (시리즈당 한 행)
+ * 마지막으로 발행한 회차를 기록해 두므로 다음 회차를 정할 때 발송 로그를 조회하지 않음
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class DispatchCursor {
+
+    @Id
+    private String series;
+
+    private String lastFileName;
+
+    private int lastSequence;
+
+    private LocalDateTime updatedAt;
+
+    public DispatchCursor(String series) {
+        this.series = series;
+        // 순번 0 인 회차도 처음 발행할 수 있도록 음수로 시작
+        this.lastSequence = -1;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void advance(String fileName, int sequence) {
+        this.lastFileName = fileName;
+        this.lastSequence = sequence;
+        this.updatedAt = LocalDateTime.now();
+    }
+}
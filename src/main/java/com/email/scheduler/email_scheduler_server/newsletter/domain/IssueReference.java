@@ -0,0 +1,19 @@
+package com.email.scheduler.email_scheduler_server.newsletter.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 회차 본문 대신 메시지에 싣는 참조 (claim check)
+ * 본문은 newsletter_issue 에 한 번만 저장되고, 컨슈머는 회차 id 로 읽은 본문을 checksum 으로 확인함
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class IssueReference {
+    private Long issueId;
+    private String fileName;
+    // 본문(UTF-8)의 SHA-256 (hex)
+    private String checksum;
+}
@@ -0,0 +1,58 @@
+package com.email.scheduler.email_scheduler_server.newsletter.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 회차별 발송 통계의 한 줄(stripe) (회차 x stripe 마다 한 행, 회차 통계는 stripe 행의 합)
+ * 로그를 저장하는 트랜잭션에서 배치마다 변화량만 더하므로 발송 중에도 지금까지의 결과를 바로 읽을 수 있음
+ * 쓰기/읽기는 IssueStatsRepository(JDBC)가 맡고, 엔티티는 스키마 정의용으로만 둠
+ */
+@Entity
+@IdClass(IssueStats.Key.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class IssueStats {
+
+    @Id
+    private Long issueId;
+
+    @Id
+    private int stripe;
+
+    @Column(nullable = false)
+    private long targeted;
+
+    @Column(nullable = false)
+    private long sent;
+
+    @Column(nullable = false)
+    private long failed;
+
+    @Column(nullable = false)
+    private long retried;
+
+    @Column(nullable = false)
+    private long suppressed;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private Long issueId;
+        private int stripe;
+    }
+}
@@ -1,15 +1,21 @@
 package com.email.scheduler.email_scheduler_server.newsletter.domain;
 
+import jakarta.persistence.Column;
+import jakarta.persistence.ConstraintMode;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
+import jakarta.persistence.ForeignKey;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
-import jakarta.persistence.Lob;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -17,7 +23,14 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+/**
+ * 발송 로그 (구독자 한 명 x 회차 하나)
+ * MySQL 에서는 send_date 기준 일 단위 RANGE 파티션 테이블이며(V11), 파티션 테이블은 외래 키를 둘 수 없어 참조 제약을 만들지 않음
+ */
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(
+        name = "uk_message_issue_subscriber", columnNames = {"issue_id", "subscriber_id", "send_date"}),
+        indexes = @Index(name = "idx_message_subscriber", columnList = "subscriber_id, send_date"))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -29,20 +42,30 @@ public class Message {
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "subscriber_id")
+    @JoinColumn(name = "subscriber_id", foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private Subscriber subscriber;
 
-    @Lob
-    private String content;
+    // 본문은 회차(NewsletterIssue)에 한 번만 저장하고 여기서는 issue_id 만 보관
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "issue_id", foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
+    private NewsletterIssue issue;
 
-    private String fileName;
+    // 파티션 키: 샤드를 처음 시작한 날짜, 샤드를 재개하거나 재시도가 다음 날로 넘어가도 바뀌지 않음
+    @Column(nullable = false)
+    private LocalDate sendDate;
 
     private LocalDateTime sendAt;
 
     @Enumerated(EnumType.STRING)
     private MessageStatus status;
 
+    // 지금까지 발송을 시도한 횟수 (첫 발송 = 1, 재시도할 때마다 증가)
+    private int attemptCount;
+
     public enum MessageStatus {
-        SUCCESS, FAILURE
+        // RETRYING: 일시적 실패로 재시도 큐에서 대기 중, 시도 횟수를 다 쓰면 FAILURE 로 끝남
+        // SUPPRESSED: 발송 제외 목록에 있어 보내지 않음 (성공/실패 어느 쪽에도 집계하지 않음)
+        // SENDING: SMTP 발송 직전에 남기는 선점 기록, 결과 로그가 덮어쓰며 남아 있으면 발송 도중 노드가 죽어 결과를 모르는 것임
+        SUCCESS, FAILURE, RETRYING, SUPPRESSED, SENDING
     }
 }
@@ -0,0 +1,59 @@
+package com.email.scheduler.email_scheduler_server.newsletter.domain;
+
+import com.email.scheduler.email_scheduler_server.newsletter.domain.Message.MessageStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 지난 발송일의 회차별/상태별 발송 로그 수 (발송일 x 회차 x 상태마다 한 행)
+ * 야간 작업이 끝난 날의 파티션을 집계해 채우므로, 보관 기간이 지나 상세 로그를 지운 뒤에도 회차 결과가 남음
+ * 쓰기/읽기는 MessageSummaryRepository(JDBC)가 맡고, 엔티티는 스키마 정의용으로만 둠
+ */
+@Entity
+@IdClass(MessageDailySummary.Key.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class MessageDailySummary {
+
+    @Id
+    private LocalDate sendDate;
+
+    @Id
+    private Long issueId;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private MessageStatus status;
+
+    @Column(nullable = false)
+    private long messageCount;
+
+    @Column(nullable = false)
+    private LocalDateTime rolledUpAt;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private LocalDate sendDate;
+        private Long issueId;
+        private MessageStatus status;
+    }
+}
@@ -0,0 +1,97 @@
+package com.email.scheduler.email_scheduler_server.newsletter.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Lob;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 뉴스레터 회차 (파일명 + 본문)
+ * 본문은 회차당 한 번만 저장하고, 발송 로그(Message)는 id 로만 참조함
+ *
+ * 회차 파일 첫 줄에 "<!-- audience: topic:java AND NOT tier:dormant -->" 처럼 발송 대상 세그먼트 식을 둘 수 있음
+ * (본문에서는 떼어 내고 audience 에 저장, 없으면 활성 구독자 전체)
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class NewsletterIssue {
+
+    private static final Pattern AUDIENCE_HEADER = Pattern.compile("\\A\\s*<!--\\s*audience:\\s*(.+?)\\s*-->[ \\t]*\\R?");
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true)
+    private String fileName;
+
+    @Lob
+    @Column(nullable = false)
+    private String content;
+
+    // 본문(UTF-8)의 SHA-256 (hex), 메시지의 회차 참조가 같은 본문을 가리키는지 확인하는 데 씀
+    @Column(nullable = false, length = 64)
+    private String checksum;
+
+    // 발송 대상 세그먼트 식 (SegmentExpression), null 이면 활성 구독자 전체
+    @Column(length = 500)
+    private String audience;
+
+    private LocalDateTime createdAt;
+
+    public NewsletterIssue(String fileName, String content) {
+        this(fileName, content, null);
+    }
+
+    public NewsletterIssue(String fileName, String content, String audience) {
+        this.fileName = fileName;
+        this.content = content;
+        this.checksum = checksumOf(content);
+        this.audience = audience;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    /**
+     * 회차 파일 내용으로 만듦 (첫 줄의 audience 주석은 식이 올바른지 확인한 뒤 본문에서 떼어 냄)
+     */
+    public static NewsletterIssue fromMarkdown(String fileName, String markdown) {
+        Matcher header = AUDIENCE_HEADER.matcher(markdown);
+        if (!header.find()) {
+            return new NewsletterIssue(fileName, markdown);
+        }
+
+        String audience = header.group(1);
+        SegmentExpression.parse(audience);
+        return new NewsletterIssue(fileName, markdown.substring(header.end()), audience);
+    }
+
+    public static String checksumOf(String content) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(content.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다", e);
+        }
+    }
+
+    public IssueReference toReference() {
+        return new IssueReference(id, fileName, checksum);
+    }
+}
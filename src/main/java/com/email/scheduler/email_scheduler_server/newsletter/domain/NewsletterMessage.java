@@ -1,5 +1,6 @@
 package com.email.scheduler.email_scheduler_server.newsletter.domain;
 
+import java.time.LocalDate;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -8,6 +9,19 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 public class NewsletterMessage {
+    private Long issueId;
     private String fileName;
     private String content;
+    // 발송 대상 세그먼트 식 (null 이면 활성 구독자 전체)
+    private String audience;
+    // 발송 로그의 파티션 키: 샤드를 처음 시작한 날짜 (캐시에 둔 회차 본문에는 없고 발송하는 쪽이 withSendDate 로 붙임)
+    private LocalDate sendDate;
+
+    public NewsletterMessage(Long issueId, String fileName, String content) {
+        this(issueId, fileName, content, null, LocalDate.now());
+    }
+
+    public NewsletterMessage withSendDate(LocalDate sendDate) {
+        return new NewsletterMessage(issueId, fileName, content, audience, sendDate);
+    }
 }
@@ -0,0 +1,78 @@
+package com.email.scheduler.email_scheduler_server.newsletter.domain;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 회차 한 번의 발송 실행
+ * 구독자 id 공간을 shardCount 개의 샤드로 나눠 발행하고, 모든 샤드가 완료를 보고하면 COMPLETED 가 됨
+ * 발송 웨이브로 보낸 실행이면 editionDate 로 같은 날짜(구독자 현지 날짜)의 웨이브를 묶어 같은 회차를 보냄
+ */
+@Entity
+@Table(indexes = @Index(name = "idx_newsletter_run_edition", columnList = "edition_date"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class NewsletterRun {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "issue_id")
+    private NewsletterIssue issue;
+
+    private int shardCount;
+
+    // 발송 웨이브의 회차 날짜 (08:00 일괄 발송이면 null)
+    private LocalDate editionDate;
+
+    private int completedShards;
+
+    private long sentCount;
+
+    private long failedCount;
+
+    @Enumerated(EnumType.STRING)
+    private RunStatus status;
+
+    private LocalDateTime startedAt;
+
+    private LocalDateTime completedAt;
+
+    public NewsletterRun(NewsletterIssue issue, int shardCount) {
+        this(issue, shardCount, null);
+    }
+
+    public NewsletterRun(NewsletterIssue issue, int shardCount, LocalDate editionDate) {
+        this.issue = issue;
+        this.shardCount = shardCount;
+        this.editionDate = editionDate;
+        this.startedAt = LocalDateTime.now();
+        // 대상 구독자가 없으면 발행할 샤드도 없으므로 바로 완료 처리
+        this.status = shardCount == 0 ? RunStatus.COMPLETED : RunStatus.RUNNING;
+        this.completedAt = shardCount == 0 ? startedAt : null;
+    }
+
+    public enum RunStatus {
+        RUNNING, COMPLETED
+    }
+}
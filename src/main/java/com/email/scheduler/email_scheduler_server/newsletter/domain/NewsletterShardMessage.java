@@ -0,0 +1,27 @@
+package com.email.scheduler.email_scheduler_server.newsletter.domain;
+
+import com.email.scheduler.email_scheduler_server.newsletter.dto.DeliverySlot;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 샤드 작업 메시지: 회차 참조 + 담당할 구독자 id 구간 [fromId, toId]
+ * 본문은 싣지 않으므로 샤드 수와 관계없이 메시지 크기가 일정함
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class NewsletterShardMessage {
+    private Long runId;
+    private Long shardId;
+    private int shardIndex;
+    private int shardCount;
+    private long fromId;
+    private long toId;
+    private IssueReference issue;
+    // 발행 시각 (epoch millis, 컨슈머 지연 지표용)
+    private long publishedAt;
+    // 발송 웨이브의 샤드면 담당 발송 시간대 (구간 안에서 이 시간대의 구독자만 발송), 전체 발송이면 null
+    private DeliverySlot slot;
+}
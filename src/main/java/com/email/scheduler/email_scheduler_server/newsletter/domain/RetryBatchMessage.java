@@ -0,0 +1,24 @@
+package com.email.scheduler.email_scheduler_server.newsletter.domain;
+
+import java.time.LocalDate;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 재시도 작업 메시지: 회차 참조 + 로그 행의 파티션 키 + 지금까지 시도한 횟수 + 다시 보낼 구독자 id 목록
+ * 본문은 싣지 않고 회차 참조로 다시 읽음 (대기 큐에 본문 사본이 쌓이지 않도록)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RetryBatchMessage {
+    private IssueReference issue;
+    // 갱신할 로그 행의 파티션 키 (첫 발송 로그의 sendDate, 재시도가 다음 날로 넘어가도 그대로 씀)
+    private LocalDate sendDate;
+    private int attempt;
+    private List<Long> subscriberIds;
+    // 대기가 끝나 재시도 큐로 넘어갈 시각 (epoch millis, 컨슈머 지연 지표용)
+    private long readyAt;
+}
@@ -0,0 +1,52 @@
+package com.email.scheduler.email_scheduler_server.newsletter.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 아직 대기 큐에 발행하지 않은 재시도 배치 (재시도 배치 하나마다 한 행)
+ * RETRYING 로그와 같은 트랜잭션에서 만들어지고, 발행이 끝나면 지움
+ * 쓰기/읽기는 RetryOutboxRepository(JDBC)가 맡고, 엔티티는 스키마 정의용으로만 둠
+ *
+ * - sendDate: 갱신할 로그 행의 파티션 키 (RetryBatchMessage.sendDate)
+ * - attempt: 지금까지 시도한 횟수 (RetryBatchMessage.attempt)
+ * - subscriberIds: 다시 보낼 구독자 id (쉼표로 구분)
+ * - dispatchAfter: 이 시각까지 남아 있으면 발행이 실패한 것으로 보고 다시 발행함
+ */
+@Entity
+@Table(indexes = @Index(name = "idx_retry_outbox_dispatch_after", columnList = "dispatchAfter"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RetryOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long issueId;
+
+    @Column(nullable = false)
+    private LocalDate sendDate;
+
+    @Column(nullable = false)
+    private int attempt;
+
+    @Lob
+    @Column(nullable = false)
+    private String subscriberIds;
+
+    @Column(nullable = false)
+    private LocalDateTime dispatchAfter;
+}
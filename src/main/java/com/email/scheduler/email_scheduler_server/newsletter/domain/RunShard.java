@@ -0,0 +1,110 @@
+package com.email.scheduler.email_scheduler_server.newsletter.domain;
+
+import com.email.scheduler.email_scheduler_server.newsletter.dto.DeliverySlot;
+import com.email.scheduler.email_scheduler_server.newsletter.dto.IdRange;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 발송 실행(NewsletterRun)의 샤드 하나 = 구독자 id 구간 [fromId, toId]
+ * 하나의 작업 메시지로 발행되어 아무 컨슈머 노드에서나 처리됨
+ *
+ * 로그를 저장할 때마다 같은 트랜잭션에서 체크포인트(lastSubscriberId, 누적 성공/실패 수)를 전진시키므로
+ * 처리 중 노드가 죽어 메시지가 다시 전달되면 체크포인트 다음 구독자부터 이어서 발송함
+ *
+ * 샤드 메시지가 발행 확인을 받기 전까지 redispatchAfter 를 남겨 두므로, 발행이 실패한 샤드는 그 시각이 지나면 다시 발행됨
+ */
+@Entity
+@Table(indexes = {
+        @Index(name = "idx_run_shard_run", columnList = "run_id"),
+        @Index(name = "idx_run_shard_slot", columnList = "time_zone, delivery_hour"),
+        @Index(name = "idx_run_shard_redispatch", columnList = "redispatch_after")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class RunShard {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "run_id")
+    private NewsletterRun run;
+
+    private int shardIndex;
+
+    private long fromId;
+
+    private long toId;
+
+    @Enumerated(EnumType.STRING)
+    private ShardStatus status;
+
+    private int sentCount;
+
+    private int failedCount;
+
+    // 로그 저장까지 끝난 마지막 구독자 id (처음에는 fromId - 1)
+    private long lastSubscriberId;
+
+    // 발송 웨이브의 샤드면 담당 발송 시간대 (전체 발송이면 null)
+    @Column(length = 64)
+    private String timeZone;
+
+    private Integer deliveryHour;
+
+    private LocalDateTime startedAt;
+
+    private LocalDateTime checkpointedAt;
+
+    private LocalDateTime completedAt;
+
+    // 발행 확인 전이면 다시 발행할 시각 (발행 확인을 받으면 null)
+    private LocalDateTime redispatchAfter;
+
+    public RunShard(NewsletterRun run, int shardIndex, IdRange range) {
+        this(run, shardIndex, range, null);
+    }
+
+    public RunShard(NewsletterRun run, int shardIndex, IdRange range, DeliverySlot slot) {
+        this.run = run;
+        this.shardIndex = shardIndex;
+        this.fromId = range.fromId();
+        this.toId = range.toId();
+        this.lastSubscriberId = range.fromId() - 1;
+        this.status = ShardStatus.PENDING;
+        this.timeZone = slot == null ? null : slot.timeZone();
+        this.deliveryHour = slot == null ? null : slot.deliveryHour();
+    }
+
+    public void awaitDispatch(LocalDateTime redispatchAfter) {
+        this.redispatchAfter = redispatchAfter;
+    }
+
+    public DeliverySlot getSlot() {
+        return timeZone == null ? null : new DeliverySlot(timeZone, deliveryHour);
+    }
+
+    public enum ShardStatus {
+        PENDING, RUNNING, COMPLETED
+    }
+}
@@ -0,0 +1,39 @@
+package com.email.scheduler.email_scheduler_server.newsletter.domain;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import java.time.Instant;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 스케줄 작업별 실행권 (작업당 한 행)
+ * 여러 노드가 같은 시각에 작업을 실행하려 하면, 조건부 UPDATE 로 이 행을 먼저 바꾼 노드 하나만 그 회차(slot)를 실행함
+ *
+ * - slot: 마지막으로 실행권을 가져간 스케줄 회차 (정시 기준), 같은 회차는 다시 가져갈 수 없음
+ * - lockedUntil: 실행권 만료 시각, 보유 노드가 죽어 반납하지 못해도 이 시각이 지나면 다음 회차를 다른 노드가 가져감
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class SchedulerLease {
+
+    @Id
+    private String name;
+
+    private Instant slot;
+
+    private String owner;
+
+    private Instant lockedUntil;
+
+    private Instant acquiredAt;
+
+    // 작업을 마치고 반납한 시각 (실행 중이거나 보유 노드가 죽었으면 null)
+    private Instant releasedAt;
+}
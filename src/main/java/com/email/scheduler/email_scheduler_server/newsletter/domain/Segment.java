@@ -0,0 +1,48 @@
+package com.email.scheduler.email_scheduler_server.newsletter.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Lob;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 구독자 세그먼트 (관심 주제, 가입 시기, 참여도 등급 같은 태그 하나)
+ * 소속 구독자 id 를 Roaring 비트맵으로 압축해 직렬화한 값을 한 행에 저장함
+ *
+ * - version: 바뀔 때마다 1 씩 증가, 노드는 메모리 인덱스의 version 과 다른 세그먼트만 다시 읽음
+ * - cardinality: 소속 구독자 수 (비트맵을 읽지 않고 크기만 볼 때 씀)
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class Segment {
+
+    @Id
+    @Column(length = 100)
+    private String name;
+
+    @Lob
+    @Column(nullable = false, columnDefinition = "LONGBLOB")
+    private byte[] bitmap;
+
+    private long cardinality;
+
+    private long version;
+
+    private LocalDateTime updatedAt;
+
+    public void replace(byte[] bitmap, long cardinality, LocalDateTime now) {
+        this.bitmap = bitmap;
+        this.cardinality = cardinality;
+        this.version++;
+        this.updatedAt = now;
+    }
+}
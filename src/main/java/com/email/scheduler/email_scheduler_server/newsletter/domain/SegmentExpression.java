@@ -0,0 +1,174 @@
+package com.email.scheduler.email_scheduler_server.newsletter.domain;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.roaringbitmap.RoaringBitmap;
+
+/**
+ * 세그먼트의 불리언 조합 (회차의 발송 대상)
+ * 예: "(topic:java OR topic:spring) AND NOT tier:dormant"
+ *
+ * - 우선순위는 NOT > AND > OR, 괄호로 묶을 수 있음 (키워드는 대소문자 구분 없음)
+ * - 세그먼트 이름은 영문/숫자와 _ : . - 로만 이루어짐
+ * - 계산은 비트맵 연산(and / or / andNot / flip)으로만 하므로 구독자 수가 아니라 비트맵 컨테이너 수에 비례함
+ */
+public sealed interface SegmentExpression {
+
+    Pattern NAME = Pattern.compile("[A-Za-z0-9_:.\\-]{1,100}");
+
+    /**
+     * @param segments     세그먼트 이름 → 비트맵 (없는 세그먼트면 빈 비트맵, 돌려받은 비트맵은 바꾸지 않음)
+     * @param fromId       NOT 을 계산할 구독자 id 구간의 시작 (포함)
+     * @param toIdExclusive 구간의 끝 (제외)
+     * @return 새 비트맵 (구간 밖의 id 가 남아 있을 수 있으므로 호출하는 쪽이 구간으로 자름)
+     */
+    RoaringBitmap evaluate(Function<String, RoaringBitmap> segments, long fromId, long toIdExclusive);
+
+    static SegmentExpression parse(String text) {
+        return new Parser(text).parse();
+    }
+
+    static boolean isValidName(String name) {
+        return name != null && NAME.matcher(name).matches();
+    }
+
+    record Name(String name) implements SegmentExpression {
+
+        @Override
+        public RoaringBitmap evaluate(Function<String, RoaringBitmap> segments, long fromId, long toIdExclusive) {
+            return segments.apply(name).clone();
+        }
+    }
+
+    record Not(SegmentExpression operand) implements SegmentExpression {
+
+        @Override
+        public RoaringBitmap evaluate(Function<String, RoaringBitmap> segments, long fromId, long toIdExclusive) {
+            return RoaringBitmap.flip(operand.evaluate(segments, fromId, toIdExclusive), fromId, toIdExclusive);
+        }
+    }
+
+    record And(SegmentExpression left, SegmentExpression right) implements SegmentExpression {
+
+        // "A AND NOT B" 는 B 를 뒤집지 않고 andNot 한 번으로 계산함
+        @Override
+        public RoaringBitmap evaluate(Function<String, RoaringBitmap> segments, long fromId, long toIdExclusive) {
+            RoaringBitmap result = left.evaluate(segments, fromId, toIdExclusive);
+            if (right instanceof Not not) {
+                result.andNot(not.operand().evaluate(segments, fromId, toIdExclusive));
+            } else {
+                result.and(right.evaluate(segments, fromId, toIdExclusive));
+            }
+            return result;
+        }
+    }
+
+    record Or(SegmentExpression left, SegmentExpression right) implements SegmentExpression {
+
+        @Override
+        public RoaringBitmap evaluate(Function<String, RoaringBitmap> segments, long fromId, long toIdExclusive) {
+            RoaringBitmap result = left.evaluate(segments, fromId, toIdExclusive);
+            result.or(right.evaluate(segments, fromId, toIdExclusive));
+            return result;
+        }
+    }
+
+    /**
+     * 재귀 하강 파서
+     * expression := term (OR term)*
+     * term       := factor (AND factor)*
+     * factor     := NOT factor | '(' expression ')' | 세그먼트 이름
+     */
+    final class Parser {
+
+        private static final Pattern TOKEN = Pattern.compile("\\s*(\\(|\\)|[^\\s()]+)");
+
+        private final String text;
+        private final List<String> tokens = new ArrayList<>();
+        private int position;
+
+        private Parser(String text) {
+            if (text == null || text.isBlank()) {
+                throw new IllegalArgumentException("세그먼트 식이 비어 있습니다");
+            }
+            this.text = text;
+
+            Matcher matcher = TOKEN.matcher(text);
+            while (matcher.lookingAt()) {
+                tokens.add(matcher.group(1));
+                matcher.region(matcher.end(), text.length());
+            }
+            if (!text.substring(matcher.regionStart()).isBlank()) {
+                throw error("알 수 없는 문자");
+            }
+        }
+
+        private SegmentExpression parse() {
+            SegmentExpression expression = expression();
+            if (position < tokens.size()) {
+                throw error("'" + tokens.get(position) + "' 앞에서 식이 끝나야 합니다");
+            }
+            return expression;
+        }
+
+        private SegmentExpression expression() {
+            SegmentExpression left = term();
+            while (accept("OR")) {
+                left = new Or(left, term());
+            }
+            return left;
+        }
+
+        private SegmentExpression term() {
+            SegmentExpression left = factor();
+            while (accept("AND")) {
+                left = new And(left, factor());
+            }
+            return left;
+        }
+
+        private SegmentExpression factor() {
+            if (accept("NOT")) {
+                return new Not(factor());
+            }
+            if (accept("(")) {
+                SegmentExpression inner = expression();
+                if (!accept(")")) {
+                    throw error("닫는 괄호가 없습니다");
+                }
+                return inner;
+            }
+            if (position >= tokens.size()) {
+                throw error("세그먼트 이름이 필요합니다");
+            }
+
+            String name = tokens.get(position);
+            if (!isValidName(name) || isKeyword(name)) {
+                throw error("'" + name + "' 은 세그먼트 이름이 될 수 없습니다");
+            }
+            position++;
+            return new Name(name);
+        }
+
+        private boolean accept(String token) {
+            if (position < tokens.size() && tokens.get(position).equalsIgnoreCase(token)) {
+                position++;
+                return true;
+            }
+            return false;
+        }
+
+        private boolean isKeyword(String token) {
+            String upper = token.toUpperCase(Locale.ROOT);
+            return upper.equals("AND") || upper.equals("OR") || upper.equals("NOT");
+        }
+
+        private IllegalArgumentException error(String reason) {
+            return new IllegalArgumentException("세그먼트 식을 해석할 수 없습니다 (" + reason + "): " + text);
+        }
+    }
+}
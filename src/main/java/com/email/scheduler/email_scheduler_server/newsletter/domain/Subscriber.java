@@ -6,7 +6,9 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
 import java.util.ArrayList;
 import java.util.List;
 import lombok.AccessLevel;
@@ -14,14 +16,22 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_subscriber_active_id", columnList = "active, id"),
+        @Index(name = "idx_subscriber_slot", columnList = "active, time_zone, delivery_hour, id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
 public class Subscriber {
 
+    public static final String DEFAULT_TIME_ZONE = "Asia/Seoul";
+    public static final int DEFAULT_DELIVERY_HOUR = 8;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -30,6 +40,17 @@ public class Subscriber {
     private String email;
     private boolean active;
 
+    // 발송 시간대: 구독자의 시간대(IANA id)와 받고 싶은 현지 시각(0~23시)
+    @Column(nullable = false, length = 64)
+    @ColumnDefault("'Asia/Seoul'")
+    @Builder.Default
+    private String timeZone = DEFAULT_TIME_ZONE;
+
+    @Column(nullable = false)
+    @ColumnDefault("8")
+    @Builder.Default
+    private int deliveryHour = DEFAULT_DELIVERY_HOUR;
+
     @OneToMany(mappedBy = "subscriber", cascade = CascadeType.ALL, orphanRemoval = true)
     @Builder.Default
     private List<Message> messages = new ArrayList<>();
@@ -37,6 +58,8 @@ public class Subscriber {
     public Subscriber(String email) {
         this.email = email;
         this.active = true; // Default to active for new subscriptions
+        this.timeZone = DEFAULT_TIME_ZONE;
+        this.deliveryHour = DEFAULT_DELIVERY_HOUR;
     }
 
     public void activate() {
@@ -0,0 +1,24 @@
+package com.email.scheduler.email_scheduler_server.newsletter.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 활성 구독자 수의 한 줄(stripe) (활성 구독자 수는 모든 stripe 행의 합)
+ * 쓰기/읽기는 SubscriberCounterRepository(JDBC)가 맡고, 엔티티는 스키마 정의용으로만 둠
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SubscriberCounter {
+
+    @Id
+    private int stripe;
+
+    @Column(nullable = false)
+    private long activeCount;
+}
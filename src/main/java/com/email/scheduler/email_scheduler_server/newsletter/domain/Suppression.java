@@ -0,0 +1,52 @@
+package com.email.scheduler.email_scheduler_server.newsletter.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 발송 제외 대상 구독자 (구독자당 한 행)
+ * 쓰기/읽기는 SuppressionRepository(JDBC)가 맡고, 엔티티는 스키마 정의용으로만 둠
+ *
+ * - id: 추가된 순서, 노드는 마지막으로 읽은 id 이후만 이어서 읽어 메모리 목록을 갱신함
+ */
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(
+        name = "uk_suppression_subscriber", columnNames = "subscriber_id"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class Suppression {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long subscriberId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Reason reason;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    public enum Reason {
+        // HARD_BOUNCE: 5xx 로 거절됨, REPEATED_FAILURE: 재시도를 다 쓴 최종 실패가 기준 횟수 이상
+        HARD_BOUNCE, REPEATED_FAILURE
+    }
+}
@@ -0,0 +1,22 @@
+package com.email.scheduler.email_scheduler_server.newsletter.dto;
+
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkSubscriptionRequest {
+
+    public static final int MAX_EMAILS = 10_000;
+
+    @NotEmpty(message = "이메일 목록은 필수 입력값입니다.")
+    @Size(max = MAX_EMAILS, message = "한 번에 최대 " + MAX_EMAILS + "개까지 요청할 수 있습니다.")
+    private List<@NotBlank(message = "이메일은 필수 입력값입니다.") @Email(message = "올바른 이메일 형식이 아닙니다.") String> emails;
+}
@@ -0,0 +1,15 @@
+package com.email.scheduler.email_scheduler_server.newsletter.dto;
+
+/**
+ * CSV 가져오기/내보내기 결과
+ *
+ * @param rows    저장(가져오기) 또는 기록(내보내기)한 행 수
+ * @param skipped 형식이 잘못돼 건너뛴 행 수 (가져오기)
+ */
+public record CsvTransferReport(long rows, long skipped, long elapsedMillis, double rowsPerSecond) {
+
+    public static CsvTransferReport of(long rows, long skipped, long startNanos) {
+        long elapsedMillis = (System.nanoTime() - startNanos) / 1_000_000;
+        return new CsvTransferReport(rows, skipped, elapsedMillis, rows * 1000.0 / Math.max(elapsedMillis, 1));
+    }
+}
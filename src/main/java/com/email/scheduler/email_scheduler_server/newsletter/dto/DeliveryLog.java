@@ -0,0 +1,26 @@
+package com.email.scheduler.email_scheduler_server.newsletter.dto;
+
+import com.email.scheduler.email_scheduler_server.newsletter.domain.Message.MessageStatus;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 발송 로그 한 건 (message 테이블 한 행에 대응하는 값 객체)
+ * JPA 엔티티가 아니므로 영속성 컨텍스트에 쌓이지 않음
+ * sendDate 는 샤드를 처음 시작한 날짜(파티션 키)로, 재개/재시도한 실제 발송 시각(sendAt)과 날짜가 다를 수 있음
+ * bounced 는 저장하지 않는 값으로, 수신자 단계 5xx 로 거절돼 발송 제외 목록에 올릴 FAILURE 인지 표시함
+ * (연결/인증 오류나 수신 여부 불명으로 끝난 FAILURE 와 구분)
+ */
+public record DeliveryLog(
+        Long subscriberId,
+        Long issueId,
+        LocalDate sendDate,
+        LocalDateTime sendAt,
+        MessageStatus status,
+        boolean bounced
+) {
+
+    public DeliveryLog(Long subscriberId, Long issueId, LocalDate sendDate, LocalDateTime sendAt, MessageStatus status) {
+        this(subscriberId, issueId, sendDate, sendAt, status, false);
+    }
+}
@@ -0,0 +1,19 @@
+package com.email.scheduler.email_scheduler_server.newsletter.dto;
+
+import com.email.scheduler.email_scheduler_server.newsletter.domain.Message.MessageStatus;
+import java.time.LocalDateTime;
+
+/**
+ * 발송 로그 + 수신자 + 회차 본문을 합친 전체 발송 기록
+ */
+public record DeliveryRecord(
+        Long messageId,
+        Long subscriberId,
+        String email,
+        Long issueId,
+        String fileName,
+        String content,
+        LocalDateTime sendAt,
+        MessageStatus status
+) {
+}
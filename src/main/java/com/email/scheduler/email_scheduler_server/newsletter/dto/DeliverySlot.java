@@ -0,0 +1,29 @@
+package com.email.scheduler.email_scheduler_server.newsletter.dto;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+/**
+ * 발송 시간대: 구독자의 시간대 + 받고 싶은 현지 시각(정시)
+ * 같은 슬롯의 구독자는 같은 발송 웨이브에서 함께 발송됨
+ */
+public record DeliverySlot(String timeZone, int deliveryHour) {
+
+    /**
+     * 현지 시각이 deliveryHour 정시를 지났고 maxDelay 가 지나지 않았으면 발송 대상
+     * (30분 단위 시간대는 정시 웨이브에서 30분 늦게 받음, 웨이브를 놓쳤으면 maxDelay 안의 다음 웨이브가 이어받음)
+     */
+    public boolean isDue(Instant now, Duration maxDelay) {
+        ZonedDateTime local = now.atZone(ZoneId.of(timeZone));
+        ZonedDateTime scheduled = local.toLocalDate().atTime(deliveryHour, 0).atZone(local.getZone());
+        return !local.isBefore(scheduled) && local.isBefore(scheduled.plus(maxDelay));
+    }
+
+    // 이 슬롯이 받을 회차의 날짜 (구독자 현지 날짜 기준, 같은 날짜의 구독자는 모두 같은 회차를 받음)
+    public LocalDate editionDate(Instant now) {
+        return now.atZone(ZoneId.of(timeZone)).toLocalDate();
+    }
+}
@@ -0,0 +1,37 @@
+package com.email.scheduler.email_scheduler_server.newsletter.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 구독자 id 구간 [fromId, toId] (양 끝 포함)
+ */
+public record IdRange(Long fromId, Long toId) {
+
+    public boolean isEmpty() {
+        return fromId == null || toId == null || fromId > toId;
+    }
+
+    /**
+     * 구간을 최대 parts 개의 연속된 하위 구간으로 균등 분할 (나머지는 앞쪽 구간에 1씩 분배)
+     */
+    public List<IdRange> split(int parts) {
+        if (isEmpty()) {
+            return List.of();
+        }
+
+        long size = toId - fromId + 1;
+        int count = (int) Math.min(Math.max(parts, 1), size);
+        long base = size / count;
+        long remainder = size % count;
+
+        List<IdRange> ranges = new ArrayList<>(count);
+        long start = fromId;
+        for (int i = 0; i < count; i++) {
+            long length = base + (i < remainder ? 1 : 0);
+            ranges.add(new IdRange(start, start + length - 1));
+            start += length;
+        }
+        return ranges;
+    }
+}
@@ -0,0 +1,17 @@
+package com.email.scheduler.email_scheduler_server.newsletter.dto;
+
+/**
+ * 로그 배치 하나가 회차 통계에 더하는 변화량
+ */
+public record IssueCounts(
+        long targeted,
+        long sent,
+        long failed,
+        long retried,
+        long suppressed
+) {
+
+    public boolean isEmpty() {
+        return targeted == 0 && sent == 0 && failed == 0 && retried == 0 && suppressed == 0;
+    }
+}
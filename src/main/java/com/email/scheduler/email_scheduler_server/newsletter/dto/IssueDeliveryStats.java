@@ -0,0 +1,25 @@
+package com.email.scheduler.email_scheduler_server.newsletter.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회차 발송 통계 (발송 중이면 지금까지 저장된 배치까지의 값)
+ * pendingRetry 는 재시도를 기다리는(RETRYING) 구독자 수로, 대상 중 성공/실패/발송 제외로 끝나지 않은 나머지임
+ */
+public record IssueDeliveryStats(
+        Long issueId,
+        long targeted,
+        long sent,
+        long failed,
+        long suppressed,
+        long pendingRetry,
+        long retried,
+        LocalDateTime updatedAt
+) {
+
+    public static IssueDeliveryStats of(Long issueId, IssueCounts counts, LocalDateTime updatedAt) {
+        long pendingRetry = counts.targeted() - counts.sent() - counts.failed() - counts.suppressed();
+        return new IssueDeliveryStats(issueId, counts.targeted(), counts.sent(), counts.failed(),
+                counts.suppressed(), pendingRetry, counts.retried(), updatedAt);
+    }
+}
@@ -0,0 +1,17 @@
+package com.email.scheduler.email_scheduler_server.newsletter.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 발행을 기다리는 재시도 배치 (retry_outbox 한 행)
+ * sendDate 는 갱신할 로그 행의 파티션 키 (첫 발송 로그의 sendDate)
+ */
+public record PendingRetry(
+        long id,
+        Long issueId,
+        LocalDate sendDate,
+        int attempt,
+        List<Long> subscriberIds
+) {
+}
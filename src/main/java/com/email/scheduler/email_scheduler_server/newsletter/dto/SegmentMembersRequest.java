@@ -0,0 +1,22 @@
+package com.email.scheduler.email_scheduler_server.newsletter.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SegmentMembersRequest {
+
+    public static final int MAX_SUBSCRIBERS = 10_000;
+
+    @NotEmpty(message = "구독자 id 목록은 필수 입력값입니다.")
+    @Size(max = MAX_SUBSCRIBERS, message = "한 번에 최대 " + MAX_SUBSCRIBERS + "개까지 요청할 수 있습니다.")
+    private List<@NotNull @Positive Long> subscriberIds;
+}
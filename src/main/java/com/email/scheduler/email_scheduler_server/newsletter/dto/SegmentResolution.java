@@ -0,0 +1,11 @@
+package com.email.scheduler.email_scheduler_server.newsletter.dto;
+
+/**
+ * 세그먼트 식을 계산한 결과 크기와 걸린 시간 (비활성 구독자도 포함한 id 수)
+ */
+public record SegmentResolution(
+        String audience,
+        long subscribers,
+        double elapsedMillis
+) {
+}
@@ -0,0 +1,11 @@
+package com.email.scheduler.email_scheduler_server.newsletter.dto;
+
+/**
+ * 세그먼트 이름, 버전, 소속 구독자 수 (비트맵 본문 없이)
+ */
+public record SegmentSummary(
+        String name,
+        Long version,
+        Long cardinality
+) {
+}
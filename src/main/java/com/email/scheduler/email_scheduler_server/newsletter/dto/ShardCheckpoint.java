@@ -0,0 +1,21 @@
+package com.email.scheduler.email_scheduler_server.newsletter.dto;
+
+import com.email.scheduler.email_scheduler_server.newsletter.domain.RunShard.ShardStatus;
+import java.time.LocalDateTime;
+
+/**
+ * 샤드 진행 상황: 로그까지 저장을 마친 마지막 구독자 id 와 그때까지의 성공/실패 수
+ * startedAt 은 처음 처리를 시작한 시각 (시작 전이면 null), 그 날짜가 샤드 발송 로그의 파티션 키가 됨
+ */
+public record ShardCheckpoint(
+        long lastSubscriberId,
+        int sentCount,
+        int failedCount,
+        ShardStatus status,
+        LocalDateTime startedAt
+) {
+
+    public boolean isCompleted() {
+        return status == ShardStatus.COMPLETED;
+    }
+}
@@ -0,0 +1,15 @@
+package com.email.scheduler.email_scheduler_server.newsletter.dto;
+
+/**
+ * 발송 시간대별 활성 구독자 수와 id 범위 (웨이브마다 샤드를 나누는 기준)
+ */
+public record SlotSummary(String timeZone, Integer deliveryHour, Long count, Long minId, Long maxId) {
+
+    public DeliverySlot slot() {
+        return new DeliverySlot(timeZone, deliveryHour);
+    }
+
+    public IdRange range() {
+        return new IdRange(minId, maxId);
+    }
+}
@@ -0,0 +1,20 @@
+package com.email.scheduler.email_scheduler_server.newsletter.dto;
+
+/**
+ * 활성 구독자 스트리밍 조건: 구독자 id 구간 [fromId, toId] + 발송 시간대 + 발송 대상 세그먼트 식
+ *
+ * @param slot     발송 웨이브의 샤드면 구간 안에서 이 발송 시간대의 구독자만 조회 (null 이면 구간 전체)
+ * @param audience 발송 대상 세그먼트 식 (null 이면 구간 안의 활성 구독자 전체)
+ */
+public record SubscriberQuery(long fromId, long toId, DeliverySlot slot, String audience) {
+
+    // 활성 구독자 전체
+    public static SubscriberQuery all() {
+        return range(1L, Long.MAX_VALUE);
+    }
+
+    // 구간 안의 활성 구독자 전체 (샤드 처리용)
+    public static SubscriberQuery range(long fromId, long toId) {
+        return new SubscriberQuery(fromId, toId, null, null);
+    }
+}
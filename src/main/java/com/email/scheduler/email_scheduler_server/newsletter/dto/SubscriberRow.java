@@ -0,0 +1,7 @@
+package com.email.scheduler.email_scheduler_server.newsletter.dto;
+
+/**
+ * CSV 가져오기 한 행 (email, active)
+ */
+public record SubscriberRow(String email, boolean active) {
+}
@@ -0,0 +1,9 @@
+package com.email.scheduler.email_scheduler_server.newsletter.dto;
+
+/**
+ * 활성 구독자 수 (구독/취소와 같은 트랜잭션에서 유지하는 카운터 값)
+ */
+public record SubscriberStats(
+        long active
+) {
+}
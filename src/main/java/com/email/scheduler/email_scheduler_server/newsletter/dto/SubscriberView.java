@@ -0,0 +1,8 @@
+package com.email.scheduler.email_scheduler_server.newsletter.dto;
+
+/**
+ * 발송 경로에서 사용하는 읽기 전용 구독자 프로젝션 (id, email)
+ * 영속성 컨텍스트에 관리되는 엔티티를 만들지 않으므로 대량 조회 시 메모리/CPU 부담이 적음
+ */
+public record SubscriberView(Long id, String email) {
+}
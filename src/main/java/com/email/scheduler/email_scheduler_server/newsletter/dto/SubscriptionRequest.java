@@ -1,7 +1,11 @@
 package com.email.scheduler.email_scheduler_server.newsletter.dto;
 
+import jakarta.validation.constraints.AssertTrue;
 import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
+import java.time.ZoneId;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -14,4 +18,22 @@ public class SubscriptionRequest {
     @NotBlank(message = "이메일은 필수 입력값입니다.")
     @Email(message = "올바른 이메일 형식이 아닙니다.")
     private String email;
+
+    // 선택: 구독자의 시간대 (IANA id, 예: America/New_York)
+    private String timeZone;
+
+    // 선택: 받고 싶은 현지 시각 (0~23시)
+    @Min(value = 0, message = "발송 시각은 0~23 사이여야 합니다.")
+    @Max(value = 23, message = "발송 시각은 0~23 사이여야 합니다.")
+    private Integer deliveryHour;
+
+    public SubscriptionRequest(String email) {
+        this(email, null, null);
+    }
+
+    @AssertTrue(message = "올바른 시간대가 아닙니다.")
+    public boolean isValidTimeZone() {
+        // "+09:00" 같은 고정 오프셋 대신 지역 id 만 받음 (서머타임을 따라가도록)
+        return timeZone == null || ZoneId.getAvailableZoneIds().contains(timeZone);
+    }
 }
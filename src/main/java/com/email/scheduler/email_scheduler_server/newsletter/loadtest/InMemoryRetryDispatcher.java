@@ -0,0 +1,62 @@
+package com.email.scheduler.email_scheduler_server.newsletter.loadtest;
+
+import com.email.scheduler.email_scheduler_server.newsletter.config.NewsletterProperties;
+import com.email.scheduler.email_scheduler_server.newsletter.consumer.RetryConsumer;
+import com.email.scheduler.email_scheduler_server.newsletter.domain.RetryBatchMessage;
+import com.email.scheduler.email_scheduler_server.newsletter.service.RetryDispatcher;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * TTL 대기 큐 대신 스케줄러로 delay 뒤에 재시도 컨슈머를 호출
+ * 부하 테스트가 재시도까지 끝났는지 알 수 있도록 대기/처리 중인 배치 수를 셈
+ */
+@Slf4j
+@Component
+@Profile(LoadTestConfig.PROFILE)
+public class InMemoryRetryDispatcher implements RetryDispatcher {
+
+    // RetryConsumer → RetryService → RetryDispatcher 순환을 피하려고 처음 쓸 때 꺼냄
+    private final ObjectProvider<RetryConsumer> consumer;
+    private final ScheduledExecutorService scheduler;
+    private final AtomicInteger pending = new AtomicInteger();
+
+    public InMemoryRetryDispatcher(ObjectProvider<RetryConsumer> consumer, NewsletterProperties properties) {
+        this.consumer = consumer;
+        this.scheduler = Executors.newScheduledThreadPool(properties.getLoadtest().getConsumers(),
+                Thread.ofPlatform().name("loadtest-retry-", 0).factory());
+    }
+
+    @Override
+    public void dispatch(RetryBatchMessage message, Duration delay) {
+        pending.incrementAndGet();
+        scheduler.schedule(() -> {
+            try {
+                consumer.getObject().receiveMessage(message);
+            } catch (RuntimeException e) {
+                log.error("[LoadTest] 재시도 배치 처리 실패 - {}명, 시도: {}",
+                        message.getSubscriberIds().size(), message.getAttempt(), e);
+            } finally {
+                pending.decrementAndGet();
+            }
+        }, delay.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    // 다음 단계 재시도는 처리 중(finally 이전)에 예약되므로 0 이면 더 올 재시도가 없음
+    public int pending() {
+        return pending.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+}
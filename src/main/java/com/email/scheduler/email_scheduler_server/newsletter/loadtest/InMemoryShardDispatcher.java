@@ -0,0 +1,46 @@
+package com.email.scheduler.email_scheduler_server.newsletter.loadtest;
+
+import com.email.scheduler.email_scheduler_server.newsletter.config.NewsletterProperties;
+import com.email.scheduler.email_scheduler_server.newsletter.consumer.NewsletterConsumer;
+import com.email.scheduler.email_scheduler_server.newsletter.domain.NewsletterShardMessage;
+import com.email.scheduler.email_scheduler_server.newsletter.service.ShardDispatcher;
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * 작업 큐 대신 고정 크기 스레드 풀로 샤드 메시지를 컨슈머에 넘김 (스레드 하나 = 컨슈머 인스턴스 하나)
+ */
+@Slf4j
+@Component
+@Profile(LoadTestConfig.PROFILE)
+public class InMemoryShardDispatcher implements ShardDispatcher {
+
+    private final NewsletterConsumer consumer;
+    private final ExecutorService consumers;
+
+    public InMemoryShardDispatcher(NewsletterConsumer consumer, NewsletterProperties properties) {
+        this.consumer = consumer;
+        this.consumers = Executors.newFixedThreadPool(properties.getLoadtest().getConsumers(),
+                Thread.ofPlatform().name("loadtest-consumer-", 0).factory());
+    }
+
+    @Override
+    public void dispatch(NewsletterShardMessage message) {
+        consumers.execute(() -> {
+            try {
+                consumer.receiveMessage(message);
+            } catch (RuntimeException e) {
+                log.error("[LoadTest] 샤드 처리 실패 - 샤드: {}", message.getShardId(), e);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        consumers.shutdownNow();
+    }
+}
@@ -0,0 +1,50 @@
+package com.email.scheduler.email_scheduler_server.newsletter.loadtest;
+
+import com.email.scheduler.email_scheduler_server.newsletter.config.NewsletterProperties;
+import com.email.scheduler.email_scheduler_server.newsletter.mail.FakeSmtpServer;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import java.io.IOException;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * 부하 테스트(loadtest 프로필) 환경
+ * RabbitMQ 대신 메모리 디스패처, 실제 메일 서버 대신 지연/오류를 주입한 가짜 SMTP 서버를 씀
+ */
+@Configuration
+@Profile(LoadTestConfig.PROFILE)
+public class LoadTestConfig {
+
+    public static final String PROFILE = "loadtest";
+
+    // SMTP 연결 풀(newsletter.smtp.*)이 이 서버로 연결하도록 같은 포트에서 띄움
+    @Bean(destroyMethod = "close")
+    public FakeSmtpServer loadTestSmtpServer(NewsletterProperties properties) throws IOException {
+        NewsletterProperties.LoadTest loadTest = properties.getLoadtest();
+        FakeSmtpServer server = FakeSmtpServer.start(properties.getSmtp().getPort(), true, false);
+        server.injectFaults(loadTest.getSmtpLatency(), loadTest.getTransientErrorRate(), loadTest.getPermanentErrorRate());
+        return server;
+    }
+
+    // 발송 지연 p50/p99 를 보고할 수 있도록 회차 전체 구간의 백분위를 함께 계산
+    @Bean
+    public MeterFilter sendLatencyPercentiles(NewsletterProperties properties) {
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (!id.getName().equals(LoadTestReport.SEND_LATENCY)) {
+                    return config;
+                }
+                return DistributionStatisticConfig.builder()
+                        .percentiles(0.5, 0.99)
+                        .expiry(properties.getLoadtest().getTimeout().multipliedBy(2))
+                        .bufferLength(1)
+                        .build()
+                        .merge(config);
+            }
+        };
+    }
+}
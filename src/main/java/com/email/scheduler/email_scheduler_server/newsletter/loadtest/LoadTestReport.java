@@ -0,0 +1,52 @@
+package com.email.scheduler.email_scheduler_server.newsletter.loadtest;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 부하 테스트 결과 (JSON 파일로 남겨 변경 전후를 비교)
+ *
+ * @param runMillis           발행부터 모든 샤드가 완료를 보고할 때까지 (첫 시도만)
+ * @param totalMillis         발행부터 재시도까지 모두 끝날 때까지
+ * @param recipientsPerSecond 첫 시도 기준 처리량 ((sent + failed) / run 시간)
+ * @param peakHeapMb          발송 중 샘플링한 힙 사용량 최댓값
+ */
+public record LoadTestReport(
+        int subscribers,
+        long runId,
+        long sent,
+        long failed,
+        long runMillis,
+        long totalMillis,
+        double recipientsPerSecond,
+        double sendP50Millis,
+        double sendP99Millis,
+        long peakHeapMb,
+        int smtpMessages,
+        int smtpConnections
+) {
+
+    static final String SEND_LATENCY = "newsletter.send.latency";
+
+    // LoadTestConfig 가 켠 백분위 값 (없으면 NaN)
+    static double percentileMillis(Timer timer, double percentile) {
+        if (timer == null) {
+            return Double.NaN;
+        }
+        for (ValueAtPercentile value : timer.takeSnapshot().percentileValues()) {
+            if (value.percentile() == percentile) {
+                return value.value(TimeUnit.MILLISECONDS);
+            }
+        }
+        return Double.NaN;
+    }
+
+    String summary() {
+        return String.format(
+                "구독자 %,d명 | 성공 %,d / 실패 %,d | 첫 시도 %.1fs, 재시도 포함 %.1fs | %,.0f명/s | "
+                        + "발송 지연 p50 %.1fms, p99 %.1fms | 최대 힙 %,dMB | SMTP 메시지 %,d, 연결 %,d",
+                subscribers, sent, failed, runMillis / 1000.0, totalMillis / 1000.0, recipientsPerSecond,
+                sendP50Millis, sendP99Millis, peakHeapMb, smtpMessages, smtpConnections);
+    }
+}
@@ -0,0 +1,180 @@
+package com.email.scheduler.email_scheduler_server.newsletter.loadtest;
+
+import com.email.scheduler.email_scheduler_server.newsletter.config.NewsletterProperties;
+import com.email.scheduler.email_scheduler_server.newsletter.domain.NewsletterRun;
+import com.email.scheduler.email_scheduler_server.newsletter.domain.NewsletterRun.RunStatus;
+import com.email.scheduler.email_scheduler_server.newsletter.mail.FakeSmtpServer;
+import com.email.scheduler.email_scheduler_server.newsletter.repository.NewsletterRunRepository;
+import com.email.scheduler.email_scheduler_server.newsletter.service.NewsletterPublisher;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * 부하 테스트 실행: 합성 구독자 준비 → NewsletterPublisher.publishNewsletter() → 실행(NewsletterRun) 완료 대기 → 보고
+ * 실행: ./gradlew bootRun --args='--spring.profiles.active=loadtest --newsletter.loadtest.subscribers=1000000'
+ */
+@Slf4j
+@Component
+@Profile(LoadTestConfig.PROFILE)
+@RequiredArgsConstructor
+public class LoadTestRunner implements ApplicationRunner {
+
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(200);
+
+    private final SyntheticSubscriberGenerator generator;
+    private final NewsletterPublisher publisher;
+    private final NewsletterRunRepository runRepository;
+    private final InMemoryRetryDispatcher retryDispatcher;
+    private final FakeSmtpServer smtpServer;
+    private final MeterRegistry registry;
+    private final ObjectMapper objectMapper;
+    private final NewsletterProperties properties;
+    private final ConfigurableApplicationContext context;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        NewsletterProperties.LoadTest loadTest = properties.getLoadtest();
+        generator.fill(loadTest.getSubscribers());
+
+        LoadTestReport report;
+        try (HeapSampler heap = HeapSampler.start()) {
+            long start = System.nanoTime();
+            if (!publisher.publishNewsletter()) {
+                throw new IllegalStateException("[LoadTest] 발송할 회차가 없습니다 (발행 위치를 초기화하세요)");
+            }
+            NewsletterRun started = runRepository.findTopByOrderByIdDesc().orElseThrow();
+
+            await(() -> isCompleted(started.getId()), loadTest.getTimeout());
+            long runMillis = elapsedMillis(start);
+            await(() -> retryDispatcher.pending() == 0, loadTest.getTimeout());
+            long totalMillis = elapsedMillis(start);
+
+            report = report(started.getId(), runMillis, totalMillis, heap.peakBytes());
+        }
+
+        log.info("[LoadTest] 📊 {}", report.summary());
+        writeReport(report, loadTest.getReportFile());
+
+        if (loadTest.isExitOnFinish()) {
+            System.exit(SpringApplication.exit(context, () -> 0));
+        }
+    }
+
+    private boolean isCompleted(Long runId) {
+        return runRepository.findById(runId)
+                .map(run -> run.getStatus() == RunStatus.COMPLETED)
+                .orElse(false);
+    }
+
+    private LoadTestReport report(Long runId, long runMillis, long totalMillis, long peakHeapBytes) {
+        NewsletterRun run = runRepository.findById(runId).orElseThrow();
+        long processed = run.getSentCount() + run.getFailedCount();
+
+        // 발송 지연은 성공한 발송 기준 (result=sent)
+        Timer sendLatency = registry.find(LoadTestReport.SEND_LATENCY)
+                .tag("issue", String.valueOf(run.getIssue().getId()))
+                .tag("result", "sent")
+                .timer();
+
+        return new LoadTestReport(
+                properties.getLoadtest().getSubscribers(),
+                runId,
+                run.getSentCount(),
+                run.getFailedCount(),
+                runMillis,
+                totalMillis,
+                processed / Math.max(runMillis / 1000.0, 0.001),
+                LoadTestReport.percentileMillis(sendLatency, 0.5),
+                LoadTestReport.percentileMillis(sendLatency, 0.99),
+                peakHeapBytes / (1024 * 1024),
+                smtpServer.messages(),
+                smtpServer.connections()
+        );
+    }
+
+    private void writeReport(LoadTestReport report, String reportFile) throws IOException {
+        if (reportFile == null || reportFile.isBlank()) {
+            return;
+        }
+        Path path = Path.of(reportFile);
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(path.toFile(), report);
+        log.info("[LoadTest] 결과 파일: {}", path.toAbsolutePath());
+    }
+
+    private void await(BooleanSupplier done, Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (!done.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                throw new IllegalStateException("[LoadTest] 발송이 제한 시간 안에 끝나지 않았습니다 - " + timeout);
+            }
+            Thread.sleep(POLL_INTERVAL);
+        }
+    }
+
+    private long elapsedMillis(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+
+    /**
+     * 발송 중 힙 사용량을 주기적으로 샘플링해 최댓값을 기록
+     * (메모리 풀별 peak 를 더하면 서로 다른 시점의 값이 합쳐져 실제보다 커지므로 전체 힙 사용량을 직접 샘플링)
+     */
+    private static final class HeapSampler implements AutoCloseable {
+
+        private static final Duration INTERVAL = Duration.ofMillis(50);
+
+        private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        private final AtomicLong peak = new AtomicLong();
+        private final Thread thread;
+
+        private HeapSampler() {
+            this.thread = Thread.ofPlatform().daemon().name("loadtest-heap-sampler").unstarted(this::sample);
+        }
+
+        static HeapSampler start() {
+            HeapSampler sampler = new HeapSampler();
+            sampler.thread.start();
+            return sampler;
+        }
+
+        long peakBytes() {
+            return peak.get();
+        }
+
+        private void sample() {
+            while (!Thread.currentThread().isInterrupted()) {
+                peak.accumulateAndGet(memory.getHeapMemoryUsage().getUsed(), Math::max);
+                try {
+                    Thread.sleep(INTERVAL);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        }
+
+        @Override
+        public void close() {
+            thread.interrupt();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.email.scheduler.email_scheduler_server.newsletter.loadtest;
+
+import com.email.scheduler.email_scheduler_server.newsletter.repository.SubscriberCounterRepository;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 부하 테스트용 합성 구독자를 설정된 DB 에 채움
+ * 100만 명도 메모리에 한 번에 올리지 않도록 BATCH_SIZE 행씩 JDBC 배치로 INSERT 함
+ * SubscriberWriter 를 거치지 않으므로 활성 구독자 수 카운터에는 배치마다 직접 더함
+ */
+@Slf4j
+@Component
+@Profile(LoadTestConfig.PROFILE)
+@RequiredArgsConstructor
+public class SyntheticSubscriberGenerator {
+
+    private static final int BATCH_SIZE = 10_000;
+    private static final String INSERT_SQL = "INSERT INTO subscriber (email, active) VALUES (?, true)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SubscriberCounterRepository counterRepository;
+
+    /**
+     * 구독자가 target 명이 되도록 모자란 만큼 추가
+     *
+     * @return 새로 추가한 구독자 수
+     */
+    public int fill(int target) {
+        Integer existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM subscriber", Integer.class);
+        int from = existing == null ? 0 : existing;
+        if (from >= target) {
+            return 0;
+        }
+
+        long start = System.nanoTime();
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = from + 1; i <= target; i++) {
+            batch.add(new Object[]{"loadtest-" + i + "@loadtest.local"});
+            if (batch.size() == BATCH_SIZE || i == target) {
+                jdbcTemplate.batchUpdate(INSERT_SQL, batch);
+                counterRepository.add(batch.size());
+                batch.clear();
+            }
+        }
+
+        int inserted = target - from;
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        log.info("[LoadTest] 👥 합성 구독자 {}명 추가 ({}s, {}행/s)",
+                inserted, String.format("%.1f", seconds), Math.round(inserted / Math.max(seconds, 0.001)));
+        return inserted;
+    }
+}
@@ -0,0 +1,87 @@
+package com.email.scheduler.email_scheduler_server.newsletter.mail;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * SMTP DATA 본문 인코딩 (RFC 5321 4.5.2)
+ * - 줄 맨 앞의 '.' 은 ".." 로 바꿈 (종료 표시 "\r\n.\r\n" 과 구분)
+ * - 단독 LF 는 CRLF 로 바꿈
+ * 특수 문자가 없는 구간은 한 번에 써서 바이트 단위 호출을 피함
+ */
+class DotStuffingOutputStream extends FilterOutputStream {
+
+    private boolean atLineStart = true;
+    private boolean previousCr;
+
+    DotStuffingOutputStream(OutputStream out) {
+        super(out);
+    }
+
+    // 같은 연결로 다음 메시지를 쓰기 전에 상태 초기화 (객체 재사용)
+    void reset() {
+        atLineStart = true;
+        previousCr = false;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        if (atLineStart && b == '.') {
+            out.write('.');
+        }
+        if (b == '\n' && !previousCr) {
+            out.write('\r');
+        }
+        out.write(b);
+        previousCr = b == '\r';
+        atLineStart = b == '\n';
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        int runStart = off;
+        int end = off + len;
+
+        for (int i = off; i < end; i++) {
+            byte c = b[i];
+            boolean needsDot = atLineStart && c == '.';
+            boolean needsCr = c == '\n' && !previousCr;
+
+            if (needsDot || needsCr) {
+                out.write(b, runStart, i - runStart);
+                out.write(needsDot ? '.' : '\r');
+                runStart = i;
+            }
+
+            previousCr = c == '\r';
+            atLineStart = c == '\n';
+        }
+
+        out.write(b, runStart, end - runStart);
+    }
+
+    /**
+     * 본문이 줄바꿈으로 끝나지 않았으면 CRLF 를 붙인 뒤 종료 표시를 씀
+     */
+    void finish() throws IOException {
+        if (!atLineStart) {
+            out.write('\r');
+            out.write('\n');
+        }
+        out.write('.');
+        out.write('\r');
+        out.write('\n');
+        out.flush();
+    }
+
+    @Override
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    @Override
+    public void close() {
+        // 연결은 풀이 관리하므로 여기서 소켓 스트림을 닫지 않음
+    }
+}
@@ -0,0 +1,271 @@
+package com.email.scheduler.email_scheduler_server.newsletter.mail;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 로컬 검증용 SMTP 서버 (메일을 실제로 전달하지 않고 받기만 함)
+ * 연결당 가상 스레드 하나로 EHLO/AUTH/MAIL/RCPT/DATA/RSET/QUIT 을 처리하고, 받은 메시지 수와 연결 수를 기록함
+ * 부하 테스트용으로 응답 지연과 무작위 거절(일시 451 / 영구 550)을 주입할 수 있음
+ */
+@Slf4j
+public class FakeSmtpServer implements AutoCloseable {
+
+    private final ServerSocket serverSocket;
+    private final boolean pipelining;
+    private final boolean keepMessages;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final AtomicInteger connections = new AtomicInteger();
+    private final AtomicInteger messages = new AtomicInteger();
+    private final AtomicInteger pipelinedEnvelopes = new AtomicInteger();
+    private final Queue<ReceivedMail> received = new ConcurrentLinkedQueue<>();
+    private final Map<String, Integer> rejectedRecipients = new ConcurrentHashMap<>();
+
+    private volatile int authReplyCode = 235;
+    private volatile Duration dataLatency = Duration.ZERO;
+    private volatile double transientErrorRate;
+    private volatile double permanentErrorRate;
+
+    private FakeSmtpServer(int port, boolean pipelining, boolean keepMessages) throws IOException {
+        this.serverSocket = new ServerSocket(port, 512, InetAddress.getLoopbackAddress());
+        this.pipelining = pipelining;
+        this.keepMessages = keepMessages;
+    }
+
+    /**
+     * @param port         0 이면 빈 포트 자동 선택
+     * @param pipelining   EHLO 응답에 PIPELINING 을 광고할지 여부
+     * @param keepMessages 받은 메시지 원문을 보관할지 여부 (대량 발송 시 false)
+     */
+    public static FakeSmtpServer start(int port, boolean pipelining, boolean keepMessages) throws IOException {
+        FakeSmtpServer server = new FakeSmtpServer(port, pipelining, keepMessages);
+        server.executor.execute(server::acceptLoop);
+        return server;
+    }
+
+    public int port() {
+        return serverSocket.getLocalPort();
+    }
+
+    // 해당 수신자의 RCPT TO 에 지정한 코드로 응답 (예: 450 일시 거절, 550 영구 거절)
+    public void rejectRecipient(String email, int replyCode) {
+        rejectedRecipients.put(email.toLowerCase(Locale.ROOT), replyCode);
+    }
+
+    // AUTH 에 지정한 코드로 응답 (예: 535 인증 실패)
+    public void rejectAuth(int replyCode) {
+        this.authReplyCode = replyCode;
+    }
+
+    /**
+     * 실제 메일 서버처럼 느리고 가끔 실패하는 상황을 흉내냄
+     *
+     * @param dataLatency        DATA 수신 후 250 응답까지 지연 (메시지 한 건 처리 시간)
+     * @param transientErrorRate RCPT TO 에 451 로 응답할 확률 (0 ~ 1)
+     * @param permanentErrorRate RCPT TO 에 550 으로 응답할 확률 (0 ~ 1)
+     */
+    public void injectFaults(Duration dataLatency, double transientErrorRate, double permanentErrorRate) {
+        this.dataLatency = dataLatency;
+        this.transientErrorRate = transientErrorRate;
+        this.permanentErrorRate = permanentErrorRate;
+    }
+
+    public int connections() {
+        return connections.get();
+    }
+
+    public int messages() {
+        return messages.get();
+    }
+
+    // MAIL FROM 을 읽었을 때 뒤따르는 명령이 이미 도착해 있던 횟수
+    public int pipelinedEnvelopes() {
+        return pipelinedEnvelopes.get();
+    }
+
+    public List<ReceivedMail> receivedMails() {
+        return List.copyOf(received);
+    }
+
+    private void acceptLoop() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                connections.incrementAndGet();
+                executor.execute(() -> handle(socket));
+            } catch (SocketException e) {
+                return; // close() 로 서버 소켓이 닫힘
+            } catch (IOException e) {
+                log.warn("[FakeSMTP] 연결 수락 실패", e);
+            }
+        }
+    }
+
+    private void handle(Socket socket) {
+        try (socket;
+             BufferedReader reader = new BufferedReader(
+                     new InputStreamReader(socket.getInputStream(), StandardCharsets.ISO_8859_1));
+             Writer writer = new BufferedWriter(
+                     new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.ISO_8859_1))) {
+            new Session(reader, writer).run();
+        } catch (IOException e) {
+            log.debug("[FakeSMTP] 연결 종료: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        executor.shutdownNow();
+    }
+
+    public record ReceivedMail(String from, String to, String data) {
+    }
+
+    private class Session {
+
+        private final BufferedReader reader;
+        private final Writer writer;
+        private String from;
+        private String to;
+
+        Session(BufferedReader reader, Writer writer) {
+            this.reader = reader;
+            this.writer = writer;
+        }
+
+        void run() throws IOException {
+            reply("220 fake-smtp ready");
+
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String command = line.toUpperCase(Locale.ROOT);
+
+                if (command.startsWith("EHLO") || command.startsWith("HELO")) {
+                    writer.write("250-fake-smtp\r\n");
+                    if (pipelining) {
+                        writer.write("250-PIPELINING\r\n");
+                    }
+                    reply("250 AUTH PLAIN");
+                } else if (command.startsWith("AUTH")) {
+                    reply(authReplyCode == 235
+                            ? "235 2.7.0 Authentication successful"
+                            : authReplyCode + " Authentication failed");
+                } else if (command.startsWith("MAIL FROM:")) {
+                    if (reader.ready()) {
+                        pipelinedEnvelopes.incrementAndGet();
+                    }
+                    from = address(line);
+                    to = null;
+                    reply("250 2.1.0 OK");
+                } else if (command.startsWith("RCPT TO:")) {
+                    String recipient = address(line);
+                    Integer rejectCode = rejectedRecipients.getOrDefault(
+                            recipient.toLowerCase(Locale.ROOT), randomRejectCode());
+                    if (rejectCode != null) {
+                        reply(rejectCode + " rejected " + recipient);
+                    } else {
+                        to = recipient;
+                        reply("250 2.1.5 OK");
+                    }
+                } else if (command.equals("DATA")) {
+                    if (from == null || to == null) {
+                        reply("503 5.5.1 No valid recipients");
+                    } else {
+                        reply("354 End data with <CR><LF>.<CR><LF>");
+                        receiveData();
+                    }
+                } else if (command.equals("RSET")) {
+                    from = null;
+                    to = null;
+                    reply("250 2.0.0 OK");
+                } else if (command.equals("NOOP")) {
+                    reply("250 2.0.0 OK");
+                } else if (command.equals("QUIT")) {
+                    reply("221 2.0.0 Bye");
+                    return;
+                } else {
+                    reply("500 5.5.2 Unrecognized command");
+                }
+            }
+        }
+
+        private void receiveData() throws IOException {
+            StringBuilder data = keepMessages ? new StringBuilder() : null;
+            String line;
+
+            while ((line = reader.readLine()) != null && !line.equals(".")) {
+                if (data != null) {
+                    data.append(line.startsWith("..") ? line.substring(1) : line).append("\r\n");
+                }
+            }
+
+            if (!dataLatency.isZero()) {
+                sleep(dataLatency);
+            }
+
+            messages.incrementAndGet();
+            if (data != null) {
+                received.add(new ReceivedMail(from, to, data.toString()));
+            }
+            from = null;
+            to = null;
+            reply("250 2.0.0 OK queued");
+        }
+
+        // 주입한 확률에 따라 451 / 550, 거절하지 않으면 null
+        private Integer randomRejectCode() {
+            if (transientErrorRate <= 0 && permanentErrorRate <= 0) {
+                return null;
+            }
+            double roll = ThreadLocalRandom.current().nextDouble();
+            if (roll < transientErrorRate) {
+                return 451;
+            }
+            return roll < transientErrorRate + permanentErrorRate ? 550 : null;
+        }
+
+        private void sleep(Duration duration) throws IOException {
+            try {
+                Thread.sleep(duration);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("interrupted", e);
+            }
+        }
+
+        private String address(String line) {
+            int start = line.indexOf('<');
+            int end = line.indexOf('>');
+            return start >= 0 && end > start ? line.substring(start + 1, end) : line.substring(line.indexOf(':') + 1).trim();
+        }
+
+        private void reply(String line) throws IOException {
+            writer.write(line);
+            writer.write("\r\n");
+            writer.flush();
+        }
+    }
+}
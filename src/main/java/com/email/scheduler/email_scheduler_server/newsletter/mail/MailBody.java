@@ -0,0 +1,14 @@
+package com.email.scheduler.email_scheduler_server.newsletter.mail;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * DATA 단계에서 메일 원문(헤더 + 본문)을 스트림에 직접 쓰는 역할
+ * 메일 전체를 byte[] 로 만들지 않고 소켓 버퍼로 바로 흘려보낼 수 있음
+ */
+@FunctionalInterface
+public interface MailBody {
+
+    void writeTo(OutputStream out) throws IOException;
+}
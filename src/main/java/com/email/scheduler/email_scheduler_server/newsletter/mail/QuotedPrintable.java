@@ -0,0 +1,178 @@
+package com.email.scheduler.email_scheduler_server.newsletter.mail;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * quoted-printable 인코딩 (RFC 2045 6.7)
+ * 조각마다 따로 인코딩한 뒤 이어 붙일 수 있도록, 조각의 끝에는 soft line break("=\r\n")를 붙여 줄을 닫음
+ * (디코딩하면 soft line break 는 사라지므로 원문은 조각들을 그대로 이어 붙인 것과 같음)
+ *
+ * 구독자별 값 인코딩에도 쓰이므로 문자열/배열을 만들지 않고 OutputStream 에 바로 씀
+ */
+final class QuotedPrintable {
+
+    // 한 줄 최대 76자 중 soft line break 의 '=' 자리를 남겨 둠
+    private static final int MAX_COLUMN = 75;
+    private static final byte[] HEX = "0123456789ABCDEF".getBytes();
+
+    private QuotedPrintable() {
+    }
+
+    enum Escape {
+        NONE,
+        // HTML 본문에 넣는 값 (& < > " ' 를 엔티티로 바꿈)
+        HTML,
+        // URL 쿼리 값 (unreserved 문자 외에는 %XX)
+        URL_COMPONENT
+    }
+
+    /**
+     * text[start, end) 를 인코딩해 쓰고 조각을 닫음
+     * '\n' 은 hard line break(CRLF)로, '\r' 은 무시함
+     */
+    static void encode(CharSequence text, int start, int end, Escape escape, OutputStream out) throws IOException {
+        int column = 0;
+
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+
+            if (c == '\r') {
+                continue;
+            }
+            if (c == '\n') {
+                out.write('\r');
+                out.write('\n');
+                column = 0;
+                continue;
+            }
+
+            if (escape == Escape.HTML && (c == '&' || c == '<' || c == '>' || c == '"' || c == '\'')) {
+                column = literal(htmlEntity(c), out, column);
+                continue;
+            }
+
+            if (escape == Escape.URL_COMPONENT && !isUnreserved(c)) {
+                int codePoint = Character.codePointAt(text, i);
+                i += Character.charCount(codePoint) - 1;
+                column = percentEncoded(codePoint, out, column);
+                continue;
+            }
+
+            if (c < 0x80) {
+                boolean trailingSpace = (c == ' ' || c == '\t') && (i + 1 == end || text.charAt(i + 1) == '\n'
+                        || text.charAt(i + 1) == '\r');
+                // 줄 맨 앞의 '.' 은 SMTP 종료 표시와 겹치지 않도록 인코딩
+                boolean leadingDot = c == '.' && column == 0;
+                boolean printable = c >= 33 && c <= 126 && c != '=';
+
+                if ((printable || c == ' ' || c == '\t') && !trailingSpace && !leadingDot) {
+                    column = wrapIfNeeded(1, out, column);
+                    out.write(c);
+                    column++;
+                } else {
+                    column = encodedByte(c, out, column);
+                }
+                continue;
+            }
+
+            int codePoint = Character.codePointAt(text, i);
+            i += Character.charCount(codePoint) - 1;
+            column = utf8(codePoint, out, column);
+        }
+
+        if (column > 0) {
+            softBreak(out);
+        }
+    }
+
+    private static int literal(String ascii, OutputStream out, int column) throws IOException {
+        for (int i = 0; i < ascii.length(); i++) {
+            column = wrapIfNeeded(1, out, column);
+            out.write(ascii.charAt(i));
+            column++;
+        }
+        return column;
+    }
+
+    private static int percentEncoded(int codePoint, OutputStream out, int column) throws IOException {
+        if (codePoint < 0x80) {
+            return percentByte(codePoint, out, column);
+        }
+        if (codePoint < 0x800) {
+            column = percentByte(0xC0 | (codePoint >> 6), out, column);
+            return percentByte(0x80 | (codePoint & 0x3F), out, column);
+        }
+        if (codePoint < 0x10000) {
+            column = percentByte(0xE0 | (codePoint >> 12), out, column);
+            column = percentByte(0x80 | ((codePoint >> 6) & 0x3F), out, column);
+            return percentByte(0x80 | (codePoint & 0x3F), out, column);
+        }
+        column = percentByte(0xF0 | (codePoint >> 18), out, column);
+        column = percentByte(0x80 | ((codePoint >> 12) & 0x3F), out, column);
+        column = percentByte(0x80 | ((codePoint >> 6) & 0x3F), out, column);
+        return percentByte(0x80 | (codePoint & 0x3F), out, column);
+    }
+
+    // "%XX" 는 모두 인쇄 가능한 ASCII 라 quoted-printable 에서는 그대로 씀
+    private static int percentByte(int b, OutputStream out, int column) throws IOException {
+        column = wrapIfNeeded(3, out, column);
+        out.write('%');
+        out.write(HEX[(b >> 4) & 0x0F]);
+        out.write(HEX[b & 0x0F]);
+        return column + 3;
+    }
+
+    private static int utf8(int codePoint, OutputStream out, int column) throws IOException {
+        if (codePoint < 0x800) {
+            column = encodedByte(0xC0 | (codePoint >> 6), out, column);
+            return encodedByte(0x80 | (codePoint & 0x3F), out, column);
+        }
+        if (codePoint < 0x10000) {
+            column = encodedByte(0xE0 | (codePoint >> 12), out, column);
+            column = encodedByte(0x80 | ((codePoint >> 6) & 0x3F), out, column);
+            return encodedByte(0x80 | (codePoint & 0x3F), out, column);
+        }
+        column = encodedByte(0xF0 | (codePoint >> 18), out, column);
+        column = encodedByte(0x80 | ((codePoint >> 12) & 0x3F), out, column);
+        column = encodedByte(0x80 | ((codePoint >> 6) & 0x3F), out, column);
+        return encodedByte(0x80 | (codePoint & 0x3F), out, column);
+    }
+
+    private static int encodedByte(int b, OutputStream out, int column) throws IOException {
+        column = wrapIfNeeded(3, out, column);
+        out.write('=');
+        out.write(HEX[(b >> 4) & 0x0F]);
+        out.write(HEX[b & 0x0F]);
+        return column + 3;
+    }
+
+    private static int wrapIfNeeded(int width, OutputStream out, int column) throws IOException {
+        if (column + width > MAX_COLUMN) {
+            softBreak(out);
+            return 0;
+        }
+        return column;
+    }
+
+    private static void softBreak(OutputStream out) throws IOException {
+        out.write('=');
+        out.write('\r');
+        out.write('\n');
+    }
+
+    private static boolean isUnreserved(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                || c == '-' || c == '.' || c == '_' || c == '~';
+    }
+
+    private static String htmlEntity(char c) {
+        return switch (c) {
+            case '&' -> "&amp;";
+            case '<' -> "&lt;";
+            case '>' -> "&gt;";
+            case '"' -> "&quot;";
+            default -> "&#39;";
+        };
+    }
+}
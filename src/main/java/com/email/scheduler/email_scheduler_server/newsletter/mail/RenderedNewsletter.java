@@ -0,0 +1,226 @@
+package com.email.scheduler.email_scheduler_server.newsletter.mail;
+
+import com.email.scheduler.email_scheduler_server.newsletter.mail.QuotedPrintable.Escape;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 회차 하나의 MIME 메시지를 미리 인코딩해 둔 템플릿
+ * - 헤더, multipart 경계, quoted-printable 로 인코딩한 text/html 본문은 회차당 한 번만 만들어 공유함 (불변)
+ * - 구독자마다 다른 값(To, 인사말 이름, 구독 취소 링크의 서명 토큰)만 정해진 위치(slot)에 끼워 씀
+ *
+ * quoted-printable 은 조각마다 soft line break 로 줄을 닫아 두므로, 구독자 값을 따로 인코딩해 이어 붙여도
+ * 올바른 본문이 됨 (base64 는 조각 경계에서 4바이트 정렬이 깨져 이어 붙일 수 없음)
+ *
+ * 본문 템플릿의 {{name}} 은 이메일 @ 앞부분으로, {{unsubscribe_url}} 은 구독 취소 링크로 바뀜
+ * 구독 취소 링크는 RFC 8058 one-click 구독 취소 대상이므로 List-Unsubscribe-Post 헤더를 함께 씀
+ */
+public final class RenderedNewsletter {
+
+    public static final String NAME_PLACEHOLDER = "{{name}}";
+    public static final String UNSUBSCRIBE_PLACEHOLDER = "{{unsubscribe_url}}";
+
+    private final byte[][] segments;
+    private final Slot[] slots;
+    private final int staticBytes;
+    private final UnsubscribeToken unsubscribeToken;
+
+    private RenderedNewsletter(List<byte[]> segments, List<Slot> slots, UnsubscribeToken unsubscribeToken) {
+        this.segments = segments.toArray(byte[][]::new);
+        this.slots = slots.toArray(Slot[]::new);
+        this.unsubscribeToken = unsubscribeToken;
+        this.staticBytes = segments.stream().mapToInt(segment -> segment.length).sum();
+    }
+
+    /**
+     * @param plainText         text/plain 본문 템플릿
+     * @param html              text/html 본문 템플릿
+     * @param unsubscribeBaseUrl 구독 취소 링크 앞부분 (뒤에 수신자별 서명 토큰이 붙음)
+     * @param unsubscribeToken   구독 취소 토큰 서명
+     */
+    public static RenderedNewsletter render(
+            String from,
+            String subject,
+            String plainText,
+            String html,
+            String unsubscribeBaseUrl,
+            UnsubscribeToken unsubscribeToken
+    ) {
+        String boundary = "=_newsletter_" + Long.toHexString(ThreadLocalRandom.current().nextLong());
+        Builder builder = new Builder();
+
+        builder.raw("From: <" + from + ">\r\n");
+        builder.raw("To: <").slot(Slot.RECIPIENT).raw(">\r\n");
+        builder.raw("Subject: =?UTF-8?B?"
+                + Base64.getEncoder().encodeToString(subject.getBytes(StandardCharsets.UTF_8)) + "?=\r\n");
+        builder.raw("MIME-Version: 1.0\r\n");
+        builder.raw("List-Unsubscribe: <" + unsubscribeBaseUrl).slot(Slot.UNSUBSCRIBE_HEADER).raw(">\r\n");
+        builder.raw("List-Unsubscribe-Post: List-Unsubscribe=One-Click\r\n");
+        // "=_" 는 quoted-printable 결과에 나타날 수 없으므로 본문과 경계 문자열이 겹치지 않음
+        builder.raw("Content-Type: multipart/alternative; boundary=\"" + boundary + "\"\r\n\r\n");
+
+        builder.raw("--" + boundary + "\r\n"
+                + "Content-Type: text/plain; charset=UTF-8\r\n"
+                + "Content-Transfer-Encoding: quoted-printable\r\n\r\n");
+        builder.body(plainText, Slot.NAME_TEXT, unsubscribeBaseUrl);
+
+        builder.raw("\r\n--" + boundary + "\r\n"
+                + "Content-Type: text/html; charset=UTF-8\r\n"
+                + "Content-Transfer-Encoding: quoted-printable\r\n\r\n");
+        builder.body(html, Slot.NAME_HTML, unsubscribeBaseUrl.replace("&", "&amp;"));
+
+        builder.raw("\r\n--" + boundary + "--\r\n");
+        return builder.build(unsubscribeToken);
+    }
+
+    /**
+     * 수신자 한 명의 메시지를 씀
+     * 공유 버퍼를 그대로 쓰고 구독자 값만 인코딩하므로 구독자당 새로 만드는 값은 구독 취소 토큰 하나뿐임
+     */
+    public void writeTo(OutputStream out, String email) throws IOException {
+        String token = unsubscribeToken.issue(email);
+        for (int i = 0; i < slots.length; i++) {
+            out.write(segments[i]);
+            slots[i].write(email, token, out);
+        }
+        out.write(segments[slots.length]);
+    }
+
+    // 구독자와 무관하게 공유하는 바이트 수
+    public int staticBytes() {
+        return staticBytes;
+    }
+
+    private enum Slot {
+        RECIPIENT {
+            @Override
+            void write(String email, String token, OutputStream out) throws IOException {
+                writeRaw(email, out);
+            }
+        },
+        // 토큰은 base64url 문자만 쓰므로 그대로 씀
+        UNSUBSCRIBE_HEADER {
+            @Override
+            void write(String email, String token, OutputStream out) throws IOException {
+                writeRaw(token, out);
+            }
+        },
+        NAME_TEXT {
+            @Override
+            void write(String email, String token, OutputStream out) throws IOException {
+                QuotedPrintable.encode(email, 0, localPartEnd(email), Escape.NONE, out);
+            }
+        },
+        NAME_HTML {
+            @Override
+            void write(String email, String token, OutputStream out) throws IOException {
+                QuotedPrintable.encode(email, 0, localPartEnd(email), Escape.HTML, out);
+            }
+        },
+        UNSUBSCRIBE_BODY {
+            @Override
+            void write(String email, String token, OutputStream out) throws IOException {
+                QuotedPrintable.encode(token, 0, token.length(), Escape.URL_COMPONENT, out);
+            }
+        };
+
+        abstract void write(String email, String token, OutputStream out) throws IOException;
+
+        private static int localPartEnd(String email) {
+            int at = email.indexOf('@');
+            return at < 0 ? email.length() : at;
+        }
+
+        private static void writeRaw(String value, OutputStream out) throws IOException {
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c >= 0x80) {
+                    // 국제화 주소는 드물므로 이 경우에만 나머지를 한 번에 변환
+                    out.write(value.substring(i).getBytes(StandardCharsets.UTF_8));
+                    return;
+                }
+                out.write(c);
+            }
+        }
+    }
+
+    private static class Builder {
+
+        private final List<byte[]> segments = new ArrayList<>();
+        private final List<Slot> slots = new ArrayList<>();
+        private final ByteArrayOutputStream current = new ByteArrayOutputStream();
+
+        Builder raw(String text) {
+            current.writeBytes(text.getBytes(StandardCharsets.UTF_8));
+            return this;
+        }
+
+        Builder slot(Slot slot) {
+            segments.add(current.toByteArray());
+            slots.add(slot);
+            current.reset();
+            return this;
+        }
+
+        // 자리표시자 사이의 고정 문구는 한 덩어리로 모아 한 번에 인코딩함
+        void body(String template, Slot nameSlot, String unsubscribeBaseUrl) {
+            StringBuilder pending = new StringBuilder(template.length());
+            int position = 0;
+
+            while (position < template.length()) {
+                int name = template.indexOf(NAME_PLACEHOLDER, position);
+                int unsubscribe = template.indexOf(UNSUBSCRIBE_PLACEHOLDER, position);
+                int next = firstOf(name, unsubscribe);
+
+                if (next < 0) {
+                    pending.append(template, position, template.length());
+                    break;
+                }
+
+                pending.append(template, position, next);
+                if (next == name) {
+                    encode(pending).slot(nameSlot);
+                    position = next + NAME_PLACEHOLDER.length();
+                } else {
+                    pending.append(unsubscribeBaseUrl);
+                    encode(pending).slot(Slot.UNSUBSCRIBE_BODY);
+                    position = next + UNSUBSCRIBE_PLACEHOLDER.length();
+                }
+            }
+
+            encode(pending);
+        }
+
+        private Builder encode(StringBuilder text) {
+            try {
+                QuotedPrintable.encode(text, 0, text.length(), Escape.NONE, current);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            text.setLength(0);
+            return this;
+        }
+
+        private static int firstOf(int a, int b) {
+            if (a < 0) {
+                return b;
+            }
+            if (b < 0) {
+                return a;
+            }
+            return Math.min(a, b);
+        }
+
+        RenderedNewsletter build(UnsubscribeToken unsubscribeToken) {
+            segments.add(current.toByteArray());
+            return new RenderedNewsletter(segments, slots, unsubscribeToken);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.email.scheduler.email_scheduler_server.newsletter.mail;
+
+import com.email.scheduler.email_scheduler_server.newsletter.config.NewsletterProperties;
+import java.io.IOException;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 오래 유지되는 SMTP 연결 풀
+ * - 연결/TLS/EHLO/AUTH 는 연결당 한 번만 수행하고 여러 메시지에 재사용함
+ * - 동시에 빌려줄 수 있는 연결 수는 pool-size 로 제한됨
+ * - 연결당 max-messages-per-connection 건을 보내면 QUIT 후 다음 요청 때 새로 연결함
+ * - 입출력 오류나 421(서비스 종료) 응답을 받은 연결은 폐기하고 새로 연결함
+ * - 메시지 한 건은 연결을 빌린 때부터 message-timeout 안에 끝나야 하며, 넘기면 소켓 읽기 시간 초과로 그 연결을 폐기함
+ *   본문(DATA)을 보낸 뒤의 시간 초과/연결 오류는 서버가 이미 받았을 수 있으므로 재시도하지 않는 실패로 던짐
+ * - 실패는 SMTP 단계(연결/세션/수신자/본문)를 붙여 던지며, 연결 단계의 5xx(AUTH 535 등)는 수신자가 아닌 서버 문제이므로 일시 실패로 분류됨
+ */
+@Slf4j
+public class SmtpClientPool implements AutoCloseable {
+
+    private final NewsletterProperties.Smtp config;
+    private final Semaphore permits;
+    private final BlockingDeque<SmtpConnection> idle = new LinkedBlockingDeque<>();
+    private final AtomicInteger openedConnections = new AtomicInteger();
+
+    public SmtpClientPool(NewsletterProperties.Smtp config) {
+        this.config = config;
+        this.permits = new Semaphore(config.getPoolSize());
+    }
+
+    public void send(String to, MailBody body) {
+        acquirePermit();
+        try {
+            sendWithConnection(to, body, System.nanoTime() + config.getMessageTimeout().toNanos());
+        } finally {
+            permits.release();
+        }
+    }
+
+    private void sendWithConnection(String to, MailBody body, long deadline) {
+        SmtpConnection connection = idle.pollFirst();
+        boolean reused = connection != null;
+
+        if (connection == null) {
+            connection = open();
+        }
+
+        try {
+            connection.send(config.getFrom(), to, body, deadline);
+            release(connection);
+        } catch (SmtpException e) {
+            if (e.getReplyCode() == 421) {
+                discard(connection);
+            } else {
+                release(connection);
+            }
+            throw e;
+        } catch (IOException | RuntimeException e) {
+            discard(connection);
+
+            // 쉬는 동안 서버가 끊은 연결이면 본문을 보내기 전이므로 새 연결로 한 번만 다시 시도
+            if (reused && !connection.dataStarted()) {
+                log.debug("[SMTP] 재사용 연결이 끊어져 새 연결로 재시도 - {}", to);
+                sendWithConnection(to, body, deadline);
+                return;
+            }
+            if (connection.dataStarted()) {
+                throw new SmtpException("본문 전송 후 응답을 받지 못함 (수신 여부 알 수 없음): " + e.getMessage(), e, true);
+            }
+            throw new SmtpException("SMTP 연결 오류: " + e.getMessage(), e);
+        }
+    }
+
+    private SmtpConnection open() {
+        try {
+            SmtpConnection connection = SmtpConnection.open(config);
+            openedConnections.incrementAndGet();
+            return connection;
+        } catch (IOException e) {
+            throw new SmtpException("SMTP 연결 실패: " + e.getMessage(), e);
+        }
+    }
+
+    private void release(SmtpConnection connection) {
+        if (connection.sentMessages() >= config.getMaxMessagesPerConnection()) {
+            connection.quitQuietly();
+            return;
+        }
+        // 최근에 쓴 연결부터 다시 꺼내도록 앞쪽에 넣음 (오래 쉰 연결이 서버에서 끊기는 것을 줄임)
+        idle.offerFirst(connection);
+    }
+
+    private void discard(SmtpConnection connection) {
+        connection.close();
+    }
+
+    private void acquirePermit() {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SmtpException("SMTP 연결 대기 중 인터럽트 발생", e);
+        }
+    }
+
+    // 지금까지 새로 연 연결 수 (재연결 포함)
+    public int openedConnections() {
+        return openedConnections.get();
+    }
+
+    @Override
+    public void close() {
+        SmtpConnection connection;
+        while ((connection = idle.pollFirst()) != null) {
+            connection.quitQuietly();
+        }
+    }
+}
@@ -0,0 +1,314 @@
+package com.email.scheduler.email_scheduler_server.newsletter.mail;
+
+import com.email.scheduler.email_scheduler_server.newsletter.config.NewsletterProperties;
+import com.email.scheduler.email_scheduler_server.newsletter.mail.SmtpException.Phase;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import javax.net.ssl.SSLSocket;
+import javax.net.ssl.SSLSocketFactory;
+
+/**
+ * 인증까지 마친 SMTP 연결 하나
+ * 한 번 연결해 두고 여러 메시지를 보냄 (메시지 사이에는 RSET 으로 트랜잭션 초기화)
+ * 서버가 PIPELINING 을 지원하면 RSET/MAIL/RCPT/DATA 를 한 번에 보내고 응답을 모아서 읽음 (왕복 4회 → 1회)
+ *
+ * 메시지 한 건의 제한 시간(message-timeout)은 응답을 읽을 때마다 남은 시간을 소켓 읽기 제한 시간으로 걸어 지킴
+ * 발송 스레드를 인터럽트하지 않으므로, 시간 초과가 나면 이 스레드에서 SocketTimeoutException 으로 끝나고 연결은 폐기됨
+ *
+ * 한 스레드만 사용한다고 가정하며, 동시성은 SmtpClientPool 이 보장함
+ */
+class SmtpConnection implements Closeable {
+
+    private static final int BUFFER_SIZE = 16 * 1024;
+
+    private final NewsletterProperties.Smtp config;
+
+    private Socket socket;
+    private InputStream in;
+    private OutputStream out;
+    private DotStuffingOutputStream dataOut;
+
+    private boolean pipelining;
+    private int sentMessages;
+    private boolean needsReset;
+    private boolean dataStarted;
+
+    // 진행 중인 메시지의 마감 시각 (System.nanoTime 기준, 0 이면 read-timeout 만 적용)
+    private long deadline;
+
+    private SmtpConnection(NewsletterProperties.Smtp config) {
+        this.config = config;
+    }
+
+    static SmtpConnection open(NewsletterProperties.Smtp config) throws IOException {
+        SmtpConnection connection = new SmtpConnection(config);
+        try {
+            connection.connect();
+            return connection;
+        } catch (IOException | RuntimeException e) {
+            connection.close();
+            throw e;
+        }
+    }
+
+    private void connect() throws IOException {
+        Socket plain = new Socket();
+        plain.connect(new InetSocketAddress(config.getHost(), config.getPort()),
+                (int) config.getConnectTimeout().toMillis());
+        plain.setSoTimeout((int) config.getReadTimeout().toMillis());
+        plain.setTcpNoDelay(true);
+        attach(plain);
+
+        expect(Phase.CONNECTION, readReply(), 220);
+        Set<String> extensions = ehlo();
+
+        if (config.isStartTls()) {
+            if (!extensions.contains("STARTTLS")) {
+                throw new SmtpException(Phase.CONNECTION, 0, "SMTP 서버가 STARTTLS 를 지원하지 않습니다");
+            }
+            command(Phase.CONNECTION, "STARTTLS", 220);
+            SSLSocket tls = (SSLSocket) ((SSLSocketFactory) SSLSocketFactory.getDefault())
+                    .createSocket(socket, config.getHost(), config.getPort(), true);
+            tls.startHandshake();
+            attach(tls);
+            extensions = ehlo();
+        }
+
+        pipelining = extensions.contains("PIPELINING");
+
+        if (config.getUsername() != null && !config.getUsername().isBlank()) {
+            String credentials = "\0" + config.getUsername() + "\0" + config.getPassword();
+            command(Phase.CONNECTION, "AUTH PLAIN " + Base64.getEncoder()
+                    .encodeToString(credentials.getBytes(StandardCharsets.UTF_8)), 235);
+        }
+    }
+
+    private void attach(Socket newSocket) throws IOException {
+        this.socket = newSocket;
+        this.in = new BufferedInputStream(newSocket.getInputStream(), BUFFER_SIZE);
+        this.out = new BufferedOutputStream(newSocket.getOutputStream(), BUFFER_SIZE);
+        this.dataOut = new DotStuffingOutputStream(out);
+    }
+
+    // EHLO 응답의 확장 키워드 (예: PIPELINING, STARTTLS, AUTH)
+    private Set<String> ehlo() throws IOException {
+        writeLine("EHLO " + config.getHeloName());
+        out.flush();
+        SmtpReply reply = expect(Phase.CONNECTION, readReply(), 250);
+
+        Set<String> extensions = new HashSet<>();
+        for (String line : reply.lines().subList(1, reply.lines().size())) {
+            extensions.add(line.split(" ", 2)[0].toUpperCase(Locale.ROOT));
+        }
+        return extensions;
+    }
+
+    /**
+     * 메시지 한 건 발송
+     * 서버가 거절하면 거절한 단계와 함께 SmtpException(replyCode) 을 던지고, 연결은 다음 메시지에 RSET 후 재사용 가능함
+     * 입출력 오류는 IOException 으로 던지며, 이때 연결은 폐기해야 함
+     */
+    void send(String from, String to, MailBody body, long deadline) throws IOException {
+        this.deadline = deadline;
+        try {
+            sendMessage(from, to, body);
+        } finally {
+            this.deadline = 0;
+        }
+    }
+
+    private void sendMessage(String from, String to, MailBody body) throws IOException {
+        dataStarted = false;
+        boolean reset = needsReset || sentMessages > 0;
+        needsReset = true;
+
+        if (pipelining) {
+            sendEnvelopePipelined(from, to, reset);
+        } else {
+            sendEnvelope(from, to, reset);
+        }
+
+        dataStarted = true;
+        dataOut.reset();
+        body.writeTo(dataOut);
+        dataOut.finish();
+        expect(Phase.DATA, readReply(), 250);
+
+        sentMessages++;
+        needsReset = false;
+    }
+
+    private void sendEnvelope(String from, String to, boolean reset) throws IOException {
+        if (reset) {
+            command(Phase.SESSION, "RSET", 250);
+        }
+        command(Phase.SESSION, "MAIL FROM:<" + from + ">", 250);
+        command(Phase.RECIPIENT, "RCPT TO:<" + to + ">", 250, 251);
+        command(Phase.DATA, "DATA", 354);
+    }
+
+    private void sendEnvelopePipelined(String from, String to, boolean reset) throws IOException {
+        if (reset) {
+            writeLine("RSET");
+        }
+        writeLine("MAIL FROM:<" + from + ">");
+        writeLine("RCPT TO:<" + to + ">");
+        writeLine("DATA");
+        out.flush();
+
+        // 보낸 명령 수만큼 응답을 모두 읽어야 다음 메시지에서 응답 순서가 어긋나지 않음
+        SmtpReply rset = reset ? readReply() : null;
+        SmtpReply mail = readReply();
+        SmtpReply rcpt = readReply();
+        SmtpReply data = readReply();
+
+        SmtpException failure = null;
+        if (rset != null && rset.code() != 250) {
+            failure = rset.toException(Phase.SESSION, "RSET");
+        } else if (mail.code() != 250) {
+            failure = mail.toException(Phase.SESSION, "MAIL FROM");
+        } else if (rcpt.code() != 250 && rcpt.code() != 251) {
+            failure = rcpt.toException(Phase.RECIPIENT, "RCPT TO");
+        } else if (data.code() != 354) {
+            failure = data.toException(Phase.DATA, "DATA");
+        }
+
+        if (failure != null) {
+            // 앞 단계가 거절됐는데도 DATA 가 수락된 경우 빈 본문으로 트랜잭션을 끝냄
+            if (data.code() == 354) {
+                dataOut.reset();
+                dataOut.finish();
+                readReply();
+            }
+            throw failure;
+        }
+    }
+
+    int sentMessages() {
+        return sentMessages;
+    }
+
+    // DATA 가 수락된 뒤 실패했다면 서버가 이미 메시지를 받았을 수 있으므로 재시도하면 안 됨
+    boolean dataStarted() {
+        return dataStarted;
+    }
+
+    void quitQuietly() {
+        try {
+            writeLine("QUIT");
+            out.flush();
+            readReply();
+        } catch (IOException | RuntimeException ignored) {
+            // 종료 중 오류는 무시
+        } finally {
+            close();
+        }
+    }
+
+    @Override
+    public void close() {
+        if (socket == null) {
+            return;
+        }
+        try {
+            socket.close();
+        } catch (IOException ignored) {
+            // 이미 끊긴 연결
+        }
+    }
+
+    private SmtpReply command(Phase phase, String line, int... expectedCodes) throws IOException {
+        writeLine(line);
+        out.flush();
+        return expect(phase, readReply(), expectedCodes);
+    }
+
+    private void writeLine(String line) throws IOException {
+        out.write(line.getBytes(StandardCharsets.US_ASCII));
+        out.write('\r');
+        out.write('\n');
+    }
+
+    private SmtpReply expect(Phase phase, SmtpReply reply, int... expectedCodes) {
+        for (int code : expectedCodes) {
+            if (reply.code() == code) {
+                return reply;
+            }
+        }
+        throw reply.toException(phase, "expected " + expectedCodes[0]);
+    }
+
+    // 여러 줄 응답("250-...")은 마지막 줄("250 ...")까지 모아서 하나로 반환
+    private SmtpReply readReply() throws IOException {
+        applyDeadline();
+        List<String> lines = new ArrayList<>(1);
+
+        while (true) {
+            String line = readLine();
+            if (line.length() < 3) {
+                throw new IOException("잘못된 SMTP 응답: " + line);
+            }
+
+            lines.add(line.length() > 4 ? line.substring(4) : "");
+
+            if (line.length() == 3 || line.charAt(3) == ' ') {
+                return new SmtpReply(Integer.parseInt(line.substring(0, 3)), lines);
+            }
+        }
+    }
+
+    // 읽기 제한 시간을 read-timeout 과 메시지 마감까지 남은 시간 중 짧은 쪽으로 맞춤
+    private void applyDeadline() throws IOException {
+        long readTimeout = config.getReadTimeout().toMillis();
+        if (deadline == 0) {
+            socket.setSoTimeout((int) readTimeout);
+            return;
+        }
+
+        long remaining = (deadline - System.nanoTime()) / 1_000_000;
+        if (remaining <= 0) {
+            throw new SocketTimeoutException("메시지 발송 제한 시간 초과");
+        }
+        socket.setSoTimeout((int) Math.min(readTimeout, remaining));
+    }
+
+    private String readLine() throws IOException {
+        StringBuilder line = new StringBuilder(64);
+        int b;
+
+        while ((b = in.read()) != -1) {
+            if (b == '\n') {
+                int length = line.length();
+                if (length > 0 && line.charAt(length - 1) == '\r') {
+                    line.setLength(length - 1);
+                }
+                return line.toString();
+            }
+            line.append((char) b);
+        }
+
+        throw new EOFException("SMTP 서버가 연결을 닫았습니다");
+    }
+
+    private record SmtpReply(int code, List<String> lines) {
+
+        SmtpException toException(Phase phase, String step) {
+            return new SmtpException(phase, code, step + " 실패: " + code + " " + String.join(" ", lines));
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.email.scheduler.email_scheduler_server.newsletter.mail;
+
+import lombok.Getter;
+
+/**
+ * SMTP 발송 실패
+ * replyCode 가 0 이면 서버 응답이 아닌 연결/입출력 오류
+ * phase 는 실패한 SMTP 단계로, 같은 5xx 라도 수신자 단계(RCPT/DATA)만 그 수신자의 문제로 봄
+ * deliveryUnknown 이면 본문(DATA)을 보낸 뒤 응답을 받지 못해 서버가 메시지를 받았는지 알 수 없음 (재시도하면 중복 발송될 수 있음)
+ */
+@Getter
+public class SmtpException extends RuntimeException {
+
+    public enum Phase {
+        // 연결, 인사(220), EHLO, STARTTLS, AUTH: 서버나 계정 문제
+        CONNECTION,
+        // RSET, MAIL FROM: 보내는 쪽 트랜잭션 문제
+        SESSION,
+        // RCPT TO: 이 수신자 주소 문제
+        RECIPIENT,
+        // DATA 명령과 본문 끝의 응답: 이 수신자에게 보낸 메시지 문제
+        DATA
+    }
+
+    private final int replyCode;
+    private final Phase phase;
+    private final boolean deliveryUnknown;
+
+    public SmtpException(Phase phase, int replyCode, String message) {
+        super(message);
+        this.replyCode = replyCode;
+        this.phase = phase;
+        this.deliveryUnknown = false;
+    }
+
+    public SmtpException(String message, Throwable cause) {
+        this(message, cause, false);
+    }
+
+    public SmtpException(String message, Throwable cause, boolean deliveryUnknown) {
+        super(message, cause);
+        this.replyCode = 0;
+        this.phase = deliveryUnknown ? Phase.DATA : Phase.CONNECTION;
+        this.deliveryUnknown = deliveryUnknown;
+    }
+
+    /**
+     * 잠시 후 다시 시도하면 성공할 수 있는 일시적 실패
+     * 4xx 응답, 본문을 보내기 전의 연결 오류/시간 초과에 더해 연결/세션 단계의 5xx(AUTH 535, 인사 554, MAIL FROM 거절 등)도 포함함
+     * 이런 5xx 는 이번 배치의 모든 수신자에게 똑같이 나므로, 수신자를 영구 실패로 돌리지 않고 설정을 고친 뒤 다시 보내게 함
+     */
+    public boolean isTransient() {
+        if (deliveryUnknown) {
+            return false;
+        }
+        if (replyCode >= 500) {
+            return !isRecipientPhase();
+        }
+        return replyCode == 0 || replyCode >= 400;
+    }
+
+    // 수신자 단계(RCPT/DATA)의 5xx: 이 수신자에게는 다시 보내도 같은 결과가 나는 영구 거절
+    public boolean isRecipientRejection() {
+        return !deliveryUnknown && replyCode >= 500 && isRecipientPhase();
+    }
+
+    private boolean isRecipientPhase() {
+        return phase == Phase.RECIPIENT || phase == Phase.DATA;
+    }
+}
@@ -0,0 +1,104 @@
+package com.email.scheduler.email_scheduler_server.newsletter.mail;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * 구독 취소 링크에 넣는 수신자별 서명 토큰
+ * 토큰 = base64url(이메일) + "." + base64url(HMAC-SHA256(비밀 키, 이메일))
+ *
+ * 링크에 이메일을 그대로 싣지 않으므로, 다른 사람의 이메일로 링크를 만들어 구독을 취소할 수 없음
+ * base64url 문자만 쓰므로 URL/HTML 어디에 넣어도 따로 이스케이프할 필요가 없음
+ */
+public final class UnsubscribeToken {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final SecretKeySpec key;
+
+    // Mac 은 스레드 안전하지 않아 초기화한 인스턴스를 빌려 쓰고 돌려줌
+    // 발송은 메시지마다 새 가상 스레드라 ThreadLocal 로는 건마다 Mac 을 새로 만들게 되므로 공유 풀을 둠
+    // 서명은 블로킹 없이 끝나 동시에 쓰는 수가 캐리어 스레드 수를 넘지 않으므로 그만큼만 보관
+    private final BlockingQueue<Mac> pool = new ArrayBlockingQueue<>(Runtime.getRuntime().availableProcessors());
+
+    private final AtomicInteger created = new AtomicInteger();
+
+    public UnsubscribeToken(String secret) {
+        if (secret == null || secret.isBlank()) {
+            throw new IllegalArgumentException("구독 취소 토큰 서명 키(newsletter.render.unsubscribe-secret)가 없습니다");
+        }
+        this.key = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+        pool.offer(newMac());
+    }
+
+    public String issue(String email) {
+        byte[] address = email.getBytes(StandardCharsets.UTF_8);
+        return ENCODER.encodeToString(address) + "." + ENCODER.encodeToString(sign(address));
+    }
+
+    /**
+     * @return 서명이 맞으면 토큰의 이메일, 형식이 틀리거나 위조된 토큰이면 empty
+     */
+    public Optional<String> verify(String token) {
+        if (token == null) {
+            return Optional.empty();
+        }
+        int dot = token.indexOf('.');
+        if (dot <= 0 || dot != token.lastIndexOf('.')) {
+            return Optional.empty();
+        }
+
+        try {
+            byte[] address = DECODER.decode(token.substring(0, dot));
+            byte[] signature = DECODER.decode(token.substring(dot + 1));
+            // 서명 비교에 걸리는 시간으로 올바른 서명을 추측할 수 없도록 상수 시간 비교
+            if (!MessageDigest.isEqual(sign(address), signature)) {
+                return Optional.empty();
+            }
+            return Optional.of(new String(address, StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 지금까지 만든 Mac 인스턴스 수 (풀에서 재사용되는지 확인하는 용도)
+     */
+    int createdMacs() {
+        return created.get();
+    }
+
+    private byte[] sign(byte[] address) {
+        Mac mac = pool.poll();
+        if (mac == null) {
+            mac = newMac();
+        }
+        try {
+            return mac.doFinal(address);
+        } finally {
+            // doFinal 뒤에는 같은 키로 초기화된 상태로 돌아가므로 그대로 다시 씀, 풀이 가득 차면 버림
+            pool.offer(mac);
+        }
+    }
+
+    private Mac newMac() {
+        try {
+            Mac instance = Mac.getInstance(ALGORITHM);
+            instance.init(key);
+            created.incrementAndGet();
+            return instance;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("구독 취소 토큰 서명을 초기화하지 못했습니다", e);
+        }
+    }
+}
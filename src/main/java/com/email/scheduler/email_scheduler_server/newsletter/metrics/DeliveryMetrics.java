@@ -0,0 +1,157 @@
+package com.email.scheduler.email_scheduler_server.newsletter.metrics;
+
+import com.email.scheduler.email_scheduler_server.newsletter.config.NewsletterProperties;
+import com.email.scheduler.email_scheduler_server.newsletter.service.RecentIssues;
+import com.email.scheduler.email_scheduler_server.newsletter.service.SendResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+
+/**
+ * 발송 경로의 Micrometer 지표 (모두 issue 태그로 회차를 구분)
+ * - newsletter.send.latency: EmailService 호출 한 건의 소요 시간 히스토그램 (result 태그: sent / retryable / bounced / rejected / delivery_unknown)
+ * - newsletter.sent, newsletter.failed: 발송 성공/실패 수
+ * - newsletter.suppressed: 발송 제외 목록에 있어 보내지 않은 수
+ * - newsletter.send.in_flight: 지금 진행 중인 발송 수
+ * - newsletter.fetch, newsletter.log.write: 구독자 페이지 조회, 발송 로그 저장 시간
+ * - newsletter.consumer.lag: 메시지가 큐에 들어간(재시도는 대기가 끝난) 뒤 컨슈머가 받기까지 걸린 시간
+ *
+ * 발송 한 건마다 태그로 미터를 찾지 않도록 회차별 미터 묶음(IssueMeters)을 만들어 두고 재사용함
+ * 최근 metrics.retained-issues 개 회차의 묶음만 유지함 (지난 회차의 시계열이 끝없이 늘지 않도록 밀려난 회차는 레지스트리에서도 제거)
+ */
+@Component
+public class DeliveryMetrics {
+
+    private final RecentIssues<IssueMeters> meters;
+
+    private final MeterRegistry registry;
+
+    public DeliveryMetrics(MeterRegistry registry, NewsletterProperties properties) {
+        this.registry = registry;
+        this.meters = new RecentIssues<>(() -> properties.getMetrics().getRetainedIssues(), IssueMeters::remove);
+    }
+
+    public IssueMeters forIssue(Long issueId) {
+        return meters.computeIfAbsent(issueId, IssueMeters::new);
+    }
+
+    /**
+     * @param queue 메시지를 받은 큐 이름
+     * @param readyAtMillis 메시지를 처리할 수 있게 된 시각 (epoch millis), 0 이면 기록하지 않음
+     */
+    public void recordConsumerLag(Long issueId, String queue, long readyAtMillis) {
+        if (readyAtMillis <= 0) {
+            return;
+        }
+        forIssue(issueId).consumerLag(queue)
+                .record(Math.max(0, System.currentTimeMillis() - readyAtMillis), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 회차 하나의 미터 묶음
+     */
+    public final class IssueMeters {
+
+        private final Tags tags;
+        private final Map<SendResult, Timer> sendLatency = new EnumMap<>(SendResult.class);
+        private final Counter sent;
+        private final Counter failed;
+        private final Counter suppressed;
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final Gauge inFlightGauge;
+        private final Timer fetch;
+        private final Timer logWrite;
+        // 큐마다 하나 (샤드 큐, 재시도 큐), 받은 적 있는 큐만 만듦
+        private final Map<String, Timer> consumerLag = new ConcurrentHashMap<>();
+
+        private IssueMeters(Long issueId) {
+            this.tags = Tags.of("issue", String.valueOf(issueId));
+
+            for (SendResult result : SendResult.values()) {
+                sendLatency.put(result, Timer.builder("newsletter.send.latency")
+                        .description("EmailService 발송 한 건의 소요 시간")
+                        .tags(tags.and("result", result.name().toLowerCase()))
+                        .publishPercentileHistogram()
+                        .minimumExpectedValue(Duration.ofMillis(1))
+                        .maximumExpectedValue(Duration.ofSeconds(30))
+                        .register(registry));
+            }
+
+            this.sent = Counter.builder("newsletter.sent").tags(tags).register(registry);
+            this.failed = Counter.builder("newsletter.failed").tags(tags).register(registry);
+            this.suppressed = Counter.builder("newsletter.suppressed").tags(tags).register(registry);
+            this.inFlightGauge = Gauge.builder("newsletter.send.in_flight", inFlight, AtomicInteger::get)
+                    .description("진행 중인 발송 수")
+                    .tags(tags)
+                    .register(registry);
+            this.fetch = Timer.builder("newsletter.fetch")
+                    .description("구독자 페이지 한 번 조회 시간")
+                    .tags(tags)
+                    .register(registry);
+            this.logWrite = Timer.builder("newsletter.log.write")
+                    .description("발송 로그 한 묶음 저장 시간")
+                    .tags(tags)
+                    .register(registry);
+        }
+
+        public void sendStarted() {
+            inFlight.incrementAndGet();
+        }
+
+        public void sendFinished(long nanos, SendResult result) {
+            inFlight.decrementAndGet();
+            sendLatency.get(result).record(nanos, TimeUnit.NANOSECONDS);
+            if (result == SendResult.SENT) {
+                sent.increment();
+            } else {
+                failed.increment();
+            }
+        }
+
+        public void recordSuppressed(int count) {
+            suppressed.increment(count);
+        }
+
+        public void recordFetch(long nanos) {
+            fetch.record(nanos, TimeUnit.NANOSECONDS);
+        }
+
+        public void timeLogWrite(Runnable write) {
+            logWrite.record(write);
+        }
+
+        public <T> T timeLogWrite(Supplier<T> write) {
+            return logWrite.record(write);
+        }
+
+        public int inFlight() {
+            return inFlight.get();
+        }
+
+        private Timer consumerLag(String queue) {
+            return consumerLag.computeIfAbsent(queue, name -> Timer.builder("newsletter.consumer.lag")
+                    .description("큐에 들어간 뒤 컨슈머가 받기까지 걸린 시간")
+                    .tags(tags.and("queue", name))
+                    .register(registry));
+        }
+
+        private void remove() {
+            List<Meter> all = List.of(sent, failed, suppressed, inFlightGauge, fetch, logWrite);
+            all.forEach(registry::remove);
+            sendLatency.values().forEach(registry::remove);
+            consumerLag.values().forEach(registry::remove);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.email.scheduler.email_scheduler_server.newsletter.metrics;
+
+import static com.email.scheduler.email_scheduler_server.newsletter.config.RabbitMQConfig.RETRY_QUEUE_NAME;
+import static com.email.scheduler.email_scheduler_server.newsletter.config.RabbitMQConfig.SHARD_QUEUE_NAME;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.QueueInformation;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * 작업 큐에 쌓여 있는 메시지 수 (newsletter.queue.depth, queue 태그)
+ * 컨슈머가 발행 속도를 따라가지 못하면 값이 계속 늘어남 (지연 시간은 newsletter.consumer.lag 로 확인)
+ * 수집(scrape)할 때마다 브로커에 큐 정보를 한 번씩 조회함
+ */
+@Component
+@Profile("!loadtest")
+@RequiredArgsConstructor
+public class QueueDepthMetrics implements MeterBinder {
+
+    private static final List<String> QUEUES = List.of(SHARD_QUEUE_NAME, RETRY_QUEUE_NAME);
+
+    private final AmqpAdmin amqpAdmin;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (String queue : QUEUES) {
+            Gauge.builder("newsletter.queue.depth", () -> depth(queue))
+                    .description("큐에 대기 중인 메시지 수")
+                    .tag("queue", queue)
+                    .register(registry);
+        }
+    }
+
+    // 브로커에 연결할 수 없으면 NaN (지표 수집이 발송에 영향을 주지 않도록 예외를 삼킴)
+    private double depth(String queue) {
+        try {
+            QueueInformation info = amqpAdmin.getQueueInfo(queue);
+            return info == null ? Double.NaN : info.getMessageCount();
+        } catch (RuntimeException e) {
+            return Double.NaN;
+        }
+    }
+}
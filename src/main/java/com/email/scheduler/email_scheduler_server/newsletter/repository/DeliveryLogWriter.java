@@ -0,0 +1,148 @@
+package com.email.scheduler.email_scheduler_server.newsletter.repository;
+
+import com.email.scheduler.email_scheduler_server.newsletter.config.NewsletterProperties;
+import com.email.scheduler.email_scheduler_server.newsletter.dto.DeliveryLog;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 발송 로그 전용 JDBC 벌크 저장소
+ * Message 는 IDENTITY 전략이라 Hibernate 배치 INSERT 가 꺼지므로, 로그 쓰기는 JDBC batchUpdate 로 처리함
+ * MySQL 에서는 rewriteBatchedStatements=true 로 배치가 multi-row INSERT 한 문장으로 재작성됨
+ *
+ * message 는 send_date(회차 발송일) 기준 일 단위 파티션 테이블이므로, 모든 쓰기/조회에 send_date 를 넣어 회차의 파티션 하나만 건드림
+ */
+@Repository
+@RequiredArgsConstructor
+public class DeliveryLogWriter {
+
+    // 발송 직전 선점 기록 (유니크 키가 겹치면 다른 노드가 이미 같은 구독자를 맡은 것이므로 예외로 멈춤)
+    private static final String CLAIM_SQL =
+            "INSERT INTO message (subscriber_id, issue_id, send_date, send_at, status, attempt_count) "
+                    + "VALUES (?, ?, ?, NULL, 'SENDING', 0)";
+
+    // 선점 기록(SENDING)만 결과로 덮어쓰고, 이미 결과가 있는 행은 그대로 둠 (재처리된 배치의 중복 로그를 건너뜀)
+    // MySQL 은 SET 을 왼쪽부터 적용하므로 status 를 마지막에 바꿔야 앞의 조건이 선점 상태를 봄
+    // 부하 테스트의 H2(MySQL 모드)에서도 같은 문장을 쓰므로 MySQL 전용 IF() 대신 CASE 로 씀
+    private static final String INSERT_SQL =
+            "INSERT INTO message (subscriber_id, issue_id, send_date, send_at, status, attempt_count) "
+                    + "VALUES (?, ?, ?, ?, ?, 1) "
+                    + "ON DUPLICATE KEY UPDATE "
+                    + "send_at = CASE WHEN status = 'SENDING' THEN VALUES(send_at) ELSE send_at END, "
+                    + "attempt_count = CASE WHEN status = 'SENDING' THEN VALUES(attempt_count) ELSE attempt_count END, "
+                    + "status = CASE WHEN status = 'SENDING' THEN VALUES(status) ELSE status END";
+
+    // 재시도 결과는 새 행을 만들지 않고 기존 행을 갱신함
+    // RETRYING 이면서 이번 시도보다 시도 횟수가 적은 행만 바꾸므로, 같은 재시도 메시지가 다시 전달돼도 한 번만 반영됨
+    private static final String RETRY_UPDATE_SQL =
+            "UPDATE message SET status = ?, attempt_count = ?, send_at = ? "
+                    + "WHERE issue_id = ? AND subscriber_id = ? AND send_date = ? "
+                    + "AND status = 'RETRYING' AND attempt_count < ?";
+
+    private static final String DELIVERED_SQL =
+            "SELECT subscriber_id FROM message WHERE issue_id = ? AND send_date = ? AND subscriber_id BETWEEN ? AND ?";
+
+    private static final String AWAITING_RETRY_SQL =
+            "SELECT subscriber_id FROM message WHERE issue_id = ? AND send_date = ? "
+                    + "AND status = 'RETRYING' AND attempt_count = ? AND subscriber_id IN (%s)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NewsletterProperties properties;
+
+    /**
+     * batch-size 단위로 나눠 실행하므로 한 번에 드라이버에 쌓이는 행 수가 페이지 크기와 무관하게 일정함
+     */
+    public void insertAll(List<DeliveryLog> logs) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, logs, properties.getLog().getBatchSize(), (ps, log) -> {
+            ps.setLong(1, log.subscriberId());
+            ps.setLong(2, log.issueId());
+            ps.setObject(3, log.sendDate());
+            ps.setObject(4, log.sendAt());
+            ps.setString(5, log.status().name());
+        });
+    }
+
+    /**
+     * SMTP 발송 전에 페이지의 구독자를 SENDING 으로 선점 (결과는 insertAll 이 같은 행에 덮어씀)
+     */
+    public void claimSending(Long issueId, LocalDate sendDate, List<Long> subscriberIds) {
+        jdbcTemplate.batchUpdate(CLAIM_SQL, subscriberIds, properties.getLog().getBatchSize(), (ps, subscriberId) -> {
+            ps.setLong(1, subscriberId);
+            ps.setLong(2, issueId);
+            ps.setObject(3, sendDate);
+        });
+    }
+
+    /**
+     * 재시도 결과 반영 (attemptCount = 이번 시도를 포함한 누적 시도 횟수)
+     *
+     * @return 실제로 갱신된 로그 (이미 반영된 재시도 메시지가 다시 전달된 경우 빠짐)
+     */
+    public List<DeliveryLog> updateRetried(List<DeliveryLog> logs, int attemptCount) {
+        int[][] counts = jdbcTemplate.batchUpdate(RETRY_UPDATE_SQL, logs, properties.getLog().getBatchSize(), (ps, log) -> {
+            ps.setString(1, log.status().name());
+            ps.setInt(2, attemptCount);
+            ps.setObject(3, log.sendAt());
+            ps.setLong(4, log.issueId());
+            ps.setLong(5, log.subscriberId());
+            ps.setObject(6, log.sendDate());
+            ps.setInt(7, attemptCount);
+        });
+
+        // 드라이버가 행별 결과를 주지 않으면(SUCCESS_NO_INFO) 반영된 것으로 봄
+        List<DeliveryLog> applied = new ArrayList<>(logs.size());
+        int index = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                if (count != 0) {
+                    applied.add(logs.get(index));
+                }
+                index++;
+            }
+        }
+        return applied;
+    }
+
+    /**
+     * 회차의 구독자 id 구간 [fromId, toId] 안에서 이미 로그(선점 기록 포함)가 있는 구독자 id
+     * (issue_id, subscriber_id) 유니크 인덱스 범위 조회라 발송 이력 전체 크기와 무관함
+     */
+    public Set<Long> findLoggedSubscriberIds(Long issueId, LocalDate sendDate, long fromId, long toId) {
+        Set<Long> ids = new HashSet<>();
+        jdbcTemplate.query(DELIVERED_SQL, rs -> {
+            ids.add(rs.getLong(1));
+        }, issueId, sendDate, fromId, toId);
+        return ids;
+    }
+
+    /**
+     * subscriberIds 중 RETRYING 이면서 시도 횟수가 attemptCount 인 로그의 구독자 id
+     * batch-size 개씩 나눠 (issue_id, subscriber_id) 유니크 인덱스로 찾음
+     */
+    public Set<Long> findAwaitingRetry(Long issueId, LocalDate sendDate, int attemptCount, Collection<Long> subscriberIds) {
+        List<Long> ids = List.copyOf(subscriberIds);
+        Set<Long> awaiting = new HashSet<>();
+        int batchSize = properties.getLog().getBatchSize();
+        for (int from = 0; from < ids.size(); from += batchSize) {
+            List<Long> chunk = ids.subList(from, Math.min(from + batchSize, ids.size()));
+            String placeholders = String.join(", ", Collections.nCopies(chunk.size(), "?"));
+            List<Object> args = new ArrayList<>(chunk.size() + 3);
+            args.add(issueId);
+            args.add(sendDate);
+            args.add(attemptCount);
+            args.addAll(chunk);
+            jdbcTemplate.query(AWAITING_RETRY_SQL.formatted(placeholders), rs -> {
+                awaiting.add(rs.getLong(1));
+            }, args.toArray());
+        }
+        return awaiting;
+    }
+}
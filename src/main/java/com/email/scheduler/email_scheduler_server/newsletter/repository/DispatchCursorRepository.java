@@ -0,0 +1,25 @@
+package com.email.scheduler.email_scheduler_server.newsletter.repository;
+
+import com.email.scheduler.email_scheduler_server.newsletter.domain.DispatchCursor;
+import java.time.LocalDateTime;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface DispatchCursorRepository extends JpaRepository<DispatchCursor, String> {
+
+    /**
+     * 커서를 앞으로만 옮김 (이미 같은/이후 회차가 기록돼 있으면 0 반환)
+     * 여러 인스턴스가 같은 회차를 동시에 발행하려 하면 하나만 성공함
+     */
+    @Modifying
+    @Query("UPDATE DispatchCursor c SET c.lastFileName = :fileName, c.lastSequence = :sequence, c.updatedAt = :now "
+            + "WHERE c.series = :series AND c.lastSequence < :sequence")
+    int advance(
+            @Param("series") String series,
+            @Param("fileName") String fileName,
+            @Param("sequence") int sequence,
+            @Param("now") LocalDateTime now
+    );
+}
@@ -0,0 +1,64 @@
+package com.email.scheduler.email_scheduler_server.newsletter.repository;
+
+import com.email.scheduler.email_scheduler_server.newsletter.dto.IssueCounts;
+import com.email.scheduler.email_scheduler_server.newsletter.dto.IssueDeliveryStats;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 회차별 발송 통계(issue_stats) 전용 JDBC 저장소
+ * 쓰기는 (issue_id, stripe) 한 행에 변화량을 더하는 upsert 한 문장이고, 읽기는 PK 범위의 최대 STRIPES 행만 합함
+ * 같은 회차의 샤드들이 한 행을 두고 잠금 경합하지 않도록 stripe 를 나눠 씀
+ */
+@Repository
+@RequiredArgsConstructor
+public class IssueStatsRepository {
+
+    public static final int STRIPES = 16;
+
+    private static final String ADD_SQL =
+            "INSERT INTO issue_stats (issue_id, stripe, targeted, sent, failed, retried, suppressed, updated_at) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?, ?) "
+                    + "ON DUPLICATE KEY UPDATE targeted = targeted + ?, sent = sent + ?, failed = failed + ?, "
+                    + "retried = retried + ?, suppressed = suppressed + ?, updated_at = ?";
+
+    private static final String SUM_SQL =
+            "SELECT COUNT(*), COALESCE(SUM(targeted), 0), COALESCE(SUM(sent), 0), COALESCE(SUM(failed), 0), "
+                    + "COALESCE(SUM(retried), 0), COALESCE(SUM(suppressed), 0), MAX(updated_at) "
+                    + "FROM issue_stats WHERE issue_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @param stripe 0 ~ STRIPES-1 밖의 값은 나머지로 맞춤
+     */
+    public void add(Long issueId, long stripe, IssueCounts counts, LocalDateTime now) {
+        if (counts.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.update(ADD_SQL,
+                issueId, Math.floorMod(stripe, STRIPES),
+                counts.targeted(), counts.sent(), counts.failed(), counts.retried(), counts.suppressed(), now,
+                counts.targeted(), counts.sent(), counts.failed(), counts.retried(), counts.suppressed(), now);
+    }
+
+    /**
+     * @return 아직 저장된 배치가 없는 회차면 empty
+     */
+    public Optional<IssueDeliveryStats> find(Long issueId) {
+        return jdbcTemplate.queryForObject(SUM_SQL, (rs, rowNum) -> {
+            if (rs.getLong(1) == 0) {
+                return Optional.<IssueDeliveryStats>empty();
+            }
+            IssueCounts counts = new IssueCounts(
+                    rs.getLong(2), rs.getLong(3), rs.getLong(4), rs.getLong(5), rs.getLong(6));
+            Timestamp updatedAt = rs.getTimestamp(7);
+            return Optional.of(IssueDeliveryStats.of(
+                    issueId, counts, updatedAt != null ? updatedAt.toLocalDateTime() : null));
+        }, issueId);
+    }
+}
@@ -0,0 +1,79 @@
+package com.email.scheduler.email_scheduler_server.newsletter.repository;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Objects;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 발송 로그(message) 파티션 관리 (MySQL 전용 DDL)
+ *
+ * - 일 단위 파티션 p<yyyyMMdd> 는 send_date 가 그다음 날보다 작은 행을 담고, 맨 끝의 p_future(MAXVALUE)가 나머지를 받음
+ * - 새 파티션은 p_future 를 쪼개 만듦, V11 이 기존 로그를 p<마이그레이션 날짜> 에 담고 야간 작업이 precreate-days 앞까지 미리 만들므로
+ *   p_future 는 비어 있어 옮길 행이 없음 (야간 작업이 precreate-days 넘게 멈춰 p_future 에 행이 쌓이면 쪼갤 때 그 행을 복사하며 테이블을 잠금)
+ * - 삭제/보관은 파티션 단위 메타데이터 작업이라 행 수와 무관하게 끝남
+ */
+@Repository
+@RequiredArgsConstructor
+public class MessagePartitionRepository {
+
+    private static final DateTimeFormatter NAME_FORMAT = DateTimeFormatter.ofPattern("'p'yyyyMMdd");
+    private static final Pattern DAILY_PARTITION = Pattern.compile("p\\d{8}");
+
+    private static final String PARTITIONS_SQL =
+            "SELECT PARTITION_NAME FROM information_schema.PARTITIONS "
+                    + "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'message' AND PARTITION_NAME IS NOT NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 일 단위 파티션의 날짜 (오름차순, p_future 제외)
+     */
+    public List<LocalDate> findDailyPartitions() {
+        return jdbcTemplate.queryForList(PARTITIONS_SQL, String.class).stream()
+                .filter(Objects::nonNull)
+                .filter(name -> DAILY_PARTITION.matcher(name).matches())
+                .map(name -> LocalDate.parse(name, NAME_FORMAT))
+                .sorted()
+                .toList();
+    }
+
+    /**
+     * p_future 를 쪼개 날짜마다 파티션을 만듦 (days 는 오름차순이고 기존 파티션보다 뒤여야 함)
+     */
+    public void addDailyPartitions(List<LocalDate> days) {
+        String partitions = days.stream()
+                .map(day -> "PARTITION " + partitionName(day) + " VALUES LESS THAN ('" + day.plusDays(1) + "')")
+                .collect(Collectors.joining(", "));
+        jdbcTemplate.execute("ALTER TABLE message REORGANIZE PARTITION p_future INTO ("
+                + partitions + ", PARTITION p_future VALUES LESS THAN (MAXVALUE))");
+    }
+
+    public void dropPartition(LocalDate day) {
+        jdbcTemplate.execute("ALTER TABLE message DROP PARTITION " + partitionName(day));
+    }
+
+    /**
+     * 파티션을 같은 구조의 빈 테이블과 맞바꿔(EXCHANGE PARTITION) 떼어 낸 뒤 빈 파티션을 지움
+     *
+     * @return 로그를 옮긴 보관 테이블 이름
+     */
+    public String archivePartition(LocalDate day) {
+        String partition = partitionName(day);
+        String archiveTable = "message_archive_" + partition;
+        // 같은 이름의 테이블이 이미 있으면 맞바꾸다 보관한 로그가 되돌아올 수 있으므로 여기서 실패시킴
+        jdbcTemplate.execute("CREATE TABLE " + archiveTable + " LIKE message_archive_template");
+        jdbcTemplate.execute("ALTER TABLE message EXCHANGE PARTITION " + partition + " WITH TABLE " + archiveTable);
+        jdbcTemplate.execute("ALTER TABLE message DROP PARTITION " + partition);
+        return archiveTable;
+    }
+
+    public static String partitionName(LocalDate day) {
+        return day.format(NAME_FORMAT);
+    }
+}
@@ -1,12 +1,20 @@
 package com.email.scheduler.email_scheduler_server.newsletter.repository;
 
 import com.email.scheduler.email_scheduler_server.newsletter.domain.Message;
-import java.util.Optional;
+import com.email.scheduler.email_scheduler_server.newsletter.dto.DeliveryRecord;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface MessageRepository extends JpaRepository<Message, Long> {
 
-    @Query("SELECT m.fileName FROM Message m ORDER BY m.sendAt DESC LIMIT 1")
-    Optional<String> findLastSentFileName();
+    /**
+     * 구독자의 발송 기록을 회차 본문과 함께 조회 (최신순)
+     */
+    @Query("SELECT new com.email.scheduler.email_scheduler_server.newsletter.dto.DeliveryRecord("
+            + "m.id, s.id, s.email, i.id, i.fileName, i.content, m.sendAt, m.status) "
+            + "FROM Message m JOIN m.subscriber s JOIN m.issue i "
+            + "WHERE s.id = :subscriberId ORDER BY m.sendAt DESC")
+    List<DeliveryRecord> findDeliveryRecords(@Param("subscriberId") Long subscriberId);
 }
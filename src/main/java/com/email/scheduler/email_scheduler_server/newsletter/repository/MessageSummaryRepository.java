@@ -0,0 +1,74 @@
+package com.email.scheduler.email_scheduler_server.newsletter.repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 발송일별 로그 집계(message_daily_summary) 전용 JDBC 저장소
+ * 집계는 send_date 조건 하나로 읽으므로 MySQL 에서는 그 날짜의 파티션 하나만 훑음
+ */
+@Repository
+@RequiredArgsConstructor
+public class MessageSummaryRepository {
+
+    private static final String AGGREGATE_SQL =
+            "SELECT issue_id, status, COUNT(*) FROM message WHERE send_date = ? GROUP BY issue_id, status";
+
+    // 같은 날을 다시 집계하면 덮어씀 (늦게 끝난 샤드의 로그가 더해졌을 때 다시 돌려도 됨)
+    private static final String UPSERT_SQL =
+            "INSERT INTO message_daily_summary (send_date, issue_id, status, message_count, rolled_up_at) "
+                    + "VALUES (?, ?, ?, ?, ?) ON DUPLICATE KEY UPDATE message_count = ?, rolled_up_at = ?";
+
+    private static final String LAST_ROLLED_UP_SQL = "SELECT MAX(send_date) FROM message_daily_summary";
+
+    private static final String OLDEST_SEND_DATE_SQL = "SELECT MIN(send_date) FROM message";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 발송일 하루의 로그를 회차별/상태별로 세어 집계 행으로 저장
+     *
+     * @return 저장한 집계 행 수 (그날 로그가 없으면 0)
+     */
+    public int rollUp(LocalDate sendDate, LocalDateTime now) {
+        List<Object[]> rows = jdbcTemplate.query(AGGREGATE_SQL, (rs, rowNum) -> new Object[]{
+                rs.getLong(1), rs.getString(2), rs.getLong(3)
+        }, sendDate);
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        jdbcTemplate.batchUpdate(UPSERT_SQL, rows, rows.size(), (ps, row) -> {
+            ps.setObject(1, sendDate);
+            ps.setLong(2, (Long) row[0]);
+            ps.setString(3, (String) row[1]);
+            ps.setLong(4, (Long) row[2]);
+            ps.setObject(5, now);
+            ps.setLong(6, (Long) row[2]);
+            ps.setObject(7, now);
+        });
+        return rows.size();
+    }
+
+    /**
+     * 집계가 끝난 마지막 발송일 (PK 첫 컬럼이라 인덱스 끝 한 번만 읽음)
+     */
+    public Optional<LocalDate> findLastRolledUpDate() {
+        return Optional.ofNullable(jdbcTemplate.queryForObject(LAST_ROLLED_UP_SQL, Date.class))
+                .map(Date::toLocalDate);
+    }
+
+    /**
+     * 상세 로그에 남아 있는 가장 오래된 발송일 (집계를 처음 시작할 때 한 번만 씀)
+     */
+    public Optional<LocalDate> findOldestSendDate() {
+        return Optional.ofNullable(jdbcTemplate.queryForObject(OLDEST_SEND_DATE_SQL, Date.class))
+                .map(Date::toLocalDate);
+    }
+}
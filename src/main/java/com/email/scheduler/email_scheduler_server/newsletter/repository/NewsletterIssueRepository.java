@@ -0,0 +1,10 @@
+package com.email.scheduler.email_scheduler_server.newsletter.repository;
+
+import com.email.scheduler.email_scheduler_server.newsletter.domain.NewsletterIssue;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface NewsletterIssueRepository extends JpaRepository<NewsletterIssue, Long> {
+
+    Optional<NewsletterIssue> findByFileName(String fileName);
+}
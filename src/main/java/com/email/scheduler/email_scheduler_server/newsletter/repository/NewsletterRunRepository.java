@@ -0,0 +1,38 @@
+package com.email.scheduler.email_scheduler_server.newsletter.repository;
+
+import com.email.scheduler.email_scheduler_server.newsletter.domain.NewsletterIssue;
+import com.email.scheduler.email_scheduler_server.newsletter.domain.NewsletterRun;
+import com.email.scheduler.email_scheduler_server.newsletter.domain.NewsletterRun.RunStatus;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface NewsletterRunRepository extends JpaRepository<NewsletterRun, Long> {
+
+    Optional<NewsletterRun> findTopByOrderByIdDesc();
+
+    // 이 날짜의 첫 웨이브가 정한 회차 (같은 날짜의 다음 웨이브는 같은 회차를 보냄)
+    @Query("SELECT r.issue FROM NewsletterRun r WHERE r.editionDate = :date ORDER BY r.id")
+    List<NewsletterIssue> findEditionIssues(@Param("date") LocalDate date);
+
+    // 카운터는 UPDATE 문 안에서 증가시켜 여러 노드가 동시에 보고해도 값이 유실되지 않음
+    @Modifying
+    @Query("UPDATE NewsletterRun r SET r.completedShards = r.completedShards + 1, "
+            + "r.sentCount = r.sentCount + :sent, r.failedCount = r.failedCount + :failed "
+            + "WHERE r.id = :runId")
+    int addCompletedShard(@Param("runId") Long runId, @Param("sent") long sent, @Param("failed") long failed);
+
+    @Modifying
+    @Query("UPDATE NewsletterRun r SET r.status = :completed, r.completedAt = :now "
+            + "WHERE r.id = :runId AND r.status <> :completed AND r.completedShards >= r.shardCount")
+    int completeIfAllShardsDone(
+            @Param("runId") Long runId,
+            @Param("completed") RunStatus completed,
+            @Param("now") LocalDateTime now
+    );
+}
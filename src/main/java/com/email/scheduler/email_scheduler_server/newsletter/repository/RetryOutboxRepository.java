@@ -0,0 +1,87 @@
+package com.email.scheduler.email_scheduler_server.newsletter.repository;
+
+import com.email.scheduler.email_scheduler_server.newsletter.dto.PendingRetry;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 재시도 예약 outbox(retry_outbox) 전용 JDBC 저장소
+ * 발행 전에 노드가 죽어도 재시도 예약이 사라지지 않도록, 로그를 저장하는 트랜잭션 안에서 행을 남김
+ */
+@Repository
+@RequiredArgsConstructor
+public class RetryOutboxRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO retry_outbox (issue_id, send_date, attempt, subscriber_ids, dispatch_after) VALUES (?, ?, ?, ?, ?)";
+
+    private static final String DUE_SQL =
+            "SELECT id, issue_id, send_date, attempt, subscriber_ids FROM retry_outbox "
+                    + "WHERE dispatch_after <= ? ORDER BY dispatch_after LIMIT ?";
+
+    // 다른 노드가 먼저 가져갔으면(dispatch_after 가 이미 미뤄졌으면) 0
+    private static final String CLAIM_SQL =
+            "UPDATE retry_outbox SET dispatch_after = ? WHERE id = ? AND dispatch_after <= ?";
+
+    private static final String DELETE_SQL = "DELETE FROM retry_outbox WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @param dispatchAfter 이 시각이 지나도 남아 있으면 다시 발행함
+     * @return 새 행의 id
+     */
+    public long insert(Long issueId, LocalDate sendDate, int attempt, List<Long> subscriberIds, LocalDateTime dispatchAfter) {
+        String ids = subscriberIds.stream().map(String::valueOf).collect(Collectors.joining(","));
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS);
+            ps.setLong(1, issueId);
+            ps.setObject(2, sendDate);
+            ps.setInt(3, attempt);
+            ps.setString(4, ids);
+            ps.setObject(5, dispatchAfter);
+            return ps;
+        }, keyHolder);
+        return Objects.requireNonNull(keyHolder.getKey()).longValue();
+    }
+
+    /**
+     * dispatch_after 가 지난(발행되지 못한) 행을 오래된 순서로 최대 limit 개
+     */
+    public List<PendingRetry> findDue(LocalDateTime now, int limit) {
+        return jdbcTemplate.query(DUE_SQL, (rs, rowNum) -> new PendingRetry(
+                rs.getLong(1), rs.getLong(2), rs.getObject(3, LocalDate.class), rs.getInt(4), parseIds(rs.getString(5))),
+                now, limit);
+    }
+
+    /**
+     * 다시 발행할 행을 가져감 (dispatch_after 를 미뤄 다른 노드가 같은 행을 동시에 발행하지 않도록 함)
+     *
+     * @return 이 노드가 가져갔으면 true
+     */
+    public boolean claim(long id, LocalDateTime now, LocalDateTime nextDispatchAfter) {
+        return jdbcTemplate.update(CLAIM_SQL, nextDispatchAfter, id, now) > 0;
+    }
+
+    public void delete(long id) {
+        jdbcTemplate.update(DELETE_SQL, id);
+    }
+
+    private static List<Long> parseIds(String ids) {
+        return Arrays.stream(ids.split(","))
+                .map(Long::valueOf)
+                .toList();
+    }
+}
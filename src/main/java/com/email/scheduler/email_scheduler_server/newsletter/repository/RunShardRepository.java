@@ -0,0 +1,87 @@
+package com.email.scheduler.email_scheduler_server.newsletter.repository;
+
+import com.email.scheduler.email_scheduler_server.newsletter.domain.RunShard;
+import com.email.scheduler.email_scheduler_server.newsletter.domain.RunShard.ShardStatus;
+import com.email.scheduler.email_scheduler_server.newsletter.dto.ShardCheckpoint;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface RunShardRepository extends JpaRepository<RunShard, Long> {
+
+    @Query("SELECT new com.email.scheduler.email_scheduler_server.newsletter.dto.ShardCheckpoint("
+            + "s.lastSubscriberId, s.sentCount, s.failedCount, s.status, s.startedAt) FROM RunShard s WHERE s.id = :shardId")
+    Optional<ShardCheckpoint> findCheckpoint(@Param("shardId") Long shardId);
+
+    // 이 날짜의 웨이브로 이미 발행된 발송 시간대인지 (다음 웨이브가 같은 시간대를 다시 보내지 않도록)
+    boolean existsByRun_EditionDateAndTimeZoneAndDeliveryHour(LocalDate editionDate, String timeZone, Integer deliveryHour);
+
+    // 발행 확인을 받지 못한 채 redispatch_after 가 지난 PENDING 샤드 (메시지를 다시 만들 수 있도록 실행/회차를 함께 읽음)
+    @Query("SELECT s FROM RunShard s JOIN FETCH s.run r JOIN FETCH r.issue "
+            + "WHERE s.status = :pending AND s.redispatchAfter <= :now ORDER BY s.redispatchAfter")
+    List<RunShard> findUndispatched(
+            @Param("pending") ShardStatus pending,
+            @Param("now") LocalDateTime now,
+            Pageable pageable
+    );
+
+    // 다른 노드가 먼저 가져갔거나 그사이 발행 확인/처리 시작이 됐으면 0
+    @Modifying
+    @Query("UPDATE RunShard s SET s.redispatchAfter = :next "
+            + "WHERE s.id = :shardId AND s.status = :pending AND s.redispatchAfter <= :now")
+    int claimRedispatch(
+            @Param("shardId") Long shardId,
+            @Param("pending") ShardStatus pending,
+            @Param("now") LocalDateTime now,
+            @Param("next") LocalDateTime next
+    );
+
+    @Modifying
+    @Query("UPDATE RunShard s SET s.redispatchAfter = NULL WHERE s.id = :shardId")
+    int markDispatched(@Param("shardId") Long shardId);
+
+    // 처음 처리를 시작할 때만 1 을 반환 (0 이면 이전에 시작했다가 중단된 샤드를 다시 받은 것)
+    @Modifying
+    @Query("UPDATE RunShard s SET s.status = :running, s.startedAt = :now "
+            + "WHERE s.id = :shardId AND s.status = :pending")
+    int markStarted(
+            @Param("shardId") Long shardId,
+            @Param("pending") ShardStatus pending,
+            @Param("running") ShardStatus running,
+            @Param("now") LocalDateTime now
+    );
+
+    /**
+     * 체크포인트를 앞으로만 옮기고 이번 배치의 성공/실패 수를 누적
+     * 같은 샤드를 두 노드가 동시에 처리하더라도 이미 지난 구간의 배치는 0 을 반환해 중복 집계되지 않음
+     */
+    @Modifying
+    @Query("UPDATE RunShard s SET s.lastSubscriberId = :lastSubscriberId, "
+            + "s.sentCount = s.sentCount + :sent, s.failedCount = s.failedCount + :failed, s.checkpointedAt = :now "
+            + "WHERE s.id = :shardId AND s.lastSubscriberId < :lastSubscriberId")
+    int advanceCheckpoint(
+            @Param("shardId") Long shardId,
+            @Param("lastSubscriberId") long lastSubscriberId,
+            @Param("sent") int sent,
+            @Param("failed") int failed,
+            @Param("now") LocalDateTime now
+    );
+
+    // 이미 완료된 샤드면 0 을 반환 (같은 작업 메시지가 다시 전달돼도 한 번만 집계됨)
+    @Modifying
+    @Query("UPDATE RunShard s SET s.status = :completed, s.sentCount = :sent, s.failedCount = :failed, "
+            + "s.completedAt = :now WHERE s.id = :shardId AND s.status <> :completed")
+    int markCompleted(
+            @Param("shardId") Long shardId,
+            @Param("sent") int sent,
+            @Param("failed") int failed,
+            @Param("completed") ShardStatus completed,
+            @Param("now") LocalDateTime now
+    );
+}
@@ -0,0 +1,48 @@
+package com.email.scheduler.email_scheduler_server.newsletter.repository;
+
+import com.email.scheduler.email_scheduler_server.newsletter.domain.SchedulerLease;
+import java.time.Instant;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface SchedulerLeaseRepository extends JpaRepository<SchedulerLease, String> {
+
+    // 작업의 행이 없으면 만듦 (여러 노드가 동시에 처음 실행해도 유니크 키로 한 행만 남음)
+    @Modifying
+    @Query(value = "INSERT INTO scheduler_lease (name, slot, locked_until) VALUES (:name, :epoch, :epoch) "
+            + "ON DUPLICATE KEY UPDATE name = name", nativeQuery = true)
+    int insertIfAbsent(@Param("name") String name, @Param("epoch") Instant epoch);
+
+    /**
+     * 이 회차의 실행권을 가져감 (성공하면 1)
+     * 이전 회차만 기록돼 있고, 그 회차의 보유 노드가 반납했거나 실행권이 만료됐을 때 바뀜
+     * 같은 회차라도 보유 노드가 반납하지 못하고 죽어 실행권이 만료됐으면 이어받음 (반납한 회차는 다시 실행하지 않음)
+     * 같은 회차를 두 노드가 동시에 요청하면 행 잠금으로 직렬화되어 먼저 바꾼 노드만 1 을 받음
+     */
+    @Modifying
+    @Query("UPDATE SchedulerLease l SET l.slot = :slot, l.owner = :owner, l.lockedUntil = :lockedUntil, "
+            + "l.acquiredAt = :now, l.releasedAt = null "
+            + "WHERE l.name = :name AND ("
+            + "(l.slot < :slot AND (l.releasedAt IS NOT NULL OR l.lockedUntil <= :now)) "
+            + "OR (l.slot = :slot AND l.releasedAt IS NULL AND l.lockedUntil <= :now))")
+    int acquire(
+            @Param("name") String name,
+            @Param("slot") Instant slot,
+            @Param("owner") String owner,
+            @Param("lockedUntil") Instant lockedUntil,
+            @Param("now") Instant now
+    );
+
+    // 자기가 가진 회차의 실행권만 반납 (만료 후 다른 노드가 가져갔으면 0)
+    @Modifying
+    @Query("UPDATE SchedulerLease l SET l.releasedAt = :now, l.lockedUntil = :now "
+            + "WHERE l.name = :name AND l.slot = :slot AND l.owner = :owner AND l.releasedAt IS NULL")
+    int release(
+            @Param("name") String name,
+            @Param("slot") Instant slot,
+            @Param("owner") String owner,
+            @Param("now") Instant now
+    );
+}
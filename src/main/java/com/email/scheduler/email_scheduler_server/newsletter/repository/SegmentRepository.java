@@ -0,0 +1,32 @@
+package com.email.scheduler.email_scheduler_server.newsletter.repository;
+
+import com.email.scheduler.email_scheduler_server.newsletter.domain.Segment;
+import com.email.scheduler.email_scheduler_server.newsletter.dto.SegmentSummary;
+import jakarta.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface SegmentRepository extends JpaRepository<Segment, String> {
+
+    // 세그먼트 행이 없으면 빈 비트맵으로 만듦 (여러 노드가 동시에 처음 추가해도 기본 키로 한 행만 남음)
+    @Modifying
+    @Query(value = "INSERT INTO segment (name, bitmap, cardinality, version, updated_at) "
+            + "VALUES (:name, :bitmap, 0, 0, :now) ON DUPLICATE KEY UPDATE name = name", nativeQuery = true)
+    int insertIfAbsent(@Param("name") String name, @Param("bitmap") byte[] bitmap, @Param("now") LocalDateTime now);
+
+    // 비트맵을 읽고 고쳐 쓰는 동안 다른 노드의 변경이 끼어들지 않도록 행 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM Segment s WHERE s.name = :name")
+    Optional<Segment> findForUpdate(@Param("name") String name);
+
+    // 비트맵 본문 없이 이름/버전/크기만 (노드가 바뀐 세그먼트를 찾는 데 씀)
+    @Query("SELECT new com.email.scheduler.email_scheduler_server.newsletter.dto.SegmentSummary("
+            + "s.name, s.version, s.cardinality) FROM Segment s")
+    List<SegmentSummary> findSummaries();
+}
@@ -0,0 +1,39 @@
+package com.email.scheduler.email_scheduler_server.newsletter.repository;
+
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 활성 구독자 수 카운터 (subscriber_counter)
+ * 구독 상태를 바꾸는 쓰기와 같은 트랜잭션에서 변화량만 더하고, 읽을 때는 STRIPES 개 행의 합만 구함 (구독자 수와 무관)
+ * 한 행에 모든 구독/취소가 몰리지 않도록 변화량을 무작위 줄(stripe)에 나눠 더함
+ */
+@Repository
+@RequiredArgsConstructor
+public class SubscriberCounterRepository {
+
+    public static final int STRIPES = 16;
+
+    private static final String ADD_SQL =
+            "INSERT INTO subscriber_counter (stripe, active_count) VALUES (?, ?) "
+                    + "ON DUPLICATE KEY UPDATE active_count = active_count + ?";
+
+    private static final String SUM_SQL = "SELECT COALESCE(SUM(active_count), 0) FROM subscriber_counter";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void add(long delta) {
+        if (delta == 0) {
+            return;
+        }
+        int stripe = ThreadLocalRandom.current().nextInt(STRIPES);
+        jdbcTemplate.update(ADD_SQL, stripe, delta, delta);
+    }
+
+    public long sum() {
+        Long sum = jdbcTemplate.queryForObject(SUM_SQL, Long.class);
+        return sum != null ? sum : 0;
+    }
+}
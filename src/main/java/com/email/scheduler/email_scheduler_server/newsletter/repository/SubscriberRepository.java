@@ -1,10 +1,18 @@
 package com.email.scheduler.email_scheduler_server.newsletter.repository;
 
 import com.email.scheduler.email_scheduler_server.newsletter.domain.Subscriber;
+import com.email.scheduler.email_scheduler_server.newsletter.dto.IdRange;
+import com.email.scheduler.email_scheduler_server.newsletter.dto.SlotSummary;
+import com.email.scheduler.email_scheduler_server.newsletter.dto.SubscriberView;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface SubscriberRepository extends JpaRepository<Subscriber, Long> {
 
@@ -12,5 +20,54 @@ public interface SubscriberRepository extends JpaRepository<Subscriber, Long> {
 
     Page<Subscriber> findAllByActiveTrue(Pageable pageable);
 
-    long countByActiveTrue();
+    /**
+     * Keyset 페이징: (active, id) 인덱스를 타고 lastId 이후부터 읽으므로 앞 페이지를 다시 스캔하지 않음
+     * Slice 반환 → COUNT 쿼리 없이 size + 1 건만 조회해 다음 페이지 존재 여부를 판단
+     * toId 로 샤드 구간의 끝을 제한함 (전체 조회 시 Long.MAX_VALUE)
+     */
+    @Query("SELECT new com.email.scheduler.email_scheduler_server.newsletter.dto.SubscriberView(s.id, s.email) "
+            + "FROM Subscriber s WHERE s.active = true AND s.id > :lastId AND s.id <= :toId ORDER BY s.id")
+    Slice<SubscriberView> findActiveAfter(
+            @Param("lastId") long lastId,
+            @Param("toId") long toId,
+            Pageable pageable
+    );
+
+    // 발송 시간대 하나의 활성 구독자만 Keyset 으로 조회 ((active, time_zone, delivery_hour, id) 인덱스)
+    @Query("SELECT new com.email.scheduler.email_scheduler_server.newsletter.dto.SubscriberView(s.id, s.email) "
+            + "FROM Subscriber s WHERE s.active = true AND s.timeZone = :timeZone AND s.deliveryHour = :deliveryHour "
+            + "AND s.id > :lastId AND s.id <= :toId ORDER BY s.id")
+    Slice<SubscriberView> findActiveInSlotAfter(
+            @Param("timeZone") String timeZone,
+            @Param("deliveryHour") int deliveryHour,
+            @Param("lastId") long lastId,
+            @Param("toId") long toId,
+            Pageable pageable
+    );
+
+    // 재시도 대상 중 아직 구독 중인 구독자 (구독 취소한 구독자에게는 다시 보내지 않음)
+    @Query("SELECT new com.email.scheduler.email_scheduler_server.newsletter.dto.SubscriberView(s.id, s.email) "
+            + "FROM Subscriber s WHERE s.active = true AND s.id IN :ids ORDER BY s.id")
+    List<SubscriberView> findActiveViewsByIds(@Param("ids") Collection<Long> ids);
+
+    // 세그먼트로 고른 id 중 이 발송 시간대의 활성 구독자 (발송 웨이브 + 발송 대상 세그먼트)
+    @Query("SELECT new com.email.scheduler.email_scheduler_server.newsletter.dto.SubscriberView(s.id, s.email) "
+            + "FROM Subscriber s WHERE s.active = true AND s.timeZone = :timeZone AND s.deliveryHour = :deliveryHour "
+            + "AND s.id IN :ids ORDER BY s.id")
+    List<SubscriberView> findActiveViewsByIdsInSlot(
+            @Param("ids") Collection<Long> ids,
+            @Param("timeZone") String timeZone,
+            @Param("deliveryHour") int deliveryHour
+    );
+
+    // 활성 구독자 id 의 최솟값/최댓값 ((active, id) 인덱스의 양 끝만 읽음), 없으면 (null, null)
+    @Query("SELECT new com.email.scheduler.email_scheduler_server.newsletter.dto.IdRange(MIN(s.id), MAX(s.id)) "
+            + "FROM Subscriber s WHERE s.active = true")
+    IdRange findActiveIdRange();
+
+    // 발송 시간대별 활성 구독자 수와 id 범위 (시간대 종류만큼의 행만 돌려줌)
+    @Query("SELECT new com.email.scheduler.email_scheduler_server.newsletter.dto.SlotSummary("
+            + "s.timeZone, s.deliveryHour, COUNT(s), MIN(s.id), MAX(s.id)) "
+            + "FROM Subscriber s WHERE s.active = true GROUP BY s.timeZone, s.deliveryHour")
+    List<SlotSummary> findActiveSlots();
 }
@@ -0,0 +1,35 @@
+package com.email.scheduler.email_scheduler_server.newsletter.repository;
+
+import com.email.scheduler.email_scheduler_server.newsletter.dto.SubscriberView;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 활성 구독자 전체를 커서 하나로 읽는 JDBC 조회 (CSV 내보내기용)
+ * MySQL 드라이버는 기본으로 결과 전체를 메모리에 올리므로, forward-only + read-only + fetchSize=Integer.MIN_VALUE 로
+ * 행 단위 스트리밍을 켜서 구독자 수와 무관하게 한 행씩만 메모리에 둠
+ * 스트리밍 중에는 같은 연결로 다른 쿼리를 실행할 수 없으므로 콜백에서는 DB 를 다시 조회하지 않아야 함
+ */
+@Repository
+@RequiredArgsConstructor
+public class SubscriberStreamReader {
+
+    private static final String ACTIVE_SQL = "SELECT id, email FROM subscriber WHERE active = true ORDER BY id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void forEachActive(Consumer<SubscriberView> handler) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(
+                    ACTIVE_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(Integer.MIN_VALUE);
+            return ps;
+        }, rs -> {
+            handler.accept(new SubscriberView(rs.getLong(1), rs.getString(2)));
+        });
+    }
+}
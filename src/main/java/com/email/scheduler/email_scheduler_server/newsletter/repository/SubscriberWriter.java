@@ -0,0 +1,153 @@
+package com.email.scheduler.email_scheduler_server.newsletter.repository;
+
+import com.email.scheduler.email_scheduler_server.newsletter.config.NewsletterProperties;
+import com.email.scheduler.email_scheduler_server.newsletter.domain.Subscriber;
+import com.email.scheduler.email_scheduler_server.newsletter.dto.SubscriberRow;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 구독 신청 전용 JDBC 저장소
+ * 조회 → 저장(충돌 시 재조회) 대신 email 유니크 인덱스에 기대는 upsert 문으로 신규 등록과 재활성화를 처리함
+ * 중복이어도 AUTO_INCREMENT 값은 소비되므로 id 사이에 빈 구간이 생길 수 있음 (샤드 구간 계산에는 영향 없음)
+ *
+ * 활성 구독자 수(SubscriberCounterRepository)는 같은 트랜잭션에서 실제로 상태가 바뀐 행 수만큼만 더하고 뺌 (미리 읽지 않음)
+ * - 한 명: upsert 한 문장의 영향받은 행 수로 구분함 (useAffectedRows=true: 1 = 신규, 2 = 재활성화, 0 = 이미 활성)
+ * - 여러 명: 배치 INSERT 는 행별 결과를 알 수 없으므로(multi-row 재작성) 없는 이메일만 비활성으로 먼저 넣어 모든 행을 잠근 뒤,
+ *   상태가 다른 행만 바꾸는 조건부 UPDATE 의 영향받은 행 수를 변화량으로 씀
+ */
+@Repository
+@RequiredArgsConstructor
+public class SubscriberWriter {
+
+    // 발송 시간대를 지정하지 않은 값(null)은 신규 구독자면 기본값(Asia/Seoul 8시)을 씀
+    private static final String UPSERT_SQL =
+            "INSERT INTO subscriber (email, active, time_zone, delivery_hour) VALUES (?, true, ?, ?) "
+                    + "ON DUPLICATE KEY UPDATE active = true";
+
+    // 기존 구독자의 발송 시간대 변경 (null 인 값은 그대로 둠)
+    private static final String UPDATE_SLOT_SQL =
+            "UPDATE subscriber SET time_zone = COALESCE(?, time_zone), delivery_hour = COALESCE(?, delivery_hour) "
+                    + "WHERE email = ?";
+
+    private static final String DEACTIVATE_SQL = "UPDATE subscriber SET active = false WHERE email = ? AND active = true";
+
+    // 없는 이메일만 비활성으로 등록하고, 있는 행은 바꾸지 않고 배타 잠금만 잡음 (뒤따르는 UPDATE 가 잠금을 올리다 교착되지 않도록)
+    private static final String INSERT_INACTIVE_SQL =
+            "INSERT INTO subscriber (email, active) VALUES (?, false) ON DUPLICATE KEY UPDATE active = active";
+
+    private static final String SET_ACTIVE_SQL = "UPDATE subscriber SET active = %s WHERE email IN (%s) AND active = %s";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SubscriberCounterRepository counterRepository;
+    private final NewsletterProperties properties;
+
+    @Transactional
+    public void upsert(String email) {
+        upsert(email, null, null);
+    }
+
+    /**
+     * 발송 시간대와 함께 upsert
+     * 신규 등록/재활성화는 upsert 한 문장으로 처리하고, 기존 구독자의 발송 시간대를 바꿀 때만 UPDATE 를 한 번 더 보냄
+     *
+     * @param timeZone     IANA 시간대 id (null 이면 지정하지 않음)
+     * @param deliveryHour 받고 싶은 현지 시각 0~23 (null 이면 지정하지 않음, 신규 구독자면 기본값 Asia/Seoul 8시)
+     */
+    @Transactional
+    public void upsert(String email, String timeZone, Integer deliveryHour) {
+        int affected = jdbcTemplate.update(UPSERT_SQL,
+                email,
+                timeZone != null ? timeZone : Subscriber.DEFAULT_TIME_ZONE,
+                deliveryHour != null ? deliveryHour : Subscriber.DEFAULT_DELIVERY_HOUR);
+        // 1 = 신규, 2 = 비활성 → 활성, 0 = 이미 활성
+        if (affected > 0) {
+            counterRepository.add(1);
+        }
+
+        if (affected != 1 && (timeZone != null || deliveryHour != null)) {
+            jdbcTemplate.update(UPDATE_SLOT_SQL, timeZone, deliveryHour, email);
+        }
+    }
+
+    /**
+     * 구독 취소 (이미 비활성이거나 없는 이메일이면 아무것도 바꾸지 않음)
+     *
+     * @return 비활성으로 바뀐 행 수 (0 또는 1)
+     */
+    @Transactional
+    public int deactivate(String email) {
+        int deactivated = jdbcTemplate.update(DEACTIVATE_SQL, email);
+        counterRepository.add(-deactivated);
+        return deactivated;
+    }
+
+    /**
+     * 배치로 upsert: 없는 이메일을 비활성으로 넣는 INSERT 배치 + 비활성 행만 활성으로 바꾸는 UPDATE ... IN
+     * 중복을 제거하고 정렬해서 보내므로 같은 이메일을 포함한 요청이 동시에 들어와도 행 잠금을 같은 순서로 잡음
+     * 중복은 유니크 인덱스와 같이 대소문자를 구분하지 않고 판단하며, 처음 나온 표기를 씀
+     *
+     * 한 명 구독처럼 INSERT ... ON DUPLICATE KEY UPDATE active = true 배치 한 번으로 끝내지 않는 이유는 활성 구독자 수의 정확한 변화량 때문임
+     * - rewriteBatchedStatements=true 로 multi-row INSERT 한 문장이 되면 드라이버는 행별 결과 대신 SUCCESS_NO_INFO 를 돌려줌
+     * - 문장 전체의 영향받은 행 수도 신규 1 + 재활성화 2 의 합이라, 예를 들어 2 가 신규 2명인지 재활성화 1명인지 구분할 수 없음
+     * - 재작성을 끄면 행별 결과는 얻지만 행마다 왕복이 생겨 일괄 구독을 나눠 보내는 의미가 없어짐
+     * 그래서 INSERT 는 행을 만들고 잠그는 데만 쓰고, 변화량은 상태가 다른 행만 바꾸는 UPDATE 의 영향받은 행 수(= 활성으로 바뀐 수)로 셈
+     * 두 문장 모두 subscriber.batch-size 행씩 나눠 보내므로 왕복 수는 (이메일 수 / batch-size) * 2 로 일정함
+     *
+     * @return 중복을 제거한 이메일 수
+     */
+    @Transactional
+    public int upsertAll(Collection<String> emails) {
+        Map<String, String> first = new TreeMap<>();
+        emails.forEach(email -> first.putIfAbsent(keyOf(email), email));
+        List<String> sorted = List.copyOf(first.values());
+        insertMissing(sorted);
+        counterRepository.add(setActive(sorted, true));
+        return sorted.size();
+    }
+
+    /**
+     * CSV 가져오기 한 묶음 저장 (같은 이메일이 여러 번 나오면 마지막 행의 상태가 남음)
+     */
+    @Transactional
+    public void importAll(List<SubscriberRow> rows) {
+        Map<String, SubscriberRow> last = new TreeMap<>();
+        rows.forEach(row -> last.put(keyOf(row.email()), row));
+
+        insertMissing(last.values().stream().map(SubscriberRow::email).toList());
+        List<String> activate = last.values().stream().filter(SubscriberRow::active).map(SubscriberRow::email).toList();
+        List<String> deactivate = last.values().stream().filter(row -> !row.active()).map(SubscriberRow::email).toList();
+
+        counterRepository.add(setActive(activate, true) - setActive(deactivate, false));
+    }
+
+    private void insertMissing(List<String> emails) {
+        jdbcTemplate.batchUpdate(INSERT_INACTIVE_SQL, emails, properties.getSubscriber().getBatchSize(),
+                (ps, email) -> ps.setString(1, email));
+    }
+
+    // subscriber.batch-size 개씩 나눠 상태가 다른 행만 바꿈 (모든 행이 이미 있고 잠겨 있으므로 영향받은 행 수가 곧 변화량)
+    private long setActive(List<String> emails, boolean active) {
+        long changed = 0;
+        int batchSize = properties.getSubscriber().getBatchSize();
+        for (int from = 0; from < emails.size(); from += batchSize) {
+            List<String> chunk = emails.subList(from, Math.min(from + batchSize, emails.size()));
+            String placeholders = String.join(", ", Collections.nCopies(chunk.size(), "?"));
+            changed += jdbcTemplate.update(SET_ACTIVE_SQL.formatted(active, placeholders, !active), chunk.toArray());
+        }
+        return changed;
+    }
+
+    // email 컬럼의 대소문자 구분 없는 유니크 인덱스와 같은 기준으로 이메일을 비교함
+    private static String keyOf(String email) {
+        return email.toLowerCase(Locale.ROOT);
+    }
+}
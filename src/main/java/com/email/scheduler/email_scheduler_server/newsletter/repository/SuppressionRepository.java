@@ -0,0 +1,80 @@
+package com.email.scheduler.email_scheduler_server.newsletter.repository;
+
+import com.email.scheduler.email_scheduler_server.newsletter.config.NewsletterProperties;
+import com.email.scheduler.email_scheduler_server.newsletter.domain.Suppression.Reason;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.LongConsumer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 발송 제외 목록 전용 JDBC 저장소
+ * 노드의 메모리 목록(SuppressionList)은 id 순서로 이어 읽기만 하므로 엔티티를 거치지 않고 (id, subscriber_id) 만 읽음
+ */
+@Repository
+@RequiredArgsConstructor
+public class SuppressionRepository {
+
+    // 이미 제외된 구독자면 처음 사유/시각을 그대로 둠
+    private static final String INSERT_SQL =
+            "INSERT INTO suppression (subscriber_id, reason, created_at) VALUES (?, ?, ?) "
+                    + "ON DUPLICATE KEY UPDATE id = id";
+
+    private static final String COUNT_SQL = "SELECT COUNT(*) FROM suppression";
+
+    // PK 구간 조회라 목록 전체 크기와 무관하게 한 번에 limit 행만 읽음
+    private static final String READ_AFTER_SQL =
+            "SELECT id, subscriber_id FROM suppression WHERE id > ? ORDER BY id LIMIT ?";
+
+    private static final String FAILURE_COUNT_SQL =
+            "SELECT subscriber_id FROM message WHERE status = 'FAILURE' AND subscriber_id IN (%s) "
+                    + "GROUP BY subscriber_id HAVING COUNT(*) >= ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NewsletterProperties properties;
+
+    public void suppressAll(List<Long> subscriberIds, Reason reason, LocalDateTime now) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, subscriberIds, properties.getSubscriber().getBatchSize(), (ps, subscriberId) -> {
+            ps.setLong(1, subscriberId);
+            ps.setString(2, reason.name());
+            ps.setObject(3, now);
+        });
+    }
+
+    public long count() {
+        Long count = jdbcTemplate.queryForObject(COUNT_SQL, Long.class);
+        return count != null ? count : 0;
+    }
+
+    /**
+     * id 가 afterId 보다 큰 행을 id 순서로 최대 limit 개 읽어 구독자 id 를 넘김
+     *
+     * @return 마지막으로 읽은 행의 id (읽은 행이 없으면 afterId)
+     */
+    public long readAfter(long afterId, int limit, LongConsumer subscriberIds) {
+        long[] lastId = {afterId};
+        jdbcTemplate.query(READ_AFTER_SQL, rs -> {
+            lastId[0] = rs.getLong(1);
+            subscriberIds.accept(rs.getLong(2));
+        }, afterId, limit);
+        return lastId[0];
+    }
+
+    /**
+     * 주어진 구독자 중 최종 실패(FAILURE) 로그가 threshold 개 이상인 구독자 id
+     */
+    public List<Long> findRepeatedFailures(List<Long> subscriberIds, int threshold) {
+        if (subscriberIds.isEmpty()) {
+            return List.of();
+        }
+
+        String placeholders = String.join(", ", Collections.nCopies(subscriberIds.size(), "?"));
+        List<Object> args = new ArrayList<>(subscriberIds);
+        args.add(threshold);
+        return jdbcTemplate.queryForList(FAILURE_COUNT_SQL.formatted(placeholders), Long.class, args.toArray());
+    }
+}
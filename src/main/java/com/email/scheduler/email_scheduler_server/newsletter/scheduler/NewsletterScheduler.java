@@ -1,26 +1,91 @@
 package com.email.scheduler.email_scheduler_server.newsletter.scheduler;
 
+import com.email.scheduler.email_scheduler_server.newsletter.config.NewsletterProperties;
+import com.email.scheduler.email_scheduler_server.newsletter.service.MessageLogMaintenanceService;
 import com.email.scheduler.email_scheduler_server.newsletter.service.NewsletterPublisher;
+import com.email.scheduler.email_scheduler_server.newsletter.service.SchedulerLeaseService;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+/**
+ * 모든 노드에서 같은 시각에 실행되지만, 회차마다 실행권(SchedulerLeaseService)을 가져간 노드 하나만 발행함
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class NewsletterScheduler {
 
+    static final String DAILY_JOB = "newsletter.daily";
+    static final String WAVE_JOB = "newsletter.wave";
+    static final String MESSAGE_LOG_JOB = "newsletter.message-log";
+
     private final NewsletterPublisher publisher;
+    private final MessageLogMaintenanceService messageLogMaintenance;
+    private final SchedulerLeaseService leaseService;
+    private final NewsletterProperties properties;
 
     // @Scheduled(fixedRate = 10000) // 테스트용 스케줄러 : 개발/테스트 시 빠르게 확인하기 위해 사용 (10초 간격)
     @Scheduled(cron = "0 0 8 * * *", zone = "Asia/Seoul")
     public void sendDailyNewsletter() {
-        boolean hasNewsletter = publisher.publishNewsletter();
+        if (properties.getWave().isEnabled()) {
+            // 발송 웨이브가 켜져 있으면 매시 웨이브가 구독자별 현지 시각에 맞춰 보냄
+            return;
+        }
+
+        runExclusively(DAILY_JOB, () -> {
+            boolean hasNewsletter = publisher.publishNewsletter();
+
+            if (hasNewsletter) {
+                log.info("📡 [Scheduler] 뉴스레터를 Exchange에 전송했습니다");
+            }
+            // 보낼 뉴스레터가 없으면 조용히 대기
+        });
+    }
+
+    // 매시 정각(UTC) 웨이브: 현지 발송 시각이 된 발송 시간대만 발행 (30/45분 단위 시간대는 다음 정각 웨이브에서 받음)
+    @Scheduled(cron = "0 0 * * * *", zone = "UTC")
+    public void sendDeliveryWave() {
+        if (!properties.getWave().isEnabled()) {
+            return;
+        }
+
+        runExclusively(WAVE_JOB, () -> {
+            int runs = publisher.publishWave(Instant.now());
 
-        if (hasNewsletter) {
-            log.info("📡 [Scheduler] 뉴스레터를 Exchange에 전송했습니다");
+            if (runs > 0) {
+                log.info("📡 [Scheduler] 발송 웨이브를 Exchange에 전송했습니다 - 실행 {}개", runs);
+            }
+        });
+    }
+
+    // 매일 04:00: 발송 로그 파티션 추가, 끝난 날 집계, 보관 기간이 지난 파티션 정리 (발송이 적은 새벽에 실행)
+    @Scheduled(cron = "0 0 4 * * *", zone = "Asia/Seoul")
+    public void maintainMessageLog() {
+        runExclusively(MESSAGE_LOG_JOB, () -> messageLogMaintenance.runNightly(LocalDate.now()));
+    }
+
+    private void runExclusively(String job, Runnable task) {
+        Instant slot = slotOf(Instant.now());
+        if (!leaseService.tryAcquire(job, slot, Instant.now())) {
+            log.info("[Scheduler] 다른 노드가 이번 회차를 실행 중이라 건너뜁니다 - 작업: {}, 회차: {}", job, slot);
+            return;
         }
-        // 보낼 뉴스레터가 없으면 조용히 대기
+
+        try {
+            task.run();
+        } finally {
+            leaseService.release(job, slot, Instant.now());
+        }
+    }
+
+    // 노드마다 시계가 조금씩 달라도 같은 회차가 되도록 가장 가까운 정시로 맞춤
+    static Instant slotOf(Instant firedAt) {
+        return firedAt.plus(Duration.ofMinutes(30)).truncatedTo(ChronoUnit.HOURS);
     }
 }
@@ -0,0 +1,54 @@
+package com.email.scheduler.email_scheduler_server.newsletter.service;
+
+import com.email.scheduler.email_scheduler_server.newsletter.config.NewsletterProperties;
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.connection.CorrelationData.Confirm;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * 브로커의 발행 확인(publisher confirm)을 기다리는 발행
+ * ack 를 받기 전에는 메시지가 큐에 저장됐다고 볼 수 없으므로, nack / 라우팅 실패 / 시간 초과는 예외로 알림
+ */
+@Component
+@Profile("!loadtest")
+@RequiredArgsConstructor
+public class ConfirmedPublisher {
+
+    private final RabbitTemplate rabbitTemplate;
+    private final NewsletterProperties properties;
+
+    public void publish(String exchange, String routingKey, Object message) {
+        CorrelationData correlation = new CorrelationData();
+        rabbitTemplate.convertAndSend(exchange, routingKey, message, correlation);
+
+        Duration timeout = properties.getPublish().getConfirmTimeout();
+        try {
+            Confirm confirm = correlation.getFuture().get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            if (!confirm.isAck()) {
+                throw new AmqpException("[Publisher] 브로커가 메시지를 거부했습니다 (nack) - "
+                        + exchange + "/" + routingKey + ": " + confirm.getReason());
+            }
+            // mandatory 로 되돌아온 메시지는 ack 전에 도착함
+            if (correlation.getReturned() != null) {
+                throw new AmqpException("[Publisher] 메시지를 받을 큐가 없습니다 - "
+                        + exchange + "/" + routingKey + ": " + correlation.getReturned().getReplyText());
+            }
+        } catch (TimeoutException e) {
+            throw new AmqpException("[Publisher] 발행 확인 시간 초과 (" + timeout.toMillis() + "ms) - "
+                    + exchange + "/" + routingKey, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AmqpException("[Publisher] 발행 확인 대기 중 인터럽트 발생", e);
+        } catch (ExecutionException e) {
+            throw new AmqpException("[Publisher] 발행 확인 실패 - " + exchange + "/" + routingKey, e.getCause());
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.email.scheduler.email_scheduler_server.newsletter.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 구독자 CSV 가져오기/내보내기가 함께 쓰는 CSV 규칙 (RFC 4180)
+ * 내보낸 파일을 그대로 다시 가져올 수 있도록 쓰는 쪽과 읽는 쪽을 한곳에 둠
+ * - 쓰기: 쉼표, 큰따옴표, 줄바꿈, 앞뒤 공백이 있는 값만 큰따옴표로 감싸고 안의 큰따옴표는 두 번 씀
+ * - 읽기: 감싼 값은 안의 쉼표/줄바꿈/공백을 그대로 두고, 감싸지 않은 값은 앞뒤 공백을 지움
+ */
+final class CsvFormat {
+
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+
+    private CsvFormat() {
+    }
+
+    /**
+     * 값들을 한 행으로 이어 붙임 (끝에 줄바꿈 포함)
+     */
+    static String row(String... values) {
+        StringBuilder line = new StringBuilder();
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                line.append(SEPARATOR);
+            }
+            line.append(escape(values[i]));
+        }
+        return line.append('\n').toString();
+    }
+
+    static String escape(String value) {
+        if (!needsQuote(value)) {
+            return value;
+        }
+        return QUOTE + value.replace("\"", "\"\"") + QUOTE;
+    }
+
+    private static boolean needsQuote(String value) {
+        if (value.isEmpty()) {
+            return false;
+        }
+        if (Character.isWhitespace(value.charAt(0)) || Character.isWhitespace(value.charAt(value.length() - 1))) {
+            return true;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == SEPARATOR || c == QUOTE || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 한 행씩 필드 목록으로 읽음 (감싼 값 안의 줄바꿈은 다음 줄을 이어 읽어 한 필드로 만듦)
+     * 첫 줄의 UTF-8 BOM(엑셀 등이 붙임)은 지우고, 빈 줄은 건너뜀
+     */
+    static final class RowReader {
+
+        private final BufferedReader in;
+        private boolean firstLine = true;
+
+        RowReader(BufferedReader in) {
+            this.in = in;
+        }
+
+        /**
+         * @return 다음 행의 필드 목록 (파일 끝이면 null)
+         */
+        List<String> next() throws IOException {
+            String line;
+            while ((line = in.readLine()) != null) {
+                if (firstLine) {
+                    firstLine = false;
+                    if (line.startsWith("\uFEFF")) {
+                        line = line.substring(1);
+                    }
+                }
+                if (!line.isBlank()) {
+                    return parse(line);
+                }
+            }
+            return null;
+        }
+
+        private List<String> parse(String line) throws IOException {
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean inQuotes = false;
+            boolean quoted = false;
+            int i = 0;
+            while (true) {
+                if (i == line.length()) {
+                    String next = inQuotes ? in.readLine() : null;
+                    if (next == null) {
+                        // 닫히지 않은 큰따옴표는 파일 끝에서 닫힌 것으로 봄
+                        fields.add(finish(field, quoted));
+                        return fields;
+                    }
+                    field.append('\n');
+                    line = next;
+                    i = 0;
+                    continue;
+                }
+
+                char c = line.charAt(i++);
+                if (inQuotes) {
+                    if (c != QUOTE) {
+                        field.append(c);
+                    } else if (i < line.length() && line.charAt(i) == QUOTE) {
+                        field.append(QUOTE);
+                        i++;
+                    } else {
+                        inQuotes = false;
+                    }
+                } else if (c == SEPARATOR) {
+                    fields.add(finish(field, quoted));
+                    field.setLength(0);
+                    quoted = false;
+                } else if (c == QUOTE && !quoted && field.toString().isBlank()) {
+                    // 여는 큰따옴표 앞의 공백은 버림
+                    field.setLength(0);
+                    inQuotes = true;
+                    quoted = true;
+                } else if (!(quoted && Character.isWhitespace(c))) {
+                    field.append(c);
+                }
+            }
+        }
+
+        private static String finish(StringBuilder field, boolean quoted) {
+            return quoted ? field.toString() : field.toString().trim();
+        }
+    }
+}
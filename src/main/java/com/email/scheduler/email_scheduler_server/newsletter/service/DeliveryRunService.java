@@ -0,0 +1,224 @@
+package com.email.scheduler.email_scheduler_server.newsletter.service;
+
+import com.email.scheduler.email_scheduler_server.newsletter.config.NewsletterProperties;
+import com.email.scheduler.email_scheduler_server.newsletter.domain.DispatchCursor;
+import com.email.scheduler.email_scheduler_server.newsletter.domain.NewsletterIssue;
+import com.email.scheduler.email_scheduler_server.newsletter.domain.NewsletterRun;
+import com.email.scheduler.email_scheduler_server.newsletter.domain.NewsletterRun.RunStatus;
+import com.email.scheduler.email_scheduler_server.newsletter.domain.RunShard;
+import com.email.scheduler.email_scheduler_server.newsletter.domain.RunShard.ShardStatus;
+import com.email.scheduler.email_scheduler_server.newsletter.dto.DeliverySlot;
+import com.email.scheduler.email_scheduler_server.newsletter.dto.IdRange;
+import com.email.scheduler.email_scheduler_server.newsletter.dto.ShardCheckpoint;
+import com.email.scheduler.email_scheduler_server.newsletter.dto.SlotSummary;
+import com.email.scheduler.email_scheduler_server.newsletter.repository.DispatchCursorRepository;
+import com.email.scheduler.email_scheduler_server.newsletter.repository.NewsletterRunRepository;
+import com.email.scheduler.email_scheduler_server.newsletter.repository.RunShardRepository;
+import com.email.scheduler.email_scheduler_server.newsletter.repository.SubscriberRepository;
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 발송 실행(NewsletterRun)과 샤드(RunShard)의 생성/완료 보고를 관리
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DeliveryRunService {
+
+    private final NewsletterRunRepository runRepository;
+    private final RunShardRepository shardRepository;
+    private final SubscriberRepository subscriberRepository;
+    private final DispatchCursorRepository cursorRepository;
+    private final NewsletterProperties properties;
+
+    /**
+     * 활성 구독자 id 공간 [min, max] 를 shard.count 개 구간으로 나눠 실행 + 샤드를 저장
+     * 같은 트랜잭션에서 시리즈의 발행 위치(dispatch_cursor)를 이 회차로 옮김
+     * 트랜잭션이 커밋된 뒤에 샤드 메시지를 발행해야 컨슈머가 샤드 행을 볼 수 있음
+     * 발행 확인을 받지 못한 샤드는 redispatch-after 가 지나면 NewsletterPublisher 가 다시 발행함
+     */
+    @Transactional
+    public List<RunShard> startRun(String series, int sequence, NewsletterIssue issue) {
+        advanceCursor(series, sequence, issue);
+
+        List<IdRange> ranges = subscriberRepository.findActiveIdRange()
+                .split(properties.getShard().getCount());
+
+        NewsletterRun run = runRepository.save(new NewsletterRun(issue, ranges.size()));
+
+        List<RunShard> shards = new ArrayList<>(ranges.size());
+        for (int i = 0; i < ranges.size(); i++) {
+            shards.add(new RunShard(run, i, ranges.get(i)));
+        }
+        awaitDispatch(shards);
+
+        log.info("[Run] 🧩 발송 실행 생성 - runId: {}, 샤드: {}개", run.getId(), shards.size());
+        return shardRepository.saveAll(shards);
+    }
+
+    /**
+     * 지금 발송할 차례인 발송 시간대 (현지 발송 시각이 지났고, 그 날짜의 웨이브로 아직 발행되지 않은 시간대)
+     */
+    @Transactional(readOnly = true)
+    public List<SlotSummary> findDueSlots(Instant now) {
+        Duration maxDelay = properties.getWave().getMaxDelay();
+        List<SlotSummary> due = new ArrayList<>();
+
+        for (SlotSummary summary : subscriberRepository.findActiveSlots()) {
+            DeliverySlot slot = summary.slot();
+            try {
+                if (slot.isDue(now, maxDelay)
+                        && !shardRepository.existsByRun_EditionDateAndTimeZoneAndDeliveryHour(
+                        slot.editionDate(now), slot.timeZone(), slot.deliveryHour())) {
+                    due.add(summary);
+                }
+            } catch (DateTimeException e) {
+                log.warn("[Run] 알 수 없는 시간대라 건너뜁니다 - {} ({}명)", slot.timeZone(), summary.count());
+            }
+        }
+        return due;
+    }
+
+    // 이 날짜의 웨이브가 이미 정한 회차 (아직 웨이브가 없으면 empty)
+    @Transactional(readOnly = true)
+    public Optional<NewsletterIssue> findEditionIssue(LocalDate editionDate) {
+        return runRepository.findEditionIssues(editionDate).stream().findFirst();
+    }
+
+    /**
+     * 날짜의 첫 웨이브: 시리즈의 발행 위치를 이 회차로 옮기고 웨이브 실행을 만듦
+     */
+    @Transactional
+    public List<RunShard> startEditionRun(
+            String series,
+            int sequence,
+            NewsletterIssue issue,
+            LocalDate editionDate,
+            List<SlotSummary> slots
+    ) {
+        advanceCursor(series, sequence, issue);
+        return startWaveRun(issue, editionDate, slots);
+    }
+
+    /**
+     * 발송 시간대마다 [minId, maxId] 를 나눠 웨이브 실행 + 샤드를 저장
+     * 샤드는 구간 안에서 자기 발송 시간대의 구독자만 조회하므로 시간대끼리 구간이 겹쳐도 됨
+     */
+    @Transactional
+    public List<RunShard> startWaveRun(NewsletterIssue issue, LocalDate editionDate, List<SlotSummary> slots) {
+        List<List<IdRange>> rangesBySlot = slots.stream().map(this::splitSlot).toList();
+        int shardCount = rangesBySlot.stream().mapToInt(List::size).sum();
+
+        NewsletterRun run = runRepository.save(new NewsletterRun(issue, shardCount, editionDate));
+
+        List<RunShard> shards = new ArrayList<>(shardCount);
+        for (int i = 0; i < slots.size(); i++) {
+            DeliverySlot slot = slots.get(i).slot();
+            for (IdRange range : rangesBySlot.get(i)) {
+                shards.add(new RunShard(run, shards.size(), range, slot));
+            }
+        }
+        awaitDispatch(shards);
+
+        log.info("[Run] 🌏 발송 웨이브 생성 - runId: {}, 날짜: {}, 발송 시간대: {}개, 샤드: {}개",
+                run.getId(), editionDate, slots.size(), shards.size());
+        return shardRepository.saveAll(shards);
+    }
+
+    private void awaitDispatch(List<RunShard> shards) {
+        LocalDateTime redispatchAfter = LocalDateTime.now().plus(properties.getPublish().getRedispatchAfter());
+        shards.forEach(shard -> shard.awaitDispatch(redispatchAfter));
+    }
+
+    // 구독자가 적은 시간대는 샤드 하나, 많으면 minShardSize 명 단위로 최대 shard.count 개까지 나눔
+    private List<IdRange> splitSlot(SlotSummary summary) {
+        int minShardSize = properties.getWave().getMinShardSize();
+        long wanted = (summary.count() + minShardSize - 1) / minShardSize;
+        int parts = (int) Math.max(1, Math.min(wanted, properties.getShard().getCount()));
+        return summary.range().split(parts);
+    }
+
+    // 다른 인스턴스가 먼저 이 회차(또는 이후 회차)를 발행했으면 실행을 만들지 않고 롤백
+    private void advanceCursor(String series, int sequence, NewsletterIssue issue) {
+        if (!cursorRepository.existsById(series)) {
+            cursorRepository.save(new DispatchCursor(series));
+        }
+
+        if (cursorRepository.advance(series, issue.getFileName(), sequence, LocalDateTime.now()) == 0) {
+            throw new IllegalStateException("[Run] 이미 발행된 회차입니다 - " + series + "/" + issue.getFileName());
+        }
+    }
+
+    /**
+     * 샤드 메시지의 발행 확인을 받음 (더 이상 다시 발행하지 않음)
+     */
+    @Transactional
+    public void markDispatched(Long shardId) {
+        shardRepository.markDispatched(shardId);
+    }
+
+    /**
+     * 발행 확인을 받지 못한 채 redispatch-after 가 지난 PENDING 샤드 (오래된 순서로 최대 limit 개)
+     */
+    @Transactional(readOnly = true)
+    public List<RunShard> findUndispatchedShards(LocalDateTime now, int limit) {
+        return shardRepository.findUndispatched(ShardStatus.PENDING, now, PageRequest.of(0, limit));
+    }
+
+    /**
+     * 다시 발행할 샤드를 가져감 (redispatch_after 를 미뤄 다른 노드가 같은 샤드를 동시에 다시 발행하지 않도록 함)
+     *
+     * @return 이 노드가 가져갔으면 true
+     */
+    @Transactional
+    public boolean claimRedispatch(Long shardId, LocalDateTime now) {
+        LocalDateTime next = now.plus(properties.getPublish().getRedispatchAfter());
+        return shardRepository.claimRedispatch(shardId, ShardStatus.PENDING, now, next) == 1;
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<ShardCheckpoint> findCheckpoint(Long shardId) {
+        return shardRepository.findCheckpoint(shardId);
+    }
+
+    /**
+     * 샤드 처리 시작을 기록
+     * false 면 이전에 시작했다가 끝내지 못한 샤드 (노드 장애 후 재전달 등) 이므로 체크포인트부터 이어서 처리해야 함
+     */
+    @Transactional
+    public boolean startShard(Long shardId, LocalDateTime now) {
+        return shardRepository.markStarted(shardId, ShardStatus.PENDING, ShardStatus.RUNNING, now) == 1;
+    }
+
+    /**
+     * 샤드 완료 보고. 마지막 샤드가 보고하면 실행 전체를 COMPLETED 로 표시함
+     * 샤드 UPDATE 로 중복 보고를 걸러내고, 실행 행 UPDATE 의 행 잠금으로 여러 노드의 동시 보고를 직렬화함
+     */
+    @Transactional
+    public void completeShard(Long runId, Long shardId, int sent, int failed) {
+        LocalDateTime now = LocalDateTime.now();
+
+        if (shardRepository.markCompleted(shardId, sent, failed, ShardStatus.COMPLETED, now) == 0) {
+            log.info("[Run] 이미 완료 보고된 샤드입니다 - shardId: {}", shardId);
+            return;
+        }
+
+        runRepository.addCompletedShard(runId, sent, failed);
+
+        if (runRepository.completeIfAllShardsDone(runId, RunStatus.COMPLETED, now) == 1) {
+            log.info("[Run] 🏁 모든 샤드 완료 - runId: {}", runId);
+        }
+    }
+}
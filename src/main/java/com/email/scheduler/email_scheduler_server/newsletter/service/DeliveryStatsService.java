@@ -0,0 +1,33 @@
+package com.email.scheduler.email_scheduler_server.newsletter.service;
+
+import com.email.scheduler.email_scheduler_server.newsletter.dto.IssueDeliveryStats;
+import com.email.scheduler.email_scheduler_server.newsletter.dto.SubscriberStats;
+import com.email.scheduler.email_scheduler_server.newsletter.repository.IssueStatsRepository;
+import com.email.scheduler.email_scheduler_server.newsletter.repository.SubscriberCounterRepository;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 발송 통계 조회
+ * 통계는 쓰기 쪽(MessageLogService, SubscriberWriter)이 같은 트랜잭션에서 변화량만 더해 두므로,
+ * 조회는 message/subscriber 를 세지 않고 stripe 행 몇 개만 합함 (발송 이력, 구독자 수와 무관)
+ */
+@Service
+@RequiredArgsConstructor
+public class DeliveryStatsService {
+
+    private final IssueStatsRepository statsRepository;
+    private final SubscriberCounterRepository counterRepository;
+
+    @Transactional(readOnly = true)
+    public Optional<IssueDeliveryStats> findIssueStats(Long issueId) {
+        return statsRepository.find(issueId);
+    }
+
+    @Transactional(readOnly = true)
+    public SubscriberStats subscriberStats() {
+        return new SubscriberStats(counterRepository.sum());
+    }
+}
@@ -1,23 +1,47 @@
 package com.email.scheduler.email_scheduler_server.newsletter.service;
 
-import lombok.RequiredArgsConstructor;
+import com.email.scheduler.email_scheduler_server.newsletter.mail.RenderedNewsletter;
+import com.email.scheduler.email_scheduler_server.newsletter.mail.SmtpClientPool;
+import com.email.scheduler.email_scheduler_server.newsletter.mail.SmtpException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Service;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class EmailService {
 
-    public boolean sendEmail(String email, String content) {
+    // newsletter.smtp.enabled=false 면 null (발송 없이 로그만 남김)
+    private final SmtpClientPool smtpClientPool;
+
+    public EmailService(ObjectProvider<SmtpClientPool> smtpClientPool) {
+        this.smtpClientPool = smtpClientPool.getIfAvailable();
+    }
+
+    // 회차별로 미리 렌더링된 메시지에 수신자 값만 끼워 발송
+    public SendResult sendEmail(String email, RenderedNewsletter newsletter) {
         try {
-            // 실제 이메일 발송 로직 (예: JavaMailSender 사용)
-            // 여기서는 성공을 가정하고 로그 남기기
-            log.info("[Email Service] Newsletter has been sent to {}", email);
-            return true;
+            if (smtpClientPool == null) {
+                log.info("[Email Service] Newsletter has been sent to {}", email);
+                return SendResult.SENT;
+            }
+
+            smtpClientPool.send(email, out -> newsletter.writeTo(out, email));
+            return SendResult.SENT;
+        } catch (SmtpException e) {
+            if (e.isDeliveryUnknown()) {
+                // 본문을 보낸 뒤 시간 초과/연결 끊김이면 서버가 이미 받았을 수 있으므로 다시 보내지 않음 (중복 발송 방지)
+                log.warn("[Email Service] 수신 여부를 알 수 없어 재시도하지 않습니다 - {} - {}", email, e.getMessage());
+                return SendResult.DELIVERY_UNKNOWN;
+            }
+            log.warn("[Email Service] Failed to send newsletter to {} - {}", email, e.getMessage());
+            if (e.isRecipientRejection()) {
+                return SendResult.BOUNCED;
+            }
+            return e.isTransient() ? SendResult.RETRYABLE : SendResult.REJECTED;
         } catch (Exception e) {
             log.error("[Email Service] Failed to send newsletter to {}", email, e);
-            return false;
+            return SendResult.RETRYABLE;
         }
     }
 }
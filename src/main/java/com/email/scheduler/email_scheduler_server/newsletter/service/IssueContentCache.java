@@ -0,0 +1,47 @@
+package com.email.scheduler.email_scheduler_server.newsletter.service;
+
+import com.email.scheduler.email_scheduler_server.newsletter.config.NewsletterProperties;
+import com.email.scheduler.email_scheduler_server.newsletter.domain.IssueReference;
+import com.email.scheduler.email_scheduler_server.newsletter.domain.NewsletterIssue;
+import com.email.scheduler.email_scheduler_server.newsletter.domain.NewsletterMessage;
+import com.email.scheduler.email_scheduler_server.newsletter.repository.NewsletterIssueRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 메시지의 회차 참조(claim check)를 본문으로 바꾸는 노드 로컬 캐시
+ * 회차 본문은 노드마다 DB 에서 한 번만 읽고, 같은 회차의 다른 샤드/재시도 배치는 캐시된 본문을 씀
+ * 렌더러 캐시와 같은 수(render.cache-size)의 최근 회차만 유지함
+ */
+@Slf4j
+@Component
+public class IssueContentCache {
+
+    private final RecentIssues<NewsletterMessage> cache;
+
+    private final NewsletterIssueRepository issueRepository;
+
+    public IssueContentCache(NewsletterIssueRepository issueRepository, NewsletterProperties properties) {
+        this.issueRepository = issueRepository;
+        this.cache = new RecentIssues<>(() -> properties.getRender().getCacheSize());
+    }
+
+    public NewsletterMessage resolve(IssueReference reference) {
+        return cache.computeIfAbsent(reference.getIssueId(), issueId -> load(reference));
+    }
+
+    // 처음 읽을 때 본문의 checksum 을 다시 계산해 발행 시점의 본문과 같은지 확인함
+    private NewsletterMessage load(IssueReference reference) {
+        NewsletterIssue issue = issueRepository.findById(reference.getIssueId())
+                .orElseThrow(() -> new IllegalStateException(
+                        "[Issue] 회차를 찾을 수 없습니다 - id: " + reference.getIssueId()));
+
+        String checksum = NewsletterIssue.checksumOf(issue.getContent());
+        if (!checksum.equals(reference.getChecksum())) {
+            throw new IllegalStateException("[Issue] 회차 본문이 발행 시점과 다릅니다 - " + reference.getFileName());
+        }
+
+        log.info("[Issue] 📥 회차 본문 로드 - {} ({}자)", issue.getFileName(), issue.getContent().length());
+        return new NewsletterMessage(issue.getId(), issue.getFileName(), issue.getContent(), issue.getAudience(), null);
+    }
+}
@@ -0,0 +1,108 @@
+package com.email.scheduler.email_scheduler_server.newsletter.service;
+
+import com.email.scheduler.email_scheduler_server.newsletter.config.NewsletterProperties;
+import com.email.scheduler.email_scheduler_server.newsletter.repository.MessagePartitionRepository;
+import com.email.scheduler.email_scheduler_server.newsletter.repository.MessageSummaryRepository;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * 발송 로그(message) 야간 관리 (NewsletterScheduler 가 하루 한 번, 실행권을 가진 노드에서만 실행)
+ * 1. 오늘부터 precreate-days 뒤까지 일 단위 파티션을 미리 만듦 (발송 중 INSERT 는 그날 파티션 하나만 건드림)
+ * 2. 끝난 발송일(settle-days 지난 날)의 로그를 회차별/상태별 집계 행으로 남김
+ * 3. retention-days 가 지난 파티션을 지우거나 보관 테이블로 떼어 냄 (집계가 실패하면 지우지 않음)
+ *
+ * newsletter.log.partitioned=false 면 2 만 실행함 (H2 부하 테스트처럼 파티션이 없는 DB)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MessageLogMaintenanceService {
+
+    private final MessagePartitionRepository partitionRepository;
+    private final MessageSummaryRepository summaryRepository;
+    private final NewsletterProperties properties;
+
+    public void runNightly(LocalDate today) {
+        NewsletterProperties.Log settings = properties.getLog();
+        if (settings.getRetentionDays() <= settings.getSettleDays()) {
+            throw new IllegalStateException("[MessageLog] retention-days 는 settle-days 보다 커야 합니다 - retention: "
+                    + settings.getRetentionDays() + ", settle: " + settings.getSettleDays());
+        }
+
+        List<LocalDate> partitions = settings.isPartitioned() ? addPartitions(today) : List.of();
+        rollUp(today);
+        if (settings.isPartitioned()) {
+            expirePartitions(today, partitions);
+        }
+    }
+
+    /**
+     * @return 작업 후의 일 단위 파티션 날짜 (오름차순)
+     */
+    private List<LocalDate> addPartitions(LocalDate today) {
+        List<LocalDate> existing = partitionRepository.findDailyPartitions();
+        // V11 이 마이그레이션 날짜의 파티션을 만들어 두므로 보통 그다음 날부터 이어 만듦
+        // 일 단위 파티션이 하나도 없으면(p_future 만 있는 DB) 오늘 파티션부터 만듦 (오늘 파티션이 그 전 로그를 모두 담음)
+        LocalDate next = existing.isEmpty() ? today : existing.get(existing.size() - 1).plusDays(1);
+        LocalDate last = today.plusDays(properties.getLog().getPrecreateDays());
+
+        List<LocalDate> days = new ArrayList<>();
+        for (LocalDate day = next; !day.isAfter(last); day = day.plusDays(1)) {
+            days.add(day);
+        }
+        if (days.isEmpty()) {
+            return existing;
+        }
+
+        partitionRepository.addDailyPartitions(days);
+        log.info("[MessageLog] 🗂️ 파티션 {}개 추가 - {} ~ {}", days.size(), days.get(0), days.get(days.size() - 1));
+
+        List<LocalDate> partitions = new ArrayList<>(existing);
+        partitions.addAll(days);
+        return partitions;
+    }
+
+    private void rollUp(LocalDate today) {
+        LocalDate until = today.minusDays(properties.getLog().getSettleDays());
+        // 처음 한 번은 남아 있는 가장 오래된 발송일부터 집계함
+        Optional<LocalDate> from = summaryRepository.findLastRolledUpDate()
+                .map(day -> day.plusDays(1))
+                .or(summaryRepository::findOldestSendDate);
+        if (from.isEmpty() || from.get().isAfter(until)) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        int rows = 0;
+        for (LocalDate day = from.get(); !day.isAfter(until); day = day.plusDays(1)) {
+            rows += summaryRepository.rollUp(day, now);
+        }
+        log.info("[MessageLog] 📊 발송 로그 집계 - {} ~ {}, 집계 행 {}개", from.get(), until, rows);
+    }
+
+    // 파티션 p<D> 는 send_date <= D 인 행만 담으므로, D 가 보관 기간보다 앞이면 안의 행도 모두 보관 기간이 지난 것임
+    private void expirePartitions(LocalDate today, List<LocalDate> partitions) {
+        LocalDate cutoff = today.minusDays(properties.getLog().getRetentionDays());
+        boolean archive = properties.getLog().getRetentionMode() == NewsletterProperties.RetentionMode.ARCHIVE;
+
+        for (LocalDate day : partitions) {
+            if (!day.isBefore(cutoff)) {
+                break;
+            }
+            if (archive) {
+                String table = partitionRepository.archivePartition(day);
+                log.info("[MessageLog] 📦 보관 기간이 지난 파티션 보관 - {} → {}", day, table);
+            } else {
+                partitionRepository.dropPartition(day);
+                log.info("[MessageLog] 🧹 보관 기간이 지난 파티션 삭제 - {}", day);
+            }
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package com.email.scheduler.email_scheduler_server.newsletter.service;
+
+import com.email.scheduler.email_scheduler_server.newsletter.config.NewsletterProperties;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.stereotype.Component;
+
+/**
+ * 발행할 수 있는 회차 파일 목록 (순번 순으로 정렬해 메모리에 보관)
+ * - 시작할 때 한 번 읽고, 위치가 파일 시스템 디렉터리면 파일 추가/수정/삭제를 감지해 목록을 다시 만듦
+ * - 목록은 불변 스냅샷으로 통째로 교체하므로 조회 쪽에는 잠금이 필요 없음
+ * - 다음 회차는 파일명 → 위치 맵으로 바로 찾음 (마지막 회차 파일이 사라진 경우에만 순번으로 이진 탐색)
+ * - 발행 위치(dispatch_cursor)는 순번이 커질 때만 나아가므로, 순번을 읽을 수 없거나(0) 이미 다른 파일이 쓴 순번인 파일은 목록에서 뺌
+ *   (그대로 두면 그 파일을 발행할 때마다 커서를 옮기지 못해 다음 회차로 넘어가지 못함)
+ */
+@Slf4j
+@Component
+public class NewsletterCatalog implements AutoCloseable {
+
+    private final String location;
+    private final ResourcePatternResolver resolver = new PathMatchingResourcePatternResolver();
+
+    private volatile Snapshot snapshot;
+    private WatchService watchService;
+
+    public NewsletterCatalog(NewsletterProperties properties) {
+        this.location = properties.getCatalog().getLocation();
+        this.snapshot = load();
+        watchIfFileSystem();
+    }
+
+    /**
+     * 마지막으로 발행한 회차 다음 회차
+     *
+     * @param lastFileName 마지막 발행 회차 파일명 (아직 발행한 적이 없으면 null)
+     * @param lastSequence 마지막 발행 회차 순번
+     */
+    public Optional<Entry> next(String lastFileName, int lastSequence) {
+        Snapshot current = snapshot;
+
+        if (lastFileName == null) {
+            return current.entryAt(0);
+        }
+
+        Integer index = current.indexByFileName().get(lastFileName);
+        if (index != null) {
+            return current.entryAt(index + 1);
+        }
+
+        // 마지막 회차 파일이 목록에서 빠졌으면 순번이 더 큰 첫 회차 (목록의 순번은 겹치지 않음)
+        int position = Arrays.binarySearch(current.sequences(), lastSequence + 1);
+        return current.entryAt(position < 0 ? -position - 1 : position);
+    }
+
+    public int size() {
+        return snapshot.entries().size();
+    }
+
+    public void refresh() {
+        snapshot = load();
+    }
+
+    private Snapshot load() {
+        try {
+            List<Entry> sorted = Stream.of(resolver.getResources(location + "*.md"))
+                    .filter(resource -> resource.getFilename() != null)
+                    .map(resource -> new Entry(extractNumber(resource.getFilename()), resource.getFilename(), resource))
+                    .sorted(Comparator.comparingInt(Entry::sequence).thenComparing(Entry::fileName))
+                    .toList();
+
+            // 같은 순번이면 파일명 순으로 앞선 파일만 남김
+            List<Entry> entries = new ArrayList<>(sorted.size());
+            for (Entry entry : sorted) {
+                if (entry.sequence() <= 0) {
+                    log.error("[Catalog] 파일명에서 순번(1 이상)을 읽을 수 없어 건너뜁니다 - {}", entry.fileName());
+                    continue;
+                }
+                Entry previous = entries.isEmpty() ? null : entries.get(entries.size() - 1);
+                if (previous != null && previous.sequence() == entry.sequence()) {
+                    log.error("[Catalog] 순번 {} 을(를) {} 이(가) 이미 쓰고 있어 건너뜁니다 - {}",
+                            entry.sequence(), previous.fileName(), entry.fileName());
+                    continue;
+                }
+                entries.add(entry);
+            }
+
+            Map<String, Integer> indexByFileName = new HashMap<>();
+            int[] sequences = new int[entries.size()];
+            for (int i = 0; i < entries.size(); i++) {
+                indexByFileName.put(entries.get(i).fileName(), i);
+                sequences[i] = entries.get(i).sequence();
+            }
+
+            log.info("[Catalog] 📚 회차 목록 로드 - {}개 ({})", entries.size(), location);
+            return new Snapshot(List.copyOf(entries), Map.copyOf(indexByFileName), sequences);
+        } catch (IOException e) {
+            throw new UncheckedIOException("회차 목록을 읽지 못했습니다: " + location, e);
+        }
+    }
+
+    private void watchIfFileSystem() {
+        Resource directory = resolver.getResource(location);
+        if (!directory.isFile()) {
+            // jar 안의 classpath 리소스는 실행 중에 바뀌지 않음
+            return;
+        }
+
+        try {
+            Path path = directory.getFile().toPath();
+            watchService = path.getFileSystem().newWatchService();
+            path.register(watchService,
+                    StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY,
+                    StandardWatchEventKinds.ENTRY_DELETE);
+            Thread.ofVirtual().name("newsletter-catalog-watcher").start(this::watchLoop);
+        } catch (IOException e) {
+            log.warn("[Catalog] 회차 디렉터리 변경 감지를 시작하지 못했습니다 - {}", location, e);
+        }
+    }
+
+    private void watchLoop() {
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                // 파일 수가 적으므로 어떤 변경이든 목록 전체를 다시 읽음
+                key.pollEvents();
+                try {
+                    refresh();
+                } catch (RuntimeException e) {
+                    log.error("[Catalog] 회차 목록 갱신 실패 - 이전 목록을 계속 사용합니다", e);
+                }
+                if (!key.reset()) {
+                    return;
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // close() 로 종료
+        }
+    }
+
+    // 숫자가 없거나 int 범위를 넘으면 0 (목록에서 빠짐)
+    private int extractNumber(String fileName) {
+        try {
+            String number = fileName.replaceAll("[^0-9]", "");
+            return Integer.parseInt(number);
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (watchService != null) {
+            watchService.close();
+        }
+    }
+
+    public record Entry(int sequence, String fileName, Resource resource) {
+
+        public String readContent() throws IOException {
+            return new String(resource.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private record Snapshot(List<Entry> entries, Map<String, Integer> indexByFileName, int[] sequences) {
+
+        Optional<Entry> entryAt(int index) {
+            return index < entries.size() ? Optional.of(entries.get(index)) : Optional.empty();
+        }
+    }
+}
@@ -1,50 +1,64 @@
 package com.email.scheduler.email_scheduler_server.newsletter.service;
 
-import static com.email.scheduler.email_scheduler_server.newsletter.config.RabbitMQConfig.EXCHANGE_NAME;
-
-import com.email.scheduler.email_scheduler_server.newsletter.domain.NewsletterMessage;
-import com.email.scheduler.email_scheduler_server.newsletter.repository.MessageRepository;
+import com.email.scheduler.email_scheduler_server.newsletter.config.NewsletterProperties;
+import com.email.scheduler.email_scheduler_server.newsletter.domain.IssueReference;
+import com.email.scheduler.email_scheduler_server.newsletter.domain.NewsletterIssue;
+import com.email.scheduler.email_scheduler_server.newsletter.domain.NewsletterRun;
+import com.email.scheduler.email_scheduler_server.newsletter.domain.NewsletterShardMessage;
+import com.email.scheduler.email_scheduler_server.newsletter.domain.RunShard;
+import com.email.scheduler.email_scheduler_server.newsletter.dto.SlotSummary;
+import com.email.scheduler.email_scheduler_server.newsletter.repository.DispatchCursorRepository;
+import com.email.scheduler.email_scheduler_server.newsletter.repository.NewsletterIssueRepository;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
-import java.util.Comparator;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.TreeMap;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
-import org.springframework.core.io.Resource;
-import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
-public class
-NewsletterPublisher {
+public class NewsletterPublisher {
+
+    private final ShardDispatcher shardDispatcher;
+    private final DeliveryRunService runService;
+    private final DispatchCursorRepository cursorRepository;
+    private final NewsletterIssueRepository issueRepository;
+    private final NewsletterCatalog catalog;
+    private final NewsletterProperties properties;
 
-    private final RabbitTemplate rabbitTemplate;
-    private final MessageRepository messageRepository;
+    private static final int REDISPATCH_LIMIT = 100;
 
     public boolean publishNewsletter() {
         try {
-            List<String> newsletterFiles = loadNewsletterFiles();
-            String nextFileName = determineNextNewsletterFile(newsletterFiles);
-            if (nextFileName == null) {
+            String series = properties.getCatalog().getSeries();
+            Optional<NewsletterCatalog.Entry> next = determineNextNewsletter(series);
+            if (next.isEmpty()) {
                 log.info("모든 뉴스레터를 전송 완료했습니다.");
                 return false;
             }
 
-            var resource = new PathMatchingResourcePatternResolver()
-                    .getResource("classpath:newsletters/" + nextFileName);
-            String content = new String(resource.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+            NewsletterCatalog.Entry entry = next.get();
+            String nextFileName = entry.fileName();
+            String content = entry.readContent();
 
-            NewsletterMessage message = new NewsletterMessage(nextFileName, content);
+            // 본문은 DB 에 한 번만 저장하고, 메시지에는 회차 참조(id + checksum)만 실음
+            NewsletterIssue issue = registerIssue(nextFileName, content);
+            IssueReference reference = issue.toReference();
 
-            rabbitTemplate.convertAndSend(EXCHANGE_NAME, "", message);
-            log.info("📨 [Publisher] Sent newsletter file: {}", nextFileName);
+            // 구독자 id 공간을 샤드로 나눠 샤드마다 작업 메시지 하나씩 발행
+            List<RunShard> shards = runService.startRun(series, entry.sequence(), issue);
+            dispatch(shards, reference);
+
+            log.info("📨 [Publisher] Sent newsletter file: {} ({} shards)", nextFileName, shards.size());
             return true;
         } catch (IOException e) {
             log.error("Failed to read newsletter content", e);
@@ -52,43 +66,129 @@ NewsletterPublisher {
         }
     }
 
-    private List<String> loadNewsletterFiles() throws IOException {
-        PathMatchingResourcePatternResolver resolver = new PathMatchingResourcePatternResolver();
-        Resource[] resources = resolver.getResources("classpath:newsletters/*.md");
+    /**
+     * 발송 웨이브: 현지 발송 시각이 된 발송 시간대의 구독자에게만 발행
+     * 같은 날짜(구독자 현지 날짜)의 웨이브는 모두 같은 회차를 보냄
+     * (그 날짜의 첫 웨이브가 다음 회차를 발행하고, 이후 웨이브는 그 회차를 재사용)
+     *
+     * @return 이번 웨이브에서 만든 실행 수 (0 이면 보낼 발송 시간대가 없음)
+     */
+    public int publishWave(Instant now) {
+        List<SlotSummary> due = runService.findDueSlots(now);
+        if (due.isEmpty()) {
+            return 0;
+        }
+
+        // 날짜 경계를 넘는 시간대가 섞이면 앞 날짜의 회차부터 정함
+        Map<LocalDate, List<SlotSummary>> byEditionDate = new TreeMap<>();
+        for (SlotSummary slot : due) {
+            byEditionDate.computeIfAbsent(slot.slot().editionDate(now), date -> new ArrayList<>()).add(slot);
+        }
 
-        return Stream.of(resources)
-                .map(Resource::getFilename)
-                .filter(Objects::nonNull)
-                .sorted(Comparator.comparingInt(this::extractNumber))
-                .collect(Collectors.toList());
+        int runs = 0;
+        for (Map.Entry<LocalDate, List<SlotSummary>> edition : byEditionDate.entrySet()) {
+            if (publishEdition(edition.getKey(), edition.getValue())) {
+                runs++;
+            }
+        }
+        return runs;
     }
 
-    private String determineNextNewsletterFile(List<String> newsletterFiles) {
-        Optional<String> lastSentOpt = messageRepository.findLastSentFileName();
+    private boolean publishEdition(LocalDate editionDate, List<SlotSummary> slots) {
+        try {
+            Optional<NewsletterIssue> edition = runService.findEditionIssue(editionDate);
+            NewsletterIssue issue;
+            List<RunShard> shards;
+
+            if (edition.isPresent()) {
+                issue = edition.get();
+                shards = runService.startWaveRun(issue, editionDate, slots);
+            } else {
+                String series = properties.getCatalog().getSeries();
+                Optional<NewsletterCatalog.Entry> next = determineNextNewsletter(series);
+                if (next.isEmpty()) {
+                    log.info("모든 뉴스레터를 전송 완료했습니다.");
+                    return false;
+                }
+
+                NewsletterCatalog.Entry entry = next.get();
+                issue = registerIssue(entry.fileName(), entry.readContent());
+                shards = runService.startEditionRun(series, entry.sequence(), issue, editionDate, slots);
+            }
+
+            dispatch(shards, issue.toReference());
+
+            log.info("📨 [Publisher] Sent newsletter wave: {} ({} - {} slots, {} shards)",
+                    issue.getFileName(), editionDate, slots.size(), shards.size());
+            return true;
+        } catch (IOException e) {
+            log.error("Failed to read newsletter content", e);
+            throw new RuntimeException(e);
+        }
+    }
 
-        if (lastSentOpt.isEmpty()) {
-            // 첫 실행 시 첫 번째 뉴스레터 발송
-            return newsletterFiles.get(0);
+    /**
+     * 발행 위치와 PENDING 샤드는 이미 커밋됐으므로, 발행 확인이 실패(nack, 반송, 시간 초과)해 여기서 멈춰도
+     * 남은 샤드는 redispatchPendingShards 가 다시 발행함 (다음 회차로 넘어가도 이 회차가 빠지지 않음)
+     */
+    private void dispatch(List<RunShard> shards, IssueReference reference) {
+        for (RunShard shard : shards) {
+            shardDispatcher.dispatch(toShardMessage(shard, shards.size(), reference));
+            runService.markDispatched(shard.getId());
         }
+    }
 
-        String lastSent = lastSentOpt.get();
-        int currentIndex = newsletterFiles.indexOf(lastSent);
+    /**
+     * 발행 확인을 받지 못한 채 newsletter.publish.redispatch-after 가 지난 PENDING 샤드를 다시 발행
+     * 모든 노드에서 실행되며, 샤드마다 가져간 노드 하나만 발행함 (이미 처리를 시작한 샤드는 PENDING 이 아니므로 제외됨)
+     *
+     * @return 다시 발행한 샤드 수
+     */
+    @Scheduled(fixedDelayString = "${newsletter.publish.redispatch-interval:30s}")
+    public int redispatchPendingShards() {
+        LocalDateTime now = LocalDateTime.now();
+        int redispatched = 0;
+        for (RunShard shard : runService.findUndispatchedShards(now, REDISPATCH_LIMIT)) {
+            if (!runService.claimRedispatch(shard.getId(), now)) {
+                continue;
+            }
 
-        int nextIndex = currentIndex + 1;
+            NewsletterRun run = shard.getRun();
+            shardDispatcher.dispatch(toShardMessage(shard, run.getShardCount(), run.getIssue().toReference()));
+            runService.markDispatched(shard.getId());
+            redispatched++;
+        }
 
-        if (nextIndex >= newsletterFiles.size()) {
-            return null;
+        if (redispatched > 0) {
+            log.info("♻️ [Publisher] 발행 확인을 받지 못한 샤드 {}개를 다시 발행했습니다", redispatched);
         }
+        return redispatched;
+    }
 
-        return newsletterFiles.get(nextIndex);
+    private NewsletterShardMessage toShardMessage(RunShard shard, int shardCount, IssueReference reference) {
+        return new NewsletterShardMessage(
+                shard.getRun().getId(),
+                shard.getId(),
+                shard.getShardIndex(),
+                shardCount,
+                shard.getFromId(),
+                shard.getToId(),
+                reference,
+                System.currentTimeMillis(),
+                shard.getSlot()
+        );
     }
 
-    private int extractNumber(String fileName) {
-        try {
-            String number = fileName.replaceAll("[^0-9]", "");
-            return Integer.parseInt(number);
-        } catch (NumberFormatException e) {
-            return 0;
-        }
+    // 회차 본문은 여기서 한 번만 저장 (이미 등록된 회차면 재사용), 발송 대상 식이 잘못됐으면 발행하지 않음
+    private NewsletterIssue registerIssue(String fileName, String content) {
+        return issueRepository.findByFileName(fileName)
+                .orElseGet(() -> issueRepository.save(NewsletterIssue.fromMarkdown(fileName, content)));
+    }
+
+    // 발송 로그 대신 시리즈의 발행 위치(PK 조회 한 번)와 메모리 목록으로 다음 회차를 정함
+    private Optional<NewsletterCatalog.Entry> determineNextNewsletter(String series) {
+        return cursorRepository.findById(series)
+                .map(cursor -> catalog.next(cursor.getLastFileName(), cursor.getLastSequence()))
+                .orElseGet(() -> catalog.next(null, -1));
     }
 }
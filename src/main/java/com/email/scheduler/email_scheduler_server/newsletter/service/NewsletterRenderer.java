@@ -0,0 +1,60 @@
+package com.email.scheduler.email_scheduler_server.newsletter.service;
+
+import com.email.scheduler.email_scheduler_server.newsletter.config.NewsletterProperties;
+import com.email.scheduler.email_scheduler_server.newsletter.domain.NewsletterMessage;
+import com.email.scheduler.email_scheduler_server.newsletter.mail.RenderedNewsletter;
+import com.email.scheduler.email_scheduler_server.newsletter.mail.UnsubscribeToken;
+import lombok.extern.slf4j.Slf4j;
+import org.commonmark.parser.Parser;
+import org.commonmark.renderer.html.HtmlRenderer;
+import org.springframework.stereotype.Component;
+
+/**
+ * 회차 본문(Markdown)을 MIME 메시지 템플릿으로 렌더링하고 회차 id 별로 캐시함
+ * Markdown → HTML 변환과 quoted-printable 인코딩은 회차당 한 번만 수행되고, 모든 샤드/페이지가 같은 결과를 공유함
+ */
+@Slf4j
+@Component
+public class NewsletterRenderer {
+
+    // 모든 회차 본문 끝에 붙는 구독 취소 안내
+    private static final String FOOTER = "\n\n---\n\n더 이상 뉴스레터를 받고 싶지 않으시면 [구독 취소]("
+            + RenderedNewsletter.UNSUBSCRIBE_PLACEHOLDER + ")를 눌러주세요.\n";
+
+    private final Parser parser = Parser.builder().build();
+    private final HtmlRenderer htmlRenderer = HtmlRenderer.builder().build();
+    private final RecentIssues<RenderedNewsletter> cache;
+
+    private final NewsletterProperties properties;
+    private final UnsubscribeToken unsubscribeToken;
+
+    public NewsletterRenderer(NewsletterProperties properties, UnsubscribeToken unsubscribeToken) {
+        this.properties = properties;
+        this.unsubscribeToken = unsubscribeToken;
+        this.cache = new RecentIssues<>(() -> properties.getRender().getCacheSize());
+    }
+
+    public RenderedNewsletter render(NewsletterMessage message) {
+        return cache.computeIfAbsent(message.getIssueId(), issueId -> renderNow(message));
+    }
+
+    private RenderedNewsletter renderNow(NewsletterMessage message) {
+        long start = System.currentTimeMillis();
+        String markdown = message.getContent() + FOOTER;
+        String html = htmlRenderer.render(parser.parse(markdown));
+
+        NewsletterProperties.Smtp smtp = properties.getSmtp();
+        RenderedNewsletter rendered = RenderedNewsletter.render(
+                smtp.getFrom(),
+                smtp.getSubject(),
+                markdown,
+                html,
+                properties.getRender().getUnsubscribeUrl(),
+                unsubscribeToken
+        );
+
+        log.info("[Renderer] 🖨️ 렌더링 완료 - {} ({} bytes, {}ms)",
+                message.getFileName(), rendered.staticBytes(), System.currentTimeMillis() - start);
+        return rendered;
+    }
+}
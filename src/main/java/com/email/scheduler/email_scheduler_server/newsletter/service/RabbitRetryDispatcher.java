@@ -0,0 +1,24 @@
+package com.email.scheduler.email_scheduler_server.newsletter.service;
+
+import static com.email.scheduler.email_scheduler_server.newsletter.config.RabbitMQConfig.RETRY_EXCHANGE_NAME;
+import static com.email.scheduler.email_scheduler_server.newsletter.config.RabbitMQConfig.retryWaitQueueName;
+
+import com.email.scheduler.email_scheduler_server.newsletter.domain.RetryBatchMessage;
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+// 대기 단계별 TTL 큐에 발행하면 TTL 이 지난 뒤 DLX 를 거쳐 재시도 큐로 넘어감
+@Component
+@Profile("!loadtest")
+@RequiredArgsConstructor
+public class RabbitRetryDispatcher implements RetryDispatcher {
+
+    private final ConfirmedPublisher publisher;
+
+    @Override
+    public void dispatch(RetryBatchMessage message, Duration delay) {
+        publisher.publish(RETRY_EXCHANGE_NAME, retryWaitQueueName(delay), message);
+    }
+}
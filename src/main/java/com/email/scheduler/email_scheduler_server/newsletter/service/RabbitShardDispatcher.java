@@ -0,0 +1,22 @@
+package com.email.scheduler.email_scheduler_server.newsletter.service;
+
+import static com.email.scheduler.email_scheduler_server.newsletter.config.RabbitMQConfig.SHARD_EXCHANGE_NAME;
+import static com.email.scheduler.email_scheduler_server.newsletter.config.RabbitMQConfig.SHARD_ROUTING_KEY;
+
+import com.email.scheduler.email_scheduler_server.newsletter.domain.NewsletterShardMessage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+@Component
+@Profile("!loadtest")
+@RequiredArgsConstructor
+public class RabbitShardDispatcher implements ShardDispatcher {
+
+    private final ConfirmedPublisher publisher;
+
+    @Override
+    public void dispatch(NewsletterShardMessage message) {
+        publisher.publish(SHARD_EXCHANGE_NAME, SHARD_ROUTING_KEY, message);
+    }
+}
@@ -0,0 +1,49 @@
+package com.email.scheduler.email_scheduler_server.newsletter.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntSupplier;
+
+/**
+ * 최근 회차 몇 개의 값만 남기는 회차 id 별 맵 (회차 본문 캐시, 렌더링 캐시, 회차별 지표가 함께 씀)
+ * 회차 id 는 증가하므로 크기를 넘으면 가장 작은(오래된) id 부터 내보내고, 내보낸 값은 onEvict 로 넘김
+ * 크기는 설정을 바꾸면 다음 조회부터 바로 반영되도록 매번 읽음
+ */
+public class RecentIssues<V> {
+
+    private final Map<Long, V> entries = new ConcurrentHashMap<>();
+
+    private final IntSupplier capacity;
+    private final Consumer<V> onEvict;
+
+    public RecentIssues(IntSupplier capacity) {
+        this(capacity, value -> {
+        });
+    }
+
+    public RecentIssues(IntSupplier capacity, Consumer<V> onEvict) {
+        this.capacity = capacity;
+        this.onEvict = onEvict;
+    }
+
+    /**
+     * 회차의 값을 찾고 없으면 만들어 넣은 뒤, 크기를 넘는 오래된 회차를 내보냄
+     */
+    public V computeIfAbsent(Long issueId, Function<Long, V> loader) {
+        V value = entries.computeIfAbsent(issueId, loader);
+        evictOldest();
+        return value;
+    }
+
+    // 동시에 내보내던 다른 스레드가 먼저 지운 id 는 remove 가 null 이라 onEvict 를 한 번만 부름
+    private void evictOldest() {
+        int max = capacity.getAsInt();
+        while (entries.size() > max) {
+            entries.keySet().stream().min(Long::compare)
+                    .map(entries::remove)
+                    .ifPresent(onEvict);
+        }
+    }
+}
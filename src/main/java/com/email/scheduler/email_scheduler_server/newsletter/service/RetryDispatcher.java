@@ -0,0 +1,12 @@
+package com.email.scheduler.email_scheduler_server.newsletter.service;
+
+import com.email.scheduler.email_scheduler_server.newsletter.domain.RetryBatchMessage;
+import java.time.Duration;
+
+/**
+ * 재시도 배치를 delay 만큼 기다린 뒤 재시도 큐로 넘기는 역할
+ */
+public interface RetryDispatcher {
+
+    void dispatch(RetryBatchMessage message, Duration delay);
+}
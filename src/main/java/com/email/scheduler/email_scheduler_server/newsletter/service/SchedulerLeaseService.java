@@ -0,0 +1,66 @@
+package com.email.scheduler.email_scheduler_server.newsletter.service;
+
+import com.email.scheduler.email_scheduler_server.newsletter.config.NewsletterProperties;
+import com.email.scheduler.email_scheduler_server.newsletter.repository.SchedulerLeaseRepository;
+import java.lang.management.ManagementFactory;
+import java.time.Instant;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * DB 행(scheduler_lease)으로 스케줄 작업의 실행권을 노드 하나에만 줌
+ * 모든 노드의 @Scheduled 가 같은 시각에 실행되어도 회차(slot)마다 한 노드만 발행하고 나머지는 건너뜀
+ * 실행권은 newsletter.lease.duration 뒤에 만료되므로, 보유 노드가 죽어도 다음 회차는 다른 노드가 가져감
+ */
+@Slf4j
+@Service
+public class SchedulerLeaseService {
+
+    private final SchedulerLeaseRepository leaseRepository;
+    private final NewsletterProperties properties;
+    private final String owner;
+
+    @Autowired
+    public SchedulerLeaseService(SchedulerLeaseRepository leaseRepository, NewsletterProperties properties) {
+        // pid@호스트 + 임의 값 (같은 호스트에서 재시작해도 이전 실행과 구분되도록)
+        this(leaseRepository, properties,
+                ManagementFactory.getRuntimeMXBean().getName() + "/" + UUID.randomUUID().toString().substring(0, 8));
+    }
+
+    SchedulerLeaseService(SchedulerLeaseRepository leaseRepository, NewsletterProperties properties, String owner) {
+        this.leaseRepository = leaseRepository;
+        this.properties = properties;
+        this.owner = owner;
+    }
+
+    /**
+     * @param slot 스케줄 회차 (모든 노드가 같은 값을 쓰도록 정시 등으로 잘라서 넘김)
+     * @return 이 노드가 회차의 실행권을 가져갔으면 true
+     */
+    @Transactional
+    public boolean tryAcquire(String name, Instant slot, Instant now) {
+        leaseRepository.insertIfAbsent(name, Instant.EPOCH);
+
+        Instant lockedUntil = now.plus(properties.getLease().getDuration());
+        boolean acquired = leaseRepository.acquire(name, slot, owner, lockedUntil, now) == 1;
+        if (acquired) {
+            log.info("[Lease] 🔑 실행권 획득 - 작업: {}, 회차: {}, 노드: {}", name, slot, owner);
+        }
+        return acquired;
+    }
+
+    @Transactional
+    public void release(String name, Instant slot, Instant now) {
+        if (leaseRepository.release(name, slot, owner, now) == 0) {
+            // 만료 시간 안에 끝내지 못해 다른 노드가 다음 회차를 가져간 경우
+            log.warn("[Lease] 이미 만료된 실행권입니다 - 작업: {}, 회차: {}, 노드: {}", name, slot, owner);
+        }
+    }
+
+    public String owner() {
+        return owner;
+    }
+}
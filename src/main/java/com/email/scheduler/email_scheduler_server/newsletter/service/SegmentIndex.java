@@ -0,0 +1,133 @@
+package com.email.scheduler.email_scheduler_server.newsletter.service;
+
+import com.email.scheduler.email_scheduler_server.newsletter.domain.Segment;
+import com.email.scheduler.email_scheduler_server.newsletter.domain.SegmentExpression;
+import com.email.scheduler.email_scheduler_server.newsletter.dto.SegmentSummary;
+import com.email.scheduler.email_scheduler_server.newsletter.repository.SegmentRepository;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 세그먼트 비트맵의 노드 로컬 인덱스 (세그먼트 이름 → Roaring 비트맵)
+ * - 시작할 때 모든 세그먼트를 읽고, refresh-interval 마다 version 이 바뀐 세그먼트만 다시 읽음
+ * - 이 노드가 바꾼 세그먼트는 커밋 직후 바로 반영함 (SegmentService)
+ * - 비트맵은 교체만 하고 고치지 않으므로 읽는 쪽에는 잠금이 필요 없음
+ *
+ * Roaring 비트맵은 32비트(부호 없는 int) 값만 담으므로 구독자 id 는 2^32 미만이어야 함
+ */
+@Slf4j
+@Component
+public class SegmentIndex implements InitializingBean {
+
+    // 구독자 id 구간의 끝 (제외), NOT 을 계산할 수 있는 가장 큰 범위
+    public static final long MAX_ID_EXCLUSIVE = 1L << 32;
+
+    private static final RoaringBitmap EMPTY = new RoaringBitmap();
+
+    private final Map<String, Snapshot> segments = new ConcurrentHashMap<>();
+
+    private final SegmentRepository repository;
+
+    public SegmentIndex(SegmentRepository repository) {
+        this.repository = repository;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        refresh();
+    }
+
+    /**
+     * 발송 대상 식을 구간 [fromId, toId] 안의 구독자 id 비트맵으로 계산 (새 비트맵, 고쳐도 됨)
+     * 없는 세그먼트는 빈 세그먼트로 봄
+     */
+    public RoaringBitmap resolve(SegmentExpression expression, long fromId, long toId) {
+        long from = Math.max(fromId, 0);
+        long toExclusive = Math.min(toId, MAX_ID_EXCLUSIVE - 1) + 1;
+        if (from >= toExclusive) {
+            return new RoaringBitmap();
+        }
+
+        RoaringBitmap result = expression.evaluate(this::bitmapOf, from, toExclusive);
+        result.and(RoaringBitmap.bitmapOfRange(from, toExclusive));
+        return result;
+    }
+
+    public Optional<SegmentSummary> find(String name) {
+        Snapshot snapshot = segments.get(name);
+        return snapshot == null
+                ? Optional.empty()
+                : Optional.of(new SegmentSummary(name, snapshot.version(), snapshot.bitmap().getLongCardinality()));
+    }
+
+    /**
+     * DB 의 세그먼트 버전과 비교해 바뀐 세그먼트만 다시 읽고, 지워진 세그먼트는 뺌
+     */
+    @Scheduled(fixedDelayString = "${newsletter.segment.refresh-interval:30s}")
+    public void refresh() {
+        List<SegmentSummary> summaries = repository.findSummaries();
+        Set<String> names = new HashSet<>();
+
+        int reloaded = 0;
+        for (SegmentSummary summary : summaries) {
+            names.add(summary.name());
+            Snapshot current = segments.get(summary.name());
+            if (current != null && current.version() == summary.version()) {
+                continue;
+            }
+            repository.findById(summary.name()).ifPresent(this::apply);
+            reloaded++;
+        }
+        segments.keySet().retainAll(names);
+
+        if (reloaded > 0) {
+            log.info("[Segment] 세그먼트 {}개 다시 읽음 (전체 {}개)", reloaded, names.size());
+        }
+    }
+
+    /**
+     * 세그먼트 행 하나를 인덱스에 반영 (인덱스에 있는 것보다 새 버전일 때만)
+     */
+    public void apply(Segment segment) {
+        Snapshot snapshot = new Snapshot(segment.getVersion(), fromBytes(segment.getBitmap()));
+        segments.merge(segment.getName(), snapshot,
+                (current, updated) -> updated.version() >= current.version() ? updated : current);
+    }
+
+    private RoaringBitmap bitmapOf(String name) {
+        Snapshot snapshot = segments.get(name);
+        return snapshot != null ? snapshot.bitmap() : EMPTY;
+    }
+
+    public static byte[] toBytes(RoaringBitmap bitmap) {
+        bitmap.runOptimize();
+        ByteBuffer buffer = ByteBuffer.allocate(bitmap.serializedSizeInBytes());
+        bitmap.serialize(buffer);
+        return buffer.array();
+    }
+
+    public static RoaringBitmap fromBytes(byte[] bytes) {
+        RoaringBitmap bitmap = new RoaringBitmap();
+        try {
+            bitmap.deserialize(ByteBuffer.wrap(bytes));
+        } catch (IOException e) {
+            throw new UncheckedIOException("세그먼트 비트맵을 읽지 못했습니다", e);
+        }
+        return bitmap;
+    }
+
+    private record Snapshot(long version, RoaringBitmap bitmap) {
+    }
+}
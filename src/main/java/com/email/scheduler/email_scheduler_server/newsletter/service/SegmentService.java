@@ -0,0 +1,90 @@
+package com.email.scheduler.email_scheduler_server.newsletter.service;
+
+import com.email.scheduler.email_scheduler_server.newsletter.domain.Segment;
+import com.email.scheduler.email_scheduler_server.newsletter.domain.SegmentExpression;
+import com.email.scheduler.email_scheduler_server.newsletter.dto.SegmentResolution;
+import com.email.scheduler.email_scheduler_server.newsletter.dto.SegmentSummary;
+import com.email.scheduler.email_scheduler_server.newsletter.repository.SegmentRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.IntConsumer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 세그먼트 소속 변경
+ * 세그먼트 행을 잠근 채 비트맵을 읽어 고치고 다시 저장하므로, 여러 노드가 같은 세그먼트를 동시에 바꿔도 변경이 사라지지 않음
+ * 커밋된 뒤에 이 노드의 인덱스에 바로 반영하고, 다른 노드는 다음 갱신 때 version 이 바뀐 것을 보고 다시 읽음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SegmentService {
+
+    private final SegmentRepository segmentRepository;
+    private final SegmentIndex segmentIndex;
+
+    @Transactional
+    public SegmentSummary addMembers(String name, List<Long> subscriberIds) {
+        return update(name, subscriberIds, true);
+    }
+
+    @Transactional
+    public SegmentSummary removeMembers(String name, List<Long> subscriberIds) {
+        return update(name, subscriberIds, false);
+    }
+
+    /**
+     * 발송 대상 식을 이 노드의 인덱스로 계산해 크기와 걸린 시간을 돌려줌 (회차에 쓰기 전 확인용)
+     */
+    public SegmentResolution resolve(String audience) {
+        SegmentExpression expression = SegmentExpression.parse(audience);
+
+        long start = System.nanoTime();
+        RoaringBitmap ids = segmentIndex.resolve(expression, 1, Long.MAX_VALUE);
+        double elapsedMillis = (System.nanoTime() - start) / 1_000_000.0;
+
+        return new SegmentResolution(audience, ids.getLongCardinality(), elapsedMillis);
+    }
+
+    private SegmentSummary update(String name, List<Long> subscriberIds, boolean add) {
+        if (!SegmentExpression.isValidName(name)) {
+            throw new IllegalArgumentException("세그먼트 이름은 영문/숫자와 _ : . - 로만 100자 이내여야 합니다: " + name);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        segmentRepository.insertIfAbsent(name, SegmentIndex.toBytes(new RoaringBitmap()), now);
+        Segment segment = segmentRepository.findForUpdate(name)
+                .orElseThrow(() -> new IllegalStateException("[Segment] 세그먼트를 찾을 수 없습니다 - " + name));
+
+        RoaringBitmap bitmap = SegmentIndex.fromBytes(segment.getBitmap());
+        IntConsumer change = add ? bitmap::add : bitmap::remove;
+        for (Long subscriberId : subscriberIds) {
+            change.accept(toBitmapValue(subscriberId));
+        }
+        segment.replace(SegmentIndex.toBytes(bitmap), bitmap.getLongCardinality(), now);
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                segmentIndex.apply(segment);
+            }
+        });
+
+        log.info("[Segment] 🏷️ 세그먼트 {} - {}, {}명 → {}명 (v{})",
+                add ? "추가" : "제외", name, subscriberIds.size(), segment.getCardinality(), segment.getVersion());
+        return new SegmentSummary(name, segment.getVersion(), segment.getCardinality());
+    }
+
+    private int toBitmapValue(long subscriberId) {
+        if (subscriberId <= 0 || subscriberId >= SegmentIndex.MAX_ID_EXCLUSIVE) {
+            throw new IllegalArgumentException("세그먼트에 담을 수 없는 구독자 id 입니다: " + subscriberId);
+        }
+        return (int) subscriberId;
+    }
+}
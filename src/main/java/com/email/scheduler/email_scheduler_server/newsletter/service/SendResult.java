@@ -0,0 +1,18 @@
+package com.email.scheduler.email_scheduler_server.newsletter.service;
+
+/**
+ * 이메일 한 건의 발송 결과
+ */
+public enum SendResult {
+    // 서버가 메시지를 받음
+    SENT,
+    // 4xx 응답, 연결 오류, 시간 초과, 연결/세션 단계(AUTH, MAIL FROM 등)의 5xx 처럼 잠시 후 다시 보내면 성공할 수 있는 실패
+    RETRYABLE,
+    // 수신자 단계(RCPT/DATA)의 5xx 응답: 이 주소로는 다시 보내도 성공할 수 없으므로 발송 제외 목록에 올림 (하드 바운스)
+    BOUNCED,
+    // 분류하지 못한 예외 등 다시 보내지 않는 실패 (수신자 탓인지 알 수 없으므로 발송 제외 대상은 아님)
+    REJECTED,
+    // 본문(DATA)을 보낸 뒤 응답을 받지 못해 서버가 받았는지 알 수 없음
+    // 중복 발송을 막으려고 다시 보내지 않지만, 수신자의 거절은 아니므로 반송(발송 제외 대상)으로 보지 않음
+    DELIVERY_UNKNOWN
+}
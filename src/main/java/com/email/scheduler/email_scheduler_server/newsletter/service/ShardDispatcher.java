@@ -0,0 +1,11 @@
+package com.email.scheduler.email_scheduler_server.newsletter.service;
+
+import com.email.scheduler.email_scheduler_server.newsletter.domain.NewsletterShardMessage;
+
+/**
+ * 샤드 작업 메시지를 작업 큐로 보내는 역할
+ */
+public interface ShardDispatcher {
+
+    void dispatch(NewsletterShardMessage message);
+}
@@ -0,0 +1,172 @@
+package com.email.scheduler.email_scheduler_server.newsletter.service;
+
+import com.email.scheduler.email_scheduler_server.newsletter.config.NewsletterProperties;
+import com.email.scheduler.email_scheduler_server.newsletter.dto.CsvTransferReport;
+import com.email.scheduler.email_scheduler_server.newsletter.dto.SubscriberRow;
+import com.email.scheduler.email_scheduler_server.newsletter.repository.SubscriberStreamReader;
+import com.email.scheduler.email_scheduler_server.newsletter.repository.SubscriberWriter;
+import jakarta.validation.Validator;
+import jakarta.validation.constraints.Email;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * 구독자 CSV 가져오기/내보내기
+ * 파일 전체를 메모리에 올리지 않고 한 행씩 읽어 subscriber.batch-size 행씩 저장하고, 내보내기는 DB 커서에서 읽는 대로 바로 응답에 씀
+ * 따라서 파일 크기와 무관하게 메모리 사용량은 배치 하나 + 입출력 버퍼로 일정함
+ *
+ * CSV 형식: email[,active] (첫 줄에 email 열 이름이 있으면 헤더로 보고 열 순서를 따름, active 가 없으면 true)
+ * 따옴표/줄바꿈 규칙은 CsvFormat 하나로 읽고 쓰므로 내보낸 파일을 그대로 다시 가져올 수 있음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SubscriberCsvService {
+
+    private static final int MAX_EMAIL_LENGTH = 255;
+    private static final int IO_BUFFER_SIZE = 64 * 1024;
+
+    private final SubscriberWriter subscriberWriter;
+    private final SubscriberStreamReader streamReader;
+    private final NewsletterProperties properties;
+    private final Validator validator;
+
+    public CsvTransferReport importCsv(InputStream in) throws IOException {
+        long start = System.nanoTime();
+        int batchSize = properties.getSubscriber().getBatchSize();
+        List<SubscriberRow> batch = new ArrayList<>(batchSize);
+        long imported = 0;
+        long skipped = 0;
+
+        CsvFormat.RowReader reader = new CsvFormat.RowReader(
+                new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), IO_BUFFER_SIZE));
+        Columns columns = null;
+        List<String> fields;
+        while ((fields = reader.next()) != null) {
+            if (columns == null) {
+                columns = Columns.from(fields);
+                if (columns.header()) {
+                    continue;
+                }
+            }
+
+            SubscriberRow row = columns.toRow(fields, validator);
+            if (row == null) {
+                skipped++;
+                continue;
+            }
+            batch.add(row);
+            if (batch.size() == batchSize) {
+                subscriberWriter.importAll(batch);
+                imported += batch.size();
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            subscriberWriter.importAll(batch);
+            imported += batch.size();
+        }
+
+        CsvTransferReport report = CsvTransferReport.of(imported, skipped, start);
+        log.info("[CSV] 📥 구독자 가져오기 완료 - {}행 (건너뜀: {}), {}ms, {}행/s",
+                report.rows(), report.skipped(), report.elapsedMillis(), Math.round(report.rowsPerSecond()));
+        return report;
+    }
+
+    /**
+     * 활성 구독자를 id 순서로 id,email 형식으로 씀 (응답 스트림은 호출한 쪽이 닫음)
+     */
+    public CsvTransferReport exportCsv(OutputStream out) throws IOException {
+        long start = System.nanoTime();
+        AtomicLong rows = new AtomicLong();
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), IO_BUFFER_SIZE);
+        writer.write(CsvFormat.row("id", "email"));
+        try {
+            streamReader.forEachActive(subscriber -> {
+                try {
+                    writer.write(CsvFormat.row(String.valueOf(subscriber.id()), subscriber.email()));
+                    rows.incrementAndGet();
+                } catch (IOException e) {
+                    // 클라이언트가 연결을 끊으면 커서 읽기도 중단
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+
+        CsvTransferReport report = CsvTransferReport.of(rows.get(), 0, start);
+        log.info("[CSV] 📤 구독자 내보내기 완료 - {}행, {}ms, {}행/s",
+                report.rows(), report.elapsedMillis(), Math.round(report.rowsPerSecond()));
+        return report;
+    }
+
+    /**
+     * CSV 의 이메일 열 검사용 (행마다 객체를 만들지 않도록 validateValue 로 값만 검사함)
+     */
+    private record CsvEmail(@Email String email) {
+    }
+
+    /**
+     * 열 위치 (헤더가 없으면 email 은 첫 번째, active 는 두 번째 열)
+     */
+    private record Columns(boolean header, int email, int active) {
+
+        static Columns from(List<String> firstLine) {
+            if (indexOf(firstLine, "email") < 0) {
+                return new Columns(false, 0, 1);
+            }
+            return new Columns(true, indexOf(firstLine, "email"), indexOf(firstLine, "active"));
+        }
+
+        // 이메일 형식이 아니면 null (건너뛸 행), 구독 API 와 같은 @Email 제약으로 검사함
+        SubscriberRow toRow(List<String> fields, Validator validator) {
+            String email = field(fields, email);
+            if (email.isEmpty() || email.length() > MAX_EMAIL_LENGTH
+                    || !validator.validateValue(CsvEmail.class, "email", email).isEmpty()) {
+                return null;
+            }
+            return new SubscriberRow(email, parseActive(field(fields, active)));
+        }
+
+        private static boolean parseActive(String value) {
+            return switch (value.toLowerCase(Locale.ROOT)) {
+                case "false", "0", "n", "no" -> false;
+                default -> true;
+            };
+        }
+
+        private static int indexOf(List<String> fields, String name) {
+            for (int i = 0; i < fields.size(); i++) {
+                if (fields.get(i).equalsIgnoreCase(name)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private static String field(List<String> fields, int index) {
+            if (index < 0 || index >= fields.size()) {
+                return "";
+            }
+            return fields.get(index).trim();
+        }
+    }
+}
@@ -1,10 +1,10 @@
 package com.email.scheduler.email_scheduler_server.newsletter.service;
 
-import com.email.scheduler.email_scheduler_server.newsletter.domain.Subscriber;
-import com.email.scheduler.email_scheduler_server.newsletter.repository.SubscriberRepository;
+import com.email.scheduler.email_scheduler_server.newsletter.mail.UnsubscribeToken;
+import com.email.scheduler.email_scheduler_server.newsletter.repository.SubscriberWriter;
+import java.util.List;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
-import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -12,49 +12,55 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class SubscriptionService {
 
-    private final SubscriberRepository subscriberRepository;
+    private final SubscriberWriter subscriberWriter;
+    private final UnsubscribeToken unsubscribeToken;
 
-    @Transactional
-    public Subscriber subscribe(String email) {
-        Optional<Subscriber> optionalSubscriber = subscriberRepository.findByEmail(email);
+    // 조회 없이 신규 등록과 비활성 구독자 재활성화를 처리 (동시 요청도 유니크 인덱스가 정리함)
+    public void subscribe(String email) {
+        subscriberWriter.upsert(email);
+    }
 
-        if (optionalSubscriber.isPresent()) {
-            return reactivateIfInactive(optionalSubscriber.get());
-        } else {
-            return createNewSubscriber(email);
+    /**
+     * 발송 시간대를 함께 지정해 구독 (null 인 값은 기존 구독자면 유지, 신규면 기본값)
+     */
+    public void subscribe(String email, String timeZone, Integer deliveryHour) {
+        if (timeZone == null && deliveryHour == null) {
+            subscribe(email);
+            return;
         }
+        subscriberWriter.upsert(email, timeZone, deliveryHour);
     }
 
+    /**
+     * 여러 이메일을 한 번에 구독 처리
+     *
+     * @return 중복을 제거하고 처리한 이메일 수
+     */
     @Transactional
-    public void unsubscribe(String email) {
-        subscriberRepository.findByEmail(email).ifPresent(subscriber -> {
-            if (subscriber.isActive()) {
-                subscriber.deactivate();
-                subscriberRepository.save(subscriber);
-            }
-        });
+    public int subscribeAll(List<String> emails) {
+        return subscriberWriter.upsertAll(emails);
     }
 
-    // 이미 존재하는 구독자 처리
-    // 비활성 상태 ➔ 활성화하고 저장, 활성 상태 ➔ 그대로 반환
-    private Subscriber reactivateIfInactive(Subscriber subscriber) {
-        if (!subscriber.isActive()) {
-            subscriber.activate();
-            return subscriberRepository.save(subscriber);
-        }
+    // 활성인 행만 바꾸는 조건부 UPDATE 한 문장 (같은 이메일의 취소가 동시에 와도 활성 구독자 수는 한 번만 줄어듦)
+    @Transactional
+    public void unsubscribe(String email) {
+        subscriberWriter.deactivate(email);
+    }
 
-        return subscriber;
+    /**
+     * 구독 취소 링크의 서명 토큰을 검증하고 그 수신자의 구독을 취소
+     *
+     * @return 구독을 취소한 이메일, 토큰이 위조됐거나 형식이 틀리면 empty
+     */
+    @Transactional
+    public Optional<String> unsubscribeByToken(String token) {
+        Optional<String> email = unsubscribeToken.verify(token);
+        email.ifPresent(subscriberWriter::deactivate);
+        return email;
     }
 
-    // 신규 구독자 생성하고, 동시성 충돌 시 재조회하여 처리
-    private Subscriber createNewSubscriber(String email) {
-        try {
-            Subscriber newSubscriber = new Subscriber(email);
-            return subscriberRepository.save(newSubscriber);
-        } catch (DataIntegrityViolationException e) {
-            return subscriberRepository.findByEmail(email)
-                    .orElseThrow(() -> new IllegalStateException(
-                            "동시성 충돌 이후 이메일로 구독자를 찾지 못했습니다. email= " + email));
-        }
+    // 구독 취소 확인 페이지를 보여줄 수 있는 토큰인지 (상태는 바꾸지 않음)
+    public boolean isValidUnsubscribeToken(String token) {
+        return unsubscribeToken.verify(token).isPresent();
     }
 }
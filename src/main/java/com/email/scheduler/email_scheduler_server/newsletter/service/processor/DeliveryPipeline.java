@@ -0,0 +1,199 @@
+package com.email.scheduler.email_scheduler_server.newsletter.service.processor;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * fetch → send → persist 3단계를 크기가 제한된 큐로 연결한 파이프라인
+ * - 각 단계는 자기 스레드에서 동작하므로 SMTP 발송 중에도 다음 페이지 조회와 이전 페이지 로그 저장이 함께 진행됨
+ * - 다음 단계의 큐가 가득 차면 put 에서 대기하므로, 느린 단계가 있으면 앞 단계도 자연스럽게 멈춤 (backpressure)
+ * - 어느 단계든 예외가 나면 나머지 단계를 인터럽트로 중단시키고 호출자에게 예외를 전파함
+ *
+ * @param <P> 조회 단계가 만드는 페이지 타입
+ * @param <L> 발송 단계가 만드는 로그 묶음 타입
+ */
+@Slf4j
+public class DeliveryPipeline<P, L> {
+
+    private final int queueCapacity;
+
+    public DeliveryPipeline(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    public Report run(Consumer<Consumer<P>> fetchStage, Function<P, L> sendStage, Consumer<L> persistStage) {
+        BlockingQueue<Item<P>> pages = new ArrayBlockingQueue<>(queueCapacity);
+        BlockingQueue<Item<L>> logs = new ArrayBlockingQueue<>(queueCapacity);
+
+        StageTiming fetch = new StageTiming("fetch");
+        StageTiming send = new StageTiming("send");
+        StageTiming persist = new StageTiming("persist");
+
+        Callable<Void> fetchTask = () -> {
+            long[] mark = {System.nanoTime()};
+            fetchStage.accept(page -> {
+                fetch.work(System.nanoTime() - mark[0]);
+                put(pages, new Item<>(page), fetch);
+                mark[0] = System.nanoTime();
+            });
+            put(pages, Item.end(), fetch);
+            return null;
+        };
+
+        Callable<Void> sendTask = () -> {
+            for (Item<P> page = take(pages, send); !page.isEnd(); page = take(pages, send)) {
+                long start = System.nanoTime();
+                L result = sendStage.apply(page.payload());
+                send.work(System.nanoTime() - start);
+                put(logs, new Item<>(result), send);
+            }
+            put(logs, Item.end(), send);
+            return null;
+        };
+
+        Callable<Void> persistTask = () -> {
+            for (Item<L> batch = take(logs, persist); !batch.isEnd(); batch = take(logs, persist)) {
+                long start = System.nanoTime();
+                persistStage.accept(batch.payload());
+                persist.work(System.nanoTime() - start);
+            }
+            return null;
+        };
+
+        awaitAll(List.of(fetchTask, sendTask, persistTask));
+        return new Report(List.of(fetch, send, persist));
+    }
+
+    private void awaitAll(List<Callable<Void>> tasks) {
+        try (ExecutorService executor = Executors.newThreadPerTaskExecutor(
+                Thread.ofPlatform().name("newsletter-pipeline-", 0).factory())) {
+            CompletionService<Void> completion = new ExecutorCompletionService<>(executor);
+            List<Future<Void>> stages = tasks.stream().map(completion::submit).toList();
+
+            try {
+                for (int i = 0; i < stages.size(); i++) {
+                    completion.take().get();
+                }
+            } catch (ExecutionException e) {
+                stages.forEach(stage -> stage.cancel(true));
+                throw new IllegalStateException("[Pipeline] 단계 실행 중 오류가 발생해 발송을 중단합니다", e.getCause());
+            } catch (InterruptedException e) {
+                stages.forEach(stage -> stage.cancel(true));
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("[Pipeline] 파이프라인 대기 중 인터럽트 발생", e);
+            }
+        }
+    }
+
+    private static <T> void put(BlockingQueue<Item<T>> queue, Item<T> item, StageTiming timing) {
+        long start = System.nanoTime();
+        try {
+            queue.put(item);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("[Pipeline] " + timing.name + " 단계 중단", e);
+        }
+        timing.waited(System.nanoTime() - start);
+    }
+
+    private static <T> Item<T> take(BlockingQueue<Item<T>> queue, StageTiming timing) {
+        long start = System.nanoTime();
+        try {
+            return queue.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("[Pipeline] " + timing.name + " 단계 중단", e);
+        } finally {
+            timing.waited(System.nanoTime() - start);
+        }
+    }
+
+    // 큐 원소 (payload 가 null 이면 스트림의 끝)
+    private record Item<T>(T payload) {
+
+        static <T> Item<T> end() {
+            return new Item<>(null);
+        }
+
+        boolean isEnd() {
+            return payload == null;
+        }
+    }
+
+    /**
+     * 단계별 소요 시간
+     * - work: 실제 작업(조회/발송/저장)에 쓴 시간
+     * - wait: 앞 단계를 기다리거나(take) 뒷 단계의 큐가 빌 때까지 기다린 시간(put)
+     * work 가 가장 큰 단계가 병목이며, 나머지 단계는 wait 가 커짐
+     */
+    public static class StageTiming {
+
+        private final String name;
+        private long workNanos;
+        private long waitNanos;
+        private int batches;
+
+        StageTiming(String name) {
+            this.name = name;
+        }
+
+        // 각 단계는 자기 스레드에서만 기록하고, 조회는 모든 단계가 끝난 뒤에만 하므로 동기화가 필요 없음
+        void work(long nanos) {
+            workNanos += nanos;
+            batches++;
+        }
+
+        void waited(long nanos) {
+            waitNanos += nanos;
+        }
+
+        public String name() {
+            return name;
+        }
+
+        public long workMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(workNanos);
+        }
+
+        public long waitMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(waitNanos);
+        }
+
+        public int batches() {
+            return batches;
+        }
+    }
+
+    public record Report(List<StageTiming> stages) {
+
+        public StageTiming bottleneck() {
+            StageTiming slowest = stages.get(0);
+            for (StageTiming stage : stages) {
+                if (stage.workNanos > slowest.workNanos) {
+                    slowest = stage;
+                }
+            }
+            return slowest;
+        }
+
+        public void print() {
+            for (StageTiming stage : stages) {
+                log.info("[Pipeline] ⏱️ {} - {}건, 작업 {}ms, 대기 {}ms",
+                        stage.name(), stage.batches(), stage.workMillis(), stage.waitMillis());
+            }
+            log.info("[Pipeline] 🐢 병목 단계: {}", bottleneck().name());
+        }
+    }
+}
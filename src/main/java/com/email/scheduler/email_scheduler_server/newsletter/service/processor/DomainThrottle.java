@@ -0,0 +1,237 @@
+package com.email.scheduler.email_scheduler_server.newsletter.service.processor;
+
+import com.email.scheduler.email_scheduler_server.newsletter.config.NewsletterProperties;
+import com.email.scheduler.email_scheduler_server.newsletter.dto.SubscriberView;
+import com.email.scheduler.email_scheduler_server.newsletter.service.SendResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 수신 도메인별 발송 속도 제한 (EmailService 앞단의 스케줄러)
+ * - 도메인마다 토큰 버킷 하나를 두고, 속도(초당 토큰 수)는 발송 결과로 AIMD 조정함
+ *   성공이 이어지면 조금씩 올리고(additive increase), 4xx/시간 초과면 decrease-factor 배로 낮춤(multiplicative decrease)
+ * - 한 페이지의 구독자를 도메인별 줄로 나눠 돌아가며 꺼내므로, 속도가 낮아진 도메인이 다른 도메인의 발송을 막지 않음
+ * - 버킷은 인스턴스 안의 모든 샤드가 함께 씀 (인스턴스가 여러 대면 도메인 한도도 인스턴스 수만큼 나뉘어 적용되는 셈)
+ *
+ * 지표 (domain 태그): newsletter.domain.rate 현재 초당 허용 수, newsletter.domain.rate.limit 상한,
+ * newsletter.domain.backoff 감속 횟수
+ */
+@Slf4j
+@Component
+public class DomainThrottle {
+
+    private final Map<String, DomainBucket> buckets = new ConcurrentHashMap<>();
+    private final AtomicInteger meteredDomains = new AtomicInteger();
+
+    private final NewsletterProperties.Throttle config;
+    private final MeterRegistry registry;
+
+    public DomainThrottle(NewsletterProperties properties, MeterRegistry registry) {
+        this.config = properties.getThrottle();
+        this.registry = registry;
+    }
+
+    /**
+     * 발송 순서를 정해 구독자 목록의 인덱스를 하나씩 sender 에 넘김
+     * 도메인을 한 바퀴 돌 때마다 토큰이 있는 도메인에서 한 명씩 꺼내고, 어느 도메인에도 토큰이 없으면
+     * 가장 먼저 토큰이 생기는 시점까지 기다림
+     */
+    public void forEachInSendOrder(List<SubscriberView> subscribers, IndexSender sender) throws InterruptedException {
+        if (!config.isEnabled()) {
+            for (int i = 0; i < subscribers.size(); i++) {
+                sender.send(i);
+            }
+            return;
+        }
+
+        List<Lane> lanes = lanesByDomain(subscribers);
+        while (!lanes.isEmpty()) {
+            long now = System.nanoTime();
+            long earliestToken = Long.MAX_VALUE;
+            boolean sent = false;
+
+            for (int i = 0; i < lanes.size(); i++) {
+                Lane lane = lanes.get(i);
+                long wait = lane.bucket.tryAcquire(now);
+                if (wait > 0) {
+                    earliestToken = Math.min(earliestToken, wait);
+                    continue;
+                }
+                sender.send(lane.poll());
+                sent = true;
+                if (lane.isEmpty()) {
+                    lanes.remove(i--);
+                }
+            }
+
+            if (!sent && earliestToken != Long.MAX_VALUE) {
+                TimeUnit.NANOSECONDS.sleep(earliestToken);
+            }
+        }
+    }
+
+    /**
+     * 발송 결과로 도메인 속도를 조정 (BOUNCED/REJECTED 는 수신자 문제라 속도와 무관하므로 반영하지 않음)
+     * 본문을 보낸 뒤의 응답 시간 초과(DELIVERY_UNKNOWN)는 서버가 밀리고 있다는 신호이므로 RETRYABLE 처럼 속도를 낮춤
+     */
+    public void onResult(String email, SendResult result) {
+        if (!config.isEnabled()) {
+            return;
+        }
+        DomainBucket bucket = bucket(domainOf(email));
+        switch (result) {
+            case SENT -> bucket.increase();
+            case RETRYABLE, DELIVERY_UNKNOWN -> bucket.decrease(System.nanoTime());
+            case BOUNCED, REJECTED -> {
+            }
+        }
+    }
+
+    public double currentRate(String domain) {
+        return bucket(domain).rate;
+    }
+
+    static String domainOf(String email) {
+        int at = email.lastIndexOf('@');
+        return email.substring(at + 1).toLowerCase(Locale.ROOT);
+    }
+
+    // 도메인이 처음 나온 순서대로 줄을 만들고, 줄 안에서는 구독자 순서를 유지함
+    private List<Lane> lanesByDomain(List<SubscriberView> subscribers) {
+        Map<String, Lane> lanes = new LinkedHashMap<>();
+        for (int i = 0; i < subscribers.size(); i++) {
+            String domain = domainOf(subscribers.get(i).email());
+            lanes.computeIfAbsent(domain, d -> new Lane(bucket(d))).add(i);
+        }
+        return new ArrayList<>(lanes.values());
+    }
+
+    private DomainBucket bucket(String domain) {
+        return buckets.computeIfAbsent(domain, DomainBucket::new);
+    }
+
+    @FunctionalInterface
+    public interface IndexSender {
+
+        void send(int index) throws InterruptedException;
+    }
+
+    /**
+     * 한 도메인에 보낼 구독자 인덱스 줄
+     */
+    private static final class Lane {
+
+        private final DomainBucket bucket;
+        private int[] indexes = new int[8];
+        private int head;
+        private int tail;
+
+        Lane(DomainBucket bucket) {
+            this.bucket = bucket;
+        }
+
+        void add(int index) {
+            if (tail == indexes.length) {
+                indexes = Arrays.copyOf(indexes, indexes.length * 2);
+            }
+            indexes[tail++] = index;
+        }
+
+        int poll() {
+            return indexes[head++];
+        }
+
+        boolean isEmpty() {
+            return head == tail;
+        }
+    }
+
+    /**
+     * 도메인 하나의 토큰 버킷 + AIMD 속도
+     */
+    private final class DomainBucket {
+
+        private final String domain;
+        private final double maxRate;
+        private final Counter backoffs;
+
+        private volatile double rate;
+        private double tokens;
+        private long refilledAt;
+        private long backoffAt;
+
+        DomainBucket(String domain) {
+            this.domain = domain;
+            this.maxRate = config.maxRateFor(domain);
+            this.rate = Math.min(config.getInitialRate(), maxRate);
+            this.tokens = config.getBurst();
+            this.refilledAt = System.nanoTime();
+            this.backoffAt = refilledAt - config.getBackoffInterval().toNanos();
+            this.backoffs = meterIfAllowed();
+        }
+
+        /**
+         * @return 0 이면 토큰을 얻음, 아니면 다음 토큰까지 남은 시간(ns)
+         */
+        synchronized long tryAcquire(long now) {
+            tokens = Math.min(config.getBurst(), tokens + (now - refilledAt) * rate / 1_000_000_000.0);
+            refilledAt = now;
+            if (tokens >= 1) {
+                tokens -= 1;
+                return 0;
+            }
+            return Math.max(1, (long) ((1 - tokens) / rate * 1_000_000_000.0));
+        }
+
+        // 초당 rate 건을 성공하면 초당 increase-step 만큼 오르도록 한 건마다 step / rate 씩 올림
+        synchronized void increase() {
+            rate = Math.min(maxRate, rate + config.getIncreaseStep() / rate);
+        }
+
+        synchronized void decrease(long now) {
+            if (now - backoffAt < config.getBackoffInterval().toNanos()) {
+                return;
+            }
+            backoffAt = now;
+            double before = rate;
+            rate = Math.max(config.getMinRate(), rate * config.getDecreaseFactor());
+            if (backoffs != null) {
+                backoffs.increment();
+            }
+            log.info("[Throttle] 🐢 {} 발송 속도 감속 {} → {}/s", domain,
+                    String.format("%.1f", before), String.format("%.1f", rate));
+        }
+
+        // 지표를 만들 도메인 수 상한 안에서만 등록, 넘으면 null
+        private Counter meterIfAllowed() {
+            if (meteredDomains.incrementAndGet() > config.getMaxMeteredDomains()) {
+                meteredDomains.decrementAndGet();
+                return null;
+            }
+            Gauge.builder("newsletter.domain.rate", this, bucket -> bucket.rate)
+                    .description("도메인별 현재 초당 발송 허용 수")
+                    .tag("domain", domain)
+                    .register(registry);
+            Gauge.builder("newsletter.domain.rate.limit", this, bucket -> bucket.maxRate)
+                    .description("도메인별 초당 발송 상한")
+                    .tag("domain", domain)
+                    .register(registry);
+            return Counter.builder("newsletter.domain.backoff")
+                    .description("도메인별 발송 속도 감속 횟수")
+                    .tag("domain", domain)
+                    .register(registry);
+        }
+    }
+}
@@ -1,13 +1,22 @@
 package com.email.scheduler.email_scheduler_server.newsletter.service.processor;
 
-import com.email.scheduler.email_scheduler_server.newsletter.domain.Message;
+import com.email.scheduler.email_scheduler_server.newsletter.config.NewsletterProperties;
 import com.email.scheduler.email_scheduler_server.newsletter.domain.Message.MessageStatus;
 import com.email.scheduler.email_scheduler_server.newsletter.domain.NewsletterMessage;
-import com.email.scheduler.email_scheduler_server.newsletter.domain.Subscriber;
+import com.email.scheduler.email_scheduler_server.newsletter.dto.DeliveryLog;
+import com.email.scheduler.email_scheduler_server.newsletter.dto.SubscriberView;
+import com.email.scheduler.email_scheduler_server.newsletter.mail.RenderedNewsletter;
+import com.email.scheduler.email_scheduler_server.newsletter.metrics.DeliveryMetrics;
+import com.email.scheduler.email_scheduler_server.newsletter.metrics.DeliveryMetrics.IssueMeters;
 import com.email.scheduler.email_scheduler_server.newsletter.service.EmailService;
+import com.email.scheduler.email_scheduler_server.newsletter.service.SendResult;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicInteger;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -19,46 +28,171 @@ import org.springframework.stereotype.Service;
 public class EmailBatchService {
 
     private final EmailService emailService;
+    private final NewsletterProperties properties;
+    private final DeliveryMetrics metrics;
+    private final DomainThrottle throttle;
+    private final SuppressionList suppressionList;
+    private final SendPermits sendPermits;
 
-    public List<Message> sendBatch(
-            List<Subscriber> subscribers,
+    /**
+     * 수신자 단계 5xx(BOUNCED)로 끝난 로그에는 bounced 를 표시해, 호출한 쪽이 로그를 저장한 뒤 그 구독자만 발송 제외 목록에 올리게 함
+     * 발송 제외 목록에 있는 구독자는 보내지 않고 SUPPRESSED 로그만 남기며 성공/실패 어느 쪽에도 세지 않음
+     * (도메인 속도 제한 토큰도 쓰지 않음), 로그는 제외 여부와 관계없이 구독자 순서 그대로임
+     */
+    public List<DeliveryLog> sendBatch(
+            List<SubscriberView> subscribers,
             NewsletterMessage message,
+            RenderedNewsletter rendered,
             AtomicInteger success,
             AtomicInteger fail
     ) {
-        List<Message> logs = new ArrayList<>(subscribers.size());
+        IssueMeters meters = metrics.forIssue(message.getIssueId());
+        boolean[] suppressed = markSuppressed(subscribers);
+        List<SubscriberView> targets = suppressed == null ? subscribers : withoutSuppressed(subscribers, suppressed);
 
-        for (Subscriber subscriber : subscribers) {
-            boolean ok = sendSafely(subscriber.getEmail(), message.getContent());
+        SendResult[] results = switch (properties.getSend().getMode()) {
+            case SEQUENTIAL -> sendSequentially(targets, rendered, meters);
+            case CONCURRENT -> sendConcurrently(targets, rendered, meters);
+        };
 
-            logs.add(buildLog(subscriber, message, ok));
+        List<DeliveryLog> logs = new ArrayList<>(subscribers.size());
 
-            if (ok) {
+        int next = 0;
+        for (int i = 0; i < subscribers.size(); i++) {
+            if (suppressed != null && suppressed[i]) {
+                logs.add(buildLog(subscribers.get(i), message, MessageStatus.SUPPRESSED, false));
+                continue;
+            }
+
+            SendResult result = results[next++];
+
+            logs.add(buildLog(subscribers.get(i), message, statusOf(result), result == SendResult.BOUNCED));
+
+            if (result == SendResult.SENT) {
                 success.incrementAndGet();
             } else {
                 fail.incrementAndGet();
             }
         }
 
+        if (suppressed != null) {
+            meters.recordSuppressed(subscribers.size() - targets.size());
+        }
         return logs;
     }
 
-    private boolean sendSafely(String email, String content) {
+    // 제외 대상이 없으면 null (대부분의 페이지는 배열/목록을 새로 만들지 않음)
+    private boolean[] markSuppressed(List<SubscriberView> subscribers) {
+        if (suppressionList.isEmpty()) {
+            return null;
+        }
+
+        boolean[] suppressed = null;
+        for (int i = 0; i < subscribers.size(); i++) {
+            if (suppressionList.contains(subscribers.get(i).id())) {
+                if (suppressed == null) {
+                    suppressed = new boolean[subscribers.size()];
+                }
+                suppressed[i] = true;
+            }
+        }
+        return suppressed;
+    }
+
+    private List<SubscriberView> withoutSuppressed(List<SubscriberView> subscribers, boolean[] suppressed) {
+        List<SubscriberView> targets = new ArrayList<>(subscribers.size());
+        for (int i = 0; i < subscribers.size(); i++) {
+            if (!suppressed[i]) {
+                targets.add(subscribers.get(i));
+            }
+        }
+        return targets;
+    }
+
+    private SendResult[] sendSequentially(
+            List<SubscriberView> subscribers, RenderedNewsletter rendered, IssueMeters meters) {
+        SendResult[] results = new SendResult[subscribers.size()];
+
         try {
-            return emailService.sendEmail(email, content);
+            throttle.forEachInSendOrder(subscribers, i -> {
+                String email = subscribers.get(i).email();
+                results[i] = sendSafely(email, rendered, meters);
+                throttle.onResult(email, results[i]);
+            });
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("[Sender] 순차 발송 대기 중 인터럽트 발생", e);
+        }
+
+        return results;
+    }
+
+    /**
+     * 구독자마다 가상 스레드 하나에서 발송하고, 노드 전체가 함께 쓰는 SendPermits 로 동시에 진행 중인 발송 수를 maxInFlight 로 제한함
+     * 처리량은 코어 수가 아니라 maxInFlight / SMTP 왕복 시간에 비례함
+     * 허가는 발송이 실제로 끝난 뒤에 반납하고, 건별 제한 시간은 SMTP 연결의 소켓 읽기 제한 시간(smtp.message-timeout)으로 지킴
+     * 발송 순서는 DomainThrottle 이 도메인별 속도에 맞춰 정하지만, 결과 배열은 구독자 순서와 같으므로 로그 순서도 순차 발송과 동일함
+     */
+    private SendResult[] sendConcurrently(
+            List<SubscriberView> subscribers, RenderedNewsletter rendered, IssueMeters meters) {
+        List<Future<SendResult>> futures = new ArrayList<>(Collections.nCopies(subscribers.size(), null));
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            throttle.forEachInSendOrder(subscribers, i -> {
+                String email = subscribers.get(i).email();
+                sendPermits.acquire();
+                futures.set(i, executor.submit(() -> {
+                    try {
+                        SendResult result = sendSafely(email, rendered, meters);
+                        throttle.onResult(email, result);
+                        return result;
+                    } finally {
+                        sendPermits.release();
+                    }
+                }));
+            });
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("[Sender] 동시 발송 대기 중 인터럽트 발생", e);
+        }
+
+        // executor.close() 가 모든 작업 종료를 기다리므로 여기서는 결과가 모두 확정되어 있음
+        SendResult[] results = new SendResult[futures.size()];
+        for (int i = 0; i < futures.size(); i++) {
+            results[i] = futures.get(i).resultNow();
+        }
+
+        return results;
+    }
+
+    // EmailService 가 분류하지 못한 예외는 원인을 알 수 없으므로 재시도하지 않음
+    // 발송 지연/결과 지표는 EmailService 호출 한 건 단위로 기록함
+    private SendResult sendSafely(String email, RenderedNewsletter rendered, IssueMeters meters) {
+        SendResult result = SendResult.REJECTED;
+        meters.sendStarted();
+        long start = System.nanoTime();
+        try {
+            result = emailService.sendEmail(email, rendered);
+            return result;
         } catch (Exception e) {
             log.error("[Sender] 이메일 전송 실패 - {}", email, e);
-            return false;
+            return result;
+        } finally {
+            meters.sendFinished(System.nanoTime() - start, result);
         }
     }
 
-    private Message buildLog(Subscriber subscriber, NewsletterMessage message, boolean ok) {
-        return Message.builder()
-                .subscriber(subscriber)
-                .fileName(message.getFileName())
-                .content(message.getContent())
-                .sendAt(LocalDateTime.now())
-                .status(ok ? MessageStatus.SUCCESS : MessageStatus.FAILURE)
-                .build();
+    private DeliveryLog buildLog(
+            SubscriberView subscriber, NewsletterMessage message, MessageStatus status, boolean bounced) {
+        return new DeliveryLog(
+                subscriber.id(), message.getIssueId(), message.getSendDate(), LocalDateTime.now(), status, bounced);
+    }
+
+    private MessageStatus statusOf(SendResult result) {
+        return switch (result) {
+            case SENT -> MessageStatus.SUCCESS;
+            case RETRYABLE -> MessageStatus.RETRYING;
+            case BOUNCED, REJECTED, DELIVERY_UNKNOWN -> MessageStatus.FAILURE;
+        };
     }
 }
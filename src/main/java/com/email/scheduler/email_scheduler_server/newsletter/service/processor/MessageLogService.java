@@ -1,8 +1,22 @@
 package com.email.scheduler.email_scheduler_server.newsletter.service.processor;
 
-import com.email.scheduler.email_scheduler_server.newsletter.domain.Message;
-import com.email.scheduler.email_scheduler_server.newsletter.repository.MessageRepository;
+import com.email.scheduler.email_scheduler_server.newsletter.config.NewsletterProperties;
+import com.email.scheduler.email_scheduler_server.newsletter.domain.Message.MessageStatus;
+import com.email.scheduler.email_scheduler_server.newsletter.dto.DeliveryLog;
+import com.email.scheduler.email_scheduler_server.newsletter.dto.IssueCounts;
+import com.email.scheduler.email_scheduler_server.newsletter.dto.PendingRetry;
+import com.email.scheduler.email_scheduler_server.newsletter.dto.SubscriberView;
+import com.email.scheduler.email_scheduler_server.newsletter.repository.DeliveryLogWriter;
+import com.email.scheduler.email_scheduler_server.newsletter.repository.IssueStatsRepository;
+import com.email.scheduler.email_scheduler_server.newsletter.repository.RetryOutboxRepository;
+import com.email.scheduler.email_scheduler_server.newsletter.repository.RunShardRepository;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -13,15 +27,153 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class MessageLogService {
 
-    private final MessageRepository messageRepository;
+    private final DeliveryLogWriter logWriter;
+    private final RunShardRepository shardRepository;
+    private final IssueStatsRepository statsRepository;
+    private final RetryOutboxRepository retryOutbox;
+    private final NewsletterProperties properties;
 
     /**
      * 이 메서드에만 @Transactional을 적용하여 트랜잭션 범위를 로그 저장으로 한정함
+     * 엔티티 대신 값 객체를 JDBC 배치로 저장하므로 영속성 컨텍스트에 아무것도 남지 않음
+     * 로그와 샤드 체크포인트, 회차 통계, 재시도 예약을 한 트랜잭션으로 커밋하므로,
+     * 체크포인트 이전 구독자는 항상 로그가 저장되고 통계에 더해졌고, 일시적 실패면 재시도가 예약된 상태임
+     *
+     * @return 일시적 실패(RETRYING)가 있으면 커밋 후 발행할 재시도 예약(retry_outbox)
      */
     @Transactional
-    public void saveLogsInBatch(List<Message> messageLogs) {
-        if (!messageLogs.isEmpty()) {
-            messageRepository.saveAll(messageLogs);
+    public Optional<PendingRetry> saveLogsInBatch(Long shardId, List<DeliveryLog> messageLogs) {
+        if (messageLogs.isEmpty()) {
+            return Optional.empty();
         }
+
+        logWriter.insertAll(messageLogs);
+
+        // 발송 제외(SUPPRESSED)는 성공/실패 어느 쪽에도 세지 않음
+        int sent = 0;
+        int failed = 0;
+        int retrying = 0;
+        int suppressed = 0;
+        for (DeliveryLog log : messageLogs) {
+            switch (log.status()) {
+                case SUCCESS -> sent++;
+                case FAILURE -> failed++;
+                case RETRYING -> retrying++;
+                case SUPPRESSED -> suppressed++;
+            }
+        }
+        long lastSubscriberId = messageLogs.get(messageLogs.size() - 1).subscriberId();
+        LocalDateTime now = LocalDateTime.now();
+        int advanced = shardRepository.advanceCheckpoint(
+                shardId, lastSubscriberId, sent, failed + retrying, now);
+
+        // 체크포인트가 이미 이 배치를 지났으면(재전달된 샤드) 통계에 다시 더하지 않음
+        // 회차 통계의 failed 는 최종 실패만 세고, RETRYING 은 재시도 결과가 나올 때까지 어느 쪽에도 세지 않음
+        // 같은 샤드는 항상 같은 stripe 에 더하므로 샤드끼리는 통계 행 잠금을 두고 경합하지 않음
+        if (advanced == 0) {
+            return Optional.empty();
+        }
+        Long issueId = messageLogs.get(0).issueId();
+        statsRepository.add(issueId, shardId != null ? shardId : 0,
+                new IssueCounts(messageLogs.size(), sent, failed, 0, suppressed), now);
+        return reserveRetries(issueId, 1, messageLogs, now);
+    }
+
+    /**
+     * 재시도 결과로 기존 로그 행의 상태와 시도 횟수를 갱신 (재시도는 샤드 체크포인트와 무관함)
+     * 실제로 갱신된 행만 회차 통계에 더하고 다음 재시도를 예약하므로, 같은 재시도 메시지가 다시 전달돼도 한 번만 반영됨
+     *
+     * @return 여전히 일시적 실패(RETRYING)인 로그가 있으면 커밋 후 발행할 재시도 예약(retry_outbox)
+     */
+    @Transactional
+    public Optional<PendingRetry> saveRetryResults(List<DeliveryLog> messageLogs, int attemptCount) {
+        if (messageLogs.isEmpty()) {
+            return Optional.empty();
+        }
+
+        List<DeliveryLog> applied = logWriter.updateRetried(messageLogs, attemptCount);
+        if (applied.isEmpty()) {
+            return Optional.empty();
+        }
+
+        int sent = 0;
+        int failed = 0;
+        // 재시도 사이에 발송 제외 목록에 오른 구독자도 더 기다리지 않으므로 발송 제외로 세어야 pendingRetry 가 0 이 됨
+        int suppressed = 0;
+        for (DeliveryLog log : applied) {
+            switch (log.status()) {
+                case SUCCESS -> sent++;
+                case FAILURE -> failed++;
+                case SUPPRESSED -> suppressed++;
+                case RETRYING -> {
+                }
+            }
+        }
+        // 재시도 배치는 샤드와 무관하므로 아무 stripe 에나 더함
+        Long issueId = applied.get(0).issueId();
+        LocalDateTime now = LocalDateTime.now();
+        statsRepository.add(issueId, ThreadLocalRandom.current().nextInt(IssueStatsRepository.STRIPES),
+                new IssueCounts(0, sent, failed, applied.size(), suppressed), now);
+        return reserveRetries(issueId, attemptCount, applied, now);
+    }
+
+    /**
+     * 재시도 배치 중 아직 이번 시도를 기다리는 구독자 id (RETRYING 이면서 시도 횟수가 attemptsMade 인 로그)
+     * 이미 반영된 재시도 메시지가 다시 전달되면 비어 있으므로 같은 구독자에게 두 번 보내지 않음
+     */
+    @Transactional(readOnly = true)
+    public Set<Long> findAwaitingRetry(Long issueId, LocalDate sendDate, int attemptsMade, Collection<Long> subscriberIds) {
+        return logWriter.findAwaitingRetry(issueId, sendDate, attemptsMade, subscriberIds);
+    }
+
+    // 같은 트랜잭션에서 재시도 예약을 남김 (발행은 커밋 후 RetryService 가 하고, 발행되지 못하면 outbox 를 훑어 다시 발행함)
+    private Optional<PendingRetry> reserveRetries(Long issueId, int attemptsMade, List<DeliveryLog> logs, LocalDateTime now) {
+        List<Long> retrying = logs.stream()
+                .filter(log -> log.status() == MessageStatus.RETRYING)
+                .map(DeliveryLog::subscriberId)
+                .toList();
+        if (retrying.isEmpty()) {
+            return Optional.empty();
+        }
+        LocalDateTime dispatchAfter = now.plus(properties.getRetry().getOutboxTimeout());
+        // 재시도는 첫 발송 로그 행을 갱신하므로 그 행의 파티션 키를 함께 남김
+        LocalDate sendDate = logs.get(0).sendDate();
+        long id = retryOutbox.insert(issueId, sendDate, attemptsMade, retrying, dispatchAfter);
+        return Optional.of(new PendingRetry(id, issueId, sendDate, attemptsMade, retrying));
+    }
+
+    /**
+     * SMTP 발송 전에 페이지의 구독자를 SENDING 으로 선점해 커밋
+     * 결과 로그와 체크포인트는 발송 뒤에 커밋되므로, 그 사이에 노드가 죽으면 재개한 샤드가 선점 기록을 보고 다시 보내지 않음
+     * (선점만 남은 구독자는 결과를 모르는 상태로 남고, 중복 발송 대신 많아야 한 번 발송을 택함)
+     */
+    @Transactional
+    public void claimSending(Long issueId, LocalDate sendDate, List<SubscriberView> page) {
+        if (page.isEmpty()) {
+            return;
+        }
+        logWriter.claimSending(issueId, sendDate, page.stream().map(SubscriberView::id).toList());
+    }
+
+    /**
+     * 이미 이 회차의 로그나 선점 기록이 있는 구독자를 페이지에서 제외 (재개한 샤드에서만 사용)
+     * 페이지는 id 오름차순이므로 첫/마지막 id 구간 한 번의 조회로 확인함
+     */
+    @Transactional(readOnly = true)
+    public List<SubscriberView> excludeLogged(Long issueId, LocalDate sendDate, List<SubscriberView> page) {
+        if (page.isEmpty()) {
+            return page;
+        }
+
+        Set<Long> logged = logWriter.findLoggedSubscriberIds(
+                issueId, sendDate, page.get(0).id(), page.get(page.size() - 1).id());
+        if (logged.isEmpty()) {
+            return page;
+        }
+
+        log.info("[Processor] ⏭️ 이미 발송 기록이 있는 구독자 {}명 건너뜀", logged.size());
+        return page.stream()
+                .filter(subscriber -> !logged.contains(subscriber.id()))
+                .toList();
     }
 }
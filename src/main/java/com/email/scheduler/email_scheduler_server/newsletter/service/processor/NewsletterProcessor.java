@@ -1,11 +1,28 @@
 package com.email.scheduler.email_scheduler_server.newsletter.service.processor;
 
-import com.email.scheduler.email_scheduler_server.newsletter.domain.Message;
+import com.email.scheduler.email_scheduler_server.newsletter.config.NewsletterProperties;
 import com.email.scheduler.email_scheduler_server.newsletter.domain.NewsletterMessage;
+import com.email.scheduler.email_scheduler_server.newsletter.domain.NewsletterShardMessage;
+import com.email.scheduler.email_scheduler_server.newsletter.domain.RunShard.ShardStatus;
+import com.email.scheduler.email_scheduler_server.newsletter.dto.DeliveryLog;
+import com.email.scheduler.email_scheduler_server.newsletter.dto.PendingRetry;
+import com.email.scheduler.email_scheduler_server.newsletter.dto.ShardCheckpoint;
+import com.email.scheduler.email_scheduler_server.newsletter.dto.SubscriberQuery;
+import com.email.scheduler.email_scheduler_server.newsletter.dto.SubscriberView;
+import com.email.scheduler.email_scheduler_server.newsletter.mail.RenderedNewsletter;
+import com.email.scheduler.email_scheduler_server.newsletter.metrics.DeliveryMetrics;
+import com.email.scheduler.email_scheduler_server.newsletter.metrics.DeliveryMetrics.IssueMeters;
+import com.email.scheduler.email_scheduler_server.newsletter.service.DeliveryRunService;
+import com.email.scheduler.email_scheduler_server.newsletter.service.IssueContentCache;
+import com.email.scheduler.email_scheduler_server.newsletter.service.NewsletterRenderer;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
 
 @Slf4j
@@ -16,27 +33,130 @@ public class NewsletterProcessor {
     private final SubscriberFetchService fetchService;
     private final EmailBatchService batchService;
     private final MessageLogService logService;
+    private final DeliveryRunService runService;
+    private final RetryService retryService;
+    private final SuppressionList suppressionList;
+    private final IssueContentCache contentCache;
+    private final DeliveryMetrics metrics;
+    private final NewsletterRenderer renderer;
+    private final NewsletterProperties properties;
+
+    /**
+     * 샤드 구간 [fromId, toId] 의 구독자에게 발송
+     * 조회 → 발송 → 로그 저장을 파이프라인으로 겹쳐 실행
+     * (N 번째 페이지를 발송하는 동안 N+1 번째 페이지를 조회하고 N-1 번째 페이지의 로그를 저장)
+     *
+     * 로그 저장마다 체크포인트가 함께 커밋되므로, 중단됐던 샤드가 다시 전달되면 체크포인트 다음 구독자부터 이어서 발송하고
+     * 발송 전에 커밋한 선점 기록(SENDING)이나 로그가 이미 있는 구독자는 건너뜀
+     */
+    public void process(NewsletterShardMessage shard) {
+        ShardCheckpoint checkpoint = runService.findCheckpoint(shard.getShardId())
+                .orElseGet(() -> new ShardCheckpoint(shard.getFromId() - 1, 0, 0, ShardStatus.PENDING, null));
+
+        if (checkpoint.isCompleted()) {
+            log.info("[Processor] 이미 완료된 샤드라 건너뜁니다 - shardId: {}", shard.getShardId());
+            return;
+        }
+
+        LocalDateTime startedAt = LocalDateTime.now();
+        boolean resumed = !runService.startShard(shard.getShardId(), startedAt);
+        if (resumed) {
+            log.info("[Processor] ♻️ 체크포인트에서 재개 - shardId: {}, 마지막 구독자 id: {}, 성공: {}, 실패: {}",
+                    shard.getShardId(), checkpoint.lastSubscriberId(), checkpoint.sentCount(), checkpoint.failedCount());
+        }
 
-    public void process(NewsletterMessage messages) {
         long start = System.currentTimeMillis();
-        long total = fetchService.countActiveSubscribers();
+        // 메시지에는 회차 참조만 있으므로 노드 로컬 캐시에서 본문을 찾음
+        // 로그의 파티션 키는 샤드를 처음 시작한 날짜로, 재개한 샤드도 같은 날짜라야 선점/로그 행을 다시 찾음
+        // (회차 등록일을 쓰면 다시 쓰는 회차나 여러 날에 걸친 웨이브의 로그가 이미 보관/삭제된 파티션으로 들어감)
+        NewsletterMessage messages = contentCache.resolve(shard.getIssue())
+                .withSendDate(sendDateOf(checkpoint, resumed, startedAt));
+        // 회차 본문은 한 번만 렌더링해 두고 모든 페이지가 공유함
+        RenderedNewsletter rendered = renderer.render(messages);
+        IssueMeters meters = metrics.forIssue(messages.getIssueId());
 
-        log.info("[Processor] 👥 총 구독자: {}", total);
+        AtomicInteger success = new AtomicInteger(checkpoint.sentCount());
+        AtomicInteger fail = new AtomicInteger(checkpoint.failedCount());
 
-        AtomicInteger success = new AtomicInteger();
-        AtomicInteger fail = new AtomicInteger();
+        DeliveryPipeline<List<SubscriberView>, List<DeliveryLog>> pipeline =
+                new DeliveryPipeline<>(properties.getPipeline().getQueueCapacity());
 
-        fetchService.processEachPage(subscribers -> {
-            List<Message> logs = batchService.sendBatch(subscribers, messages, success, fail);
-            logService.saveLogsInBatch(logs);
-        });
+        DeliveryPipeline.Report report = pipeline.run(
+                sink -> fetchService.streamActiveSubscribers(
+                        new SubscriberQuery(checkpoint.lastSubscriberId() + 1, shard.getToId(),
+                                shard.getSlot(), messages.getAudience()),
+                        sink, meters::recordFetch),
+                subscribers -> {
+                    List<SubscriberView> targets = resumed
+                            ? logService.excludeLogged(messages.getIssueId(), messages.getSendDate(), subscribers)
+                            : subscribers;
+                    // 발송 전에 선점을 커밋해 두어야 발송 중 노드가 죽어도 재개한 샤드가 같은 구독자에게 다시 보내지 않음
+                    List<SubscriberView> claimed = claimSending(messages, targets);
+                    return batchService.sendBatch(claimed, messages, rendered, success, fail);
+                },
+                logs -> {
+                    Optional<PendingRetry> retries =
+                            meters.timeLogWrite(() -> logService.saveLogsInBatch(shard.getShardId(), logs));
+                    // 수신자 단계 5xx 로 거절된 구독자만 바로 발송 제외 목록에 올림 (인증/연결 오류, 수신 여부 불명 FAILURE 는 제외하지 않음)
+                    suppressionList.suppressHardBounces(bouncedIds(logs));
+                    // 로그와 함께 커밋된 재시도 예약(일시적 실패)을 대기 큐로 보냄 (실패하면 outbox 에서 다시 발행됨)
+                    retries.ifPresent(reserved -> retryService.dispatchReserved(shard.getIssue(), reserved));
+                }
+        );
+
+        runService.completeShard(shard.getRunId(), shard.getShardId(), success.get(), fail.get());
 
         long duration = System.currentTimeMillis() - start;
-        printSummary(total, success, fail, duration);
+        printSummary(success.get() + fail.get(), success, fail, duration);
+        report.print();
+    }
+
+    /**
+     * 페이지를 선점하고 실제로 선점한 구독자를 돌려줌
+     * 같은 샤드가 두 번 처리되는 중이면 (ack 전에 consumer timeout 이 지나 브로커가 채널을 닫고 재전달한 경우 등)
+     * 다른 쪽이 먼저 선점한 구독자와 유니크 키가 겹치므로, 실패로 보지 않고 그 구독자를 빼고 다시 선점함
+     * 선점 배치는 트랜잭션 하나라 충돌하면 이번 선점은 모두 롤백되고, 다시 시도할 때마다 충돌한 구독자가 빠지므로 끝이 있음
+     */
+    private List<SubscriberView> claimSending(NewsletterMessage messages, List<SubscriberView> page) {
+        List<SubscriberView> targets = page;
+        while (true) {
+            try {
+                logService.claimSending(messages.getIssueId(), messages.getSendDate(), targets);
+                return targets;
+            } catch (DuplicateKeyException e) {
+                List<SubscriberView> unclaimed =
+                        logService.excludeLogged(messages.getIssueId(), messages.getSendDate(), targets);
+                if (unclaimed.size() == targets.size()) {
+                    // 겹친 행이 보이지 않으면 선점 충돌이 아니므로 그대로 실패 처리
+                    throw e;
+                }
+                log.warn("[Processor] 이미 다른 처리가 선점한 구독자 {}명을 건너뜁니다 - issueId: {}",
+                        targets.size() - unclaimed.size(), messages.getIssueId());
+                targets = unclaimed;
+            }
+        }
+    }
+
+    private LocalDate sendDateOf(ShardCheckpoint checkpoint, boolean resumed, LocalDateTime startedAt) {
+        if (resumed && checkpoint.startedAt() != null) {
+            return checkpoint.startedAt().toLocalDate();
+        }
+        return startedAt.toLocalDate();
+    }
+
+    private List<Long> bouncedIds(List<DeliveryLog> logs) {
+        return logs.stream()
+                .filter(DeliveryLog::bounced)
+                .map(DeliveryLog::subscriberId)
+                .toList();
     }
 
     private void printSummary(long total, AtomicInteger success, AtomicInteger fail, long time) {
-        log.info("[Processor] ✅ 전체 완료 - {}ms", time);
+        log.info("[Processor] ✅ 샤드 완료 - {}명, {}ms", total, time);
+        if (total == 0) {
+            // 구간 안에 활성 구독자가 없으면 평균/성공률을 계산할 수 없음
+            return;
+        }
         log.info("[Processor] 📈 평균 처리속도: {}ms/구독자",
                 String.format("%.2f", (double) time / total));
         log.info("[Processor] 🔮 성공: {} FAIL: {} (성공률: {}%)",
@@ -0,0 +1,132 @@
+package com.email.scheduler.email_scheduler_server.newsletter.service.processor;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.util.function.LongConsumer;
+
+/**
+ * 양수 long 키의 집합 (open addressing + linear probing, 테이블은 힙 밖 direct buffer)
+ * - 키 하나당 8바이트 슬롯 하나만 쓰고, 박싱/노드 객체가 없어 GC 가 훑을 힙 객체도 없음
+ * - contains 는 해시 한 번 + 보통 1~2 슬롯 읽기이며 객체를 만들지 않음
+ * - 0 을 빈 슬롯 표시로 쓰므로 0 이하 키는 담을 수 없음 (구독자 id 는 1 부터)
+ *
+ * 쓰기 스레드는 하나여야 함 (SuppressionList 가 직렬화), 읽기는 여러 스레드에서 동시에 해도 됨
+ * 슬롯을 쓴 뒤 volatile size 를 올리고 읽기 쪽은 size 를 먼저 읽으므로, size 에 반영된 키는 항상 보임
+ * 삭제는 지원하지 않음 (빠진 키는 새 집합을 만들어 통째로 교체)
+ */
+public final class OffHeapLongSet {
+
+    private static final long EMPTY = 0L;
+    private static final double MAX_LOAD = 0.75;
+    private static final int MIN_CAPACITY = 1 << 10;
+    // direct buffer 하나의 한계 (int 바이트 수, 2GB 미만) 안의 최대 슬롯 수: 2^27 슬롯 x 8바이트 = 1GiB
+    // (2^28 슬롯이면 바이트 수가 2^31 이 되어 int 로 넘치므로 담을 수 없음)
+    static final int MAX_CAPACITY = 1 << 27;
+
+    private final LongBuffer table;
+    private final int capacity;
+    private final int shift;
+    private final int threshold;
+    private volatile int size;
+
+    /**
+     * @param expected 담을 예상 키 수 (부하율 0.75 이하가 되도록 2 의 거듭제곱 슬롯을 잡음)
+     */
+    public OffHeapLongSet(long expected) {
+        this.capacity = capacityFor(expected);
+        this.shift = Long.SIZE - Integer.numberOfTrailingZeros(capacity);
+        this.threshold = (int) (capacity * MAX_LOAD);
+        this.table = ByteBuffer.allocateDirect(capacity * Long.BYTES)
+                .order(ByteOrder.nativeOrder())
+                .asLongBuffer();
+    }
+
+    public static int capacityFor(long expected) {
+        long needed = (long) Math.ceil(Math.max(expected, 1) / MAX_LOAD);
+        if (needed > MAX_CAPACITY) {
+            throw new IllegalArgumentException("담을 수 있는 키 수를 넘었습니다: " + expected);
+        }
+        return Math.max(MIN_CAPACITY, Integer.highestOneBit((int) needed - 1) << 1);
+    }
+
+    // 키 expected 개를 담을 때 쓰는 힙 밖 메모리 (바이트)
+    public static long memoryBytesFor(long expected) {
+        return (long) capacityFor(expected) * Long.BYTES;
+    }
+
+    public boolean contains(long key) {
+        if (key <= EMPTY || size == 0) {
+            return false;
+        }
+
+        int slot = indexOf(key);
+        while (true) {
+            long current = table.get(slot);
+            if (current == key) {
+                return true;
+            }
+            if (current == EMPTY) {
+                return false;
+            }
+            slot = (slot + 1) & (capacity - 1);
+        }
+    }
+
+    /**
+     * @return 새로 추가했으면 true, 이미 있으면 false
+     * @throws IllegalStateException 부하율 한도를 넘으면 (호출하는 쪽이 hasRoom 으로 확인하고 더 큰 집합으로 옮겨야 함)
+     */
+    public boolean add(long key) {
+        if (key <= EMPTY) {
+            throw new IllegalArgumentException("0 이하의 키는 담을 수 없습니다: " + key);
+        }
+
+        int slot = indexOf(key);
+        while (true) {
+            long current = table.get(slot);
+            if (current == key) {
+                return false;
+            }
+            if (current == EMPTY) {
+                if (size >= threshold) {
+                    throw new IllegalStateException("집합이 가득 찼습니다 - size: " + size);
+                }
+                table.put(slot, key);
+                size = size + 1;
+                return true;
+            }
+            slot = (slot + 1) & (capacity - 1);
+        }
+    }
+
+    public boolean hasRoom() {
+        return size < threshold;
+    }
+
+    public void forEach(LongConsumer action) {
+        for (int i = 0; i < capacity; i++) {
+            long key = table.get(i);
+            if (key != EMPTY) {
+                action.accept(key);
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    public long memoryBytes() {
+        return (long) capacity * Long.BYTES;
+    }
+
+    // 피보나치 해싱: 연속된 id 도 테이블 전체에 고르게 흩어짐
+    private int indexOf(long key) {
+        return (int) ((key * 0x9E3779B97F4A7C15L) >>> shift);
+    }
+}
@@ -0,0 +1,212 @@
+package com.email.scheduler.email_scheduler_server.newsletter.service.processor;
+
+import com.email.scheduler.email_scheduler_server.newsletter.config.NewsletterProperties;
+import com.email.scheduler.email_scheduler_server.newsletter.domain.IssueReference;
+import com.email.scheduler.email_scheduler_server.newsletter.domain.NewsletterIssue;
+import com.email.scheduler.email_scheduler_server.newsletter.domain.Message.MessageStatus;
+import com.email.scheduler.email_scheduler_server.newsletter.domain.NewsletterMessage;
+import com.email.scheduler.email_scheduler_server.newsletter.domain.RetryBatchMessage;
+import com.email.scheduler.email_scheduler_server.newsletter.dto.DeliveryLog;
+import com.email.scheduler.email_scheduler_server.newsletter.dto.PendingRetry;
+import com.email.scheduler.email_scheduler_server.newsletter.dto.SubscriberView;
+import com.email.scheduler.email_scheduler_server.newsletter.mail.RenderedNewsletter;
+import com.email.scheduler.email_scheduler_server.newsletter.metrics.DeliveryMetrics;
+import com.email.scheduler.email_scheduler_server.newsletter.repository.NewsletterIssueRepository;
+import com.email.scheduler.email_scheduler_server.newsletter.repository.RetryOutboxRepository;
+import com.email.scheduler.email_scheduler_server.newsletter.repository.SubscriberRepository;
+import com.email.scheduler.email_scheduler_server.newsletter.service.IssueContentCache;
+import com.email.scheduler.email_scheduler_server.newsletter.service.NewsletterRenderer;
+import com.email.scheduler.email_scheduler_server.newsletter.service.RetryDispatcher;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 일시적 실패(RETRYING) 재시도
+ * - 실패한 구독자 id 를 모아 단계별 TTL 대기 큐에 발행하고, TTL 이 지나면 재시도 큐로 넘어와 배치로 다시 발송함
+ * - 대기는 RabbitMQ 가 맡으므로 발송 경로(샤드 처리)는 재시도를 기다리지 않음
+ * - 재시도 예약은 로그와 같은 트랜잭션에서 retry_outbox 에 남기고, 커밋 후 발행에 실패하거나 그 사이 노드가 죽으면
+ *   outbox-timeout 뒤에 남은 예약을 훑어 다시 발행함 (RETRYING 로그가 재시도 없이 남지 않음)
+ * - 재시도는 아직 그 시도를 기다리는(RETRYING, 시도 횟수 일치) 구독자에게만 보내므로 같은 재시도 메시지가 다시 전달돼도 두 번 보내지 않음
+ * - 결과는 새 로그를 쌓지 않고 기존 로그 행의 상태/시도 횟수를 갱신하고, 시도 횟수를 다 쓰면 FAILURE 로 끝냄
+ * - 5xx 로 거절된 구독자는 바로, 시도 횟수를 다 쓴 구독자는 누적 최종 실패가 기준 이상이면 발송 제외 목록에 올림
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RetryService {
+
+    private final RetryDispatcher retryDispatcher;
+    private final IssueContentCache contentCache;
+    private final SubscriberRepository subscriberRepository;
+    private final NewsletterRenderer renderer;
+    private final EmailBatchService batchService;
+    private final MessageLogService logService;
+    private final SuppressionList suppressionList;
+    private final RetryOutboxRepository retryOutbox;
+    private final NewsletterIssueRepository issueRepository;
+    private final DeliveryMetrics metrics;
+    private final NewsletterProperties properties;
+
+    private static final int OUTBOX_SWEEP_LIMIT = 100;
+
+    /**
+     * 시도 횟수에 맞는 대기 단계로 재시도 배치를 보냄 (로그와 재시도 예약이 커밋된 뒤에 호출해야 함)
+     *
+     * @param sendDate     갱신할 로그 행의 파티션 키 (첫 발송 로그의 sendDate)
+     * @param attemptsMade 지금까지 시도한 횟수 (첫 발송 직후면 1)
+     */
+    public void scheduleRetries(IssueReference issue, LocalDate sendDate, int attemptsMade, List<Long> subscriberIds) {
+        if (subscriberIds.isEmpty()) {
+            return;
+        }
+
+        List<Duration> delays = properties.getRetry().getDelays();
+        if (attemptsMade > delays.size()) {
+            // retry() 가 마지막 시도 결과를 FAILURE 로 기록하므로 여기까지 오지 않음
+            log.warn("[Retry] 재시도 단계를 넘어선 요청이라 무시합니다 - 회차: {}, 시도: {}",
+                    issue.getFileName(), attemptsMade);
+            return;
+        }
+
+        Duration delay = delays.get(attemptsMade - 1);
+        long readyAt = System.currentTimeMillis() + delay.toMillis();
+        retryDispatcher.dispatch(
+                new RetryBatchMessage(issue, sendDate, attemptsMade, List.copyOf(subscriberIds), readyAt), delay);
+
+        log.info("[Retry] ⏳ 재시도 예약 - 회차: {}, {}명, {}차 재시도, {} 후",
+                issue.getFileName(), subscriberIds.size(), attemptsMade, delay);
+    }
+
+    /**
+     * 로그와 함께 커밋된 재시도 예약을 대기 큐에 발행하고 예약을 지움
+     * 발행에 실패하면 예약이 남으므로 redispatchStale 이 다시 발행함 (발송 경로는 실패시키지 않음)
+     */
+    public void dispatchReserved(IssueReference issue, PendingRetry pending) {
+        try {
+            scheduleRetries(issue, pending.sendDate(), pending.attempt(), pending.subscriberIds());
+            retryOutbox.delete(pending.id());
+        } catch (RuntimeException e) {
+            log.warn("[Retry] 재시도 발행 실패 - {} 뒤에 다시 발행합니다 - 회차: {}, {}명",
+                    properties.getRetry().getOutboxTimeout(), issue.getFileName(), pending.subscriberIds().size(), e);
+        }
+    }
+
+    /**
+     * 발행되지 못하고 outbox-timeout 이 지난 재시도 예약을 다시 발행 (모든 노드에서 실행되며, 예약마다 가져간 노드 하나만 발행함)
+     */
+    @Scheduled(fixedDelayString = "${newsletter.retry.outbox-sweep-interval:30s}")
+    public void redispatchStale() {
+        LocalDateTime now = LocalDateTime.now();
+        for (PendingRetry pending : retryOutbox.findDue(now, OUTBOX_SWEEP_LIMIT)) {
+            if (!retryOutbox.claim(pending.id(), now, now.plus(properties.getRetry().getOutboxTimeout()))) {
+                continue;
+            }
+
+            Optional<IssueReference> issue = issueRepository.findById(pending.issueId()).map(NewsletterIssue::toReference);
+            if (issue.isEmpty()) {
+                log.warn("[Retry] 회차가 없어 재시도 예약을 버립니다 - 회차 id: {}, {}명",
+                        pending.issueId(), pending.subscriberIds().size());
+                retryOutbox.delete(pending.id());
+                continue;
+            }
+
+            log.info("[Retry] ♻️ 발행되지 못한 재시도 예약을 다시 발행 - 회차: {}, {}명, {}차 재시도",
+                    issue.get().getFileName(), pending.subscriberIds().size(), pending.attempt());
+            dispatchReserved(issue.get(), pending);
+        }
+    }
+
+    /**
+     * 대기 큐에서 넘어온 재시도 배치를 다시 발송하고 결과를 기존 로그 행에 반영
+     */
+    public void retry(RetryBatchMessage message) {
+        // 같은 회차의 재시도 배치는 본문/렌더링 캐시를 함께 씀
+        NewsletterMessage newsletter = contentCache.resolve(message.getIssue()).withSendDate(message.getSendDate());
+        RenderedNewsletter rendered = renderer.render(newsletter);
+
+        int attempt = message.getAttempt() + 1;
+        boolean lastAttempt = attempt >= properties.getRetry().getMaxAttempts();
+
+        // 이미 이 시도가 반영된 구독자(재전달된 메시지, 두 번 발행된 예약)는 다시 보내지 않음
+        Set<Long> awaiting = logService.findAwaitingRetry(
+                newsletter.getIssueId(), newsletter.getSendDate(), message.getAttempt(), message.getSubscriberIds());
+        List<Long> pending = message.getSubscriberIds().stream()
+                .filter(awaiting::contains)
+                .toList();
+        if (pending.isEmpty()) {
+            log.info("[Retry] 이미 반영된 재시도 배치라 건너뜁니다 - 회차: {}, 시도: {}",
+                    message.getIssue().getFileName(), message.getAttempt());
+            return;
+        }
+
+        List<SubscriberView> targets = subscriberRepository.findActiveViewsByIds(pending);
+        AtomicInteger success = new AtomicInteger();
+        AtomicInteger fail = new AtomicInteger();
+
+        List<DeliveryLog> logs = new ArrayList<>(pending.size());
+        List<Long> bounced = new ArrayList<>();
+        List<Long> exhausted = new ArrayList<>();
+        for (DeliveryLog result : batchService.sendBatch(targets, newsletter, rendered, success, fail)) {
+            if (result.bounced()) {
+                bounced.add(result.subscriberId());
+            }
+            if (lastAttempt && result.status() == MessageStatus.RETRYING) {
+                exhausted.add(result.subscriberId());
+                logs.add(withStatus(result, MessageStatus.FAILURE));
+            } else {
+                logs.add(result);
+            }
+        }
+        logs.addAll(unsubscribedFailures(pending, newsletter, targets));
+
+        Optional<PendingRetry> next = metrics.forIssue(newsletter.getIssueId())
+                .timeLogWrite(() -> logService.saveRetryResults(logs, attempt));
+
+        // 구독 취소로 끝난 FAILURE 는 발송 실패가 아니므로 제외 대상에서 빠짐
+        suppressionList.suppressHardBounces(bounced);
+        suppressionList.recordFinalFailures(exhausted);
+
+        List<Long> stillRetrying = logs.stream()
+                .filter(entry -> entry.status() == MessageStatus.RETRYING)
+                .map(DeliveryLog::subscriberId)
+                .toList();
+
+        log.info("[Retry] 🔁 {}차 재시도 완료 - 회차: {}, 성공: {}, 재시도 대기: {}, 최종 실패: {}",
+                message.getAttempt(), message.getIssue().getFileName(), success.get(), stillRetrying.size(),
+                logs.size() - success.get() - stillRetrying.size());
+
+        next.ifPresent(reserved -> dispatchReserved(message.getIssue(), reserved));
+    }
+
+    // 대기 중에 구독을 취소한 구독자는 더 보내지 않고 FAILURE 로 끝냄
+    private List<DeliveryLog> unsubscribedFailures(List<Long> pending, NewsletterMessage newsletter,
+            List<SubscriberView> targets) {
+        if (targets.size() == pending.size()) {
+            return List.of();
+        }
+
+        Set<Long> active = new HashSet<>(targets.size());
+        targets.forEach(target -> active.add(target.id()));
+
+        LocalDateTime now = LocalDateTime.now();
+        return pending.stream()
+                .filter(id -> !active.contains(id))
+                .map(id -> new DeliveryLog(id, newsletter.getIssueId(), newsletter.getSendDate(), now, MessageStatus.FAILURE))
+                .toList();
+    }
+
+    private DeliveryLog withStatus(DeliveryLog entry, MessageStatus status) {
+        return new DeliveryLog(entry.subscriberId(), entry.issueId(), entry.sendDate(), entry.sendAt(), status);
+    }
+}
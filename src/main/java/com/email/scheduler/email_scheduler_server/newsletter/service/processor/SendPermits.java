@@ -0,0 +1,33 @@
+package com.email.scheduler.email_scheduler_server.newsletter.service.processor;
+
+import com.email.scheduler.email_scheduler_server.newsletter.config.NewsletterProperties;
+import java.util.concurrent.Semaphore;
+import org.springframework.stereotype.Component;
+
+/**
+ * 노드 전체에서 동시에 진행 중인 발송 수 상한 (send.max-in-flight)
+ * 여러 샤드/페이지/재시도 배치가 동시에 발송해도 합계가 상한을 넘지 않도록 하나의 Semaphore 를 함께 씀
+ * 허가는 발송 호출이 실제로 끝난 뒤에 반납함 (SMTP 제한 시간은 SmtpConnection 의 소켓 읽기 제한 시간으로 걸림)
+ */
+@Component
+public class SendPermits {
+
+    private final Semaphore permits;
+
+    public SendPermits(NewsletterProperties properties) {
+        this.permits = new Semaphore(properties.getSend().getMaxInFlight());
+    }
+
+    void acquire() throws InterruptedException {
+        permits.acquire();
+    }
+
+    void release() {
+        permits.release();
+    }
+
+    // 지금 남아 있는 허가 수
+    public int available() {
+        return permits.availablePermits();
+    }
+}
@@ -1,26 +1,40 @@
 package com.email.scheduler.email_scheduler_server.newsletter.service.processor;
 
+import com.email.scheduler.email_scheduler_server.newsletter.domain.SegmentExpression;
 import com.email.scheduler.email_scheduler_server.newsletter.domain.Subscriber;
+import com.email.scheduler.email_scheduler_server.newsletter.dto.DeliverySlot;
+import com.email.scheduler.email_scheduler_server.newsletter.dto.SubscriberQuery;
+import com.email.scheduler.email_scheduler_server.newsletter.dto.SubscriberView;
 import com.email.scheduler.email_scheduler_server.newsletter.repository.SubscriberRepository;
+import com.email.scheduler.email_scheduler_server.newsletter.service.SegmentIndex;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Consumer;
+import java.util.function.LongConsumer;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class SubscriberFetchService {
 
     private final SubscriberRepository repository;
+    private final SegmentIndex segmentIndex;
 
     private static final int PAGE_SIZE = 10_000;
 
-    public long countActiveSubscribers() {
-        return repository.countByActiveTrue();
-    }
-
+    /**
+     * OFFSET 기반 페이징 (기존 방식)
+     * 뒤 페이지로 갈수록 앞의 행을 다시 스캔하고, 매 페이지마다 COUNT 쿼리가 함께 실행됨
+     * 발송 경로에서는 streamActiveSubscribers 를 사용하고, 이 메서드는 성능 비교용으로 남겨둠
+     */
     public void processEachPage(Consumer<List<Subscriber>> handler) {
         int page = 0;
 
@@ -42,4 +56,91 @@ public class SubscriberFetchService {
             page += 1;
         }
     }
+
+    /**
+     * Keyset 기반 스트리밍 (id > lastSeenId)
+     * 마지막으로 읽은 id 이후만 조회하므로 페이지 위치와 무관하게 조회 비용이 일정함
+     * 세그먼트 식이 있으면 세그먼트 비트맵으로 구간 안의 id 를 먼저 계산하고, 그 id 만 오름차순으로 페이지 단위 조회함
+     *
+     * @param fetchTime 페이지 조회 한 번에 걸린 시간(ns)을 받음 (지표 기록용)
+     */
+    public void streamActiveSubscribers(
+            SubscriberQuery query,
+            Consumer<List<SubscriberView>> handler,
+            LongConsumer fetchTime
+    ) {
+        DeliverySlot slot = query.slot();
+        long fromId = query.fromId();
+        long toId = query.toId();
+        if (query.audience() != null) {
+            streamSegment(slot, SegmentExpression.parse(query.audience()), fromId, toId, handler, fetchTime);
+            return;
+        }
+
+        long lastSeenId = fromId - 1;
+
+        while (true) {
+            long start = System.nanoTime();
+            Slice<SubscriberView> slice = fetchPage(slot, lastSeenId, toId);
+            fetchTime.accept(System.nanoTime() - start);
+            List<SubscriberView> subscribers = slice.getContent();
+
+            if (subscribers.isEmpty()) {
+                break;
+            }
+
+            handler.accept(subscribers);
+
+            if (!slice.hasNext()) {
+                break;
+            }
+
+            lastSeenId = subscribers.get(subscribers.size() - 1).id();
+        }
+    }
+
+    /**
+     * 비트맵 반복자는 id 오름차순이므로 페이지도 id 순서이고, 체크포인트(마지막 구독자 id)로 이어서 발송할 수 있음
+     * 비활성 구독자는 조회에서 빠지므로 페이지가 PAGE_SIZE 보다 작거나 비어 있을 수 있음
+     */
+    private void streamSegment(
+            DeliverySlot slot,
+            SegmentExpression audience,
+            long fromId,
+            long toId,
+            Consumer<List<SubscriberView>> handler,
+            LongConsumer fetchTime
+    ) {
+        long resolveStart = System.nanoTime();
+        RoaringBitmap ids = segmentIndex.resolve(audience, fromId, toId);
+        log.info("[Fetch] 🎯 발송 대상 세그먼트 계산 - {}명, {}ms",
+                ids.getLongCardinality(), (System.nanoTime() - resolveStart) / 1_000_000);
+
+        IntIterator iterator = ids.getIntIterator();
+        while (iterator.hasNext()) {
+            List<Long> page = new ArrayList<>(PAGE_SIZE);
+            while (iterator.hasNext() && page.size() < PAGE_SIZE) {
+                page.add(Integer.toUnsignedLong(iterator.next()));
+            }
+
+            long start = System.nanoTime();
+            List<SubscriberView> subscribers = slot == null
+                    ? repository.findActiveViewsByIds(page)
+                    : repository.findActiveViewsByIdsInSlot(page, slot.timeZone(), slot.deliveryHour());
+            fetchTime.accept(System.nanoTime() - start);
+
+            if (!subscribers.isEmpty()) {
+                handler.accept(subscribers);
+            }
+        }
+    }
+
+    private Slice<SubscriberView> fetchPage(DeliverySlot slot, long lastSeenId, long toId) {
+        if (slot == null) {
+            return repository.findActiveAfter(lastSeenId, toId, PageRequest.ofSize(PAGE_SIZE));
+        }
+        return repository.findActiveInSlotAfter(
+                slot.timeZone(), slot.deliveryHour(), lastSeenId, toId, PageRequest.ofSize(PAGE_SIZE)
+        );
+    }
 }
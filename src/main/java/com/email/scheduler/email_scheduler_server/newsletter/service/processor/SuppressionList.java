@@ -0,0 +1,199 @@
+package com.email.scheduler.email_scheduler_server.newsletter.service.processor;
+
+import com.email.scheduler.email_scheduler_server.newsletter.config.NewsletterProperties;
+import com.email.scheduler.email_scheduler_server.newsletter.domain.Suppression.Reason;
+import com.email.scheduler.email_scheduler_server.newsletter.repository.SuppressionRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongConsumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 노드 로컬 발송 제외 목록 (suppression 테이블의 구독자 id 를 힙 밖 해시 집합 OffHeapLongSet 에 올려 둠)
+ * - 발송 직전 contains 한 번으로 확인하며, 해시 한 번 + 슬롯 몇 개 읽기라 객체를 만들지 않음
+ * - 구독자 1,000만 명이면 슬롯 2^24 개 × 8바이트 = 128MiB 를 힙 밖에 씀 (전체 다시 읽기 중에는 잠시 두 벌)
+ *
+ * 갱신
+ * - 시작할 때 전체를 읽고, 이후 refresh-interval 마다 마지막으로 읽은 id 이후만 이어서 읽음
+ * - AUTO_INCREMENT id 는 커밋 순서와 다를 수 있어 이어 읽기에서 빠진 행이 생길 수 있으므로 rebuild-interval 마다 전체를 다시 읽어 교체함
+ * - 이 노드가 기록한 제외 대상은 DB 에 쓴 뒤 바로 로컬 목록에도 넣음 (다른 노드에는 다음 이어 읽기 때 반영)
+ *
+ * 쓰기(이어 읽기/다시 읽기/로컬 추가)는 lock 으로 한 스레드씩만 하고, 읽기는 잠금 없이 volatile 필드의 집합을 씀
+ */
+@Slf4j
+@Component
+public class SuppressionList implements InitializingBean {
+
+    private static final int READ_PAGE_SIZE = 50_000;
+
+    private final SuppressionRepository repository;
+    private final NewsletterProperties properties;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private volatile OffHeapLongSet set = new OffHeapLongSet(0);
+    // lock 을 잡은 스레드만 읽고 씀
+    private long lastSeenId;
+
+    public SuppressionList(SuppressionRepository repository, NewsletterProperties properties, MeterRegistry registry) {
+        this.repository = repository;
+        this.properties = properties;
+
+        Gauge.builder("newsletter.suppression.size", this, list -> list.set.size())
+                .description("이 노드의 발송 제외 목록에 있는 구독자 수")
+                .register(registry);
+        Gauge.builder("newsletter.suppression.memory", this, list -> list.set.memoryBytes())
+                .description("발송 제외 목록이 쓰는 힙 밖 메모리")
+                .baseUnit("bytes")
+                .register(registry);
+    }
+
+    public boolean contains(long subscriberId) {
+        return set.contains(subscriberId);
+    }
+
+    public boolean isEmpty() {
+        return set.size() == 0;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        // 리스너 컨테이너가 시작되기 전에 채워 두어 첫 샤드부터 제외 목록을 적용함
+        rebuild();
+    }
+
+    /**
+     * 목록 전체를 새 집합으로 다시 읽어 교체 (이어 읽기에서 빠진 행과 지워진 행을 맞춤)
+     */
+    @Scheduled(initialDelayString = "${newsletter.suppression.rebuild-interval:1h}",
+            fixedDelayString = "${newsletter.suppression.rebuild-interval:1h}")
+    public void rebuild() {
+        if (!properties.getSuppression().isEnabled()) {
+            return;
+        }
+
+        lock.lock();
+        try {
+            long start = System.currentTimeMillis();
+            long expected = repository.count();
+            // 다시 읽는 동안 늘어난 행과 이후 이어 읽기를 위해 1/4 여유를 둠
+            Loader loader = new Loader(new OffHeapLongSet(expected + expected / 4));
+            lastSeenId = readAfter(0, loader);
+            set = loader.target;
+
+            log.info("[Suppression] 발송 제외 목록 로드 - {}명, 힙 밖 메모리 {}KB, {}ms",
+                    set.size(), set.memoryBytes() / 1024, System.currentTimeMillis() - start);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 마지막으로 읽은 id 이후에 추가된 행만 이어서 읽음
+     */
+    @Scheduled(fixedDelayString = "${newsletter.suppression.refresh-interval:10s}")
+    public void refresh() {
+        if (!properties.getSuppression().isEnabled()) {
+            return;
+        }
+
+        lock.lock();
+        try {
+            Loader loader = new Loader(set);
+            lastSeenId = readAfter(lastSeenId, loader);
+            set = loader.target;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 수신자 단계(RCPT/DATA) 5xx 로 거절된 구독자를 바로 제외
+     */
+    public void suppressHardBounces(List<Long> subscriberIds) {
+        suppress(subscriberIds, Reason.HARD_BOUNCE);
+    }
+
+    /**
+     * 재시도를 다 쓰고 FAILURE 로 끝난 구독자 중 누적 최종 실패가 기준 이상인 구독자를 제외
+     * 이번 실패 로그가 커밋된 뒤에 호출해야 이번 실패까지 셈
+     */
+    public void recordFinalFailures(List<Long> subscriberIds) {
+        if (subscriberIds.isEmpty() || !properties.getSuppression().isEnabled()) {
+            return;
+        }
+
+        try {
+            suppress(repository.findRepeatedFailures(
+                    subscriberIds, properties.getSuppression().getFailureThreshold()), Reason.REPEATED_FAILURE);
+        } catch (RuntimeException e) {
+            log.warn("[Suppression] 최종 실패 횟수 조회 실패 - {}명", subscriberIds.size(), e);
+        }
+    }
+
+    // 제외 목록 기록이 실패해도 발송 결과 저장/재시도 예약은 계속되도록 예외를 삼킴 (다음 실패 때 다시 기록됨)
+    private void suppress(List<Long> subscriberIds, Reason reason) {
+        if (subscriberIds.isEmpty() || !properties.getSuppression().isEnabled()) {
+            return;
+        }
+
+        try {
+            repository.suppressAll(subscriberIds, reason, LocalDateTime.now());
+        } catch (RuntimeException e) {
+            log.warn("[Suppression] 발송 제외 기록 실패 - 사유: {}, {}명", reason, subscriberIds.size(), e);
+            return;
+        }
+        log.info("[Suppression] 🚫 발송 제외 - 사유: {}, {}명", reason, subscriberIds.size());
+
+        // 다시 읽는 중이면 기다리지 않음 (DB 에는 이미 있으므로 다시 읽기나 다음 이어 읽기에서 반영됨)
+        if (!lock.tryLock()) {
+            return;
+        }
+        try {
+            Loader loader = new Loader(set);
+            subscriberIds.forEach(loader::accept);
+            set = loader.target;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private long readAfter(long afterId, Loader loader) {
+        long lastId = afterId;
+        while (true) {
+            long next = repository.readAfter(lastId, READ_PAGE_SIZE, loader);
+            if (next == lastId) {
+                return lastId;
+            }
+            lastId = next;
+        }
+    }
+
+    /**
+     * 집합이 부하율 한도에 닿으면 두 배 크기로 옮기면서 채움 (옮긴 집합은 호출한 쪽이 교체함)
+     * 기존 집합에 바로 넣은 키는 읽는 스레드에게 곧바로 보임
+     */
+    private static final class Loader implements LongConsumer {
+
+        private OffHeapLongSet target;
+
+        private Loader(OffHeapLongSet target) {
+            this.target = target;
+        }
+
+        @Override
+        public void accept(long subscriberId) {
+            if (!target.hasRoom()) {
+                OffHeapLongSet grown = new OffHeapLongSet((long) target.size() * 2);
+                target.forEach(grown::add);
+                target = grown;
+            }
+            target.add(subscriberId);
+        }
+    }
+}
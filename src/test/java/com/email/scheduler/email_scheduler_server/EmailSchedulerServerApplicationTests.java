@@ -3,7 +3,7 @@ package com.email.scheduler.email_scheduler_server;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+@SpringBootTest(properties = "newsletter.render.unsubscribe-secret=test-secret")
 class EmailSchedulerServerApplicationTests {
 
 	@Test
@@ -0,0 +1,42 @@
+package com.email.scheduler.email_scheduler_server.newsletter.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.email.scheduler.email_scheduler_server.newsletter.mail.UnsubscribeToken;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.source.InvalidConfigurationPropertyValueException;
+
+class MailConfigTest {
+
+    private final MailConfig mailConfig = new MailConfig();
+
+    @Test
+    @DisplayName("구독 취소 서명 키가 비어 있으면 속성 이름과 환경 변수를 알려주는 설정 오류로 시작하지 않는다")
+    void unsubscribeToken_missingSecret() {
+        // given
+        NewsletterProperties properties = new NewsletterProperties();
+        properties.getRender().setUnsubscribeSecret("");
+
+        // when & then
+        assertThatThrownBy(() -> mailConfig.unsubscribeToken(properties))
+                .isInstanceOf(InvalidConfigurationPropertyValueException.class)
+                .hasMessageContaining(MailConfig.UNSUBSCRIBE_SECRET_PROPERTY)
+                .hasMessageContaining("NEWSLETTER_UNSUBSCRIBE_SECRET");
+    }
+
+    @Test
+    @DisplayName("서명 키가 있으면 그 키로 서명하는 토큰을 만든다")
+    void unsubscribeToken_withSecret() {
+        // given
+        NewsletterProperties properties = new NewsletterProperties();
+        properties.getRender().setUnsubscribeSecret("test-secret");
+
+        // when
+        String token = mailConfig.unsubscribeToken(properties).issue("a@test.com");
+
+        // then: 같은 키를 쓰는 다른 노드가 검증할 수 있음
+        assertThat(new UnsubscribeToken("test-secret").verify(token)).contains("a@test.com");
+    }
+}
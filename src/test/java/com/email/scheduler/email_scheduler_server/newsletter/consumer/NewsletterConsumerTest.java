@@ -0,0 +1,158 @@
+package com.email.scheduler.email_scheduler_server.newsletter.consumer;
+
+import static com.email.scheduler.email_scheduler_server.newsletter.config.RabbitMQConfig.DEAD_LETTER_EXCHANGE_NAME;
+import static com.email.scheduler.email_scheduler_server.newsletter.config.RabbitMQConfig.DEAD_LETTER_ROUTING_KEY;
+import static com.email.scheduler.email_scheduler_server.newsletter.config.RabbitMQConfig.SHARD_QUEUE_NAME;
+import static com.email.scheduler.email_scheduler_server.newsletter.config.RabbitMQConfig.SHARD_REDELIVERY_QUEUE_NAME;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.email.scheduler.email_scheduler_server.newsletter.config.NewsletterProperties;
+import com.email.scheduler.email_scheduler_server.newsletter.domain.IssueReference;
+import com.email.scheduler.email_scheduler_server.newsletter.domain.NewsletterIssue;
+import com.email.scheduler.email_scheduler_server.newsletter.domain.NewsletterShardMessage;
+import com.email.scheduler.email_scheduler_server.newsletter.metrics.DeliveryMetrics;
+import com.email.scheduler.email_scheduler_server.newsletter.service.processor.NewsletterProcessor;
+import com.rabbitmq.client.Channel;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+
+@ExtendWith(MockitoExtension.class)
+class NewsletterConsumerTest {
+
+    private static final long DELIVERY_TAG = 42L;
+
+    private static final NewsletterShardMessage MESSAGE = new NewsletterShardMessage(
+            1L, 7L, 0, 1, 1L, 100L,
+            new IssueReference(1L, "newsletter_01.md", NewsletterIssue.checksumOf("본문")), 0L, null);
+
+    @Mock
+    private NewsletterProcessor processor;
+
+    @Mock
+    private Channel channel;
+
+    private NewsletterConsumer consumer;
+
+    private final NewsletterProperties properties = new NewsletterProperties();
+
+    @BeforeEach
+    void setUp() {
+        properties.getListener().setMaxFailures(3);
+        consumer = new NewsletterConsumer(processor, new DeliveryMetrics(new SimpleMeterRegistry(), properties), properties);
+    }
+
+    @Test
+    @DisplayName("샤드 처리가 끝난 뒤에 ack 한다")
+    void acksAfterProcessing() throws IOException {
+        // when
+        consumer.onMessage(amqpMessage(MESSAGE, 0), channel);
+
+        // then
+        InOrder order = inOrder(processor, channel);
+        order.verify(processor).process(MESSAGE);
+        order.verify(channel).basicAck(DELIVERY_TAG, false);
+        verify(channel, never()).basicNack(anyLong(), anyBoolean(), anyBoolean());
+    }
+
+    @Test
+    @DisplayName("처리에 실패한 샤드는 requeue 없이 거부해 재전달 대기 큐로 보낸다")
+    void rejectsFailureToRedeliveryQueue() throws IOException {
+        // given
+        doThrow(new IllegalStateException("DB 연결 실패")).when(processor).process(MESSAGE);
+
+        // when
+        consumer.onMessage(amqpMessage(MESSAGE, 0), channel);
+
+        // then
+        verify(channel).basicNack(DELIVERY_TAG, false, false);
+        verify(channel, never()).basicAck(anyLong(), anyBoolean());
+        verify(channel, never()).basicPublish(anyString(), anyString(), any(), any());
+    }
+
+    @Test
+    @DisplayName("노드 장애로 재전달된 샤드도 첫 실패면 dead-letter 큐가 아니라 재전달 대기 큐로 보낸다")
+    void redeliveredFailureIsRetried() throws IOException {
+        // given
+        doThrow(new IllegalStateException("DB 연결 실패")).when(processor).process(MESSAGE);
+        Message message = amqpMessage(MESSAGE, 0);
+        message.getMessageProperties().setRedelivered(true);
+
+        // when
+        consumer.onMessage(message, channel);
+
+        // then
+        verify(channel).basicNack(DELIVERY_TAG, false, false);
+        verify(channel, never()).basicPublish(anyString(), anyString(), any(), any());
+    }
+
+    @Test
+    @DisplayName("x-death 의 거부 횟수가 한도에 닿으면 dead-letter 큐로 발행하고 ack 한다")
+    void deadLettersAfterMaxFailures() throws IOException {
+        // given: 이미 두 번 거부되어 대기 큐를 거쳐 옴 (한도 3)
+        doThrow(new IllegalStateException("checksum 불일치")).when(processor).process(MESSAGE);
+
+        // when
+        consumer.onMessage(amqpMessage(MESSAGE, 2), channel);
+
+        // then
+        InOrder order = inOrder(channel);
+        order.verify(channel).basicPublish(eq(DEAD_LETTER_EXCHANGE_NAME), eq(DEAD_LETTER_ROUTING_KEY), any(), any());
+        order.verify(channel).basicAck(DELIVERY_TAG, false);
+        verify(channel, never()).basicNack(anyLong(), anyBoolean(), anyBoolean());
+    }
+
+    @Test
+    @DisplayName("변환할 수 없는 메시지는 처리하지 않고 바로 dead-letter 큐로 보낸다")
+    void deadLettersUnconvertibleMessage() throws IOException {
+        // given
+        MessageProperties props = messageProperties(0);
+        props.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+        Message message = new Message("{not json".getBytes(StandardCharsets.UTF_8), props);
+
+        // when
+        consumer.onMessage(message, channel);
+
+        // then
+        verifyNoInteractions(processor);
+        verify(channel).basicPublish(eq(DEAD_LETTER_EXCHANGE_NAME), eq(DEAD_LETTER_ROUTING_KEY), any(), any());
+        verify(channel).basicAck(DELIVERY_TAG, false);
+    }
+
+    private Message amqpMessage(NewsletterShardMessage shard, long rejections) {
+        return new Jackson2JsonMessageConverter().toMessage(shard, messageProperties(rejections));
+    }
+
+    private MessageProperties messageProperties(long rejections) {
+        MessageProperties props = new MessageProperties();
+        props.setDeliveryTag(DELIVERY_TAG);
+        props.setConsumerQueue(SHARD_QUEUE_NAME);
+        if (rejections > 0) {
+            props.setHeader("x-death", List.of(
+                    Map.of("queue", SHARD_QUEUE_NAME, "reason", "rejected", "count", rejections),
+                    Map.of("queue", SHARD_REDELIVERY_QUEUE_NAME, "reason", "expired", "count", rejections)));
+        }
+        return props;
+    }
+}
@@ -0,0 +1,27 @@
+package com.email.scheduler.email_scheduler_server.newsletter.consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.email.scheduler.email_scheduler_server.newsletter.config.NewsletterProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ShardConsumerAutoscalerTest {
+
+    private final NewsletterProperties.Listener listener = new NewsletterProperties().getListener();
+
+    @Test
+    @DisplayName("대기 샤드 수에 비례해 컨슈머를 한 번에 늘리되 상한을 넘지 않는다")
+    void scalesUpWithDepth() {
+        // 기본값: 하한 2, 상한 8, 대기 샤드 2개당 컨슈머 1
+        assertThat(ShardConsumerAutoscaler.targetConsumers(9, 2, listener)).isEqualTo(5);
+        assertThat(ShardConsumerAutoscaler.targetConsumers(100, 2, listener)).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("큐가 비면 하한까지 하나씩 줄인다")
+    void scalesDownOneAtATime() {
+        assertThat(ShardConsumerAutoscaler.targetConsumers(0, 8, listener)).isEqualTo(7);
+        assertThat(ShardConsumerAutoscaler.targetConsumers(0, 2, listener)).isEqualTo(2);
+    }
+}
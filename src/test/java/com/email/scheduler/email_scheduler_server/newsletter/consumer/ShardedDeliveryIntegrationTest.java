@@ -0,0 +1,235 @@
+package com.email.scheduler.email_scheduler_server.newsletter.consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.email.scheduler.email_scheduler_server.newsletter.config.NewsletterProperties;
+import com.email.scheduler.email_scheduler_server.newsletter.config.NewsletterProperties.SendMode;
+import com.email.scheduler.email_scheduler_server.newsletter.domain.IssueReference;
+import com.email.scheduler.email_scheduler_server.newsletter.domain.NewsletterIssue;
+import com.email.scheduler.email_scheduler_server.newsletter.domain.NewsletterMessage;
+import com.email.scheduler.email_scheduler_server.newsletter.domain.NewsletterRun.RunStatus;
+import com.email.scheduler.email_scheduler_server.newsletter.domain.NewsletterShardMessage;
+import com.email.scheduler.email_scheduler_server.newsletter.domain.RunShard.ShardStatus;
+import com.email.scheduler.email_scheduler_server.newsletter.dto.IdRange;
+import com.email.scheduler.email_scheduler_server.newsletter.dto.SubscriberView;
+import com.email.scheduler.email_scheduler_server.newsletter.mail.UnsubscribeToken;
+import com.email.scheduler.email_scheduler_server.newsletter.metrics.DeliveryMetrics;
+import com.email.scheduler.email_scheduler_server.newsletter.repository.DispatchCursorRepository;
+import com.email.scheduler.email_scheduler_server.newsletter.repository.NewsletterRunRepository;
+import com.email.scheduler.email_scheduler_server.newsletter.repository.RunShardRepository;
+import com.email.scheduler.email_scheduler_server.newsletter.repository.SubscriberRepository;
+import com.email.scheduler.email_scheduler_server.newsletter.repository.SuppressionRepository;
+import com.email.scheduler.email_scheduler_server.newsletter.service.DeliveryRunService;
+import com.email.scheduler.email_scheduler_server.newsletter.service.EmailService;
+import com.email.scheduler.email_scheduler_server.newsletter.service.IssueContentCache;
+import com.email.scheduler.email_scheduler_server.newsletter.service.NewsletterRenderer;
+import com.email.scheduler.email_scheduler_server.newsletter.service.SegmentIndex;
+import com.email.scheduler.email_scheduler_server.newsletter.service.SendResult;
+import com.email.scheduler.email_scheduler_server.newsletter.service.ShardDispatcher;
+import com.email.scheduler.email_scheduler_server.newsletter.service.processor.DomainThrottle;
+import com.email.scheduler.email_scheduler_server.newsletter.service.processor.EmailBatchService;
+import com.email.scheduler.email_scheduler_server.newsletter.service.processor.MessageLogService;
+import com.email.scheduler.email_scheduler_server.newsletter.service.processor.NewsletterProcessor;
+import com.email.scheduler.email_scheduler_server.newsletter.service.processor.RetryService;
+import com.email.scheduler.email_scheduler_server.newsletter.service.processor.SendPermits;
+import com.email.scheduler.email_scheduler_server.newsletter.service.processor.SubscriberFetchService;
+import com.email.scheduler.email_scheduler_server.newsletter.service.processor.SuppressionList;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+
+/**
+ * 여러 컨슈머 인스턴스가 하나의 작업 큐에서 샤드를 나눠 처리하는지 검증
+ * RabbitMQ 대신 메모리 큐(InMemoryShardBroker)를 쓰고, SMTP 지연은 건당 1ms sleep 으로 흉내냄
+ * 샤드/실행 완료 보고는 실제 DeliveryRunService 가 하고, 저장소는 UPDATE 조건을 그대로 흉내낸 메모리 대역을 씀
+ * (걸린 시간은 CI 장비 부하에 따라 흔들리므로 속도 비율 대신 동시에 처리된 샤드 수를 확인함)
+ */
+class ShardedDeliveryIntegrationTest {
+
+    private static final int SUBSCRIBERS = 2_000;
+    private static final int SHARDS = 8;
+    private static final int CONSUMERS = 4;
+    private static final long RUN_ID = 1L;
+
+    private final List<SubscriberView> subscribers = LongStream.rangeClosed(1, SUBSCRIBERS)
+            .mapToObj(id -> new SubscriberView(id, "user" + id + "@test.com"))
+            .toList();
+
+    private final Set<String> sentTo = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger sent = new AtomicInteger();
+
+    private final Set<Long> startedShards = ConcurrentHashMap.newKeySet();
+    private final Map<Long, AtomicInteger> shardCompletions = new ConcurrentHashMap<>();
+    private final AtomicInteger activeShards = new AtomicInteger();
+    private final AtomicInteger maxActiveShards = new AtomicInteger();
+    private final AtomicInteger runCompletedShards = new AtomicInteger();
+    private final AtomicReference<RunStatus> runStatus = new AtomicReference<>(RunStatus.RUNNING);
+
+    private NewsletterConsumer consumer;
+
+    @BeforeEach
+    void setUp() {
+        SubscriberRepository repository = mock(SubscriberRepository.class);
+        when(repository.findActiveAfter(anyLong(), anyLong(), any(Pageable.class))).thenAnswer(invocation -> {
+            long lastId = invocation.getArgument(0);
+            long toId = invocation.getArgument(1);
+            Pageable pageable = invocation.getArgument(2);
+            List<SubscriberView> page = subscribers.stream()
+                    .filter(s -> s.id() > lastId && s.id() <= toId)
+                    .limit(pageable.getPageSize())
+                    .toList();
+            return new SliceImpl<>(page, pageable, false);
+        });
+
+        EmailService emailService = mock(EmailService.class);
+        when(emailService.sendEmail(anyString(), any())).thenAnswer(invocation -> {
+            Thread.sleep(1);
+            sentTo.add(invocation.getArgument(0));
+            sent.incrementAndGet();
+            return SendResult.SENT;
+        });
+
+        IssueContentCache contentCache = mock(IssueContentCache.class);
+        when(contentCache.resolve(any())).thenReturn(new NewsletterMessage(1L, "newsletter_01.md", "Hello Subscribers!"));
+
+        // 노드 한 대의 처리량이 SMTP 지연에 묶여 있는 상황을 만들기 위해 순차 발송 사용
+        NewsletterProperties properties = new NewsletterProperties();
+        properties.getSend().setMode(SendMode.SEQUENTIAL);
+        properties.getThrottle().setEnabled(false);
+        DeliveryRunService runService = new DeliveryRunService(runRepository(), shardRepository(),
+                mock(SubscriberRepository.class), mock(DispatchCursorRepository.class), properties);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        DeliveryMetrics metrics = new DeliveryMetrics(registry, properties);
+        SuppressionList suppressionList =
+                new SuppressionList(mock(SuppressionRepository.class), properties, registry);
+
+        NewsletterProcessor processor = new NewsletterProcessor(
+                new SubscriberFetchService(repository, mock(SegmentIndex.class)),
+                new EmailBatchService(emailService, properties, metrics, new DomainThrottle(properties, registry),
+                        suppressionList, new SendPermits(properties)),
+                mock(MessageLogService.class),
+                runService,
+                mock(RetryService.class),
+                suppressionList,
+                contentCache,
+                metrics,
+                new NewsletterRenderer(properties, new UnsubscribeToken("test-secret")),
+                properties
+        );
+        consumer = new NewsletterConsumer(processor, metrics, properties);
+    }
+
+    @Test
+    @DisplayName("샤드를 여러 컨슈머가 동시에 나눠 처리하고, 모든 샤드가 한 번씩 완료를 보고해 실행이 완료됨")
+    void shardsAreSharedAcrossConsumers() throws InterruptedException {
+        // when
+        runWithConsumers(CONSUMERS);
+
+        // then: 컨슈머 수만큼 샤드가 동시에 처리됨
+        assertThat(maxActiveShards.get()).isGreaterThanOrEqualTo(CONSUMERS);
+
+        // 모든 샤드가 정확히 한 번 처리되고, 모든 구독자가 정확히 한 번 받음
+        assertThat(shardCompletions).hasSize(SHARDS);
+        assertThat(shardCompletions.values()).allSatisfy(count -> assertThat(count.get()).isEqualTo(1));
+        assertThat(sent.get()).isEqualTo(SUBSCRIBERS);
+        assertThat(sentTo).hasSize(SUBSCRIBERS);
+
+        // 마지막 샤드의 보고로 실행 전체가 완료됨
+        assertThat(runStatus.get()).isEqualTo(RunStatus.COMPLETED);
+    }
+
+    // RunShardRepository 대역: 시작은 PENDING 일 때만, 완료는 아직 완료되지 않았을 때만 1 을 반환함
+    private RunShardRepository shardRepository() {
+        RunShardRepository repository = mock(RunShardRepository.class);
+        when(repository.markStarted(anyLong(), eq(ShardStatus.PENDING), eq(ShardStatus.RUNNING), any()))
+                .thenAnswer(invocation -> {
+                    if (!startedShards.add(invocation.getArgument(0))) {
+                        return 0;
+                    }
+                    maxActiveShards.accumulateAndGet(activeShards.incrementAndGet(), Math::max);
+                    return 1;
+                });
+        when(repository.markCompleted(anyLong(), anyInt(), anyInt(), eq(ShardStatus.COMPLETED), any()))
+                .thenAnswer(invocation -> {
+                    activeShards.decrementAndGet();
+                    Long shardId = invocation.getArgument(0);
+                    return shardCompletions.computeIfAbsent(shardId, id -> new AtomicInteger()).incrementAndGet() == 1 ? 1 : 0;
+                });
+        return repository;
+    }
+
+    // NewsletterRunRepository 대역: 완료 샤드 수가 샤드 수에 닿았을 때 한 번만 COMPLETED 로 바꿈
+    private NewsletterRunRepository runRepository() {
+        NewsletterRunRepository repository = mock(NewsletterRunRepository.class);
+        when(repository.addCompletedShard(eq(RUN_ID), anyLong(), anyLong())).thenAnswer(invocation -> {
+            runCompletedShards.incrementAndGet();
+            return 1;
+        });
+        when(repository.completeIfAllShardsDone(eq(RUN_ID), eq(RunStatus.COMPLETED), any())).thenAnswer(invocation ->
+                runCompletedShards.get() >= SHARDS && runStatus.compareAndSet(RunStatus.RUNNING, RunStatus.COMPLETED) ? 1 : 0);
+        return repository;
+    }
+
+    private void runWithConsumers(int consumers) throws InterruptedException {
+        InMemoryShardBroker broker = new InMemoryShardBroker();
+        IssueReference issue = new IssueReference(1L, "newsletter_01.md", NewsletterIssue.checksumOf("Hello Subscribers!"));
+
+        List<IdRange> ranges = new IdRange(1L, (long) SUBSCRIBERS).split(SHARDS);
+        for (int i = 0; i < ranges.size(); i++) {
+            IdRange range = ranges.get(i);
+            broker.dispatch(new NewsletterShardMessage(
+                    RUN_ID, (long) i, i, ranges.size(), range.fromId(), range.toId(), issue, System.currentTimeMillis(), null));
+        }
+
+        broker.drainWith(consumers, consumer);
+    }
+
+    /**
+     * RabbitMQ 작업 큐 대역: 하나의 큐를 여러 컨슈머 스레드가 경쟁적으로 소비함
+     */
+    private static class InMemoryShardBroker implements ShardDispatcher {
+
+        private final BlockingQueue<NewsletterShardMessage> queue = new LinkedBlockingQueue<>();
+
+        @Override
+        public void dispatch(NewsletterShardMessage message) {
+            queue.add(message);
+        }
+
+        void drainWith(int consumers, NewsletterConsumer consumer) throws InterruptedException {
+            List<Thread> threads = new ArrayList<>(consumers);
+            for (int i = 0; i < consumers; i++) {
+                threads.add(Thread.ofPlatform().name("consumer-" + i).start(() -> {
+                    NewsletterShardMessage message;
+                    while ((message = queue.poll()) != null) {
+                        consumer.receiveMessage(message);
+                    }
+                }));
+            }
+            for (Thread thread : threads) {
+                thread.join(TimeUnit.MINUTES.toMillis(1));
+            }
+        }
+    }
+}
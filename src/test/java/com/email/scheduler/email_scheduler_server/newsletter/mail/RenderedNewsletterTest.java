@@ -0,0 +1,100 @@
+package com.email.scheduler.email_scheduler_server.newsletter.mail;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RenderedNewsletterTest {
+
+    private static final String PLAIN = "# 오늘의 뉴스레터\n\n안녕하세요 {{name}}님!\n\n"
+            + "긴 문단 ".repeat(40) + "\n. 점으로 시작하는 줄\n\n[구독 취소]({{unsubscribe_url}})\n";
+    private static final String HTML = "<h1>오늘의 뉴스레터</h1>\n<p>안녕하세요 {{name}}님!</p>\n"
+            + "<a href=\"{{unsubscribe_url}}\">구독 취소</a>\n";
+
+    private final UnsubscribeToken unsubscribeToken = new UnsubscribeToken("test-secret");
+
+    private final RenderedNewsletter rendered = RenderedNewsletter.render(
+            "newsletter@test.com", "오늘의 뉴스레터", PLAIN, HTML, "http://localhost/unsubscribe?source=mail&token=",
+            unsubscribeToken);
+
+    @Test
+    @DisplayName("구독자별 값이 헤더와 text/html 본문의 자리표시자 위치에 들어가고, 구독 취소 링크에는 이메일 대신 서명 토큰이 들어간다")
+    void splicesRecipientFields() throws IOException {
+        String email = "a<b>+news@test.com";
+        String token = unsubscribeToken.issue(email);
+        String message = write(email);
+
+        assertThat(message).contains("To: <a<b>+news@test.com>\r\n");
+        assertThat(message).contains("List-Unsubscribe: <http://localhost/unsubscribe?source=mail&token=" + token + ">\r\n");
+        assertThat(message).contains("List-Unsubscribe-Post: List-Unsubscribe=One-Click\r\n");
+
+        String[] parts = message.split("--=_newsletter_[0-9a-f]+");
+        String plain = decode(parts[1]);
+        String html = decode(parts[2]);
+
+        assertThat(plain).contains("안녕하세요 a<b>+news님!");
+        assertThat(plain).contains(". 점으로 시작하는 줄");
+        assertThat(plain).contains("[구독 취소](http://localhost/unsubscribe?source=mail&token=" + token + ")");
+        assertThat(plain).contains("긴 문단 ".repeat(40).trim());
+
+        assertThat(html).contains("<p>안녕하세요 a&lt;b&gt;+news님!</p>");
+        assertThat(html).contains("href=\"http://localhost/unsubscribe?source=mail&amp;token=" + token + "\"");
+        assertThat(message).doesNotContain("news%40test.com");
+    }
+
+    @Test
+    @DisplayName("인코딩된 본문은 76자 이하의 줄로 나뉘고 '.' 으로 시작하는 줄이 없다")
+    void encodedLinesAreSmtpSafe() throws IOException {
+        String message = write("user@test.com");
+        String body = message.substring(message.indexOf("\r\n\r\n") + 4);
+
+        assertThat(body.split("\r\n"))
+                .allSatisfy(line -> {
+                    assertThat(line.length()).isLessThanOrEqualTo(76);
+                    assertThat(line).doesNotStartWith(".");
+                });
+    }
+
+    @Test
+    @DisplayName("고정 부분은 공유되고 수신자마다 구독자 값만 달라진다")
+    void staticPartIsShared() throws IOException {
+        String first = write("alice@test.com");
+        String second = write("bob@test.com");
+
+        assertThat(first).isNotEqualTo(second);
+        assertThat(first.replace("alice", "bob")
+                .replace(unsubscribeToken.issue("alice@test.com"), unsubscribeToken.issue("bob@test.com")))
+                .isEqualTo(second);
+        assertThat(rendered.staticBytes()).isLessThan(first.getBytes(StandardCharsets.UTF_8).length);
+    }
+
+    private String write(String email) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        rendered.writeTo(out, email);
+        return out.toString(StandardCharsets.US_ASCII);
+    }
+
+    // 파트 헤더를 건너뛰고 quoted-printable 본문을 디코딩
+    private String decode(String part) {
+        String encoded = part.substring(part.indexOf("\r\n\r\n") + 4).replace("=\r\n", "");
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        for (int i = 0; i < encoded.length(); i++) {
+            char c = encoded.charAt(i);
+            if (c == '=') {
+                bytes.write(Integer.parseInt(encoded.substring(i + 1, i + 3), 16));
+                i += 2;
+            } else {
+                bytes.write(c);
+            }
+        }
+        return Arrays.stream(bytes.toString(StandardCharsets.UTF_8).split("\r\n"))
+                .reduce((a, b) -> a + "\n" + b)
+                .orElse("");
+    }
+}
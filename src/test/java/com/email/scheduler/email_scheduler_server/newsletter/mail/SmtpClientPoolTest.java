@@ -0,0 +1,217 @@
+package com.email.scheduler.email_scheduler_server.newsletter.mail;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.email.scheduler.email_scheduler_server.newsletter.config.NewsletterProperties;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SmtpClientPoolTest {
+
+    private FakeSmtpServer server;
+    private SmtpClientPool pool;
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (pool != null) {
+            pool.close();
+        }
+        if (server != null) {
+            server.close();
+        }
+    }
+
+    @Test
+    @DisplayName("한 연결로 여러 메시지를 보내고 본문과 수신자가 그대로 전달된다")
+    void reusesConnectionAcrossMessages() throws Exception {
+        server = FakeSmtpServer.start(0, true, true);
+        pool = new SmtpClientPool(config(server, 1, 500));
+
+        for (int i = 0; i < 10; i++) {
+            pool.send("user" + i + "@test.com", text("Hello " + i + "\r\n.starts with dot"));
+        }
+
+        assertThat(server.messages()).isEqualTo(10);
+        assertThat(server.connections()).isEqualTo(1);
+        assertThat(pool.openedConnections()).isEqualTo(1);
+
+        FakeSmtpServer.ReceivedMail first = server.receivedMails().get(0);
+        assertThat(first.from()).isEqualTo("newsletter@test.com");
+        assertThat(first.to()).isEqualTo("user0@test.com");
+        assertThat(first.data()).isEqualTo("Hello 0\r\n.starts with dot\r\n");
+    }
+
+    @Test
+    @DisplayName("연결당 최대 메시지 수를 넘기면 새로 연결한다")
+    void reconnectsAfterMaxMessagesPerConnection() throws Exception {
+        server = FakeSmtpServer.start(0, true, false);
+        pool = new SmtpClientPool(config(server, 1, 5));
+
+        for (int i = 0; i < 12; i++) {
+            pool.send("user" + i + "@test.com", text("body"));
+        }
+
+        assertThat(server.messages()).isEqualTo(12);
+        assertThat(pool.openedConnections()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("동시에 보내도 연결 수는 pool-size 를 넘지 않는다")
+    void concurrentSendsStayWithinPoolSize() throws Exception {
+        server = FakeSmtpServer.start(0, true, false);
+        pool = new SmtpClientPool(config(server, 4, 500));
+
+        List<Future<?>> futures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 200; i++) {
+                String to = "user" + i + "@test.com";
+                futures.add(executor.submit(() -> pool.send(to, text("body"))));
+            }
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+
+        assertThat(server.messages()).isEqualTo(200);
+        assertThat(pool.openedConnections()).isBetween(1, 4);
+    }
+
+    @Test
+    @DisplayName("서버가 PIPELINING 을 광고하면 봉투 명령을 한 번에 보낸다")
+    void pipelinesEnvelopeWhenAdvertised() throws Exception {
+        server = FakeSmtpServer.start(0, true, false);
+        pool = new SmtpClientPool(config(server, 1, 500));
+
+        for (int i = 0; i < 5; i++) {
+            pool.send("user" + i + "@test.com", text("body"));
+        }
+
+        assertThat(server.pipelinedEnvelopes()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("PIPELINING 을 지원하지 않는 서버에는 명령을 하나씩 보낸다")
+    void sendsSequentiallyWithoutPipelining() throws Exception {
+        server = FakeSmtpServer.start(0, false, false);
+        pool = new SmtpClientPool(config(server, 1, 500));
+
+        for (int i = 0; i < 5; i++) {
+            pool.send("user" + i + "@test.com", text("body"));
+        }
+
+        assertThat(server.messages()).isEqualTo(5);
+        assertThat(server.pipelinedEnvelopes()).isZero();
+    }
+
+    @Test
+    @DisplayName("수신자 거절(4xx)은 일시 오류로 던지고 연결은 계속 재사용한다")
+    void rejectedRecipientKeepsConnection() throws Exception {
+        server = FakeSmtpServer.start(0, true, false);
+        server.rejectRecipient("busy@test.com", 450);
+        pool = new SmtpClientPool(config(server, 1, 500));
+
+        pool.send("ok1@test.com", text("body"));
+        assertThatThrownBy(() -> pool.send("busy@test.com", text("body")))
+                .isInstanceOfSatisfying(SmtpException.class, e -> {
+                    assertThat(e.getReplyCode()).isEqualTo(450);
+                    assertThat(e.isTransient()).isTrue();
+                });
+        pool.send("ok2@test.com", text("body"));
+
+        assertThat(server.messages()).isEqualTo(2);
+        assertThat(pool.openedConnections()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("주입한 거절 확률대로 일시(451) / 영구(550) 오류를 돌려준다")
+    void injectedFaultsRejectRecipients() throws Exception {
+        server = FakeSmtpServer.start(0, true, false);
+        pool = new SmtpClientPool(config(server, 1, 500));
+
+        server.injectFaults(Duration.ZERO, 1.0, 0.0);
+        assertThatThrownBy(() -> pool.send("user1@test.com", text("body")))
+                .isInstanceOfSatisfying(SmtpException.class, e -> assertThat(e.isTransient()).isTrue());
+
+        server.injectFaults(Duration.ZERO, 0.0, 1.0);
+        assertThatThrownBy(() -> pool.send("user2@test.com", text("body")))
+                .isInstanceOfSatisfying(SmtpException.class, e -> {
+                    assertThat(e.getReplyCode()).isEqualTo(550);
+                    assertThat(e.getPhase()).isEqualTo(SmtpException.Phase.RECIPIENT);
+                    assertThat(e.isTransient()).isFalse();
+                    assertThat(e.isRecipientRejection()).isTrue();
+                });
+
+        server.injectFaults(Duration.ofMillis(20), 0.0, 0.0);
+        long start = System.nanoTime();
+        pool.send("user3@test.com", text("body"));
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThanOrEqualTo(Duration.ofMillis(20));
+        assertThat(server.messages()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("인증 실패(535)는 수신자 거절이 아닌 연결 단계 실패이므로 일시 오류로 던진다")
+    void authFailureIsNotRecipientRejection() throws Exception {
+        server = FakeSmtpServer.start(0, true, false);
+        server.rejectAuth(535);
+        NewsletterProperties.Smtp smtp = config(server, 1, 500);
+        smtp.setUsername("newsletter");
+        smtp.setPassword("wrong");
+        pool = new SmtpClientPool(smtp);
+
+        assertThatThrownBy(() -> pool.send("user@test.com", text("body")))
+                .isInstanceOfSatisfying(SmtpException.class, e -> {
+                    assertThat(e.getReplyCode()).isEqualTo(535);
+                    assertThat(e.getPhase()).isEqualTo(SmtpException.Phase.CONNECTION);
+                    assertThat(e.isTransient()).isTrue();
+                    assertThat(e.isRecipientRejection()).isFalse();
+                });
+        assertThat(server.messages()).isZero();
+    }
+
+    @Test
+    @DisplayName("본문을 보낸 뒤 message-timeout 안에 응답이 없으면 연결을 버리고, 재시도하지 않는 수신 여부 불명 실패로 던진다")
+    void timeoutAfterDataIsNotRetried() throws Exception {
+        server = FakeSmtpServer.start(0, true, false);
+        NewsletterProperties.Smtp smtp = config(server, 1, 500);
+        smtp.setMessageTimeout(Duration.ofMillis(100));
+        pool = new SmtpClientPool(smtp);
+
+        server.injectFaults(Duration.ofMillis(500), 0.0, 0.0);
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> pool.send("slow@test.com", text("body")))
+                .isInstanceOfSatisfying(SmtpException.class, e -> {
+                    assertThat(e.isDeliveryUnknown()).isTrue();
+                    assertThat(e.isTransient()).isFalse();
+                    assertThat(e.isRecipientRejection()).isFalse();
+                });
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofMillis(500));
+
+        // 시간 초과난 연결은 폐기하고 다음 메시지는 새 연결로 보냄
+        server.injectFaults(Duration.ZERO, 0.0, 0.0);
+        pool.send("next@test.com", text("body"));
+        assertThat(pool.openedConnections()).isEqualTo(2);
+    }
+
+    private MailBody text(String body) {
+        return out -> out.write(body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private NewsletterProperties.Smtp config(FakeSmtpServer server, int poolSize, int maxMessages) {
+        NewsletterProperties.Smtp smtp = new NewsletterProperties().getSmtp();
+        smtp.setHost("localhost");
+        smtp.setPort(server.port());
+        smtp.setFrom("newsletter@test.com");
+        smtp.setPoolSize(poolSize);
+        smtp.setMaxMessagesPerConnection(maxMessages);
+        return smtp;
+    }
+}
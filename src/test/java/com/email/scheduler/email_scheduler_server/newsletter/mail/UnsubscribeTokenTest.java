@@ -0,0 +1,83 @@
+package com.email.scheduler.email_scheduler_server.newsletter.mail;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class UnsubscribeTokenTest {
+
+    private final UnsubscribeToken unsubscribeToken = new UnsubscribeToken("test-secret");
+
+    @Test
+    @DisplayName("발급한 토큰은 URL 에 그대로 넣을 수 있고, 검증하면 수신자 이메일을 돌려준다")
+    void issueAndVerify() {
+        String token = unsubscribeToken.issue("a<b>+news@test.com");
+
+        assertThat(token).matches("[A-Za-z0-9_-]+\\.[A-Za-z0-9_-]+");
+        assertThat(unsubscribeToken.verify(token)).contains("a<b>+news@test.com");
+    }
+
+    @Test
+    @DisplayName("이메일을 바꾸거나 다른 키로 서명한 토큰, 형식이 틀린 토큰은 거부한다")
+    void rejectsForgedTokens() {
+        String token = unsubscribeToken.issue("alice@test.com");
+        String signature = token.substring(token.indexOf('.') + 1);
+        String otherEmail = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("bob@test.com".getBytes(StandardCharsets.UTF_8));
+
+        assertThat(unsubscribeToken.verify(otherEmail + "." + signature)).isEmpty();
+        assertThat(new UnsubscribeToken("other-secret").verify(token)).isEmpty();
+        assertThat(unsubscribeToken.verify("bob@test.com")).isEmpty();
+        assertThat(unsubscribeToken.verify("%%%.%%%")).isEmpty();
+        assertThat(unsubscribeToken.verify(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("메시지마다 새 가상 스레드에서 서명해도 초기화한 Mac 을 다시 쓴다")
+    void reusesMacAcrossVirtualThreads() throws Exception {
+        // when: 발송 경로처럼 토큰 하나마다 새 가상 스레드
+        for (int i = 0; i < 1_000; i++) {
+            Thread thread = Thread.ofVirtual().start(() -> unsubscribeToken.issue("alice@test.com"));
+            thread.join();
+        }
+
+        // then
+        assertThat(unsubscribeToken.createdMacs()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("동시에 서명해도 토큰이 섞이지 않고, Mac 은 동시에 실행되는 스레드 수만큼만 만든다")
+    void signsConcurrently() throws Exception {
+        // given
+        List<Future<String>> tokens = new ArrayList<>();
+
+        // when
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 10_000; i++) {
+                String email = "user" + i + "@test.com";
+                tokens.add(executor.submit(() -> unsubscribeToken.issue(email)));
+            }
+        }
+
+        // then
+        for (int i = 0; i < tokens.size(); i++) {
+            assertThat(unsubscribeToken.verify(tokens.get(i).get())).contains("user" + i + "@test.com");
+        }
+        assertThat(unsubscribeToken.createdMacs()).isLessThanOrEqualTo(Runtime.getRuntime().availableProcessors());
+    }
+
+    @Test
+    @DisplayName("서명 키가 없으면 시작하지 않는다")
+    void requiresSecret() {
+        assertThatThrownBy(() -> new UnsubscribeToken(" ")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,58 @@
+package com.email.scheduler.email_scheduler_server.newsletter.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.email.scheduler.email_scheduler_server.newsletter.config.NewsletterProperties;
+import com.email.scheduler.email_scheduler_server.newsletter.service.SendResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class DeliveryMetricsTest {
+
+    private SimpleMeterRegistry registry;
+    private DeliveryMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        NewsletterProperties properties = new NewsletterProperties();
+        properties.getMetrics().setRetainedIssues(1);
+        registry = new SimpleMeterRegistry();
+        metrics = new DeliveryMetrics(registry, properties);
+    }
+
+    @Test
+    @DisplayName("컨슈머 지연은 회차와 큐별 타이머 하나에 쌓인다")
+    void recordConsumerLag_reusesTimerPerQueue() {
+        // when
+        long readyAt = System.currentTimeMillis() - 100;
+        metrics.recordConsumerLag(1L, "newsletter.shard.queue", readyAt);
+        metrics.recordConsumerLag(1L, "newsletter.shard.queue", readyAt);
+        metrics.recordConsumerLag(1L, "newsletter.retry.queue", readyAt);
+        metrics.recordConsumerLag(1L, "newsletter.retry.queue", 0);
+
+        // then
+        assertThat(registry.get("newsletter.consumer.lag").tag("queue", "newsletter.shard.queue").timer().count())
+                .isEqualTo(2);
+        assertThat(registry.get("newsletter.consumer.lag").tag("queue", "newsletter.retry.queue").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("유지할 회차 수를 넘어 밀려난 회차는 컨슈머 지연을 포함한 모든 미터를 레지스트리에서 지운다")
+    void evictsOldIssueMeters() {
+        // given
+        metrics.recordConsumerLag(1L, "newsletter.shard.queue", System.currentTimeMillis());
+        metrics.forIssue(1L).sendFinished(1_000_000, SendResult.SENT);
+
+        // when: 다음 회차가 시작됨
+        metrics.forIssue(2L);
+
+        // then
+        assertThat(registry.find("newsletter.consumer.lag").tag("issue", "1").timers()).isEmpty();
+        assertThat(registry.find("newsletter.send.latency").tag("issue", "1").timers()).isEmpty();
+        assertThat(registry.find("newsletter.sent").tag("issue", "1").counters()).isEmpty();
+        assertThat(registry.find("newsletter.sent").tag("issue", "2").counters()).hasSize(1);
+    }
+}
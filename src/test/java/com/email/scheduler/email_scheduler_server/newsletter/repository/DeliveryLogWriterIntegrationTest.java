@@ -0,0 +1,110 @@
+package com.email.scheduler.email_scheduler_server.newsletter.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.email.scheduler.email_scheduler_server.newsletter.config.NewsletterProperties;
+import com.email.scheduler.email_scheduler_server.newsletter.domain.Message.MessageStatus;
+import com.email.scheduler.email_scheduler_server.newsletter.dto.DeliveryLog;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * 선점(SENDING) → 결과 덮어쓰기 upsert 를 부하 테스트와 같은 임베디드 H2(MySQL 모드)에서 그대로 실행
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:deliverylog;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+class DeliveryLogWriterIntegrationTest {
+
+    private static final Long ISSUE_ID = 5L;
+    private static final LocalDate SEND_DATE = LocalDate.of(2026, 10, 18);
+    private static final LocalDateTime SEND_AT = LocalDateTime.of(2026, 10, 18, 8, 0, 3);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private DeliveryLogWriter logWriter;
+
+    @BeforeEach
+    void setUp() {
+        logWriter = new DeliveryLogWriter(jdbcTemplate, new NewsletterProperties());
+    }
+
+    @Test
+    @DisplayName("선점한 구독자의 결과 로그는 SENDING 행을 덮어쓰고 시도 횟수를 1 로 남긴다")
+    void insertAll_overwritesClaims() {
+        // given
+        logWriter.claimSending(ISSUE_ID, SEND_DATE, List.of(1L, 2L));
+
+        // when
+        logWriter.insertAll(List.of(
+                log(1L, MessageStatus.SUCCESS),
+                log(2L, MessageStatus.RETRYING)));
+
+        // then
+        assertThat(row(1L)).isEqualTo(new Row(MessageStatus.SUCCESS, 1, SEND_AT));
+        assertThat(row(2L)).isEqualTo(new Row(MessageStatus.RETRYING, 1, SEND_AT));
+        assertThat(logWriter.findLoggedSubscriberIds(ISSUE_ID, SEND_DATE, 1L, 2L)).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("이미 결과가 있는 행에 다시 들어온 로그는 무시하고, 선점하지 않은 구독자는 새 행으로 남긴다")
+    void insertAll_keepsFinishedRows() {
+        // given
+        logWriter.claimSending(ISSUE_ID, SEND_DATE, List.of(1L));
+        logWriter.insertAll(List.of(log(1L, MessageStatus.SUCCESS)));
+
+        // when: 재처리된 배치가 같은 구독자의 로그를 다시 씀
+        logWriter.insertAll(List.of(
+                new DeliveryLog(1L, ISSUE_ID, SEND_DATE, SEND_AT.plusMinutes(5), MessageStatus.FAILURE),
+                log(3L, MessageStatus.FAILURE)));
+
+        // then
+        assertThat(row(1L)).isEqualTo(new Row(MessageStatus.SUCCESS, 1, SEND_AT));
+        assertThat(row(3L)).isEqualTo(new Row(MessageStatus.FAILURE, 1, SEND_AT));
+    }
+
+    @Test
+    @DisplayName("이미 선점된 구독자를 다시 선점하면 유니크 키 충돌로 실패한다")
+    void claimSending_rejectsDuplicateClaim() {
+        // given
+        logWriter.claimSending(ISSUE_ID, SEND_DATE, List.of(1L));
+
+        // when & then
+        assertThatThrownBy(() -> logWriter.claimSending(ISSUE_ID, SEND_DATE, List.of(1L)))
+                .isInstanceOf(DuplicateKeyException.class);
+    }
+
+    private Row row(Long subscriberId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT status, attempt_count, send_at FROM message WHERE issue_id = ? AND subscriber_id = ? AND send_date = ?",
+                (rs, rowNum) -> new Row(
+                        MessageStatus.valueOf(rs.getString(1)),
+                        rs.getInt(2),
+                        rs.getObject(3, LocalDateTime.class)),
+                ISSUE_ID, subscriberId, SEND_DATE);
+    }
+
+    private static DeliveryLog log(Long subscriberId, MessageStatus status) {
+        return new DeliveryLog(subscriberId, ISSUE_ID, SEND_DATE, SEND_AT, status);
+    }
+
+    private record Row(MessageStatus status, int attemptCount, LocalDateTime sendAt) {
+    }
+}
@@ -0,0 +1,103 @@
+package com.email.scheduler.email_scheduler_server.newsletter.service;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+
+import com.email.scheduler.email_scheduler_server.newsletter.config.NewsletterProperties;
+import java.time.Duration;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.core.ReturnedMessage;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.connection.CorrelationData.Confirm;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class ConfirmedPublisherTest {
+
+    private static final String EXCHANGE = "newsletter.shard.exchange";
+    private static final String ROUTING_KEY = "newsletter.shard";
+    private static final Object PAYLOAD = "shard";
+
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+
+    private ConfirmedPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        NewsletterProperties properties = new NewsletterProperties();
+        properties.getPublish().setConfirmTimeout(Duration.ofMillis(200));
+        publisher = new ConfirmedPublisher(rabbitTemplate, properties);
+    }
+
+    @Test
+    @DisplayName("브로커가 ack 하면 그대로 반환한다")
+    void publish_ack() {
+        // given
+        givenBroker(correlation -> correlation.getFuture().complete(new Confirm(true, null)));
+
+        // when & then
+        assertThatCode(() -> publisher.publish(EXCHANGE, ROUTING_KEY, PAYLOAD)).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("브로커가 nack 하면 거부 사유와 함께 발행 실패로 알린다")
+    void publish_nack() {
+        // given
+        givenBroker(correlation -> correlation.getFuture().complete(new Confirm(false, "disk alarm")));
+
+        // when & then
+        assertThatThrownBy(() -> publisher.publish(EXCHANGE, ROUTING_KEY, PAYLOAD))
+                .isInstanceOf(AmqpException.class)
+                .hasMessageContaining("nack")
+                .hasMessageContaining("disk alarm");
+    }
+
+    @Test
+    @DisplayName("받을 큐가 없어 mandatory 로 되돌아온 메시지는 ack 를 받아도 발행 실패로 알린다")
+    void publish_returnedUnroutable() {
+        // given: 브로커는 되돌려 보낸 뒤 ack 함
+        givenBroker(correlation -> {
+            correlation.setReturned(new ReturnedMessage(
+                    new Message(new byte[0], new MessageProperties()), 312, "NO_ROUTE", EXCHANGE, ROUTING_KEY));
+            correlation.getFuture().complete(new Confirm(true, null));
+        });
+
+        // when & then
+        assertThatThrownBy(() -> publisher.publish(EXCHANGE, ROUTING_KEY, PAYLOAD))
+                .isInstanceOf(AmqpException.class)
+                .hasMessageContaining("NO_ROUTE");
+    }
+
+    @Test
+    @DisplayName("제한 시간 안에 발행 확인이 오지 않으면 발행 실패로 알린다")
+    void publish_confirmTimeout() {
+        // given: 브로커가 확인을 보내지 않음
+        givenBroker(correlation -> {
+        });
+
+        // when & then
+        assertThatThrownBy(() -> publisher.publish(EXCHANGE, ROUTING_KEY, PAYLOAD))
+                .isInstanceOf(AmqpException.class)
+                .hasMessageContaining("시간 초과");
+    }
+
+    private void givenBroker(Consumer<CorrelationData> confirm) {
+        doAnswer(invocation -> {
+            confirm.accept(invocation.getArgument(3));
+            return null;
+        }).when(rabbitTemplate).convertAndSend(eq(EXCHANGE), eq(ROUTING_KEY), eq(PAYLOAD), any(CorrelationData.class));
+    }
+}
@@ -0,0 +1,55 @@
+package com.email.scheduler.email_scheduler_server.newsletter.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CsvFormatTest {
+
+    @Test
+    @DisplayName("쓴 행을 다시 읽으면 쉼표, 큰따옴표, 줄바꿈, 앞뒤 공백이 든 값도 그대로 돌아온다")
+    void roundTrip() throws Exception {
+        // given
+        List<String> values = List.of("plain", "a,b", "say \"hi\"", "line1\nline2", " padded ", "", "\"");
+
+        // when
+        String csv = CsvFormat.row(values.toArray(String[]::new)) + CsvFormat.row("next", "row");
+
+        // then
+        assertThat(readAll(csv)).containsExactly(values, List.of("next", "row"));
+    }
+
+    @Test
+    @DisplayName("감쌀 필요가 없는 값은 그대로 쓴다")
+    void row_quotesOnlyWhenNeeded() {
+        assertThat(CsvFormat.row("1", "a@test.com", "b,c@test.com")).isEqualTo("1,a@test.com,\"b,c@test.com\"\n");
+    }
+
+    @Test
+    @DisplayName("BOM 과 빈 줄은 건너뛰고, 감싸지 않은 값의 앞뒤 공백과 큰따옴표 바깥의 공백은 지운다")
+    void reader_lenientInput() throws Exception {
+        // given
+        String csv = "\uFEFFemail, active\n\n  \"a@test.com\" , true \n\"unterminated";
+
+        // when & then
+        assertThat(readAll(csv)).containsExactly(
+                List.of("email", "active"),
+                List.of("a@test.com", "true"),
+                List.of("unterminated"));
+    }
+
+    private static List<List<String>> readAll(String csv) throws Exception {
+        CsvFormat.RowReader reader = new CsvFormat.RowReader(new BufferedReader(new StringReader(csv)));
+        List<List<String>> rows = new ArrayList<>();
+        List<String> row;
+        while ((row = reader.next()) != null) {
+            rows.add(row);
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,82 @@
+package com.email.scheduler.email_scheduler_server.newsletter.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.email.scheduler.email_scheduler_server.newsletter.dto.IssueCounts;
+import com.email.scheduler.email_scheduler_server.newsletter.dto.IssueDeliveryStats;
+import com.email.scheduler.email_scheduler_server.newsletter.repository.IssueStatsRepository;
+import com.email.scheduler.email_scheduler_server.newsletter.repository.SubscriberCounterRepository;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * 샤드마다 다른 stripe 에 더한 변화량이 조회할 때 하나의 통계로 합쳐지는지 임베디드 H2(MySQL 모드)에서 확인
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:stats;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+class DeliveryStatsIntegrationTest {
+
+    private static final Long ISSUE_ID = 5L;
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 18, 8, 0);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private IssueStatsRepository statsRepository;
+    private SubscriberCounterRepository counterRepository;
+    private DeliveryStatsService statsService;
+
+    @BeforeEach
+    void setUp() {
+        statsRepository = new IssueStatsRepository(jdbcTemplate);
+        counterRepository = new SubscriberCounterRepository(jdbcTemplate);
+        statsService = new DeliveryStatsService(statsRepository, counterRepository);
+    }
+
+    @Test
+    @DisplayName("여러 샤드가 각자의 stripe 에 더한 배치 변화량을 합쳐 회차 통계 하나로 돌려준다")
+    void sumsIssueStripes() {
+        // given: 샤드 3개 (샤드 id 17 은 stripe 1 로 접혀 샤드 1 과 같은 행에 더해짐), 다른 회차의 행은 섞이지 않음
+        statsRepository.add(ISSUE_ID, 1, new IssueCounts(10, 8, 1, 0, 1), NOW);
+        statsRepository.add(ISSUE_ID, 1, new IssueCounts(10, 9, 0, 0, 0), NOW.plusMinutes(1));
+        statsRepository.add(ISSUE_ID, 2, new IssueCounts(20, 15, 2, 0, 0), NOW.plusMinutes(2));
+        statsRepository.add(ISSUE_ID, 17, new IssueCounts(0, 2, 0, 3, 0), NOW.plusMinutes(3));
+        statsRepository.add(ISSUE_ID + 1, 1, new IssueCounts(99, 99, 0, 0, 0), NOW);
+
+        // when
+        IssueDeliveryStats stats = statsService.findIssueStats(ISSUE_ID).orElseThrow();
+
+        // then: 대상 40 = 성공 34 + 실패 3 + 제외 1 + 재시도 대기 2
+        assertThat(stats).isEqualTo(new IssueDeliveryStats(ISSUE_ID, 40, 34, 3, 1, 2, 3, NOW.plusMinutes(3)));
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM issue_stats WHERE issue_id = ?", Long.class, ISSUE_ID)).isEqualTo(2);
+        assertThat(statsService.findIssueStats(ISSUE_ID + 2)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("구독/취소 변화량을 무작위 stripe 에 나눠 더해도 활성 구독자 수는 그 합이다")
+    void sumsSubscriberStripes() {
+        // given
+        for (int i = 0; i < 100; i++) {
+            counterRepository.add(1);
+        }
+        counterRepository.add(-7);
+        counterRepository.add(0);
+
+        // when & then
+        assertThat(statsService.subscriberStats().active()).isEqualTo(93);
+    }
+}
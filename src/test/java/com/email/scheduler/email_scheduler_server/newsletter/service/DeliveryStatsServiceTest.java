@@ -0,0 +1,66 @@
+package com.email.scheduler.email_scheduler_server.newsletter.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import com.email.scheduler.email_scheduler_server.newsletter.dto.IssueCounts;
+import com.email.scheduler.email_scheduler_server.newsletter.dto.IssueDeliveryStats;
+import com.email.scheduler.email_scheduler_server.newsletter.repository.IssueStatsRepository;
+import com.email.scheduler.email_scheduler_server.newsletter.repository.SubscriberCounterRepository;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class DeliveryStatsServiceTest {
+
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2026, 10, 18, 8, 30);
+
+    @Mock
+    private IssueStatsRepository statsRepository;
+
+    @Mock
+    private SubscriberCounterRepository counterRepository;
+
+    @InjectMocks
+    private DeliveryStatsService statsService;
+
+    @Test
+    @DisplayName("회차 통계는 stripe 합계를 그대로 돌려주고, 끝나지 않은 나머지를 재시도 대기 수로 계산한다")
+    void findIssueStats() {
+        // given: 대상 100명 중 성공 90, 실패 3, 발송 제외 2 → 5명은 재시도 대기
+        when(statsRepository.find(5L)).thenReturn(Optional.of(
+                IssueDeliveryStats.of(5L, new IssueCounts(100, 90, 3, 7, 2), UPDATED_AT)));
+
+        // when
+        Optional<IssueDeliveryStats> stats = statsService.findIssueStats(5L);
+
+        // then
+        assertThat(stats).contains(new IssueDeliveryStats(5L, 100, 90, 3, 2, 5, 7, UPDATED_AT));
+    }
+
+    @Test
+    @DisplayName("아직 저장된 배치가 없는 회차는 통계가 없다")
+    void findIssueStats_empty() {
+        // given
+        when(statsRepository.find(6L)).thenReturn(Optional.empty());
+
+        // when & then
+        assertThat(statsService.findIssueStats(6L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("활성 구독자 수는 카운터 stripe 의 합이다")
+    void subscriberStats() {
+        // given
+        when(counterRepository.sum()).thenReturn(1_234L);
+
+        // when & then
+        assertThat(statsService.subscriberStats().active()).isEqualTo(1_234L);
+    }
+}
@@ -0,0 +1,66 @@
+package com.email.scheduler.email_scheduler_server.newsletter.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.email.scheduler.email_scheduler_server.newsletter.config.NewsletterProperties;
+import com.email.scheduler.email_scheduler_server.newsletter.domain.IssueReference;
+import com.email.scheduler.email_scheduler_server.newsletter.domain.NewsletterIssue;
+import com.email.scheduler.email_scheduler_server.newsletter.domain.NewsletterMessage;
+import com.email.scheduler.email_scheduler_server.newsletter.repository.NewsletterIssueRepository;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class IssueContentCacheTest {
+
+    private static final String CONTENT = "안녕하세요 {{name}}님!";
+
+    @Mock
+    private NewsletterIssueRepository issueRepository;
+
+    private IssueContentCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new IssueContentCache(issueRepository, new NewsletterProperties());
+    }
+
+    @Test
+    @DisplayName("같은 회차 참조는 DB 에서 한 번만 읽고 이후에는 캐시된 본문을 돌려준다")
+    void resolve_readsOncePerIssue() {
+        // given
+        NewsletterIssue issue = new NewsletterIssue("newsletter_01.md", CONTENT);
+        when(issueRepository.findById(1L)).thenReturn(Optional.of(issue));
+        IssueReference reference = new IssueReference(1L, "newsletter_01.md", NewsletterIssue.checksumOf(CONTENT));
+
+        // when
+        NewsletterMessage first = cache.resolve(reference);
+        NewsletterMessage second = cache.resolve(reference);
+
+        // then
+        assertThat(first.getContent()).isEqualTo(CONTENT);
+        assertThat(second).isSameAs(first);
+        verify(issueRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("본문의 checksum 이 참조와 다르면 발송하지 않고 예외를 던진다")
+    void resolve_rejectsChecksumMismatch() {
+        // given
+        when(issueRepository.findById(1L)).thenReturn(Optional.of(new NewsletterIssue("newsletter_01.md", "수정된 본문")));
+        IssueReference reference = new IssueReference(1L, "newsletter_01.md", NewsletterIssue.checksumOf(CONTENT));
+
+        // when & then
+        assertThatThrownBy(() -> cache.resolve(reference))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,127 @@
+package com.email.scheduler.email_scheduler_server.newsletter.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.email.scheduler.email_scheduler_server.newsletter.config.NewsletterProperties;
+import com.email.scheduler.email_scheduler_server.newsletter.config.NewsletterProperties.RetentionMode;
+import com.email.scheduler.email_scheduler_server.newsletter.repository.MessagePartitionRepository;
+import com.email.scheduler.email_scheduler_server.newsletter.repository.MessageSummaryRepository;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class MessageLogMaintenanceServiceTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 10, 18);
+
+    @Mock
+    private MessagePartitionRepository partitionRepository;
+
+    @Mock
+    private MessageSummaryRepository summaryRepository;
+
+    private NewsletterProperties properties;
+    private MessageLogMaintenanceService maintenanceService;
+
+    @BeforeEach
+    void setUp() {
+        properties = new NewsletterProperties();
+        properties.getLog().setPrecreateDays(2);
+        properties.getLog().setSettleDays(2);
+        properties.getLog().setRetentionDays(10);
+        maintenanceService = new MessageLogMaintenanceService(partitionRepository, summaryRepository, properties);
+    }
+
+    @Test
+    @DisplayName("처음 실행하면 오늘부터 파티션을 만들고, 가장 오래된 발송일부터 끝난 날까지 집계한다")
+    void runNightly_firstRun() {
+        // given: 파티션은 p_future 하나뿐이고 집계도 없음
+        when(partitionRepository.findDailyPartitions()).thenReturn(List.of());
+        when(summaryRepository.findLastRolledUpDate()).thenReturn(Optional.empty());
+        when(summaryRepository.findOldestSendDate()).thenReturn(Optional.of(TODAY.minusDays(4)));
+
+        // when
+        maintenanceService.runNightly(TODAY);
+
+        // then
+        verify(partitionRepository).addDailyPartitions(List.of(TODAY, TODAY.plusDays(1), TODAY.plusDays(2)));
+        ArgumentCaptor<LocalDate> days = ArgumentCaptor.forClass(LocalDate.class);
+        verify(summaryRepository, times(3)).rollUp(days.capture(), any());
+        assertThat(days.getAllValues()).containsExactly(TODAY.minusDays(4), TODAY.minusDays(3), TODAY.minusDays(2));
+        verify(partitionRepository, never()).dropPartition(any());
+    }
+
+    @Test
+    @DisplayName("다음 날 파티션만 이어서 만들고, 집계가 끝난 뒤 보관 기간이 지난 파티션을 지운다")
+    void runNightly_dropsExpiredAfterRollUp() {
+        // given: 10일 보관 → 10월 8일 파티션부터 남김
+        when(partitionRepository.findDailyPartitions()).thenReturn(List.of(
+                LocalDate.of(2026, 10, 6), LocalDate.of(2026, 10, 7), LocalDate.of(2026, 10, 8),
+                TODAY, TODAY.plusDays(1)));
+        when(summaryRepository.findLastRolledUpDate()).thenReturn(Optional.of(TODAY.minusDays(3)));
+
+        // when
+        maintenanceService.runNightly(TODAY);
+
+        // then
+        InOrder order = inOrder(partitionRepository, summaryRepository);
+        order.verify(partitionRepository).addDailyPartitions(List.of(TODAY.plusDays(2)));
+        order.verify(summaryRepository).rollUp(eq(TODAY.minusDays(2)), any());
+        order.verify(partitionRepository).dropPartition(LocalDate.of(2026, 10, 6));
+        order.verify(partitionRepository).dropPartition(LocalDate.of(2026, 10, 7));
+        verify(partitionRepository, never()).dropPartition(LocalDate.of(2026, 10, 8));
+        verify(summaryRepository, never()).findOldestSendDate();
+    }
+
+    @Test
+    @DisplayName("ARCHIVE 모드는 지우지 않고 보관 테이블로 떼어 낸다")
+    void runNightly_archivesExpired() {
+        // given
+        properties.getLog().setRetentionMode(RetentionMode.ARCHIVE);
+        when(partitionRepository.findDailyPartitions()).thenReturn(List.of(
+                LocalDate.of(2026, 10, 7), TODAY.plusDays(2)));
+        when(summaryRepository.findLastRolledUpDate()).thenReturn(Optional.of(TODAY.minusDays(2)));
+        when(partitionRepository.archivePartition(LocalDate.of(2026, 10, 7))).thenReturn("message_archive_p20261007");
+
+        // when
+        maintenanceService.runNightly(TODAY);
+
+        // then
+        verify(partitionRepository).archivePartition(LocalDate.of(2026, 10, 7));
+        verify(partitionRepository, never()).addDailyPartitions(any());
+        verify(partitionRepository, never()).dropPartition(any());
+        verify(summaryRepository, never()).rollUp(any(), any());
+    }
+
+    @Test
+    @DisplayName("파티션이 없는 DB 면 집계만 한다")
+    void runNightly_unpartitionedOnlyRollsUp() {
+        // given
+        properties.getLog().setPartitioned(false);
+        when(summaryRepository.findLastRolledUpDate()).thenReturn(Optional.of(TODAY.minusDays(3)));
+
+        // when
+        maintenanceService.runNightly(TODAY);
+
+        // then
+        verify(summaryRepository).rollUp(eq(TODAY.minusDays(2)), any());
+        verifyNoInteractions(partitionRepository);
+    }
+}
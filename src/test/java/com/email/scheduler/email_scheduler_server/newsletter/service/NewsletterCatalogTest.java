@@ -0,0 +1,99 @@
+package com.email.scheduler.email_scheduler_server.newsletter.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.email.scheduler.email_scheduler_server.newsletter.config.NewsletterProperties;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class NewsletterCatalogTest {
+
+    @TempDir
+    Path directory;
+
+    private NewsletterCatalog catalog;
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (catalog != null) {
+            catalog.close();
+        }
+    }
+
+    @Test
+    @DisplayName("회차는 파일명의 숫자 순서로 정렬되고, 마지막 발행 회차 다음 회차를 돌려준다")
+    void nextFollowsSequenceOrder() throws IOException {
+        write("newsletter_10.md");
+        write("newsletter_2.md");
+        write("newsletter_1.md");
+        catalog = open();
+
+        assertThat(catalog.next(null, -1)).get().extracting(NewsletterCatalog.Entry::fileName)
+                .isEqualTo("newsletter_1.md");
+        assertThat(catalog.next("newsletter_2.md", 2)).get().extracting(NewsletterCatalog.Entry::fileName)
+                .isEqualTo("newsletter_10.md");
+        assertThat(catalog.next("newsletter_10.md", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("마지막 발행 회차 파일이 사라졌으면 순번이 더 큰 첫 회차를 돌려준다")
+    void nextFallsBackToSequenceWhenFileRemoved() throws IOException {
+        write("newsletter_01.md");
+        write("newsletter_05.md");
+        catalog = open();
+
+        assertThat(catalog.next("newsletter_03.md", 3)).get().extracting(NewsletterCatalog.Entry::sequence)
+                .isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("순번을 읽을 수 없거나 이미 쓰인 순번의 파일은 목록에서 빼서 다음 회차로 넘어가는 것을 막지 않는다")
+    void skipsInvalidAndDuplicateSequences() throws IOException {
+        write("newsletter_01.md");
+        write("newsletter_1.md");
+        write("draft.md");
+        write("newsletter_99999999999.md");
+        write("newsletter_02.md");
+        catalog = open();
+
+        assertThat(catalog.size()).isEqualTo(2);
+        assertThat(catalog.next(null, -1)).get().extracting(NewsletterCatalog.Entry::fileName)
+                .isEqualTo("newsletter_01.md");
+        assertThat(catalog.next("newsletter_01.md", 1)).get().extracting(NewsletterCatalog.Entry::fileName)
+                .isEqualTo("newsletter_02.md");
+    }
+
+    @Test
+    @DisplayName("디렉터리에 회차 파일이 추가되면 목록을 다시 읽는다")
+    void refreshesWhenFilesChange() throws Exception {
+        write("newsletter_01.md");
+        catalog = open();
+        assertThat(catalog.next("newsletter_01.md", 1)).isEmpty();
+
+        write("newsletter_02.md");
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (catalog.size() < 2 && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+
+        assertThat(catalog.next("newsletter_01.md", 1)).get().extracting(NewsletterCatalog.Entry::fileName)
+                .isEqualTo("newsletter_02.md");
+    }
+
+    private NewsletterCatalog open() {
+        NewsletterProperties properties = new NewsletterProperties();
+        properties.getCatalog().setLocation(directory.toUri().toString());
+        return new NewsletterCatalog(properties);
+    }
+
+    private void write(String fileName) throws IOException {
+        Files.writeString(directory.resolve(fileName), "# " + fileName);
+    }
+}
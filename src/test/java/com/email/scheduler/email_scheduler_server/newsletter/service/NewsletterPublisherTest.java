@@ -0,0 +1,187 @@
+package com.email.scheduler.email_scheduler_server.newsletter.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.email.scheduler.email_scheduler_server.newsletter.config.NewsletterProperties;
+import com.email.scheduler.email_scheduler_server.newsletter.domain.NewsletterIssue;
+import com.email.scheduler.email_scheduler_server.newsletter.domain.NewsletterRun;
+import com.email.scheduler.email_scheduler_server.newsletter.domain.NewsletterShardMessage;
+import com.email.scheduler.email_scheduler_server.newsletter.domain.RunShard;
+import com.email.scheduler.email_scheduler_server.newsletter.dto.DeliverySlot;
+import com.email.scheduler.email_scheduler_server.newsletter.dto.IdRange;
+import com.email.scheduler.email_scheduler_server.newsletter.dto.SlotSummary;
+import com.email.scheduler.email_scheduler_server.newsletter.repository.DispatchCursorRepository;
+import com.email.scheduler.email_scheduler_server.newsletter.repository.NewsletterIssueRepository;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpException;
+import org.springframework.core.io.ByteArrayResource;
+
+@ExtendWith(MockitoExtension.class)
+class NewsletterPublisherTest {
+
+    // 2026-10-18 23:00 UTC = 서울 10/19 08:00, 뉴욕 10/18 19:00
+    private static final Instant NOW = Instant.parse("2026-10-18T23:00:00Z");
+
+    private static final SlotSummary SEOUL = new SlotSummary("Asia/Seoul", 8, 3L, 1L, 30L);
+    private static final SlotSummary NEW_YORK = new SlotSummary("America/New_York", 19, 2L, 5L, 9L);
+
+    @Mock
+    private ShardDispatcher shardDispatcher;
+
+    @Mock
+    private DeliveryRunService runService;
+
+    @Mock
+    private DispatchCursorRepository cursorRepository;
+
+    @Mock
+    private NewsletterIssueRepository issueRepository;
+
+    @Mock
+    private NewsletterCatalog catalog;
+
+    private NewsletterPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        publisher = new NewsletterPublisher(
+                shardDispatcher, runService, cursorRepository, issueRepository, catalog, new NewsletterProperties());
+    }
+
+    @Test
+    @DisplayName("발송 시각이 된 시간대는 현지 날짜별로 묶어, 이미 회차가 정해진 날짜는 재사용하고 새 날짜는 다음 회차를 발행한다")
+    void publishWave_groupsSlotsByEditionDate() {
+        // given: 뉴욕(10/18)은 앞선 웨이브가 01회를 보냈고, 서울(10/19)은 이번이 첫 웨이브
+        NewsletterIssue sent = new NewsletterIssue("newsletter_01.md", "첫 회차");
+        when(runService.findDueSlots(NOW)).thenReturn(List.of(SEOUL, NEW_YORK));
+        when(runService.findEditionIssue(LocalDate.of(2026, 10, 18))).thenReturn(Optional.of(sent));
+        when(runService.findEditionIssue(LocalDate.of(2026, 10, 19))).thenReturn(Optional.empty());
+        when(runService.startWaveRun(sent, LocalDate.of(2026, 10, 18), List.of(NEW_YORK)))
+                .thenReturn(shards(NEW_YORK));
+
+        when(catalog.next(null, -1)).thenReturn(Optional.of(new NewsletterCatalog.Entry(2, "newsletter_02.md",
+                new ByteArrayResource("두 번째 회차".getBytes(StandardCharsets.UTF_8)))));
+        when(issueRepository.findByFileName("newsletter_02.md")).thenReturn(Optional.empty());
+        when(issueRepository.save(any(NewsletterIssue.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(runService.startEditionRun(eq("newsletters"), eq(2), any(NewsletterIssue.class),
+                eq(LocalDate.of(2026, 10, 19)), eq(List.of(SEOUL))))
+                .thenReturn(shards(SEOUL));
+
+        // when
+        int runs = publisher.publishWave(NOW);
+
+        // then
+        assertThat(runs).isEqualTo(2);
+
+        ArgumentCaptor<NewsletterShardMessage> messages = ArgumentCaptor.forClass(NewsletterShardMessage.class);
+        verify(shardDispatcher, times(2)).dispatch(messages.capture());
+        assertThat(messages.getAllValues())
+                .extracting(message -> message.getIssue().getFileName(), NewsletterShardMessage::getSlot)
+                .containsExactly(
+                        tuple("newsletter_01.md", NEW_YORK.slot()),
+                        tuple("newsletter_02.md", SEOUL.slot()));
+    }
+
+    @Test
+    @DisplayName("발송 시각이 된 시간대가 없으면 아무것도 발행하지 않는다")
+    void publishWave_nothingDue() {
+        // given
+        when(runService.findDueSlots(NOW)).thenReturn(List.of());
+
+        // when
+        int runs = publisher.publishWave(NOW);
+
+        // then
+        assertThat(runs).isZero();
+        verify(runService, never()).startWaveRun(any(), any(), any());
+        verify(runService, never()).startEditionRun(any(), anyInt(), any(), any(), any());
+        verifyNoInteractions(shardDispatcher, catalog);
+    }
+
+    @Test
+    @DisplayName("샤드 발행 확인이 실패하면 이미 발행한 샤드만 발행 완료로 표시하고, 남은 샤드는 재발행 대상으로 남긴다")
+    void publishWave_confirmFailureLeavesRemainingShards() {
+        // given: 두 번째 샤드의 발행 확인이 실패
+        NewsletterIssue sent = new NewsletterIssue("newsletter_01.md", "첫 회차");
+        NewsletterRun run = NewsletterRun.builder().id(1L).build();
+        List<RunShard> shards = List.of(
+                new RunShard(run, 0, new IdRange(1L, 5L), NEW_YORK.slot()),
+                new RunShard(run, 1, new IdRange(6L, 9L), NEW_YORK.slot()));
+        when(runService.findDueSlots(NOW)).thenReturn(List.of(NEW_YORK));
+        when(runService.findEditionIssue(LocalDate.of(2026, 10, 18))).thenReturn(Optional.of(sent));
+        when(runService.startWaveRun(sent, LocalDate.of(2026, 10, 18), List.of(NEW_YORK))).thenReturn(shards);
+        doThrow(new AmqpException("[Publisher] 발행 확인 시간 초과"))
+                .when(shardDispatcher).dispatch(argThat(message -> message.getShardIndex() == 1));
+
+        // when & then
+        assertThatThrownBy(() -> publisher.publishWave(NOW)).isInstanceOf(AmqpException.class);
+        verify(runService, times(1)).markDispatched(any());
+    }
+
+    @Test
+    @DisplayName("발행 확인을 받지 못한 PENDING 샤드는 가져간 노드만 다시 발행하고 발행 완료로 표시한다")
+    void redispatchPendingShards_dispatchesClaimedShards() {
+        // given: 두 샤드 중 하나는 다른 노드가 먼저 가져감
+        NewsletterIssue issue = new NewsletterIssue("newsletter_01.md", "첫 회차");
+        NewsletterRun run = NewsletterRun.builder().id(1L).issue(issue).shardCount(4).build();
+        RunShard claimed = new RunShard(run, 2, new IdRange(1L, 5L));
+        RunShard taken = new RunShard(run, 3, new IdRange(6L, 9L));
+        when(runService.findUndispatchedShards(any(LocalDateTime.class), anyInt())).thenReturn(List.of(claimed, taken));
+        when(runService.claimRedispatch(any(), any(LocalDateTime.class))).thenReturn(true, false);
+
+        // when
+        int redispatched = publisher.redispatchPendingShards();
+
+        // then
+        assertThat(redispatched).isEqualTo(1);
+        ArgumentCaptor<NewsletterShardMessage> message = ArgumentCaptor.forClass(NewsletterShardMessage.class);
+        verify(shardDispatcher).dispatch(message.capture());
+        assertThat(message.getValue().getShardIndex()).isEqualTo(2);
+        assertThat(message.getValue().getShardCount()).isEqualTo(4);
+        assertThat(message.getValue().getIssue().getFileName()).isEqualTo("newsletter_01.md");
+        verify(runService, times(1)).markDispatched(any());
+    }
+
+    @Test
+    @DisplayName("현지 시각이 발송 시각 이후 maxDelay 안일 때만 발송 대상이다")
+    void deliverySlot_isDueWithinMaxDelay() {
+        Duration maxDelay = Duration.ofHours(3);
+
+        assertThat(new DeliverySlot("Asia/Seoul", 8).isDue(NOW, maxDelay)).isTrue();
+        assertThat(new DeliverySlot("Asia/Seoul", 9).isDue(NOW, maxDelay)).isFalse();
+        assertThat(new DeliverySlot("America/New_York", 17).isDue(NOW, maxDelay)).isTrue();
+        assertThat(new DeliverySlot("America/New_York", 16).isDue(NOW, maxDelay)).isFalse();
+        // 30분 단위 시간대: 인도 04:30 → 04시 발송 대상은 이번 웨이브에서 30분 늦게 받음
+        assertThat(new DeliverySlot("Asia/Kolkata", 4).isDue(NOW, maxDelay)).isTrue();
+    }
+
+    private List<RunShard> shards(SlotSummary summary) {
+        NewsletterRun run = NewsletterRun.builder().id(1L).build();
+        return List.of(new RunShard(run, 0, new IdRange(summary.minId(), summary.maxId()), summary.slot()));
+    }
+}
@@ -0,0 +1,55 @@
+package com.email.scheduler.email_scheduler_server.newsletter.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RecentIssuesTest {
+
+    @Test
+    @DisplayName("크기를 넘으면 가장 오래된(작은) 회차 id 부터 내보내고, 내보낸 값을 한 번씩 넘긴다")
+    void evictsSmallestIssueIds() {
+        // given
+        List<String> evicted = new ArrayList<>();
+        RecentIssues<String> issues = new RecentIssues<>(() -> 2, evicted::add);
+
+        // when: 순서와 무관하게 id 가 작은 회차가 밀려남
+        issues.computeIfAbsent(3L, id -> "issue-" + id);
+        issues.computeIfAbsent(1L, id -> "issue-" + id);
+        issues.computeIfAbsent(2L, id -> "issue-" + id);
+        issues.computeIfAbsent(4L, id -> "issue-" + id);
+
+        // then
+        assertThat(evicted).containsExactly("issue-1", "issue-2");
+    }
+
+    @Test
+    @DisplayName("남아 있는 회차는 다시 만들지 않고, 바뀐 크기는 다음 조회부터 반영한다")
+    void reusesRetainedIssuesAndReadsCapacityEachTime() {
+        // given
+        AtomicInteger capacity = new AtomicInteger(2);
+        AtomicInteger loads = new AtomicInteger();
+        List<Long> evicted = new ArrayList<>();
+        RecentIssues<Long> issues = new RecentIssues<>(capacity::get, evicted::add);
+        Function<Long, Long> loader = id -> {
+            loads.incrementAndGet();
+            return id;
+        };
+        issues.computeIfAbsent(1L, loader);
+        issues.computeIfAbsent(2L, loader);
+
+        // when
+        issues.computeIfAbsent(2L, loader);
+        capacity.set(1);
+        issues.computeIfAbsent(2L, loader);
+
+        // then
+        assertThat(loads).hasValue(2);
+        assertThat(evicted).containsExactly(1L);
+    }
+}
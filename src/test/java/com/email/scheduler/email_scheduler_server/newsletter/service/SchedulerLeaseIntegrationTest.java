@@ -0,0 +1,173 @@
+package com.email.scheduler.email_scheduler_server.newsletter.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.email.scheduler.email_scheduler_server.newsletter.config.NewsletterProperties;
+import com.email.scheduler.email_scheduler_server.newsletter.repository.SchedulerLeaseRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 여러 노드의 스케줄러가 같은 DB 로 실행권을 다투는 상황을 한 JVM 안에서 재현
+ * 노드마다 소유자 id 가 다른 SchedulerLeaseService 를 만들고, 각자 자기 트랜잭션에서 임베디드 H2(MySQL 모드)에 접근함
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:lease;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+class SchedulerLeaseIntegrationTest {
+
+    private static final String JOB = "newsletter.wave";
+    private static final int NODES = 8;
+
+    private static final Instant SLOT = Instant.parse("2026-10-18T23:00:00Z");
+    private static final Instant NEXT_SLOT = SLOT.plus(Duration.ofHours(1));
+
+    @Autowired
+    private SchedulerLeaseRepository leaseRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final NewsletterProperties properties = new NewsletterProperties();
+
+    private final List<Node> nodes = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        leaseRepository.deleteAll();
+        for (int i = 0; i < NODES; i++) {
+            nodes.add(new Node(new SchedulerLeaseService(leaseRepository, properties, "node-" + i)));
+        }
+    }
+
+    @Test
+    @DisplayName("모든 노드가 같은 회차에 동시에 실행해도 한 노드만 실행권을 가져간다")
+    void onlyOneNodeWinsEachSlot() throws Exception {
+        // when
+        List<Boolean> results = acquireConcurrently(SLOT, SLOT);
+
+        // then
+        assertThat(results).containsOnlyOnce(true);
+        assertThat(leaseRepository.findById(JOB)).get()
+                .satisfies(lease -> assertThat(lease.getSlot()).isEqualTo(SLOT));
+    }
+
+    @Test
+    @DisplayName("반납한 회차는 늦게 실행된 노드가 다시 가져갈 수 없고, 다음 회차는 다른 노드가 바로 가져간다")
+    void releasedSlotIsNotRunTwice() {
+        // given
+        assertThat(nodes.get(0).tryAcquire(SLOT, SLOT)).isTrue();
+        nodes.get(0).release(SLOT, SLOT.plusSeconds(30));
+
+        // when & then: 시계가 늦은 노드가 같은 회차를 다시 실행하려 함
+        assertThat(nodes.get(1).tryAcquire(SLOT, SLOT.plusSeconds(40))).isFalse();
+        assertThat(nodes.get(1).tryAcquire(NEXT_SLOT, NEXT_SLOT)).isTrue();
+    }
+
+    @Test
+    @DisplayName("보유 노드가 반납하지 못하고 죽으면 실행권이 만료될 때까지 기다렸다가 다른 노드가 이어받는다")
+    void expiredLeaseIsTakenOver() {
+        // given: node-0 이 실행권을 가진 채로 죽음 (반납하지 않음)
+        Duration lease = properties.getLease().getDuration();
+        assertThat(nodes.get(0).tryAcquire(SLOT, SLOT)).isTrue();
+
+        // when & then: 만료 전에는 다음 회차도 가져갈 수 없고 (겹쳐 실행하지 않음), 만료 후에는 가져감
+        assertThat(nodes.get(1).tryAcquire(NEXT_SLOT, SLOT.plus(lease).minusSeconds(1))).isFalse();
+        assertThat(nodes.get(1).tryAcquire(NEXT_SLOT, SLOT.plus(lease))).isTrue();
+
+        // 죽었던 노드가 뒤늦게 반납해도 다른 노드의 실행권은 그대로 유지됨
+        nodes.get(0).release(SLOT, NEXT_SLOT);
+        assertThat(leaseRepository.findById(JOB)).get()
+                .satisfies(current -> {
+                    assertThat(current.getOwner()).isEqualTo("node-1");
+                    assertThat(current.getReleasedAt()).isNull();
+                });
+    }
+
+    @Test
+    @DisplayName("보유 노드가 같은 회차를 실행하다 죽으면 만료된 뒤 다른 노드가 같은 회차를 이어받는다")
+    void crashedHolderWithinSameSlotIsTakenOver() {
+        // given: node-0 이 회차를 가져간 뒤 반납하지 못하고 죽음
+        Duration lease = properties.getLease().getDuration();
+        assertThat(nodes.get(0).tryAcquire(SLOT, SLOT)).isTrue();
+
+        // when & then: 만료 전에는 같은 회차를 가져갈 수 없고, 만료 후에는 가져감
+        assertThat(nodes.get(1).tryAcquire(SLOT, SLOT.plus(lease).minusSeconds(1))).isFalse();
+        assertThat(nodes.get(1).tryAcquire(SLOT, SLOT.plus(lease))).isTrue();
+        assertThat(leaseRepository.findById(JOB)).get()
+                .satisfies(current -> {
+                    assertThat(current.getSlot()).isEqualTo(SLOT);
+                    assertThat(current.getOwner()).isEqualTo("node-1");
+                });
+
+        // 이어받은 노드가 아직 실행 중이면 다른 노드는 가져갈 수 없음
+        assertThat(nodes.get(2).tryAcquire(SLOT, SLOT.plus(lease).plusSeconds(1))).isFalse();
+    }
+
+    private List<Boolean> acquireConcurrently(Instant slot, Instant now) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(NODES);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Boolean>> futures = new ArrayList<>();
+            for (Node node : nodes) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return node.tryAcquire(slot, now);
+                }));
+            }
+            start.countDown();
+
+            List<Boolean> results = new ArrayList<>();
+            for (Future<Boolean> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 노드 하나: 서비스 호출마다 새 트랜잭션 (운영에서 @Transactional 프록시가 하는 일)
+     */
+    private class Node {
+
+        private final SchedulerLeaseService leaseService;
+        private final TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        Node(SchedulerLeaseService leaseService) {
+            this.leaseService = leaseService;
+        }
+
+        boolean tryAcquire(Instant slot, Instant now) {
+            return Boolean.TRUE.equals(transaction.execute(status -> leaseService.tryAcquire(JOB, slot, now)));
+        }
+
+        void release(Instant slot, Instant now) {
+            transaction.executeWithoutResult(status -> leaseService.release(JOB, slot, now));
+        }
+    }
+}
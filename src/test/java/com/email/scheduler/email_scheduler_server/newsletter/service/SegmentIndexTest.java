@@ -0,0 +1,117 @@
+package com.email.scheduler.email_scheduler_server.newsletter.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.email.scheduler.email_scheduler_server.newsletter.domain.NewsletterIssue;
+import com.email.scheduler.email_scheduler_server.newsletter.domain.Segment;
+import com.email.scheduler.email_scheduler_server.newsletter.domain.SegmentExpression;
+import com.email.scheduler.email_scheduler_server.newsletter.dto.SegmentSummary;
+import com.email.scheduler.email_scheduler_server.newsletter.repository.SegmentRepository;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.roaringbitmap.RoaringBitmap;
+
+@ExtendWith(MockitoExtension.class)
+class SegmentIndexTest {
+
+    @Mock
+    private SegmentRepository repository;
+
+    private SegmentIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new SegmentIndex(repository);
+        index.apply(segment("topic:java", 1L, 1, 2, 3, 4, 5, 6));
+        index.apply(segment("signup:2024", 1L, 2, 4, 6, 8, 10));
+        index.apply(segment("tier:dormant", 1L, 4, 5));
+    }
+
+    @Test
+    @DisplayName("AND / OR / NOT 과 괄호를 우선순위대로 계산한다")
+    void resolve_combinesSegments() {
+        // when
+        RoaringBitmap result = index.resolve(
+                SegmentExpression.parse("(topic:java OR signup:2024) AND NOT tier:dormant"), 1, 100);
+
+        // then
+        assertThat(result.toArray()).containsExactly(1, 2, 3, 6, 8, 10);
+    }
+
+    @Test
+    @DisplayName("NOT 은 주어진 id 구간 안에서만 계산하고, 없는 세그먼트는 빈 세그먼트로 본다")
+    void resolve_notIsBoundedByRange() {
+        // when
+        RoaringBitmap notDormant = index.resolve(SegmentExpression.parse("NOT tier:dormant"), 3, 7);
+        RoaringBitmap unknown = index.resolve(SegmentExpression.parse("topic:kotlin"), 1, 100);
+
+        // then
+        assertThat(notDormant.toArray()).containsExactly(3, 6, 7);
+        assertThat(unknown.isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("갱신 때 version 이 바뀐 세그먼트만 다시 읽고, DB 에서 지워진 세그먼트는 뺀다")
+    void refresh_reloadsOnlyChangedVersions() {
+        // given
+        when(repository.findSummaries()).thenReturn(List.of(
+                new SegmentSummary("topic:java", 1L, 6L),
+                new SegmentSummary("signup:2024", 2L, 1L)));
+        when(repository.findById("signup:2024")).thenReturn(Optional.of(segment("signup:2024", 2L, 9)));
+
+        // when
+        index.refresh();
+
+        // then
+        verify(repository, never()).findById("topic:java");
+        assertThat(index.find("signup:2024")).contains(new SegmentSummary("signup:2024", 2L, 1L));
+        assertThat(index.find("tier:dormant")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("인덱스에 있는 것보다 오래된 버전은 반영하지 않는다")
+    void apply_keepsNewerVersion() {
+        // when
+        index.apply(segment("topic:java", 3L, 1));
+        index.apply(segment("topic:java", 2L, 1, 2));
+
+        // then
+        assertThat(index.find("topic:java")).contains(new SegmentSummary("topic:java", 3L, 1L));
+    }
+
+    @Test
+    @DisplayName("회차 파일 첫 줄의 audience 주석을 발송 대상으로 읽고 본문에서는 뺀다")
+    void fromMarkdown_readsAudienceHeader() {
+        // when
+        NewsletterIssue targeted = NewsletterIssue.fromMarkdown("newsletter_05.md",
+                "<!-- audience: topic:java AND NOT tier:dormant -->\n안녕하세요 {{name}}님!");
+        NewsletterIssue everyone = NewsletterIssue.fromMarkdown("newsletter_06.md", "안녕하세요 {{name}}님!");
+
+        // then
+        assertThat(targeted.getAudience()).isEqualTo("topic:java AND NOT tier:dormant");
+        assertThat(targeted.getContent()).isEqualTo("안녕하세요 {{name}}님!");
+        assertThat(everyone.getAudience()).isNull();
+        assertThatThrownBy(() -> NewsletterIssue.fromMarkdown("newsletter_07.md", "<!-- audience: topic:java AND -->\n본문"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private Segment segment(String name, long version, int... subscriberIds) {
+        RoaringBitmap bitmap = RoaringBitmap.bitmapOf(subscriberIds);
+        return Segment.builder()
+                .name(name)
+                .bitmap(SegmentIndex.toBytes(bitmap))
+                .cardinality(bitmap.getLongCardinality())
+                .version(version)
+                .build();
+    }
+}
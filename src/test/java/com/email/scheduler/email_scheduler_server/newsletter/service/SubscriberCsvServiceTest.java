@@ -0,0 +1,154 @@
+package com.email.scheduler.email_scheduler_server.newsletter.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verify;
+
+import com.email.scheduler.email_scheduler_server.newsletter.config.NewsletterProperties;
+import com.email.scheduler.email_scheduler_server.newsletter.dto.CsvTransferReport;
+import com.email.scheduler.email_scheduler_server.newsletter.dto.SubscriberRow;
+import com.email.scheduler.email_scheduler_server.newsletter.dto.SubscriberView;
+import com.email.scheduler.email_scheduler_server.newsletter.repository.SubscriberStreamReader;
+import com.email.scheduler.email_scheduler_server.newsletter.repository.SubscriberWriter;
+import jakarta.validation.Validation;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class SubscriberCsvServiceTest {
+
+    @Mock
+    private SubscriberWriter subscriberWriter;
+
+    @Mock
+    private SubscriberStreamReader streamReader;
+
+    private SubscriberCsvService csvService;
+
+    @BeforeEach
+    void setUp() {
+        NewsletterProperties properties = new NewsletterProperties();
+        properties.getSubscriber().setBatchSize(2);
+        csvService = new SubscriberCsvService(subscriberWriter, streamReader, properties,
+                Validation.buildDefaultValidatorFactory().getValidator());
+    }
+
+    @Test
+    @DisplayName("헤더의 열 순서를 따라 읽고, batch-size 행씩 나눠 저장하며 형식이 잘못된 행은 건너뛴다")
+    void importCsv_savesInBatches() throws Exception {
+        // given: 저장 시점의 묶음을 복사해 둠 (서비스가 같은 리스트를 재사용함)
+        List<List<SubscriberRow>> batches = new ArrayList<>();
+        doAnswer(invocation -> batches.add(List.copyOf(invocation.getArgument(0))))
+                .when(subscriberWriter).importAll(any());
+        String csv = """
+                active,email
+                true,a@test.com
+                false,"b@test.com"
+                true,not-an-email
+
+                1,c@test.com
+                """;
+
+        // when
+        CsvTransferReport report = csvService.importCsv(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+
+        // then
+        assertThat(report.rows()).isEqualTo(3);
+        assertThat(report.skipped()).isEqualTo(1);
+        assertThat(batches).containsExactly(
+                List.of(new SubscriberRow("a@test.com", true), new SubscriberRow("b@test.com", false)),
+                List.of(new SubscriberRow("c@test.com", true)));
+    }
+
+    @Test
+    @DisplayName("구독 API 의 @Email 이 거절하는 주소(<, >, \" 가 든 주소, 점이 연달은 주소)는 건너뛴다")
+    void importCsv_skipsAddressesRejectedByEmailConstraint() throws Exception {
+        // given
+        String csv = """
+                email
+                <script>@test.com
+                a>b@test.com
+                "a""b@test.com"
+                a..b@test.com
+                ok@test.com
+                """;
+
+        // when
+        CsvTransferReport report = csvService.importCsv(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+
+        // then
+        assertThat(report.rows()).isEqualTo(1);
+        assertThat(report.skipped()).isEqualTo(4);
+        verify(subscriberWriter).importAll(List.of(new SubscriberRow("ok@test.com", true)));
+    }
+
+    @Test
+    @DisplayName("헤더가 없으면 첫 번째 열을 email 로 보고 active 는 true 로 저장한다")
+    void importCsv_withoutHeader() throws Exception {
+        // when
+        csvService.importCsv(new ByteArrayInputStream("x@test.com\n".getBytes(StandardCharsets.UTF_8)));
+
+        // then
+        verify(subscriberWriter).importAll(List.of(new SubscriberRow("x@test.com", true)));
+    }
+
+    @Test
+    @DisplayName("커서에서 읽는 대로 id,email 형식으로 응답에 쓴다")
+    void exportCsv_writesRowsFromCursor() throws Exception {
+        // given
+        doAnswer(invocation -> {
+            Consumer<SubscriberView> handler = invocation.getArgument(0);
+            handler.accept(new SubscriberView(1L, "a@test.com"));
+            handler.accept(new SubscriberView(2L, "b,c@test.com"));
+            return null;
+        }).when(streamReader).forEachActive(any());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        CsvTransferReport report = csvService.exportCsv(out);
+
+        // then
+        assertThat(report.rows()).isEqualTo(2);
+        assertThat(out.toString(StandardCharsets.UTF_8))
+                .isEqualTo("id,email\n1,a@test.com\n2,\"b,c@test.com\"\n");
+    }
+
+    @Test
+    @DisplayName("내보낸 파일을 그대로 가져오면 쉼표/큰따옴표가 든 주소도 같은 값으로 읽는다")
+    void exportThenImport_roundTrip() throws Exception {
+        // given: 큰따옴표로 감싼 로컬 파트 안에 쉼표가 든 주소도 @Email 이 허용함
+        List<String> emails = List.of("a@test.com", "\"john,doe\"@test.com", "o'brien+news@test.com");
+        doAnswer(invocation -> {
+            Consumer<SubscriberView> handler = invocation.getArgument(0);
+            for (int i = 0; i < emails.size(); i++) {
+                handler.accept(new SubscriberView(i + 1L, emails.get(i)));
+            }
+            return null;
+        }).when(streamReader).forEachActive(any());
+        List<SubscriberRow> imported = new ArrayList<>();
+        doAnswer(invocation -> imported.addAll(invocation.getArgument(0)))
+                .when(subscriberWriter).importAll(any());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        csvService.exportCsv(out);
+
+        // when
+        CsvTransferReport report = csvService.importCsv(new ByteArrayInputStream(out.toByteArray()));
+
+        // then
+        assertThat(report.skipped()).isZero();
+        assertThat(imported).extracting(SubscriberRow::email).containsExactlyElementsOf(emails);
+    }
+}
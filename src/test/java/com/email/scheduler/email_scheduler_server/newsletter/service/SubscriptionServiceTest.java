@@ -1,161 +1,128 @@
 package com.email.scheduler.email_scheduler_server.newsletter.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-import com.email.scheduler.email_scheduler_server.newsletter.domain.Subscriber;
-import com.email.scheduler.email_scheduler_server.newsletter.repository.SubscriberRepository;
-import java.util.Optional;
+import com.email.scheduler.email_scheduler_server.newsletter.mail.UnsubscribeToken;
+import com.email.scheduler.email_scheduler_server.newsletter.repository.SubscriberWriter;
+import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.dao.DataIntegrityViolationException;
 
 @ExtendWith(MockitoExtension.class)
 class SubscriptionServiceTest {
 
     @Mock
-    private SubscriberRepository subscriberRepository;
+    private SubscriberWriter subscriberWriter;
+
+    @Spy
+    private UnsubscribeToken unsubscribeToken = new UnsubscribeToken("test-secret");
 
     @InjectMocks
     private SubscriptionService subscriptionService;
 
     @Test
-    @DisplayName("신규 이메일로 구독 시, 구독자가 성공적으로 생성됨")
-    void subscribe_NewEmail_ShouldCreateSubscriber() {
+    @DisplayName("구독 시, 조회 없이 upsert 로 신규 등록/재활성화를 처리함")
+    void subscribe_ShouldUpsertWithoutLookup() {
         // given
         String email = "new@test.com";
-        Subscriber newSubscriber = Subscriber.builder().email(email).active(true).build();
-        when(subscriberRepository.findByEmail(email)).thenReturn(Optional.empty());
-        when(subscriberRepository.save(any(Subscriber.class))).thenReturn(newSubscriber);
 
         // when
-        Subscriber result = subscriptionService.subscribe(email);
+        subscriptionService.subscribe(email);
 
         // then
-        assertThat(result).isNotNull();
-        assertThat(result.getEmail()).isEqualTo(email);
-        assertThat(result.isActive()).isTrue();
-        verify(subscriberRepository, times(1)).findByEmail(email);
-        verify(subscriberRepository, times(1)).save(any(Subscriber.class));
+        verify(subscriberWriter, times(1)).upsert(email);
     }
 
     @Test
-    @DisplayName("이미 존재하는 활성 구독자로 구독 시, 기존 정보를 그대로 반환함")
-    void subscribe_ExistingActiveSubscriber_ShouldReturnExistingSubscriber() {
+    @DisplayName("발송 시간대를 지정한 구독은 시간대와 발송 시각을 함께 upsert 함")
+    void subscribe_WithSlot_ShouldUpsertSlot() {
         // given
-        String email = "existing@test.com";
-        Subscriber existingSubscriber = Subscriber.builder().email(email).active(true).build();
-        when(subscriberRepository.findByEmail(email)).thenReturn(Optional.of(existingSubscriber));
+        String email = "ny@test.com";
 
         // when
-        Subscriber result = subscriptionService.subscribe(email);
+        subscriptionService.subscribe(email, "America/New_York", 7);
 
         // then
-        assertThat(result).isNotNull();
-        assertThat(result.getEmail()).isEqualTo(email);
-        assertThat(result.isActive()).isTrue();
-        assertThat(result).isSameAs(existingSubscriber);
-        verify(subscriberRepository, times(1)).findByEmail(email);
-        verify(subscriberRepository, never()).save(any(Subscriber.class));
+        verify(subscriberWriter, times(1)).upsert(email, "America/New_York", 7);
+        verify(subscriberWriter, never()).upsert(email);
     }
 
     @Test
-    @DisplayName("비활성 상태의 기존 구독자로 구독 시, 구독자를 활성 상태로 변경하고 저장함")
-    void subscribe_InactiveSubscriber_ShouldReactivate() {
+    @DisplayName("일괄 구독 시, 이메일 목록을 한 번에 배치 upsert 로 넘김")
+    void subscribeAll_ShouldUpsertInBatch() {
         // given
-        String email = "inactive@test.com";
-        Subscriber inactiveSubscriber = Subscriber.builder().email(email).active(false).build();
-
-        when(subscriberRepository.findByEmail(email)).thenReturn(Optional.of(inactiveSubscriber));
-        when(subscriberRepository.save(any(Subscriber.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        List<String> emails = List.of("a@test.com", "b@test.com", "a@test.com");
+        when(subscriberWriter.upsertAll(emails)).thenReturn(2);
 
         // when
-        Subscriber result = subscriptionService.subscribe(email);
+        int applied = subscriptionService.subscribeAll(emails);
 
         // then
-        assertThat(result).isNotNull();
-        assertThat(result.isActive()).isTrue();
-        verify(subscriberRepository, times(1)).findByEmail(email);
-        verify(subscriberRepository, times(1)).save(inactiveSubscriber);
+        assertThat(applied).isEqualTo(2);
+        verify(subscriberWriter, times(1)).upsertAll(emails);
     }
 
     @Test
-    @DisplayName("동시에 같은 이메일로 구독 요청 시, 멱등성을 보장하며 구독 처리")
-    void subscribe_ConcurrentRequest_ShouldHandleRaceConditionAndEnsureIdempotency() {
+    @DisplayName("구독 취소 시, 조회 없이 활성 행만 바꾸는 조건부 UPDATE 로 비활성화함")
+    void unsubscribe_ShouldDeactivateWithoutLookup() {
         // given
-        String email = "concurrent@test.com";
-        Subscriber concurrentlySavedSubscriber = Subscriber.builder().email(email).active(true).build();
-
-        when(subscriberRepository.findByEmail(email)).thenReturn(Optional.empty())
-                .thenReturn(Optional.of(concurrentlySavedSubscriber));
-
-        when(subscriberRepository.save(any(Subscriber.class))).thenThrow(
-                new DataIntegrityViolationException("Simulated race condition"));
+        String email = "active@test.com";
+        when(subscriberWriter.deactivate(email)).thenReturn(1);
 
         // when
-        Subscriber result = subscriptionService.subscribe(email);
+        subscriptionService.unsubscribe(email);
 
         // then
-        assertThat(result).isNotNull();
-        assertThat(result).isSameAs(concurrentlySavedSubscriber);
-        verify(subscriberRepository, times(2)).findByEmail(email);
-        verify(subscriberRepository, times(1)).save(any(Subscriber.class));
+        verify(subscriberWriter, times(1)).deactivate(email);
     }
 
     @Test
-    @DisplayName("활성 구독자 구독 취소 시, 구독자를 비활성 상태로 변경")
-    void unsubscribe_ActiveSubscriber_ShouldDeactivate() {
+    @DisplayName("이미 비활성이거나 없는 구독자 구독 취소 시, 아무런 변경 없이 넘어감")
+    void unsubscribe_InactiveOrMissingSubscriber_ShouldDoNothing() {
         // given
-        String email = "active@test.com";
-        Subscriber activeSubscriber = Subscriber.builder().email(email).active(true).build();
-        when(subscriberRepository.findByEmail(email)).thenReturn(Optional.of(activeSubscriber));
+        String email = "inactive@test.com";
+        when(subscriberWriter.deactivate(email)).thenReturn(0);
 
         // when
         subscriptionService.unsubscribe(email);
 
         // then
-        assertThat(activeSubscriber.isActive()).isFalse();
-        verify(subscriberRepository, times(1)).findByEmail(email);
-        verify(subscriberRepository, times(1)).save(activeSubscriber);
+        verify(subscriberWriter, times(1)).deactivate(email);
+        verify(subscriberWriter, never()).upsert(email);
     }
 
     @Test
-    @DisplayName("비활성 구독자 구독 취소 시, 아무런 변경 없이 넘어감")
-    void unsubscribe_InactiveSubscriber_ShouldDoNothing() {
+    @DisplayName("구독 취소 링크의 서명 토큰이 맞으면 그 수신자를 비활성화함")
+    void unsubscribeByToken_ValidToken_ShouldDeactivate() {
         // given
-        String email = "inactive@test.com";
-        Subscriber inactiveSubscriber = Subscriber.builder().email(email).active(false).build();
-        when(subscriberRepository.findByEmail(email)).thenReturn(Optional.of(inactiveSubscriber));
+        String token = unsubscribeToken.issue("active@test.com");
+        when(subscriberWriter.deactivate("active@test.com")).thenReturn(1);
 
-        // when
-        subscriptionService.unsubscribe(email);
-
-        // then
-        assertThat(inactiveSubscriber.isActive()).isFalse();
-        verify(subscriberRepository, times(1)).findByEmail(email);
-        verify(subscriberRepository, never()).save(any(Subscriber.class));
+        // when & then
+        assertThat(subscriptionService.unsubscribeByToken(token)).contains("active@test.com");
+        verify(subscriberWriter, times(1)).deactivate("active@test.com");
     }
 
     @Test
-    @DisplayName("존재하지 않는 구독자 구독 취소 시, 아무런 변경 없이 넘어감")
-    void unsubscribe_NonExistentSubscriber_ShouldDoNothing() {
+    @DisplayName("이메일만 넣었거나 위조한 구독 취소 토큰은 아무도 비활성화하지 않음")
+    void unsubscribeByToken_ForgedToken_ShouldDoNothing() {
         // given
-        String email = "nonexistent@test.com";
-        when(subscriberRepository.findByEmail(email)).thenReturn(Optional.empty());
+        String forged = new UnsubscribeToken("other-secret").issue("victim@test.com");
 
-        // when
-        subscriptionService.unsubscribe(email);
-
-        // then
-        verify(subscriberRepository, times(1)).findByEmail(email);
-        verify(subscriberRepository, never()).save(any(Subscriber.class));
+        // when & then
+        assertThat(subscriptionService.unsubscribeByToken("victim@test.com")).isEmpty();
+        assertThat(subscriptionService.unsubscribeByToken(forged)).isEmpty();
+        assertThat(subscriptionService.isValidUnsubscribeToken(forged)).isFalse();
+        verify(subscriberWriter, never()).deactivate(anyString());
     }
 }
@@ -0,0 +1,99 @@
+package com.email.scheduler.email_scheduler_server.newsletter.service.processor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class DeliveryPipelineTest {
+
+    private Consumer<Consumer<Integer>> pages(int count, AtomicInteger fetched) {
+        return sink -> {
+            for (int page = 1; page <= count; page++) {
+                fetched.incrementAndGet();
+                sink.accept(page);
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("모든 페이지가 조회 순서대로 발송/저장 단계를 거치고 단계별 시간이 집계됨")
+    void run_passesEveryPageInOrder() {
+        // given
+        DeliveryPipeline<Integer, String> pipeline = new DeliveryPipeline<>(2);
+        List<String> persisted = new CopyOnWriteArrayList<>();
+
+        // when
+        DeliveryPipeline.Report report = pipeline.run(
+                pages(5, new AtomicInteger()),
+                page -> "logs-" + page,
+                persisted::add
+        );
+
+        // then
+        assertThat(persisted).containsExactly("logs-1", "logs-2", "logs-3", "logs-4", "logs-5");
+        assertThat(report.stages())
+                .extracting(DeliveryPipeline.StageTiming::name)
+                .containsExactly("fetch", "send", "persist");
+        assertThat(report.stages()).allSatisfy(stage -> assertThat(stage.batches()).isEqualTo(5));
+    }
+
+    @Test
+    @DisplayName("저장 단계가 느리면 큐가 차서 조회 단계가 앞서 나가지 못함 (backpressure)")
+    void run_slowPersistBlocksFetch() {
+        // given
+        DeliveryPipeline<Integer, Integer> pipeline = new DeliveryPipeline<>(1);
+        AtomicInteger fetched = new AtomicInteger();
+        AtomicInteger maxLead = new AtomicInteger();
+        AtomicInteger persisted = new AtomicInteger();
+
+        // when
+        pipeline.run(
+                pages(20, fetched),
+                page -> page,
+                page -> {
+                    maxLead.accumulateAndGet(fetched.get() - persisted.get(), Math::max);
+                    sleep(5);
+                    persisted.incrementAndGet();
+                }
+        );
+
+        // then: 큐 2개(각 1칸) + 단계별 처리 중인 페이지만큼만 앞설 수 있음
+        assertThat(persisted.get()).isEqualTo(20);
+        assertThat(maxLead.get()).isLessThanOrEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("한 단계에서 예외가 나면 나머지 단계를 중단하고 예외를 전파함")
+    void run_failureInAnyStageFailsRun() {
+        // given
+        DeliveryPipeline<Integer, Integer> pipeline = new DeliveryPipeline<>(1);
+        AtomicInteger fetched = new AtomicInteger();
+
+        // when & then
+        assertThatThrownBy(() -> pipeline.run(
+                pages(1_000, fetched),
+                page -> page,
+                page -> {
+                    throw new IllegalStateException("DB down");
+                }
+        ))
+                .isInstanceOf(IllegalStateException.class)
+                .hasRootCauseMessage("DB down");
+
+        assertThat(fetched.get()).isLessThan(1_000);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
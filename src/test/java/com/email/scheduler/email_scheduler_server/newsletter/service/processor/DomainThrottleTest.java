@@ -0,0 +1,91 @@
+package com.email.scheduler.email_scheduler_server.newsletter.service.processor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import com.email.scheduler.email_scheduler_server.newsletter.config.NewsletterProperties;
+import com.email.scheduler.email_scheduler_server.newsletter.dto.SubscriberView;
+import com.email.scheduler.email_scheduler_server.newsletter.service.SendResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class DomainThrottleTest {
+
+    private NewsletterProperties properties;
+    private SimpleMeterRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        properties = new NewsletterProperties();
+        registry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("도메인별 줄을 돌아가며 한 명씩 꺼내 발송 순서를 섞는다")
+    void interleavesDomains() throws InterruptedException {
+        // given
+        DomainThrottle throttle = new DomainThrottle(properties, registry);
+        List<SubscriberView> subscribers = subscribers("a1@a.com", "a2@a.com", "a3@A.com", "b1@b.com", "b2@b.com");
+
+        // when
+        List<Integer> order = new ArrayList<>();
+        throttle.forEachInSendOrder(subscribers, order::add);
+
+        // then
+        assertThat(order).containsExactly(0, 3, 1, 4, 2);
+    }
+
+    @Test
+    @DisplayName("토큰이 없는 도메인은 건너뛰므로 느린 도메인이 다른 도메인의 발송을 막지 않는다")
+    void slowDomainDoesNotBlockOthers() throws InterruptedException {
+        // given: slow.com 은 초당 5건, 버킷 크기 1
+        properties.getThrottle().setBurst(1);
+        properties.getThrottle().setInitialRate(1_000);
+        properties.getThrottle().setMaxRate(1_000);
+        properties.getThrottle().getMaxRateByDomain().put("slow.com", 5.0);
+        DomainThrottle throttle = new DomainThrottle(properties, registry);
+        List<SubscriberView> subscribers = subscribers(
+                "s1@slow.com", "s2@slow.com", "f1@fast.com", "f2@fast.com", "f3@fast.com", "f4@fast.com");
+
+        // when
+        List<Integer> order = new ArrayList<>();
+        throttle.forEachInSendOrder(subscribers, order::add);
+
+        // then: 두 번째 slow.com 구독자는 fast.com 을 모두 보낸 뒤에 나감
+        assertThat(order).containsExactly(0, 2, 3, 4, 5, 1);
+    }
+
+    @Test
+    @DisplayName("4xx/시간 초과는 속도를 decrease-factor 배로 낮추고(감속 간격 안에서는 한 번만), 성공은 조금씩 올린다")
+    void adjustsRateWithAimd() {
+        // given
+        DomainThrottle throttle = new DomainThrottle(properties, registry);
+
+        // when & then
+        throttle.onResult("a@gmail.com", SendResult.RETRYABLE);
+        throttle.onResult("b@gmail.com", SendResult.RETRYABLE);
+        assertThat(throttle.currentRate("gmail.com")).isEqualTo(25.0);
+
+        throttle.onResult("a@gmail.com", SendResult.REJECTED);
+        assertThat(throttle.currentRate("gmail.com")).isEqualTo(25.0);
+
+        throttle.onResult("a@gmail.com", SendResult.SENT);
+        assertThat(throttle.currentRate("gmail.com")).isCloseTo(25.2, within(1e-9));
+
+        assertThat(registry.get("newsletter.domain.rate").tag("domain", "gmail.com").gauge().value()).isCloseTo(25.2, within(1e-9));
+        assertThat(registry.get("newsletter.domain.rate.limit").tag("domain", "gmail.com").gauge().value()).isEqualTo(500.0);
+        assertThat(registry.get("newsletter.domain.backoff").tag("domain", "gmail.com").counter().count()).isEqualTo(1.0);
+    }
+
+    private List<SubscriberView> subscribers(String... emails) {
+        List<SubscriberView> subscribers = new ArrayList<>();
+        for (int i = 0; i < emails.length; i++) {
+            subscribers.add(new SubscriberView((long) i + 1, emails[i]));
+        }
+        return subscribers;
+    }
+}
@@ -1,22 +1,39 @@
 package com.email.scheduler.email_scheduler_server.newsletter.service.processor;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-import com.email.scheduler.email_scheduler_server.newsletter.domain.Message;
+import com.email.scheduler.email_scheduler_server.newsletter.config.NewsletterProperties;
+import com.email.scheduler.email_scheduler_server.newsletter.config.NewsletterProperties.SendMode;
 import com.email.scheduler.email_scheduler_server.newsletter.domain.Message.MessageStatus;
 import com.email.scheduler.email_scheduler_server.newsletter.domain.NewsletterMessage;
-import com.email.scheduler.email_scheduler_server.newsletter.domain.Subscriber;
+import com.email.scheduler.email_scheduler_server.newsletter.dto.DeliveryLog;
+import com.email.scheduler.email_scheduler_server.newsletter.dto.SubscriberView;
+import com.email.scheduler.email_scheduler_server.newsletter.mail.RenderedNewsletter;
+import com.email.scheduler.email_scheduler_server.newsletter.mail.UnsubscribeToken;
+import com.email.scheduler.email_scheduler_server.newsletter.metrics.DeliveryMetrics;
+import com.email.scheduler.email_scheduler_server.newsletter.repository.SuppressionRepository;
 import com.email.scheduler.email_scheduler_server.newsletter.service.EmailService;
+import com.email.scheduler.email_scheduler_server.newsletter.service.SendResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -26,47 +43,69 @@ class EmailBatchServiceTest {
     @Mock
     private EmailService emailService;
 
-    @InjectMocks
+    @Mock
+    private SuppressionRepository suppressionRepository;
+
+    private NewsletterProperties properties;
+
+    private SimpleMeterRegistry registry;
+
+    private SuppressionList suppressionList;
+
     private EmailBatchService emailBatchService;
 
-    private Subscriber createSubscriber(String email) {
-        return Subscriber.builder()
-                .id(1L)
-                .email(email)
-                .active(true)
-                .messages(List.of())
-                .build();
+    private final RenderedNewsletter rendered = RenderedNewsletter.render(
+            "newsletter@test.com", "subject", "Hello Subscribers!", "<p>Hello Subscribers!</p>", "http://unsubscribe?token=",
+            new UnsubscribeToken("test-secret"));
+
+    @BeforeEach
+    void setUp() {
+        properties = new NewsletterProperties();
+        registry = new SimpleMeterRegistry();
+        suppressionList = new SuppressionList(suppressionRepository, properties, registry);
+        emailBatchService = newBatchService();
+    }
+
+    // 노드 전체 동시 발송 상한은 만들 때의 maxInFlight 로 정해지므로, 상한을 바꾼 테스트는 다시 만듦
+    private EmailBatchService newBatchService() {
+        return new EmailBatchService(emailService, properties, new DeliveryMetrics(registry, properties),
+                new DomainThrottle(properties, registry), suppressionList, new SendPermits(properties));
+    }
+
+    private SubscriberView createSubscriber(String email) {
+        return new SubscriberView(1L, email);
     }
 
     private NewsletterMessage createMessage() {
-        return new NewsletterMessage("newsletter-01.txt", "Hello Subscribers!");
+        return new NewsletterMessage(1L, "newsletter-01.txt", "Hello Subscribers!");
     }
 
     @Test
     @DisplayName("이메일 전송 성공 시 SUCCESS 로그 생성 & 성공 카운터 증가")
     void sendBatch_success() {
         // given
-        Subscriber subscriber = createSubscriber("user@test.com");
+        SubscriberView subscriber = createSubscriber("user@test.com");
         NewsletterMessage message = createMessage();
 
-        when(emailService.sendEmail(anyString(), anyString())).thenReturn(true);
+        when(emailService.sendEmail(anyString(), any())).thenReturn(SendResult.SENT);
 
         AtomicInteger success = new AtomicInteger();
         AtomicInteger fail = new AtomicInteger();
 
         // when
-        List<Message> logs = emailBatchService.sendBatch(
+        List<DeliveryLog> logs = emailBatchService.sendBatch(
                 List.of(subscriber),
                 message,
+                rendered,
                 success,
                 fail
         );
 
         // then
         Assertions.assertThat(logs).hasSize(1);
-        Message log = logs.get(0);
+        DeliveryLog log = logs.get(0);
 
-        Assertions.assertThat(log.getStatus()).isEqualTo(MessageStatus.SUCCESS);
+        Assertions.assertThat(log.status()).isEqualTo(MessageStatus.SUCCESS);
         Assertions.assertThat(success.get()).isEqualTo(1);
         Assertions.assertThat(fail.get()).isEqualTo(0);
     }
@@ -75,27 +114,28 @@ class EmailBatchServiceTest {
     @DisplayName("이메일 전송 실패 시 FAILURE 로그 생성 & 실패 카운터 증가")
     void sendBatch_fail() {
         // given
-        Subscriber subscriber = createSubscriber("user@test.com");
+        SubscriberView subscriber = createSubscriber("user@test.com");
         NewsletterMessage message = createMessage();
 
-        when(emailService.sendEmail(anyString(), anyString())).thenReturn(false);
+        when(emailService.sendEmail(anyString(), any())).thenReturn(SendResult.REJECTED);
 
         AtomicInteger success = new AtomicInteger();
         AtomicInteger fail = new AtomicInteger();
 
         // when
-        List<Message> logs = emailBatchService.sendBatch(
+        List<DeliveryLog> logs = emailBatchService.sendBatch(
                 List.of(subscriber),
                 message,
+                rendered,
                 success,
                 fail
         );
 
         // then
         Assertions.assertThat(logs).hasSize(1);
-        Message log = logs.get(0);
+        DeliveryLog log = logs.get(0);
 
-        Assertions.assertThat(log.getStatus()).isEqualTo(MessageStatus.FAILURE);
+        Assertions.assertThat(log.status()).isEqualTo(MessageStatus.FAILURE);
         Assertions.assertThat(success.get()).isEqualTo(0);
         Assertions.assertThat(fail.get()).isEqualTo(1);
     }
@@ -104,28 +144,29 @@ class EmailBatchServiceTest {
     @DisplayName("이메일 전송 중 예외 발생 시 FAILURE 처리 & 실패 카운터 증가")
     void sendBatch_exception_handled() {
         // given
-        Subscriber subscriber = createSubscriber("user@test.com");
+        SubscriberView subscriber = createSubscriber("user@test.com");
         NewsletterMessage message = createMessage();
 
-        when(emailService.sendEmail(anyString(), anyString()))
+        when(emailService.sendEmail(anyString(), any()))
                 .thenThrow(new RuntimeException("SMTP ERROR"));
 
         AtomicInteger success = new AtomicInteger();
         AtomicInteger fail = new AtomicInteger();
 
         // when
-        List<Message> logs = emailBatchService.sendBatch(
+        List<DeliveryLog> logs = emailBatchService.sendBatch(
                 List.of(subscriber),
                 message,
+                rendered,
                 success,
                 fail
         );
 
         // then
         Assertions.assertThat(logs).hasSize(1);
-        Message log = logs.get(0);
+        DeliveryLog log = logs.get(0);
 
-        Assertions.assertThat(log.getStatus()).isEqualTo(MessageStatus.FAILURE);
+        Assertions.assertThat(log.status()).isEqualTo(MessageStatus.FAILURE);
         Assertions.assertThat(success.get()).isEqualTo(0);
         Assertions.assertThat(fail.get()).isEqualTo(1);
     }
@@ -135,20 +176,21 @@ class EmailBatchServiceTest {
     @DisplayName("여러 구독자 처리 - 성공/실패 여부에 따라 각각 로그 상태 확인")
     void sendBatch_multipleSubscribers(boolean emailSuccess) {
         // given
-        Subscriber s1 = createSubscriber("user1@test.com");
-        Subscriber s2 = createSubscriber("user2@test.com");
+        SubscriberView s1 = createSubscriber("user1@test.com");
+        SubscriberView s2 = createSubscriber("user2@test.com");
         NewsletterMessage message = createMessage();
 
-        when(emailService.sendEmail(anyString(), anyString()))
-                .thenReturn(emailSuccess);
+        when(emailService.sendEmail(anyString(), any()))
+                .thenReturn(emailSuccess ? SendResult.SENT : SendResult.REJECTED);
 
         AtomicInteger success = new AtomicInteger();
         AtomicInteger fail = new AtomicInteger();
 
         // when
-        List<Message> logs = emailBatchService.sendBatch(
+        List<DeliveryLog> logs = emailBatchService.sendBatch(
                 List.of(s1, s2),
                 message,
+                rendered,
                 success,
                 fail
         );
@@ -160,14 +202,190 @@ class EmailBatchServiceTest {
             Assertions.assertThat(success.get()).isEqualTo(2);
             Assertions.assertThat(fail.get()).isEqualTo(0);
             Assertions.assertThat(logs)
-                    .extracting(Message::getStatus)
+                    .extracting(DeliveryLog::status)
                     .containsOnly(MessageStatus.SUCCESS);
         } else {
             Assertions.assertThat(success.get()).isEqualTo(0);
             Assertions.assertThat(fail.get()).isEqualTo(2);
             Assertions.assertThat(logs)
-                    .extracting(Message::getStatus)
+                    .extracting(DeliveryLog::status)
                     .containsOnly(MessageStatus.FAILURE);
         }
     }
+
+    @Test
+    @DisplayName("순차 모드에서도 구독자 순서대로 로그를 생성하고 카운터를 집계함")
+    void sendBatch_sequentialMode() {
+        // given
+        properties.getSend().setMode(SendMode.SEQUENTIAL);
+        List<SubscriberView> subscribers = List.of(createSubscriber("ok@test.com"), createSubscriber("ng@test.com"));
+
+        when(emailService.sendEmail(eq("ok@test.com"), any())).thenReturn(SendResult.SENT);
+        when(emailService.sendEmail(eq("ng@test.com"), any())).thenReturn(SendResult.REJECTED);
+
+        AtomicInteger success = new AtomicInteger();
+        AtomicInteger fail = new AtomicInteger();
+
+        // when
+        List<DeliveryLog> logs = emailBatchService.sendBatch(subscribers, createMessage(), rendered, success, fail);
+
+        // then
+        Assertions.assertThat(logs)
+                .extracting(DeliveryLog::status)
+                .containsExactly(MessageStatus.SUCCESS, MessageStatus.FAILURE);
+        Assertions.assertThat(success.get()).isEqualTo(1);
+        Assertions.assertThat(fail.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("동시에 처리 중인 여러 페이지가 노드 전체 maxInFlight 하나를 함께 나눠 쓴다")
+    void sendBatch_concurrentPages_shareNodeWideLimit() throws Exception {
+        // given
+        properties.getSend().setMaxInFlight(4);
+        emailBatchService = newBatchService();
+        AtomicInteger current = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+
+        when(emailService.sendEmail(anyString(), any())).thenAnswer(invocation -> {
+            peak.accumulateAndGet(current.incrementAndGet(), Math::max);
+            Thread.sleep(10);
+            current.decrementAndGet();
+            return SendResult.SENT;
+        });
+
+        List<SubscriberView> page = IntStream.rangeClosed(1, 20)
+                .mapToObj(i -> new SubscriberView((long) i, "user" + i + "@test.com"))
+                .toList();
+        AtomicInteger success = new AtomicInteger();
+        AtomicInteger fail = new AtomicInteger();
+
+        // when: 페이지 세 개(샤드 세 개)를 동시에 발송
+        List<Future<List<DeliveryLog>>> pages = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 3; i++) {
+                pages.add(executor.submit(() -> emailBatchService.sendBatch(page, createMessage(), rendered, success, fail)));
+            }
+        }
+        for (Future<List<DeliveryLog>> logs : pages) {
+            logs.get();
+        }
+
+        // then: 페이지마다 4개가 아니라 노드 전체에서 4개
+        Assertions.assertThat(peak.get()).isLessThanOrEqualTo(4);
+        Assertions.assertThat(success.get()).isEqualTo(60);
+    }
+
+    @Test
+    @DisplayName("일시적 실패(RETRYABLE)는 RETRYING, 나머지 실패는 다시 보내지 않는 FAILURE 로그이며 하드 바운스(BOUNCED)만 bounced 로 표시됨")
+    void sendBatch_transientFailure_marksRetrying() {
+        // given
+        properties.getSend().setMode(SendMode.SEQUENTIAL);
+        List<SubscriberView> subscribers = List.of(
+                createSubscriber("busy@test.com"), createSubscriber("unknown@test.com"),
+                createSubscriber("timeout@test.com"), createSubscriber("gone@test.com"));
+
+        when(emailService.sendEmail(eq("busy@test.com"), any())).thenReturn(SendResult.RETRYABLE);
+        when(emailService.sendEmail(eq("unknown@test.com"), any())).thenReturn(SendResult.REJECTED);
+        when(emailService.sendEmail(eq("timeout@test.com"), any())).thenReturn(SendResult.DELIVERY_UNKNOWN);
+        when(emailService.sendEmail(eq("gone@test.com"), any())).thenReturn(SendResult.BOUNCED);
+
+        AtomicInteger success = new AtomicInteger();
+        AtomicInteger fail = new AtomicInteger();
+
+        // when
+        List<DeliveryLog> logs = emailBatchService.sendBatch(subscribers, createMessage(), rendered, success, fail);
+
+        // then
+        Assertions.assertThat(logs)
+                .extracting(DeliveryLog::status)
+                .containsExactly(MessageStatus.RETRYING, MessageStatus.FAILURE, MessageStatus.FAILURE, MessageStatus.FAILURE);
+        Assertions.assertThat(logs)
+                .extracting(DeliveryLog::bounced)
+                .containsExactly(false, false, false, true);
+        Assertions.assertThat(fail.get()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("동시 발송 수는 maxInFlight 를 넘지 않고, 모든 구독자의 로그가 순서대로 생성됨")
+    void sendBatch_concurrent_respectsInFlightLimit() {
+        // given
+        properties.getSend().setMaxInFlight(4);
+        emailBatchService = newBatchService();
+        AtomicInteger current = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+
+        when(emailService.sendEmail(anyString(), any())).thenAnswer(invocation -> {
+            peak.accumulateAndGet(current.incrementAndGet(), Math::max);
+            Thread.sleep(10);
+            current.decrementAndGet();
+            return SendResult.SENT;
+        });
+
+        List<SubscriberView> subscribers = IntStream.rangeClosed(1, 40)
+                .mapToObj(i -> new SubscriberView((long) i, "user" + i + "@test.com"))
+                .toList();
+
+        AtomicInteger success = new AtomicInteger();
+        AtomicInteger fail = new AtomicInteger();
+
+        // when
+        List<DeliveryLog> logs = emailBatchService.sendBatch(subscribers, createMessage(), rendered, success, fail);
+
+        // then
+        Assertions.assertThat(peak.get()).isLessThanOrEqualTo(4);
+        Assertions.assertThat(success.get()).isEqualTo(40);
+        Assertions.assertThat(logs)
+                .extracting(DeliveryLog::subscriberId)
+                .containsExactlyElementsOf(IntStream.rangeClosed(1, 40).mapToObj(i -> (long) i).toList());
+    }
+
+    @Test
+    @DisplayName("발송 한 건마다 회차 태그가 붙은 지연 시간/성공/실패 지표를 기록하고, 끝나면 진행 중 발송 수는 0")
+    void sendBatch_recordsIssueMetrics() {
+        // given
+        properties.getSend().setMode(SendMode.SEQUENTIAL);
+        List<SubscriberView> subscribers = List.of(
+                createSubscriber("ok@test.com"), createSubscriber("busy@test.com"), createSubscriber("ok2@test.com"));
+
+        when(emailService.sendEmail(anyString(), any())).thenReturn(SendResult.SENT);
+        when(emailService.sendEmail(eq("busy@test.com"), any())).thenReturn(SendResult.RETRYABLE);
+
+        // when
+        emailBatchService.sendBatch(subscribers, createMessage(), rendered, new AtomicInteger(), new AtomicInteger());
+
+        // then
+        Assertions.assertThat(registry.get("newsletter.sent").tag("issue", "1").counter().count()).isEqualTo(2);
+        Assertions.assertThat(registry.get("newsletter.failed").tag("issue", "1").counter().count()).isEqualTo(1);
+        Assertions.assertThat(registry.get("newsletter.send.latency").tag("issue", "1").tag("result", "sent")
+                .timer().count()).isEqualTo(2);
+        Assertions.assertThat(registry.get("newsletter.send.in_flight").tag("issue", "1").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("발송 제외 목록에 있는 구독자는 보내지 않고 SUPPRESSED 로그만 남기며 성공/실패에 세지 않음")
+    void sendBatch_skipsSuppressedSubscribers() {
+        // given
+        suppressionList.suppressHardBounces(List.of(2L));
+        List<SubscriberView> subscribers = List.of(
+                new SubscriberView(1L, "ok@test.com"),
+                new SubscriberView(2L, "bounced@test.com"),
+                new SubscriberView(3L, "ok2@test.com"));
+
+        when(emailService.sendEmail(anyString(), any())).thenReturn(SendResult.SENT);
+
+        AtomicInteger success = new AtomicInteger();
+        AtomicInteger fail = new AtomicInteger();
+
+        // when
+        List<DeliveryLog> logs = emailBatchService.sendBatch(subscribers, createMessage(), rendered, success, fail);
+
+        // then
+        Assertions.assertThat(logs)
+                .extracting(DeliveryLog::status)
+                .containsExactly(MessageStatus.SUCCESS, MessageStatus.SUPPRESSED, MessageStatus.SUCCESS);
+        Assertions.assertThat(success.get()).isEqualTo(2);
+        Assertions.assertThat(fail.get()).isEqualTo(0);
+        verify(emailService, never()).sendEmail(eq("bounced@test.com"), any());
+        Assertions.assertThat(registry.get("newsletter.suppressed").tag("issue", "1").counter().count()).isEqualTo(1);
+    }
 }
@@ -0,0 +1,155 @@
+package com.email.scheduler.email_scheduler_server.newsletter.service.processor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.email.scheduler.email_scheduler_server.newsletter.config.NewsletterProperties;
+import com.email.scheduler.email_scheduler_server.newsletter.domain.Message.MessageStatus;
+import com.email.scheduler.email_scheduler_server.newsletter.dto.DeliveryLog;
+import com.email.scheduler.email_scheduler_server.newsletter.dto.IssueCounts;
+import com.email.scheduler.email_scheduler_server.newsletter.dto.IssueDeliveryStats;
+import com.email.scheduler.email_scheduler_server.newsletter.dto.PendingRetry;
+import com.email.scheduler.email_scheduler_server.newsletter.repository.DeliveryLogWriter;
+import com.email.scheduler.email_scheduler_server.newsletter.repository.IssueStatsRepository;
+import com.email.scheduler.email_scheduler_server.newsletter.repository.RetryOutboxRepository;
+import com.email.scheduler.email_scheduler_server.newsletter.repository.RunShardRepository;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class MessageLogServiceTest {
+
+    private static final Long ISSUE_ID = 5L;
+    private static final Long SHARD_ID = 21L;
+    private static final LocalDate SEND_DATE = LocalDate.of(2026, 10, 18);
+
+    @Mock
+    private DeliveryLogWriter logWriter;
+
+    @Mock
+    private RunShardRepository shardRepository;
+
+    @Mock
+    private IssueStatsRepository statsRepository;
+
+    @Mock
+    private RetryOutboxRepository retryOutbox;
+
+    @Spy
+    private NewsletterProperties properties = new NewsletterProperties();
+
+    @InjectMocks
+    private MessageLogService logService;
+
+    @Test
+    @DisplayName("배치를 저장하면 체크포인트와 같은 트랜잭션에서 회차 통계에 상태별 변화량을 더한다")
+    void saveLogsInBatch_addsIssueCounts() {
+        // given
+        List<DeliveryLog> logs = List.of(
+                log(1L, MessageStatus.SUCCESS),
+                log(2L, MessageStatus.SUCCESS),
+                log(3L, MessageStatus.FAILURE),
+                log(4L, MessageStatus.RETRYING),
+                log(5L, MessageStatus.SUPPRESSED));
+        when(shardRepository.advanceCheckpoint(eq(SHARD_ID), eq(5L), anyInt(), anyInt(), any())).thenReturn(1);
+        when(retryOutbox.insert(eq(ISSUE_ID), eq(SEND_DATE), eq(1), eq(List.of(4L)), any())).thenReturn(11L);
+
+        // when
+        Optional<PendingRetry> retries = logService.saveLogsInBatch(SHARD_ID, logs);
+
+        // then: 체크포인트의 실패 수는 재시도 대기를 포함하고, 회차 통계의 실패 수는 최종 실패만 셈
+        verify(logWriter).insertAll(logs);
+        verify(shardRepository).advanceCheckpoint(eq(SHARD_ID), eq(5L), eq(2), eq(2), any());
+        verify(statsRepository).add(eq(ISSUE_ID), eq((long) SHARD_ID), eq(new IssueCounts(5, 2, 1, 0, 1)), any());
+        // 일시적 실패는 같은 트랜잭션에서 재시도 예약으로 남김
+        assertThat(retries).contains(new PendingRetry(11L, ISSUE_ID, SEND_DATE, 1, List.of(4L)));
+    }
+
+    @Test
+    @DisplayName("체크포인트가 이미 지난 배치(재전달된 샤드)는 통계에 다시 더하지 않는다")
+    void saveLogsInBatch_redeliveredBatch_skipsStats() {
+        // given
+        List<DeliveryLog> logs = List.of(log(1L, MessageStatus.SUCCESS));
+        when(shardRepository.advanceCheckpoint(eq(SHARD_ID), eq(1L), anyInt(), anyInt(), any())).thenReturn(0);
+
+        // when
+        Optional<PendingRetry> retries = logService.saveLogsInBatch(SHARD_ID, logs);
+
+        // then
+        verify(statsRepository, never()).add(any(), anyLong(), any(), any());
+        verify(retryOutbox, never()).insert(any(), any(), anyInt(), anyList(), any());
+        assertThat(retries).isEmpty();
+    }
+
+    @Test
+    @DisplayName("재시도 결과는 실제로 갱신된 로그만 재시도/성공/실패 수에 더한다")
+    void saveRetryResults_addsOnlyAppliedLogs() {
+        // given: 3건 중 2번 구독자는 이미 반영된 재시도라 갱신되지 않음
+        List<DeliveryLog> logs = List.of(
+                log(1L, MessageStatus.SUCCESS),
+                log(2L, MessageStatus.SUCCESS),
+                log(3L, MessageStatus.FAILURE));
+        when(logWriter.updateRetried(logs, 2)).thenReturn(List.of(logs.get(0), logs.get(2)));
+
+        // when
+        logService.saveRetryResults(logs, 2);
+
+        // then
+        verify(statsRepository).add(eq(ISSUE_ID), anyLong(), eq(new IssueCounts(0, 1, 1, 2, 0)), any());
+    }
+
+    @Test
+    @DisplayName("재시도 사이에 발송 제외된 구독자는 발송 제외 수에 더해 더 이상 재시도 대기로 남지 않는다")
+    void saveRetryResults_countsSuppressed() {
+        // given: 첫 발송에서 2건이 재시도 대기(targeted 2)였고, 재시도에서 1건은 성공, 1건은 발송 제외
+        List<DeliveryLog> logs = List.of(
+                log(1L, MessageStatus.SUCCESS),
+                log(2L, MessageStatus.SUPPRESSED));
+        when(logWriter.updateRetried(logs, 1)).thenReturn(logs);
+
+        // when
+        Optional<PendingRetry> retries = logService.saveRetryResults(logs, 1);
+
+        // then
+        verify(statsRepository).add(eq(ISSUE_ID), anyLong(), eq(new IssueCounts(0, 1, 0, 2, 1)), any());
+        // 첫 발송 배치(대상 2, 재시도 대기 2)와 더하면 재시도 대기가 남지 않음
+        IssueCounts total = new IssueCounts(2, 1, 0, 2, 1);
+        assertThat(IssueDeliveryStats.of(ISSUE_ID, total, LocalDateTime.now()).pendingRetry()).isZero();
+        assertThat(retries).isEmpty();
+        verify(retryOutbox, never()).insert(any(), any(), anyInt(), anyList(), any());
+    }
+
+    @Test
+    @DisplayName("갱신된 재시도 로그가 없으면 통계를 건드리지 않는다")
+    void saveRetryResults_nothingApplied_skipsStats() {
+        // given
+        List<DeliveryLog> logs = List.of(log(1L, MessageStatus.RETRYING));
+        when(logWriter.updateRetried(logs, 3)).thenReturn(List.of());
+
+        // when
+        logService.saveRetryResults(logs, 3);
+
+        // then
+        verify(statsRepository, never()).add(any(), anyLong(), any(), any());
+    }
+
+    private DeliveryLog log(long subscriberId, MessageStatus status) {
+        return new DeliveryLog(subscriberId, ISSUE_ID, SEND_DATE, LocalDateTime.of(2026, 10, 18, 8, 0), status);
+    }
+}
@@ -0,0 +1,365 @@
+package com.email.scheduler.email_scheduler_server.newsletter.service.processor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.email.scheduler.email_scheduler_server.newsletter.config.NewsletterProperties;
+import com.email.scheduler.email_scheduler_server.newsletter.domain.IssueReference;
+import com.email.scheduler.email_scheduler_server.newsletter.domain.Message.MessageStatus;
+import com.email.scheduler.email_scheduler_server.newsletter.domain.NewsletterIssue;
+import com.email.scheduler.email_scheduler_server.newsletter.domain.NewsletterMessage;
+import com.email.scheduler.email_scheduler_server.newsletter.domain.NewsletterShardMessage;
+import com.email.scheduler.email_scheduler_server.newsletter.domain.RunShard.ShardStatus;
+import com.email.scheduler.email_scheduler_server.newsletter.domain.Suppression.Reason;
+import com.email.scheduler.email_scheduler_server.newsletter.dto.DeliveryLog;
+import com.email.scheduler.email_scheduler_server.newsletter.dto.ShardCheckpoint;
+import com.email.scheduler.email_scheduler_server.newsletter.dto.SubscriberView;
+import com.email.scheduler.email_scheduler_server.newsletter.mail.FakeSmtpServer;
+import com.email.scheduler.email_scheduler_server.newsletter.mail.SmtpClientPool;
+import com.email.scheduler.email_scheduler_server.newsletter.mail.UnsubscribeToken;
+import com.email.scheduler.email_scheduler_server.newsletter.metrics.DeliveryMetrics;
+import com.email.scheduler.email_scheduler_server.newsletter.repository.SubscriberRepository;
+import com.email.scheduler.email_scheduler_server.newsletter.repository.SuppressionRepository;
+import com.email.scheduler.email_scheduler_server.newsletter.service.DeliveryRunService;
+import com.email.scheduler.email_scheduler_server.newsletter.service.EmailService;
+import com.email.scheduler.email_scheduler_server.newsletter.service.IssueContentCache;
+import com.email.scheduler.email_scheduler_server.newsletter.service.NewsletterRenderer;
+import com.email.scheduler.email_scheduler_server.newsletter.service.SegmentIndex;
+import com.email.scheduler.email_scheduler_server.newsletter.service.SendResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+
+@ExtendWith(MockitoExtension.class)
+class NewsletterProcessorTest {
+
+    private static final long SHARD_ID = 7L;
+    private static final LocalDateTime FIRST_STARTED_AT = LocalDateTime.of(2026, 10, 17, 23, 50);
+    private static final String CONTENT = "안녕하세요 {{name}}님!";
+    private static final IssueReference ISSUE =
+            new IssueReference(1L, "newsletter_01.md", NewsletterIssue.checksumOf(CONTENT));
+
+    private final List<SubscriberView> subscribers = LongStream.rangeClosed(1, 100)
+            .mapToObj(id -> new SubscriberView(id, "user" + id + "@test.com"))
+            .toList();
+
+    private final Set<String> sentTo = ConcurrentHashMap.newKeySet();
+
+    @Mock
+    private SubscriberRepository subscriberRepository;
+
+    @Mock
+    private EmailService emailService;
+
+    @Mock
+    private MessageLogService logService;
+
+    @Mock
+    private DeliveryRunService runService;
+
+    @Mock
+    private RetryService retryService;
+
+    @Mock
+    private IssueContentCache contentCache;
+
+    @Mock
+    private SuppressionRepository suppressionRepository;
+
+    @Mock
+    private SegmentIndex segmentIndex;
+
+    private NewsletterProcessor processor;
+
+    @BeforeEach
+    void setUp() {
+        processor = newProcessor(emailService);
+    }
+
+    private NewsletterProcessor newProcessor(EmailService emailService) {
+        NewsletterProperties properties = new NewsletterProperties();
+        properties.getThrottle().setEnabled(false);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        DeliveryMetrics metrics = new DeliveryMetrics(registry, properties);
+        SuppressionList suppressionList = new SuppressionList(suppressionRepository, properties, registry);
+        return new NewsletterProcessor(
+                new SubscriberFetchService(subscriberRepository, segmentIndex),
+                new EmailBatchService(emailService, properties, metrics, new DomainThrottle(properties, registry),
+                        suppressionList, new SendPermits(properties)),
+                logService,
+                runService,
+                retryService,
+                suppressionList,
+                contentCache,
+                metrics,
+                new NewsletterRenderer(properties, new UnsubscribeToken("test-secret")),
+                properties
+        );
+    }
+
+    @Test
+    @DisplayName("중단됐던 샤드는 체크포인트 다음 구독자부터 발송하고, 선점 기록이 이미 있는 구독자는 건너뛴다")
+    void resumesFromCheckpoint() {
+        // given: 전날 밤 시작해 50번까지 로그 저장 완료, 51번은 발송 전 선점(SENDING)만 커밋된 채 노드가 죽은 상태
+        givenIssueContent();
+        givenSubscribers();
+        givenEmailSucceeds();
+        when(runService.findCheckpoint(SHARD_ID))
+                .thenReturn(Optional.of(new ShardCheckpoint(50L, 48, 2, ShardStatus.RUNNING, FIRST_STARTED_AT)));
+        when(runService.startShard(eq(SHARD_ID), any())).thenReturn(false);
+        when(logService.excludeLogged(eq(1L), any(), anyList())).thenAnswer(invocation -> {
+            List<SubscriberView> page = invocation.getArgument(2);
+            return page.stream().filter(s -> s.id() != 51L).toList();
+        });
+
+        // when
+        processor.process(shardMessage());
+
+        // then
+        assertThat(sentTo).hasSize(49)
+                .doesNotContain("user50@test.com", "user51@test.com")
+                .contains("user52@test.com", "user100@test.com");
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<DeliveryLog>> logs = ArgumentCaptor.forClass(List.class);
+        verify(logService).saveLogsInBatch(eq(SHARD_ID), logs.capture());
+        assertThat(logs.getValue()).extracting(DeliveryLog::subscriberId).first().isEqualTo(52L);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<SubscriberView>> claimed = ArgumentCaptor.forClass(List.class);
+        verify(logService).claimSending(eq(1L), any(), claimed.capture());
+        assertThat(claimed.getValue()).extracting(SubscriberView::id).hasSize(49).doesNotContain(51L);
+
+        // 재개해도 처음 시작한 날의 파티션에 이어서 씀
+        verify(logService).claimSending(1L, FIRST_STARTED_AT.toLocalDate(), claimed.getValue());
+        verify(logService, atLeastOnce()).excludeLogged(eq(1L), eq(FIRST_STARTED_AT.toLocalDate()), anyList());
+        assertThat(logs.getValue()).extracting(DeliveryLog::sendDate).containsOnly(FIRST_STARTED_AT.toLocalDate());
+
+        // 체크포인트의 누적 수 + 이번에 보낸 수
+        verify(runService).completeShard(1L, SHARD_ID, 48 + 49, 2);
+    }
+
+    @Test
+    @DisplayName("처음 시작하는 샤드는 처음부터 발송하고 로그 중복 확인을 하지 않는다")
+    void freshShardSendsEveryone() {
+        // given
+        givenIssueContent();
+        givenSubscribers();
+        givenEmailSucceeds();
+        when(runService.findCheckpoint(SHARD_ID))
+                .thenReturn(Optional.of(new ShardCheckpoint(0L, 0, 0, ShardStatus.PENDING, null)));
+        when(runService.startShard(eq(SHARD_ID), any())).thenReturn(true);
+
+        // when
+        processor.process(shardMessage());
+
+        // then
+        assertThat(sentTo).hasSize(100);
+        verify(logService, never()).excludeLogged(anyLong(), any(), anyList());
+        verify(runService).completeShard(1L, SHARD_ID, 100, 0);
+    }
+
+    @Test
+    @DisplayName("SMTP 발송 전에 페이지의 구독자를 선점하고, 결과 로그는 발송 뒤에 저장한다")
+    void claimsPageBeforeSending() {
+        // given
+        givenIssueContent();
+        givenSubscribers();
+        givenEmailSucceeds();
+        when(runService.findCheckpoint(SHARD_ID)).thenReturn(Optional.empty());
+        when(runService.startShard(eq(SHARD_ID), any())).thenReturn(true);
+
+        // when
+        processor.process(shardMessage());
+
+        // then
+        InOrder order = inOrder(logService, emailService);
+        order.verify(logService).claimSending(eq(1L), any(), eq(subscribers));
+        order.verify(emailService, times(100)).sendEmail(anyString(), any());
+        order.verify(logService).saveLogsInBatch(eq(SHARD_ID), anyList());
+    }
+
+    @Test
+    @DisplayName("같은 샤드의 다른 처리가 먼저 선점한 구독자는 실패로 보지 않고 건너뛴다")
+    void skipsSubscribersClaimedByAnotherDelivery() {
+        // given: consumer timeout 으로 재전달된 샤드를 처리하는 중, 원래 처리가 1~10번을 먼저 선점함
+        givenIssueContent();
+        givenSubscribers();
+        givenEmailSucceeds();
+        when(runService.findCheckpoint(SHARD_ID)).thenReturn(Optional.empty());
+        when(runService.startShard(eq(SHARD_ID), any())).thenReturn(true);
+        doThrow(new DuplicateKeyException("uk_message_issue_subscriber"))
+                .doNothing()
+                .when(logService).claimSending(eq(1L), any(), anyList());
+        when(logService.excludeLogged(eq(1L), any(), anyList())).thenAnswer(invocation -> {
+            List<SubscriberView> page = invocation.getArgument(2);
+            return page.stream().filter(s -> s.id() > 10L).toList();
+        });
+
+        // when
+        processor.process(shardMessage());
+
+        // then
+        assertThat(sentTo).hasSize(90).doesNotContain("user1@test.com", "user10@test.com");
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<SubscriberView>> claimed = ArgumentCaptor.forClass(List.class);
+        verify(logService, times(2)).claimSending(eq(1L), any(), claimed.capture());
+        assertThat(claimed.getAllValues().get(1)).extracting(SubscriberView::id).hasSize(90).doesNotContain(10L);
+        verify(runService).completeShard(1L, SHARD_ID, 90, 0);
+    }
+
+    @Test
+    @DisplayName("수신자 단계 5xx 로 거절된(BOUNCED) 구독자만 발송 제외 목록에 올리고, 다른 FAILURE 는 올리지 않는다")
+    void suppressesOnlyBouncedRecipients() {
+        // given: 3번은 RCPT 550, 4번은 분류하지 못한 실패, 5번은 본문을 보낸 뒤 응답 없음
+        givenIssueContent();
+        givenSubscribers();
+        when(emailService.sendEmail(anyString(), any())).thenAnswer(invocation -> switch ((String) invocation.getArgument(0)) {
+            case "user3@test.com" -> SendResult.BOUNCED;
+            case "user4@test.com" -> SendResult.REJECTED;
+            case "user5@test.com" -> SendResult.DELIVERY_UNKNOWN;
+            default -> SendResult.SENT;
+        });
+        when(runService.findCheckpoint(SHARD_ID)).thenReturn(Optional.empty());
+        when(runService.startShard(eq(SHARD_ID), any())).thenReturn(true);
+
+        // when
+        processor.process(shardMessage());
+
+        // then: 세 명 모두 FAILURE 로 세지만 제외 대상은 3번뿐
+        verify(suppressionRepository).suppressAll(eq(List.of(3L)), eq(Reason.HARD_BOUNCE), any());
+        verify(runService).completeShard(1L, SHARD_ID, 97, 3);
+    }
+
+    @Test
+    @DisplayName("SMTP 인증 실패(535)는 수신자가 아닌 서버 문제이므로 아무도 발송 제외 목록에 올리지 않고 재시도를 기다린다")
+    void authFailureSuppressesNobody() throws Exception {
+        try (FakeSmtpServer server = FakeSmtpServer.start(0, true, false);
+             SmtpClientPool pool = new SmtpClientPool(smtpConfig(server))) {
+            // given: 계정 설정이 틀려 모든 연결이 AUTH 에서 535 로 거절됨
+            server.rejectAuth(535);
+            @SuppressWarnings("unchecked")
+            ObjectProvider<SmtpClientPool> smtpClientPool = mock(ObjectProvider.class);
+            when(smtpClientPool.getIfAvailable()).thenReturn(pool);
+            processor = newProcessor(new EmailService(smtpClientPool));
+
+            givenIssueContent();
+            givenSubscribers();
+            when(runService.findCheckpoint(SHARD_ID)).thenReturn(Optional.empty());
+            when(runService.startShard(eq(SHARD_ID), any())).thenReturn(true);
+
+            // when
+            processor.process(shardMessage());
+
+            // then
+            verify(suppressionRepository, never()).suppressAll(anyList(), any(), any());
+
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<List<DeliveryLog>> logs = ArgumentCaptor.forClass(List.class);
+            verify(logService).saveLogsInBatch(eq(SHARD_ID), logs.capture());
+            assertThat(logs.getValue()).hasSize(100)
+                    .extracting(DeliveryLog::status)
+                    .containsOnly(MessageStatus.RETRYING);
+            assertThat(server.messages()).isZero();
+        }
+    }
+
+    @Test
+    @DisplayName("구간 안에 활성 구독자가 없는 샤드도 0명으로 완료를 보고한다")
+    void emptyShardCompletes() {
+        // given
+        givenIssueContent();
+        when(subscriberRepository.findActiveAfter(anyLong(), anyLong(), any(Pageable.class)))
+                .thenAnswer(invocation -> new SliceImpl<>(List.of(), invocation.getArgument(2), false));
+        when(runService.findCheckpoint(SHARD_ID)).thenReturn(Optional.empty());
+        when(runService.startShard(eq(SHARD_ID), any())).thenReturn(true);
+
+        // when
+        processor.process(shardMessage());
+
+        // then
+        verifyNoInteractions(emailService);
+        verify(runService).completeShard(1L, SHARD_ID, 0, 0);
+    }
+
+    @Test
+    @DisplayName("이미 완료된 샤드는 다시 발송하지 않는다")
+    void skipsCompletedShard() {
+        // given
+        when(runService.findCheckpoint(SHARD_ID))
+                .thenReturn(Optional.of(new ShardCheckpoint(100L, 100, 0, ShardStatus.COMPLETED, FIRST_STARTED_AT)));
+
+        // when
+        processor.process(shardMessage());
+
+        // then
+        verifyNoInteractions(emailService, logService, subscriberRepository, contentCache);
+        verify(runService, never()).startShard(anyLong(), any());
+    }
+
+    private void givenIssueContent() {
+        when(contentCache.resolve(ISSUE)).thenReturn(new NewsletterMessage(1L, "newsletter_01.md", CONTENT));
+    }
+
+    private void givenSubscribers() {
+        when(subscriberRepository.findActiveAfter(anyLong(), anyLong(), any(Pageable.class))).thenAnswer(invocation -> {
+            long lastId = invocation.getArgument(0);
+            long toId = invocation.getArgument(1);
+            Pageable pageable = invocation.getArgument(2);
+            List<SubscriberView> page = subscribers.stream()
+                    .filter(s -> s.id() > lastId && s.id() <= toId)
+                    .limit(pageable.getPageSize())
+                    .toList();
+            return new SliceImpl<>(page, pageable, false);
+        });
+    }
+
+    private void givenEmailSucceeds() {
+        when(emailService.sendEmail(anyString(), any())).thenAnswer(invocation -> {
+            sentTo.add(invocation.getArgument(0));
+            return SendResult.SENT;
+        });
+    }
+
+    private NewsletterProperties.Smtp smtpConfig(FakeSmtpServer server) {
+        NewsletterProperties.Smtp smtp = new NewsletterProperties().getSmtp();
+        smtp.setPort(server.port());
+        smtp.setUsername("newsletter");
+        smtp.setPassword("wrong");
+        return smtp;
+    }
+
+    private NewsletterShardMessage shardMessage() {
+        return new NewsletterShardMessage(1L, SHARD_ID, 0, 1, 1L, 100L, ISSUE, System.currentTimeMillis(), null);
+    }
+}
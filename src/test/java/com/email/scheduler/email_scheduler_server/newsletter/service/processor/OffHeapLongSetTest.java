@@ -0,0 +1,78 @@
+package com.email.scheduler.email_scheduler_server.newsletter.service.processor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class OffHeapLongSetTest {
+
+    @Test
+    @DisplayName("넣은 키만 들어 있다고 답하고, 같은 키를 다시 넣으면 크기가 늘지 않는다")
+    void addAndContains() {
+        // given
+        OffHeapLongSet set = new OffHeapLongSet(10_000);
+
+        // when
+        LongStream.rangeClosed(1, 10_000).map(id -> id * 3).forEach(set::add);
+        boolean addedAgain = set.add(3L);
+
+        // then
+        assertThat(addedAgain).isFalse();
+        assertThat(set.size()).isEqualTo(10_000);
+        assertThat(set.contains(3L)).isTrue();
+        assertThat(set.contains(30_000L)).isTrue();
+        assertThat(set.contains(4L)).isFalse();
+        assertThat(set.contains(30_003L)).isFalse();
+        assertThat(set.contains(0L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("예상 키 수로 부하율 0.75 이하의 2 의 거듭제곱 슬롯을 잡는다 (1,000만 개 = 2^24 슬롯 = 128MiB)")
+    void sizesTableForExpectedKeys() {
+        assertThat(OffHeapLongSet.capacityFor(10_000_000)).isEqualTo(1 << 24);
+        assertThat(OffHeapLongSet.memoryBytesFor(10_000_000)).isEqualTo(128L * 1024 * 1024);
+        assertThat(OffHeapLongSet.capacityFor(0)).isEqualTo(1 << 10);
+    }
+
+    @Test
+    @DisplayName("슬롯 수는 direct buffer 하나에 담기는 2^27 (1GiB) 까지이고, 그보다 많은 키는 거절한다")
+    void rejectsCapacityBeyondDirectBufferLimit() {
+        long maxKeys = (long) (OffHeapLongSet.MAX_CAPACITY * 0.75);
+
+        assertThat(OffHeapLongSet.capacityFor(maxKeys)).isEqualTo(OffHeapLongSet.MAX_CAPACITY);
+        assertThat(OffHeapLongSet.memoryBytesFor(maxKeys)).isEqualTo(1L << 30).isLessThan(Integer.MAX_VALUE);
+        assertThatThrownBy(() -> OffHeapLongSet.capacityFor(maxKeys + 1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("부하율 한도에 닿으면 더 넣지 못하고 hasRoom 이 false 가 된다")
+    void rejectsAddBeyondLoadFactor() {
+        // given
+        OffHeapLongSet set = new OffHeapLongSet(0);
+        LongStream.rangeClosed(1, set.capacity() * 3L / 4).forEach(set::add);
+
+        // when & then
+        assertThat(set.hasRoom()).isFalse();
+        assertThatThrownBy(() -> set.add(Long.MAX_VALUE)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("forEach 는 넣은 키를 모두 한 번씩 돌려준다")
+    void forEachVisitsAllKeys() {
+        // given
+        OffHeapLongSet set = new OffHeapLongSet(100);
+        LongStream.of(5L, 1L << 40, 42L).forEach(set::add);
+
+        // when
+        Set<Long> visited = new HashSet<>();
+        set.forEach(visited::add);
+
+        // then
+        assertThat(visited).containsExactlyInAnyOrder(5L, 1L << 40, 42L);
+    }
+}
@@ -0,0 +1,300 @@
+package com.email.scheduler.email_scheduler_server.newsletter.service.processor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.email.scheduler.email_scheduler_server.newsletter.config.NewsletterProperties;
+import com.email.scheduler.email_scheduler_server.newsletter.config.NewsletterProperties.SendMode;
+import com.email.scheduler.email_scheduler_server.newsletter.domain.IssueReference;
+import com.email.scheduler.email_scheduler_server.newsletter.domain.Message.MessageStatus;
+import com.email.scheduler.email_scheduler_server.newsletter.domain.NewsletterIssue;
+import com.email.scheduler.email_scheduler_server.newsletter.domain.NewsletterMessage;
+import com.email.scheduler.email_scheduler_server.newsletter.domain.RetryBatchMessage;
+import com.email.scheduler.email_scheduler_server.newsletter.domain.Suppression.Reason;
+import com.email.scheduler.email_scheduler_server.newsletter.dto.DeliveryLog;
+import com.email.scheduler.email_scheduler_server.newsletter.dto.PendingRetry;
+import com.email.scheduler.email_scheduler_server.newsletter.dto.SubscriberView;
+import com.email.scheduler.email_scheduler_server.newsletter.mail.UnsubscribeToken;
+import com.email.scheduler.email_scheduler_server.newsletter.metrics.DeliveryMetrics;
+import com.email.scheduler.email_scheduler_server.newsletter.repository.NewsletterIssueRepository;
+import com.email.scheduler.email_scheduler_server.newsletter.repository.RetryOutboxRepository;
+import com.email.scheduler.email_scheduler_server.newsletter.repository.SubscriberRepository;
+import com.email.scheduler.email_scheduler_server.newsletter.repository.SuppressionRepository;
+import com.email.scheduler.email_scheduler_server.newsletter.service.EmailService;
+import com.email.scheduler.email_scheduler_server.newsletter.service.IssueContentCache;
+import com.email.scheduler.email_scheduler_server.newsletter.service.NewsletterRenderer;
+import com.email.scheduler.email_scheduler_server.newsletter.service.RetryDispatcher;
+import com.email.scheduler.email_scheduler_server.newsletter.service.SendResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class RetryServiceTest {
+
+    private static final long ISSUE_ID = 3L;
+    private static final LocalDate SEND_DATE = LocalDate.of(2026, 10, 17);
+
+    private static final IssueReference ISSUE =
+            new IssueReference(ISSUE_ID, "newsletter_03.md", NewsletterIssue.checksumOf("안녕하세요 {{name}}님!"));
+
+    @Mock
+    private RetryDispatcher retryDispatcher;
+
+    @Mock
+    private IssueContentCache contentCache;
+
+    @Mock
+    private SubscriberRepository subscriberRepository;
+
+    @Mock
+    private EmailService emailService;
+
+    @Mock
+    private MessageLogService logService;
+
+    @Mock
+    private SuppressionRepository suppressionRepository;
+
+    @Mock
+    private RetryOutboxRepository retryOutbox;
+
+    @Mock
+    private NewsletterIssueRepository issueRepository;
+
+    private RetryService retryService;
+
+    @BeforeEach
+    void setUp() {
+        NewsletterProperties properties = new NewsletterProperties();
+        properties.getSend().setMode(SendMode.SEQUENTIAL);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        DeliveryMetrics metrics = new DeliveryMetrics(registry, properties);
+        SuppressionList suppressionList = new SuppressionList(suppressionRepository, properties, registry);
+        retryService = new RetryService(
+                retryDispatcher,
+                contentCache,
+                subscriberRepository,
+                new NewsletterRenderer(properties, new UnsubscribeToken("test-secret")),
+                new EmailBatchService(emailService, properties, metrics, new DomainThrottle(properties, registry),
+                        suppressionList, new SendPermits(properties)),
+                logService,
+                suppressionList,
+                retryOutbox,
+                issueRepository,
+                metrics,
+                properties
+        );
+    }
+
+    @Test
+    @DisplayName("시도 횟수에 맞는 대기 단계(1분 → 5분 → 30분)의 큐로 재시도 배치를 보낸다")
+    void scheduleRetries_routesByAttempt() {
+        // when
+        retryService.scheduleRetries(ISSUE, SEND_DATE, 1, List.of(1L, 2L));
+        retryService.scheduleRetries(ISSUE, SEND_DATE, 3, List.of(3L));
+
+        // then
+        ArgumentCaptor<RetryBatchMessage> message = ArgumentCaptor.forClass(RetryBatchMessage.class);
+        verify(retryDispatcher).dispatch(message.capture(), eq(Duration.ofMinutes(1)));
+        assertThat(message.getValue().getSubscriberIds()).containsExactly(1L, 2L);
+        assertThat(message.getValue().getAttempt()).isEqualTo(1);
+
+        verify(retryDispatcher).dispatch(any(RetryBatchMessage.class), eq(Duration.ofMinutes(30)));
+    }
+
+    @Test
+    @DisplayName("재시도할 구독자가 없으면 아무것도 발행하지 않는다")
+    void scheduleRetries_emptyIsNoop() {
+        // when
+        retryService.scheduleRetries(ISSUE, SEND_DATE, 1, List.of());
+
+        // then
+        verifyNoInteractions(retryDispatcher);
+    }
+
+    @Test
+    @DisplayName("재시도 결과로 기존 로그를 갱신하고, 여전히 일시적 실패인 구독자만 다음 단계로 보낸다")
+    void retry_updatesLogsAndReschedulesTransientFailures() {
+        // given
+        givenIssue();
+        givenAwaiting(2, 1L, 2L, 3L);
+        when(subscriberRepository.findActiveViewsByIds(anyList())).thenReturn(List.of(
+                new SubscriberView(1L, "ok@test.com"),
+                new SubscriberView(2L, "busy@test.com")));
+        when(emailService.sendEmail(eq("ok@test.com"), any())).thenReturn(SendResult.SENT);
+        when(emailService.sendEmail(eq("busy@test.com"), any())).thenReturn(SendResult.RETRYABLE);
+        when(logService.saveRetryResults(anyList(), eq(3)))
+                .thenReturn(Optional.of(new PendingRetry(9L, ISSUE_ID, SEND_DATE, 3, List.of(2L))));
+
+        // when: 첫 발송 + 1차 재시도까지 실패한 상태에서 2차 재시도
+        retryService.retry(new RetryBatchMessage(ISSUE, SEND_DATE, 2, List.of(1L, 2L, 3L), 0L));
+
+        // then: 3번은 대기 중에 구독 취소
+        List<DeliveryLog> logs = capturedResults(3);
+        assertThat(logs).extracting(DeliveryLog::subscriberId, DeliveryLog::status).containsExactly(
+                tuple(1L, MessageStatus.SUCCESS),
+                tuple(2L, MessageStatus.RETRYING),
+                tuple(3L, MessageStatus.FAILURE));
+        // 재시도 결과는 첫 발송 로그와 같은 파티션(발송일)의 행에 반영
+        assertThat(logs).extracting(DeliveryLog::sendDate).containsOnly(SEND_DATE);
+
+        ArgumentCaptor<RetryBatchMessage> next = ArgumentCaptor.forClass(RetryBatchMessage.class);
+        verify(retryDispatcher).dispatch(next.capture(), eq(Duration.ofMinutes(30)));
+        assertThat(next.getValue().getSubscriberIds()).containsExactly(2L);
+        assertThat(next.getValue().getAttempt()).isEqualTo(3);
+        assertThat(next.getValue().getSendDate()).isEqualTo(SEND_DATE);
+        // 발행이 끝난 재시도 예약은 지움
+        verify(retryOutbox).delete(9L);
+    }
+
+    @Test
+    @DisplayName("재시도 중 수신자 단계 5xx 로 거절된 구독자만 발송 제외 목록에 올리고, 수신 여부 불명 실패는 올리지 않는다")
+    void retry_suppressesOnlyBouncedRecipients() {
+        // given
+        givenIssue();
+        givenAwaiting(1, 1L, 2L);
+        when(subscriberRepository.findActiveViewsByIds(anyList())).thenReturn(List.of(
+                new SubscriberView(1L, "gone@test.com"),
+                new SubscriberView(2L, "timeout@test.com")));
+        when(emailService.sendEmail(eq("gone@test.com"), any())).thenReturn(SendResult.BOUNCED);
+        when(emailService.sendEmail(eq("timeout@test.com"), any())).thenReturn(SendResult.DELIVERY_UNKNOWN);
+
+        // when
+        retryService.retry(new RetryBatchMessage(ISSUE, SEND_DATE, 1, List.of(1L, 2L), 0L));
+
+        // then: 둘 다 FAILURE 로 끝나지만 제외 대상은 1번뿐
+        assertThat(capturedResults(2)).extracting(DeliveryLog::status)
+                .containsExactly(MessageStatus.FAILURE, MessageStatus.FAILURE);
+        verify(suppressionRepository).suppressAll(eq(List.of(1L)), eq(Reason.HARD_BOUNCE), any());
+    }
+
+    @Test
+    @DisplayName("이미 이번 시도가 반영된 구독자에게는 다시 보내지 않는다 (재전달된 재시도 메시지)")
+    void retry_redeliveredMessage_sendsOnlyAwaiting() {
+        // given: 1, 2번은 이미 3번째 시도가 반영됐고 3번만 아직 2번째 시도 상태
+        givenIssue();
+        givenAwaiting(2, 3L);
+        when(subscriberRepository.findActiveViewsByIds(List.of(3L)))
+                .thenReturn(List.of(new SubscriberView(3L, "late@test.com")));
+        when(emailService.sendEmail(anyString(), any())).thenReturn(SendResult.SENT);
+
+        // when
+        retryService.retry(new RetryBatchMessage(ISSUE, SEND_DATE, 2, List.of(1L, 2L, 3L), 0L));
+
+        // then
+        verify(emailService, times(1)).sendEmail(anyString(), any());
+        verify(emailService).sendEmail(eq("late@test.com"), any());
+        assertThat(capturedResults(3)).extracting(DeliveryLog::subscriberId).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("모두 이미 반영된 재시도 메시지면 발송도 로그 저장도 하지 않는다")
+    void retry_alreadyApplied_isNoop() {
+        // given
+        givenIssue();
+        givenAwaiting(2);
+
+        // when
+        retryService.retry(new RetryBatchMessage(ISSUE, SEND_DATE, 2, List.of(1L, 2L), 0L));
+
+        // then
+        verifyNoInteractions(emailService, subscriberRepository, retryDispatcher);
+        verify(logService, never()).saveRetryResults(anyList(), anyInt());
+    }
+
+    @Test
+    @DisplayName("발행에 실패한 재시도 예약은 지우지 않고 남겨 두었다가 다시 발행한다")
+    void dispatchReserved_failureKeepsOutboxRow() {
+        // given
+        PendingRetry pending = new PendingRetry(5L, ISSUE_ID, SEND_DATE, 1, List.of(1L));
+        doThrow(new IllegalStateException("nack")).when(retryDispatcher).dispatch(any(), any());
+
+        // when
+        retryService.dispatchReserved(ISSUE, pending);
+
+        // then
+        verify(retryOutbox, never()).delete(anyLong());
+    }
+
+    @Test
+    @DisplayName("시간이 지나도 남아 있는 재시도 예약은 가져간 노드가 다시 발행하고 지운다")
+    void redispatchStale_dispatchesClaimedRows() {
+        // given: 5번은 이 노드가, 6번은 다른 노드가 가져감
+        PendingRetry mine = new PendingRetry(5L, ISSUE_ID, SEND_DATE, 1, List.of(1L, 2L));
+        PendingRetry other = new PendingRetry(6L, ISSUE_ID, SEND_DATE, 1, List.of(3L));
+        when(retryOutbox.findDue(any(), anyInt())).thenReturn(List.of(mine, other));
+        when(retryOutbox.claim(eq(5L), any(), any())).thenReturn(true);
+        when(retryOutbox.claim(eq(6L), any(), any())).thenReturn(false);
+        when(issueRepository.findById(ISSUE_ID)).thenReturn(Optional.of(new NewsletterIssue("newsletter_03.md", "안녕하세요 {{name}}님!")));
+
+        // when
+        retryService.redispatchStale();
+
+        // then
+        ArgumentCaptor<RetryBatchMessage> message = ArgumentCaptor.forClass(RetryBatchMessage.class);
+        verify(retryDispatcher).dispatch(message.capture(), eq(Duration.ofMinutes(1)));
+        assertThat(message.getValue().getSubscriberIds()).containsExactly(1L, 2L);
+        verify(retryOutbox).delete(5L);
+        verify(retryOutbox, never()).delete(6L);
+    }
+
+    @Test
+    @DisplayName("마지막 시도까지 일시적 실패면 FAILURE 로 끝내고 더 이상 재시도하지 않는다")
+    void retry_lastAttemptEndsInFailure() {
+        // given
+        givenIssue();
+        givenAwaiting(3, 2L);
+        when(subscriberRepository.findActiveViewsByIds(anyList()))
+                .thenReturn(List.of(new SubscriberView(2L, "busy@test.com")));
+        when(emailService.sendEmail(anyString(), any())).thenReturn(SendResult.RETRYABLE);
+
+        // when: 첫 발송 + 재시도 3단계 중 2단계까지 실패 → 이번이 4번째(마지막) 시도
+        retryService.retry(new RetryBatchMessage(ISSUE, SEND_DATE, 3, List.of(2L), 0L));
+
+        // then
+        assertThat(capturedResults(4)).extracting(DeliveryLog::status).containsExactly(MessageStatus.FAILURE);
+        verifyNoInteractions(retryDispatcher);
+        // 누적 최종 실패가 기준 이상인지 확인해 발송 제외 여부를 정함
+        verify(suppressionRepository).findRepeatedFailures(List.of(2L), 3);
+    }
+
+    private void givenIssue() {
+        when(contentCache.resolve(ISSUE))
+                .thenReturn(new NewsletterMessage(ISSUE_ID, "newsletter_03.md", "안녕하세요 {{name}}님!"));
+    }
+
+    private void givenAwaiting(int attemptsMade, Long... subscriberIds) {
+        when(logService.findAwaitingRetry(eq(ISSUE_ID), eq(SEND_DATE), eq(attemptsMade), anyList()))
+                .thenReturn(Set.of(subscriberIds));
+    }
+
+    private List<DeliveryLog> capturedResults(int attemptCount) {
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<DeliveryLog>> logs = ArgumentCaptor.forClass(List.class);
+        verify(logService).saveRetryResults(logs.capture(), eq(attemptCount));
+        return logs.getValue();
+    }
+}
@@ -0,0 +1,142 @@
+package com.email.scheduler.email_scheduler_server.newsletter.service.processor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.email.scheduler.email_scheduler_server.newsletter.domain.SegmentExpression;
+import com.email.scheduler.email_scheduler_server.newsletter.dto.DeliverySlot;
+import com.email.scheduler.email_scheduler_server.newsletter.dto.SubscriberQuery;
+import com.email.scheduler.email_scheduler_server.newsletter.dto.SubscriberView;
+import com.email.scheduler.email_scheduler_server.newsletter.repository.SubscriberRepository;
+import com.email.scheduler.email_scheduler_server.newsletter.service.SegmentIndex;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+
+@ExtendWith(MockitoExtension.class)
+class SubscriberFetchServiceTest {
+
+    @Mock
+    private SubscriberRepository repository;
+
+    @Mock
+    private SegmentIndex segmentIndex;
+
+    @InjectMocks
+    private SubscriberFetchService fetchService;
+
+    @Test
+    @DisplayName("Keyset 스트리밍은 직전 페이지의 마지막 id 이후부터 다음 페이지를 조회함")
+    void streamActiveSubscribers_advancesByLastSeenId() {
+        // given
+        List<SubscriberView> first = List.of(new SubscriberView(3L, "a@test.com"), new SubscriberView(7L, "b@test.com"));
+        List<SubscriberView> second = List.of(new SubscriberView(12L, "c@test.com"));
+
+        when(repository.findActiveAfter(eq(0L), eq(Long.MAX_VALUE), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(first, Pageable.ofSize(2), true));
+        when(repository.findActiveAfter(eq(7L), eq(Long.MAX_VALUE), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(second, Pageable.ofSize(2), false));
+
+        List<SubscriberView> received = new ArrayList<>();
+
+        // when
+        fetchService.streamActiveSubscribers(SubscriberQuery.all(), received::addAll, nanos -> {
+        });
+
+        // then
+        assertThat(received).extracting(SubscriberView::id).containsExactly(3L, 7L, 12L);
+    }
+
+    @Test
+    @DisplayName("샤드 구간 스트리밍은 fromId 직전부터 시작하고 toId 로 끝을 제한함")
+    void streamActiveSubscribers_withinRange() {
+        // given
+        List<SubscriberView> shard = List.of(new SubscriberView(101L, "a@test.com"), new SubscriberView(150L, "b@test.com"));
+
+        when(repository.findActiveAfter(eq(100L), eq(200L), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(shard, Pageable.ofSize(2), false));
+
+        List<SubscriberView> received = new ArrayList<>();
+
+        // when
+        fetchService.streamActiveSubscribers(SubscriberQuery.range(101L, 200L), received::addAll, nanos -> {
+        });
+
+        // then
+        assertThat(received).extracting(SubscriberView::id).containsExactly(101L, 150L);
+    }
+
+    @Test
+    @DisplayName("발송 시간대가 있는 샤드는 구간 안에서 그 시간대의 구독자만 조회함")
+    void streamActiveSubscribers_withinSlot() {
+        // given
+        List<SubscriberView> slot = List.of(new SubscriberView(120L, "ny@test.com"));
+
+        when(repository.findActiveInSlotAfter(eq("America/New_York"), eq(7), eq(100L), eq(200L), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(slot, Pageable.ofSize(2), false));
+
+        List<SubscriberView> received = new ArrayList<>();
+
+        // when
+        SubscriberQuery query = new SubscriberQuery(101L, 200L, new DeliverySlot("America/New_York", 7), null);
+        fetchService.streamActiveSubscribers(query, received::addAll, nanos -> {
+        });
+
+        // then
+        assertThat(received).extracting(SubscriberView::id).containsExactly(120L);
+        verify(repository, never()).findActiveAfter(anyLong(), anyLong(), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("활성 구독자가 없으면 핸들러를 호출하지 않음")
+    void streamActiveSubscribers_empty() {
+        // given
+        when(repository.findActiveAfter(anyLong(), anyLong(), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(List.of(), Pageable.ofSize(2), false));
+
+        List<SubscriberView> received = new ArrayList<>();
+
+        // when
+        fetchService.streamActiveSubscribers(SubscriberQuery.all(), received::addAll, nanos -> {
+        });
+
+        // then
+        assertThat(received).isEmpty();
+    }
+
+    @Test
+    @DisplayName("발송 대상 세그먼트가 있으면 비트맵의 id 만 오름차순으로 조회하고, Keyset 구간 조회는 하지 않음")
+    void streamActiveSubscribers_withAudience() {
+        // given: 세그먼트 id 중 105 는 구독을 취소한 상태
+        when(segmentIndex.resolve(any(SegmentExpression.class), eq(101L), eq(200L)))
+                .thenReturn(RoaringBitmap.bitmapOf(150, 105, 120));
+        when(repository.findActiveViewsByIds(List.of(105L, 120L, 150L))).thenReturn(List.of(
+                new SubscriberView(120L, "a@test.com"), new SubscriberView(150L, "b@test.com")));
+
+        List<SubscriberView> received = new ArrayList<>();
+
+        // when
+        SubscriberQuery query = new SubscriberQuery(101L, 200L, null, "topic:java AND NOT tier:dormant");
+        fetchService.streamActiveSubscribers(query, received::addAll, nanos -> {
+        });
+
+        // then
+        assertThat(received).extracting(SubscriberView::id).containsExactly(120L, 150L);
+        verify(repository, never()).findActiveAfter(anyLong(), anyLong(), any(Pageable.class));
+        verify(repository, never()).findActiveViewsByIdsInSlot(anyList(), any(), eq(8));
+    }
+}
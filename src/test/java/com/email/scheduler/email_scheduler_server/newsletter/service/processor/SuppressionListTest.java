@@ -0,0 +1,127 @@
+package com.email.scheduler.email_scheduler_server.newsletter.service.processor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.email.scheduler.email_scheduler_server.newsletter.config.NewsletterProperties;
+import com.email.scheduler.email_scheduler_server.newsletter.domain.Suppression.Reason;
+import com.email.scheduler.email_scheduler_server.newsletter.repository.SuppressionRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.function.LongConsumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class SuppressionListTest {
+
+    // suppression 테이블 흉내: id → subscriber_id
+    private final TreeMap<Long, Long> rows = new TreeMap<>();
+
+    @Mock
+    private SuppressionRepository repository;
+
+    private SimpleMeterRegistry registry;
+
+    private SuppressionList suppressionList;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        suppressionList = new SuppressionList(repository, new NewsletterProperties(), registry);
+    }
+
+    @Test
+    @DisplayName("시작할 때 전체를 읽고, 이후에는 마지막으로 읽은 id 다음에 추가된 행만 이어서 읽는다")
+    void rebuildThenRefreshIncrementally() {
+        // given
+        givenRows();
+        for (long id = 1; id <= 3; id++) {
+            rows.put(id, id * 10);
+        }
+
+        // when
+        suppressionList.rebuild();
+        rows.put(4L, 40L);
+        suppressionList.refresh();
+
+        // then
+        assertThat(suppressionList.contains(10L)).isTrue();
+        assertThat(suppressionList.contains(40L)).isTrue();
+        assertThat(suppressionList.contains(50L)).isFalse();
+        // 처음부터 다시 읽는 것은 시작할 때 한 번뿐
+        verify(repository, times(1)).readAfter(eq(0L), anyInt(), any());
+        assertThat(registry.get("newsletter.suppression.size").gauge().value()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("이어 읽다가 집합이 가득 차면 더 큰 집합으로 옮겨 계속 채운다")
+    void growsWhenFull() {
+        // given: 빈 목록으로 시작 (최소 크기 1,024 슬롯)
+        givenRows();
+        suppressionList.rebuild();
+        for (long id = 1; id <= 5_000; id++) {
+            rows.put(id, id);
+        }
+
+        // when
+        suppressionList.refresh();
+
+        // then
+        assertThat(suppressionList.contains(1L)).isTrue();
+        assertThat(suppressionList.contains(5_000L)).isTrue();
+        assertThat(registry.get("newsletter.suppression.size").gauge().value()).isEqualTo(5_000);
+    }
+
+    @Test
+    @DisplayName("하드 바운스는 DB 에 기록하고 이 노드의 목록에도 바로 넣는다")
+    void suppressHardBouncesAddsLocally() {
+        // when
+        suppressionList.suppressHardBounces(List.of(7L));
+
+        // then
+        verify(repository).suppressAll(eq(List.of(7L)), eq(Reason.HARD_BOUNCE), any());
+        assertThat(suppressionList.contains(7L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("최종 실패는 누적 횟수가 기준 이상인 구독자만 제외한다")
+    void recordFinalFailuresUsesThreshold() {
+        // given
+        when(repository.findRepeatedFailures(List.of(1L, 2L), 3)).thenReturn(List.of(2L));
+
+        // when
+        suppressionList.recordFinalFailures(List.of(1L, 2L));
+
+        // then
+        verify(repository).suppressAll(eq(List.of(2L)), eq(Reason.REPEATED_FAILURE), any());
+        assertThat(suppressionList.contains(1L)).isFalse();
+        assertThat(suppressionList.contains(2L)).isTrue();
+    }
+
+    private void givenRows() {
+        when(repository.count()).thenAnswer(invocation -> (long) rows.size());
+        when(repository.readAfter(anyLong(), anyInt(), any())).thenAnswer(invocation -> {
+            long afterId = invocation.getArgument(0);
+            int limit = invocation.getArgument(1);
+            LongConsumer handler = invocation.getArgument(2);
+            long lastId = afterId;
+            for (var row : rows.tailMap(afterId, false).entrySet().stream().limit(limit).toList()) {
+                lastId = row.getKey();
+                handler.accept(row.getValue());
+            }
+            return lastId;
+        });
+    }
+}